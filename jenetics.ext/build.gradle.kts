@@ -48,8 +48,12 @@ tasks.compileTestJava { dependsOn(":jenetics:compileTestJava") }
 tasks.test { dependsOn(tasks.compileJmhJava) }
 
 jmh {
-	//includes.add(".*TreePerf.*")
-	includes.add(".*SentenceGeneratorPerf.*")
+	// Selecting the benchmarks: ./gradlew :jenetics.ext:jmh -Pjmh.includes=TreePerf
+	includes.add(findProperty("jmh.includes")?.toString() ?: ".*SentenceGeneratorPerf.*")
+	profilers.add("gc")
+	resultFormat.set("JSON")
+	resultsFile.set(layout.buildDirectory.file("results/jmh/results-${project.version}.json"))
+	failOnError.set(true)
 }
 
 tasks.javadoc {
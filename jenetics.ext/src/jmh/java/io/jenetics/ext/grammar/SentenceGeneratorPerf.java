@@ -30,7 +30,9 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
@@ -38,7 +40,7 @@ import io.jenetics.ext.grammar.Cfg.Symbol;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 7.1
+ * @version 7.2
  * @since 7.1
  */
 @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
@@ -57,22 +59,30 @@ public class SentenceGeneratorPerf {
 			"""
 	);
 
-	private static final SentenceGenerator<String> GENERATOR = new SentenceGenerator<>(
-		SymbolIndex.of(RandomGenerator.getDefault()),
-		10_000
-	);
+	@Param({"1000", "10000", "100000"})
+	public int limit;
+
+	private SentenceGenerator<String> _generator;
+
+	@Setup
+	public void setup() {
+		_generator = new SentenceGenerator<>(
+			SymbolIndex.of(RandomGenerator.getDefault()),
+			limit
+		);
+	}
 
 	@Benchmark
 	public Object linkedListGeneration() {
 		final var sentence = new LinkedList<Symbol<String>>();
-		GENERATOR.generate(CFG, sentence);
+		_generator.generate(CFG, sentence);
 		return sentence;
 	}
 
 	@Benchmark
 	public Object arrayListGeneration() {
 		final var sentence = new ArrayList<Symbol<String>>();
-		GENERATOR.generate(CFG, sentence);
+		_generator.generate(CFG, sentence);
 		return sentence;
 	}
 
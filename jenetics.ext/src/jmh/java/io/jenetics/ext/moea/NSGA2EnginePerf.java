@@ -0,0 +1,136 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.pow;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.Mutator;
+import io.jenetics.TournamentSelector;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.util.DoubleRange;
+
+import io.jenetics.ext.SimulatedBinaryCrossover;
+
+/**
+ * Measures the end-to-end throughput of a NSGA-II engine, in generations per
+ * second, for the DTLZ1 test problem with three objectives.
+ *
+ * <pre>{@code
+ * $ ./gradlew :jenetics.ext:jmh -Pjmh.includes=NSGA2EnginePerf
+ * }</pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class NSGA2EnginePerf {
+
+	private static final int VARIABLES = 4;
+	private static final int OBJECTIVES = 3;
+	private static final int K = VARIABLES - OBJECTIVES + 1;
+
+	@Param({"50", "500", "2000"})
+	public int populationSize;
+
+	@Param({"true", "false"})
+	public boolean parallel;
+
+	private Engine<DoubleGene, Vec<double[]>> _engine;
+	private EvolutionStart<DoubleGene, Vec<double[]>> _start;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		_engine = Engine
+			.builder(
+				NSGA2EnginePerf::dtlz1,
+				Codecs.ofVector(DoubleRange.of(0, 1.0), VARIABLES)
+			)
+			.populationSize(populationSize)
+			.executor(parallel ? ForkJoinPool.commonPool() : Runnable::run)
+			.alterers(
+				new SimulatedBinaryCrossover<>(1),
+				new Mutator<>(1.0/VARIABLES))
+			.offspringSelector(new TournamentSelector<>(5))
+			.survivorsSelector(NSGA2Selector.ofVec())
+			.minimizing()
+			.build();
+	}
+
+	@Setup(Level.Iteration)
+	public void reset() {
+		_start = _engine.evolve(EvolutionStart.empty()).next();
+	}
+
+	@Benchmark
+	public Object evolve() {
+		final EvolutionResult<DoubleGene, Vec<double[]>> result =
+			_engine.evolve(_start);
+		_start = result.next();
+		return result;
+	}
+
+	private static Vec<double[]> dtlz1(final double[] x) {
+		double g = 0.0;
+		for (int i = VARIABLES - K; i < VARIABLES; i++) {
+			g += pow(x[i] - 0.5, 2.0) - cos(20.0*PI*(x[i] - 0.5));
+		}
+		g = 100.0*(K + g);
+
+		final double[] f = new double[OBJECTIVES];
+		for (int i = 0; i < OBJECTIVES; ++i) {
+			f[i] = 0.5*(1.0 + g);
+			for (int j = 0; j < OBJECTIVES - i - 1; ++j) {
+				f[i] *= x[j];
+			}
+			if (i != 0) {
+				f[i] *= 1 - x[OBJECTIVES - i - 1];
+			}
+		}
+
+		return Vec.of(f);
+	}
+
+}
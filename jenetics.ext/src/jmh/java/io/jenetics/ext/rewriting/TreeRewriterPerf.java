@@ -0,0 +1,79 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.rewriting;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * Measures the rewriting of Peano arithmetic expressions into their normal
+ * form, {@code mul(S^n(0), S^n(0)) -> S^(n*n)(0)}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TreeRewriterPerf {
+
+	private static final TRS<String> PEANO = TRS.parse(
+		"add(0,$x) -> $x",
+		"add(S($x),$y) -> S(add($x,$y))",
+		"mul(0,$x) -> 0",
+		"mul(S($x),$y) -> add(mul($x,$y),$y)"
+	);
+
+	@Param({"2", "4", "8"})
+	public int n;
+
+	private TreeNode<String> _tree;
+
+	@Setup
+	public void setup() {
+		final String number = "S(".repeat(n) + "0" + ")".repeat(n);
+		_tree = TreeNode.parse("mul(" + number + "," + number + ")");
+	}
+
+	@Benchmark
+	public Object rewrite() {
+		final TreeNode<String> tree = TreeNode.ofTree(_tree);
+		PEANO.rewrite(tree);
+		return tree;
+	}
+
+}
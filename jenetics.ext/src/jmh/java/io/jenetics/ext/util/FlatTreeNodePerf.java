@@ -0,0 +1,106 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation and the traversal of {@link FlatTreeNode} objects,
+ * compared to {@link TreeNode} objects, for random trees of different depths.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FlatTreeNodePerf {
+
+	@Param({"4", "8", "12"})
+	public int depth;
+
+	private TreeNode<Integer> _tree;
+	private FlatTreeNode<Integer> _flatTree;
+
+	@Setup
+	public void setup() {
+		_tree = TreeNode.of(0);
+		TreePerf.fill(_tree, depth, new Random(123));
+		_flatTree = FlatTreeNode.ofTree(_tree);
+	}
+
+	@Benchmark
+	public Object ofTree() {
+		return FlatTreeNode.ofTree(_tree);
+	}
+
+	@Benchmark
+	public Object toTreeNode() {
+		return TreeNode.ofTree(_flatTree);
+	}
+
+	@Benchmark
+	public long breadthFirst() {
+		return _tree.breadthFirstStream().count();
+	}
+
+	@Benchmark
+	public long flatBreadthFirst() {
+		return _flatTree.breadthFirstStream().count();
+	}
+
+	@Benchmark
+	public long depthFirst() {
+		return _tree.depthFirstStream().count();
+	}
+
+	@Benchmark
+	public long flatDepthFirst() {
+		return _flatTree.depthFirstStream().count();
+	}
+
+	@Benchmark
+	public int reduce() {
+		return _tree.reduce(new Integer[]{0}, TreePerf::sum);
+	}
+
+	@Benchmark
+	public int flatReduce() {
+		return _flatTree.reduce(new Integer[]{0}, TreePerf::sum);
+	}
+
+}
@@ -0,0 +1,549 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.random.RandomGenerator;
+
+import io.jenetics.Alterer;
+import io.jenetics.AltererResult;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionInterceptor;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+
+/**
+ * Alterer, which adaptively distributes the individuals of a population
+ * among a set of alterer <em>operators</em>. Every operator is credited with
+ * the success of the offspring it created: an altered individual is
+ * successful if its fitness is better than the fitness of its parent. The
+ * credit is assigned by the {@link #interceptor()}, which sees the whole
+ * evaluated population of every generation. The {@link Strategy} then uses
+ * the credited <em>quality</em> of the operators for reallocating the
+ * individuals of the next generation.
+ *
+ * <pre>{@code
+ * final var alterer = new AdaptiveAlterer<DoubleGene, Double>(
+ *     Optimize.MAXIMUM,
+ *     AdaptiveAlterer.Strategy.probabilityMatching(0.05),
+ *     new Mutator<>(0.2),
+ *     new GaussianMutator<>(0.2),
+ *     new MeanAlterer<>(0.6)
+ * );
+ *
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .alterers(alterer)
+ *     .interceptor(alterer.interceptor())
+ *     .build();
+ *
+ * // Per-operator statistics, after (or while) running the engine.
+ * alterer.statistics().forEach(System.out::println);
+ * }</pre>
+ *
+ * If the interceptor isn't registered, the altered individuals are credited
+ * when they are seen again in the population of a subsequent
+ * {@link #alter(Seq, long)} call. Only the offspring, which survived the
+ * selection, are credited then, which favours operators creating individuals
+ * with a high selection probability.
+ * <p>
+ * The alterer keeps the credit state between the generations. Use a new
+ * instance for every evolution run.
+ *
+ * @see <a href="https://doi.org/10.1007/978-3-540-78293-3_11">
+ *      Fialho et al., Adaptive Operator Selection</a>
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+public final class AdaptiveAlterer<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Alterer<G, C>
+{
+
+	/**
+	 * The default adaptation rate of the operator quality.
+	 */
+	public static final double DEFAULT_ADAPTATION_RATE = 0.3;
+
+	/**
+	 * The statistics of one alterer operator.
+	 *
+	 * @param alterer the alterer operator
+	 * @param applications the number of individuals the operator has been
+	 *        applied to
+	 * @param alterations the number of alterations the operator performed
+	 * @param credits the number of altered individuals, which has been
+	 *        credited to the operator
+	 * @param successes the number of credited individuals, which were better
+	 *        than their parents
+	 * @param quality the current, recency-weighted, success rate of the
+	 *        operator
+	 * @param share the fraction of the population the operator has been
+	 *        applied to in the last generation
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 */
+	public record Statistics<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	>(
+		Alterer<G, C> alterer,
+		long applications,
+		long alterations,
+		long credits,
+		long successes,
+		double quality,
+		double share
+	) {
+
+		/**
+		 * Create a new statistics object.
+		 *
+		 * @throws NullPointerException if the {@code alterer} is {@code null}
+		 */
+		public Statistics {
+			requireNonNull(alterer);
+		}
+
+		/**
+		 * Return the overall success rate of the operator.
+		 *
+		 * @return the overall success rate of the operator, or {@code 0} if
+		 *         no individual has been credited yet
+		 */
+		public double successRate() {
+			return credits == 0 ? 0.0 : (double)successes/credits;
+		}
+	}
+
+	/**
+	 * Strategy for distributing the individuals of the population among the
+	 * alterer operators.
+	 */
+	@FunctionalInterface
+	public interface Strategy {
+
+		/**
+		 * Return the operator index for every individual of a population
+		 * with the given {@code size}.
+		 *
+		 * @param statistics the current operator statistics
+		 * @param size the population size
+		 * @param random the random generator to use
+		 * @return the operator index for every individual
+		 */
+		int[] allocate(
+			final Seq<? extends Statistics<?, ?>> statistics,
+			final int size,
+			final RandomGenerator random
+		);
+
+		/**
+		 * Return a <em>probability matching</em> strategy. The selection
+		 * probability of an operator is proportional to its quality, but at
+		 * least {@code minProbability}.
+		 *
+		 * @param minProbability the minimal selection probability of every
+		 *        operator
+		 * @return a new probability matching strategy
+		 * @throws IllegalArgumentException if the minimal probability is not
+		 *         within the range {@code [0, 1)}
+		 */
+		static Strategy probabilityMatching(final double minProbability) {
+			if (minProbability < 0 || minProbability >= 1) {
+				throw new IllegalArgumentException(format(
+					"Minimal probability not in range [0, 1): %f",
+					minProbability
+				));
+			}
+
+			return (statistics, size, random) -> {
+				final int n = statistics.length();
+				final double min = Math.min(minProbability, 1.0/n);
+
+				double sum = 0;
+				for (var stat : statistics) {
+					sum += stat.quality();
+				}
+
+				final double[] probabilities = new double[n];
+				for (int i = 0; i < n; ++i) {
+					probabilities[i] = sum > 0
+						? min + (1 - n*min)*statistics.get(i).quality()/sum
+						: 1.0/n;
+				}
+
+				final int[] operators = new int[size];
+				for (int i = 0; i < size; ++i) {
+					operators[i] = index(probabilities, random.nextDouble());
+				}
+				return operators;
+			};
+		}
+
+		private static int index(final double[] probabilities, final double value) {
+			double sum = 0;
+			for (int i = 0; i < probabilities.length - 1; ++i) {
+				sum += probabilities[i];
+				if (value < sum) {
+					return i;
+				}
+			}
+			return probabilities.length - 1;
+		}
+
+		/**
+		 * Return an <em>upper confidence bound</em> (UCB1) strategy. Every
+		 * individual is assigned to the operator with the highest upper
+		 * confidence bound, {@code quality + c*sqrt(2*ln(N)/n)}, where
+		 * {@code n} is the number of applications of the operator and
+		 * {@code N} the number of applications of all operators. The
+		 * application counts are updated while allocating the individuals,
+		 * which distributes the population among the operators with the
+		 * highest bounds.
+		 *
+		 * @param c the exploration factor
+		 * @return a new upper confidence bound strategy
+		 * @throws IllegalArgumentException if the exploration factor is
+		 *         negative
+		 */
+		static Strategy ucb(final double c) {
+			if (c < 0 || !Double.isFinite(c)) {
+				throw new IllegalArgumentException(format(
+					"Exploration factor must be a non-negative number: %f", c
+				));
+			}
+
+			return (statistics, size, random) -> {
+				final long[] applications = new long[statistics.length()];
+				long total = 0;
+				for (int i = 0; i < applications.length; ++i) {
+					applications[i] = statistics.get(i).applications();
+					total += applications[i];
+				}
+
+				final int[] operators = new int[size];
+				for (int i = 0; i < size; ++i) {
+					int best = 0;
+					double bound = Double.NEGATIVE_INFINITY;
+					for (int j = 0; j < applications.length; ++j) {
+						final double b = applications[j] == 0
+							? Double.POSITIVE_INFINITY
+							: statistics.get(j).quality() +
+								c*Math.sqrt(2*Math.log(total)/applications[j]);
+
+						if (b > bound) {
+							bound = b;
+							best = j;
+						}
+					}
+
+					operators[i] = best;
+					++applications[best];
+					++total;
+				}
+				return operators;
+			};
+		}
+
+	}
+
+	// The parent fitness and the operator of an altered individual.
+	private record Credit<C>(int operator, C fitness) {}
+
+	private final Optimize _optimize;
+	private final Strategy _strategy;
+	private final double _adaptationRate;
+	private final ISeq<Alterer<G, C>> _alterers;
+
+	private final long[] _applications;
+	private final long[] _alterations;
+	private final long[] _credits;
+	private final long[] _successes;
+	private final double[] _quality;
+	private final double[] _shares;
+
+	// Altered individuals of the last generation, which hasn't been credited.
+	private final Map<Genotype<G>, Credit<C>> _pending = new IdentityHashMap<>();
+
+	/**
+	 * Create a new adaptive alterer.
+	 *
+	 * @param optimize the optimization strategy, which determines whether
+	 *        an altered individual is better than its parent
+	 * @param strategy the operator allocation strategy
+	 * @param adaptationRate the rate, the operator quality adapts to the
+	 *        success rate of the last generation
+	 * @param alterers the alterer operators
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if no alterer is given, or the
+	 *         adaptation rate is not within the range {@code (0, 1]}
+	 */
+	public AdaptiveAlterer(
+		final Optimize optimize,
+		final Strategy strategy,
+		final double adaptationRate,
+		final Seq<? extends Alterer<G, C>> alterers
+	) {
+		if (alterers.isEmpty()) {
+			throw new IllegalArgumentException("No alterers given.");
+		}
+		if (adaptationRate <= 0 || adaptationRate > 1) {
+			throw new IllegalArgumentException(format(
+				"Adaptation rate not in range (0, 1]: %f", adaptationRate
+			));
+		}
+
+		_optimize = requireNonNull(optimize);
+		_strategy = requireNonNull(strategy);
+		_adaptationRate = adaptationRate;
+		_alterers = ISeq.<Alterer<G, C>>of(alterers);
+
+		final int n = _alterers.length();
+		_applications = new long[n];
+		_alterations = new long[n];
+		_credits = new long[n];
+		_successes = new long[n];
+		_quality = new double[n];
+		_shares = new double[n];
+	}
+
+	/**
+	 * Create a new adaptive alterer with the
+	 * {@link #DEFAULT_ADAPTATION_RATE}.
+	 *
+	 * @param optimize the optimization strategy, which determines whether
+	 *        an altered individual is better than its parent
+	 * @param strategy the operator allocation strategy
+	 * @param alterers the alterer operators
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if no alterer is given
+	 */
+	@SafeVarargs
+	public AdaptiveAlterer(
+		final Optimize optimize,
+		final Strategy strategy,
+		final Alterer<G, C>... alterers
+	) {
+		this(optimize, strategy, DEFAULT_ADAPTATION_RATE, ISeq.of(alterers));
+	}
+
+	/**
+	 * Return the alterer operators.
+	 *
+	 * @return the alterer operators
+	 */
+	public ISeq<Alterer<G, C>> alterers() {
+		return _alterers;
+	}
+
+	/**
+	 * Return the current statistics of the alterer operators, in the order
+	 * of the {@link #alterers()}.
+	 *
+	 * @return the current operator statistics
+	 */
+	public synchronized ISeq<Statistics<G, C>> statistics() {
+		final MSeq<Statistics<G, C>> statistics = MSeq.ofLength(_alterers.length());
+		for (int i = 0; i < statistics.length(); ++i) {
+			statistics.set(i, new Statistics<>(
+				_alterers.get(i),
+				_applications[i],
+				_alterations[i],
+				_credits[i],
+				_successes[i],
+				_quality[i],
+				_shares[i]
+			));
+		}
+		return statistics.toISeq();
+	}
+
+	/**
+	 * Return the evolution interceptor, which credits the operators with the
+	 * altered individuals of the whole evaluated population, after every
+	 * generation. It must be registered at the engine, which uses this
+	 * alterer, for an unbiased credit assignment.
+	 *
+	 * @see io.jenetics.engine.Engine.Builder#interceptor(EvolutionInterceptor)
+	 *
+	 * @return the evolution interceptor, which credits the alterer operators
+	 */
+	public EvolutionInterceptor<G, C> interceptor() {
+		return EvolutionInterceptor.ofAfter(result -> {
+			credit(result.population());
+			return result;
+		});
+	}
+
+	@Override
+	public AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation
+	) {
+		return adapt(population, generation, null);
+	}
+
+	/**
+	 * Alters the given population, where the given {@code executor} is
+	 * passed to the alterer operators.
+	 */
+	@Override
+	public AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Executor executor
+	) {
+		requireNonNull(executor);
+		return adapt(population, generation, executor);
+	}
+
+	private synchronized AltererResult<G, C> adapt(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Executor executor
+	) {
+		credit(population);
+		if (population.isEmpty()) {
+			return new AltererResult<>(population.asISeq());
+		}
+
+		final int[] operators = _strategy.allocate(
+			statistics(),
+			population.length(),
+			RandomRegistry.random()
+		);
+		if (operators.length != population.length()) {
+			throw new IllegalStateException(format(
+				"Expected %d operator indexes, but got %d.",
+				population.length(), operators.length
+			));
+		}
+
+		final MSeq<Phenotype<G, C>> result = MSeq.of(population);
+		int alterations = 0;
+		for (int op = 0; op < _alterers.length(); ++op) {
+			final int[] indexes = indexes(operators, op);
+			_shares[op] = (double)indexes.length/operators.length;
+			if (indexes.length == 0) {
+				continue;
+			}
+
+			final MSeq<Phenotype<G, C>> parents = MSeq.ofLength(indexes.length);
+			for (int i = 0; i < indexes.length; ++i) {
+				parents.set(i, population.get(indexes[i]));
+			}
+
+			final Alterer<G, C> alterer = _alterers.get(op);
+			final AltererResult<G, C> altered = executor != null
+				? alterer.alter(parents, generation, executor)
+				: alterer.alter(parents, generation);
+			for (int i = 0; i < indexes.length; ++i) {
+				final Phenotype<G, C> parent = parents.get(i);
+				final Phenotype<G, C> child = altered.population().get(i);
+				result.set(indexes[i], child);
+
+				if (child != parent && parent.isEvaluated()) {
+					_pending.put(
+						child.genotype(),
+						new Credit<>(op, parent.fitness())
+					);
+				}
+			}
+
+			_applications[op] += indexes.length;
+			_alterations[op] += altered.alterations();
+			alterations += altered.alterations();
+		}
+
+		return new AltererResult<>(result.toISeq(), alterations);
+	}
+
+	// Credits the evaluated offspring of the previous generation. Offspring,
+	// which are not part of the given population, are not credited.
+	private synchronized void credit(final Seq<Phenotype<G, C>> population) {
+		if (_pending.isEmpty()) {
+			return;
+		}
+
+		final int[] credits = new int[_alterers.length()];
+		final int[] successes = new int[_alterers.length()];
+		for (var pt : population) {
+			if (pt.isEvaluated()) {
+				final Credit<C> credit = _pending.remove(pt.genotype());
+				if (credit != null) {
+					++credits[credit.operator()];
+					if (_optimize.compare(pt.fitness(), credit.fitness()) > 0) {
+						++successes[credit.operator()];
+					}
+				}
+			}
+		}
+		_pending.clear();
+
+		for (int i = 0; i < credits.length; ++i) {
+			if (credits[i] > 0) {
+				final double rate = (double)successes[i]/credits[i];
+				_quality[i] += _adaptationRate*(rate - _quality[i]);
+				_credits[i] += credits[i];
+				_successes[i] += successes[i];
+			}
+		}
+	}
+
+	private static int[] indexes(final int[] operators, final int operator) {
+		int count = 0;
+		for (int op : operators) {
+			if (op == operator) {
+				++count;
+			}
+		}
+
+		final int[] indexes = new int[count];
+		for (int i = 0, j = 0; i < operators.length; ++i) {
+			if (operators[i] == operator) {
+				indexes[j++] = i;
+			}
+		}
+		return indexes;
+	}
+
+	@Override
+	public String toString() {
+		return format("AdaptiveAlterer[%s]", _alterers);
+	}
+
+}
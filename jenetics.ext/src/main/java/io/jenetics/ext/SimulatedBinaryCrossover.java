@@ -131,6 +131,11 @@ public class SimulatedBinaryCrossover<
 		that.set(i, that.get(i).newInstance(clamp(v, min, max)));
 	}
 
+	@Override
+	protected boolean isConcurrent() {
+		return getClass() == SimulatedBinaryCrossover.class;
+	}
+
 	@Override
 	public String toString() {
 		return format(
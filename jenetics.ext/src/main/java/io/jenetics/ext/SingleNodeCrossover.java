@@ -122,6 +122,11 @@ public class SingleNodeCrossover<
 		return changed;
 	}
 
+	@Override
+	protected boolean isConcurrent() {
+		return getClass() == SingleNodeCrossover.class;
+	}
+
 	@Override
 	public String toString() {
 		return format("SingleNodeCrossover[%f]", _probability);
@@ -51,7 +51,7 @@ import io.jenetics.ext.grammar.Cfg.Rule;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 7.1
- * @version 7.1
+ * @version 7.2
  */
 public final class Codons implements SymbolIndex {
 
@@ -93,20 +93,27 @@ public final class Codons implements SymbolIndex {
 	 * @return a new <em>codons</em> object
 	 */
 	public static Codons ofBitGenes(final BaseSeq<BitGene> genes) {
-		if (genes instanceof BitChromosome ch) {
-			return ofBytes(ch.toByteArray());
-		} else {
-			return ofBytes(toByteArray(genes));
-		}
+		final int[] values = toCodonArray(genes);
+		return new Codons(i -> values[i], values.length);
 	}
 
-	private static Codons ofBytes(final byte[] bytes) {
+	/**
+	 * Return the unsigned 8-bit codon values of the given bit-genes.
+	 *
+	 * @param genes the bit-genes
+	 * @return the codon values
+	 */
+	static int[] toCodonArray(final BaseSeq<BitGene> genes) {
+		final byte[] bytes = genes instanceof BitChromosome ch
+			? ch.toByteArray()
+			: toByteArray(genes);
+
 		final var values = new int[bytes.length];
 		for (int i = 0; i < values.length; ++i) {
 			values[i] = Byte.toUnsignedInt(bytes[i]);
 		}
 
-		return new Codons(i -> values[i], values.length);
+		return values;
 	}
 
 	static byte[] toByteArray(final BaseSeq<BitGene> genes) {
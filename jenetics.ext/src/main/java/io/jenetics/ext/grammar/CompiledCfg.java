@@ -0,0 +1,433 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.grammar;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.jenetics.ext.grammar.Cfg.Expression;
+import io.jenetics.ext.grammar.Cfg.NonTerminal;
+import io.jenetics.ext.grammar.Cfg.Rule;
+import io.jenetics.ext.grammar.Cfg.Symbol;
+import io.jenetics.ext.grammar.Cfg.Terminal;
+import io.jenetics.ext.util.Tree;
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * A grammar, which has been compiled once into integer-indexed rule tables.
+ * It maps {@code int[]} codons to sentences and derivation trees, without
+ * looking up the rules by name and without allocating objects for every
+ * expanded symbol. The generated sentences and derivation trees are the same
+ * as the ones created by the {@link SentenceGenerator}, with
+ * {@link SentenceGenerator.Expansion#LEFT_MOST} expansion, and the
+ * {@link DerivationTreeGenerator}, when using the same codons. Sentences are
+ * created with an explicit stack, which always expands the leftmost
+ * non-terminal symbol, and derivation trees with a queue, which expands the
+ * non-terminal leaves in breadth-first order.
+ *
+ * <pre>{@code
+ * final CompiledCfg<String> cfg = CompiledCfg.of(Bnf.parse(...));
+ *
+ * final int[] codons = ...;
+ * final List<Terminal<String>> sentence = cfg.sentence(codons, 1_000);
+ * final Tree<Symbol<String>, ?> tree = cfg.derivationTree(codons, 1_000);
+ * }</pre>
+ *
+ * The codons are used the same way as by the {@link Codons} class. The
+ * selected alternative of a rule is the next codon value modulo the number of
+ * rule alternatives, and the codons are read from the beginning again, if
+ * more codons are needed (<em>wrapping</em>).
+ *
+ * @see Mappers
+ *
+ * @param <T> the terminal symbol value type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.2
+ * @version 7.2
+ */
+public final class CompiledCfg<T> {
+
+	// Symbol code of terminal symbols.
+	private static final int TERMINAL = -1;
+
+	// Symbol code of non-terminal symbols without rule.
+	private static final int UNDEFINED = -2;
+
+	private final Cfg<T> _cfg;
+
+	// The alternatives of rule 'r' are in the range
+	// [_ruleOffsets[r], _ruleOffsets[r + 1]).
+	private final int[] _ruleOffsets;
+
+	// The symbols of alternative 'a' are in the range
+	// [_alternativeOffsets[a], _alternativeOffsets[a + 1]). The symbol with
+	// index 0 is the start symbol of the grammar.
+	private final int[] _alternativeOffsets;
+
+	// The rule index of the non-terminal symbols, TERMINAL or UNDEFINED.
+	private final int[] _codes;
+
+	// The original symbol objects.
+	private final Symbol<T>[] _symbols;
+
+	private CompiledCfg(final Cfg<T> cfg) {
+		_cfg = cfg;
+
+		final List<Rule<T>> rules = cfg.rules();
+		final Map<String, Integer> ruleIndexes = new HashMap<>();
+		for (int i = 0; i < rules.size(); ++i) {
+			ruleIndexes.put(rules.get(i).start().name(), i);
+		}
+
+		int alternatives = 0;
+		int symbols = 1;
+		for (Rule<T> rule : rules) {
+			alternatives += rule.alternatives().size();
+			for (Expression<T> expression : rule.alternatives()) {
+				symbols += expression.symbols().size();
+			}
+		}
+
+		_ruleOffsets = new int[rules.size() + 1];
+		_alternativeOffsets = new int[alternatives + 1];
+		_codes = new int[symbols];
+		@SuppressWarnings("unchecked")
+		final Symbol<T>[] objects = (Symbol<T>[])new Symbol<?>[symbols];
+		_symbols = objects;
+
+		_symbols[0] = cfg.start();
+		_codes[0] = code(cfg.start(), ruleIndexes);
+
+		int alternative = 0;
+		int symbol = 1;
+		for (int r = 0; r < rules.size(); ++r) {
+			_ruleOffsets[r] = alternative;
+			for (Expression<T> expression : rules.get(r).alternatives()) {
+				_alternativeOffsets[alternative++] = symbol;
+				for (Symbol<T> s : expression.symbols()) {
+					_symbols[symbol] = s;
+					_codes[symbol] = code(s, ruleIndexes);
+					++symbol;
+				}
+			}
+		}
+		_ruleOffsets[rules.size()] = alternative;
+		_alternativeOffsets[alternatives] = symbol;
+	}
+
+	private static int code(
+		final Symbol<?> symbol,
+		final Map<String, Integer> ruleIndexes
+	) {
+		if (symbol instanceof NonTerminal<?> nt) {
+			return ruleIndexes.getOrDefault(nt.name(), UNDEFINED);
+		} else {
+			return TERMINAL;
+		}
+	}
+
+	/**
+	 * Return the compiled grammar.
+	 *
+	 * @return the compiled grammar
+	 */
+	public Cfg<T> cfg() {
+		return _cfg;
+	}
+
+	/**
+	 * Generates a new sentence from the given {@code codons}, which are used
+	 * for selecting the alternatives of all rules.
+	 *
+	 * @param codons the codons used for selecting the rule alternatives
+	 * @param limit the maximal allowed sentence length. If the generated
+	 *        sentence exceeds this length, the generation is interrupted and
+	 *        an empty sentence (empty list) is returned.
+	 * @return a newly created terminal list (sentence), or an empty list if
+	 *         the length of the sentence exceed the defined sentence limit
+	 * @throws NullPointerException if the given {@code codons} array is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given {@code codons} array is
+	 *         empty
+	 */
+	public List<Terminal<T>> sentence(final int[] codons, final int limit) {
+		return sentence(new Cursor(codons), limit);
+	}
+
+	/**
+	 * Generates a new sentence from the given {@code codons}. Every rule has
+	 * its own codons, {@code codons[i]} are used for selecting the
+	 * alternatives of the rule {@code cfg().rules().get(i)}.
+	 *
+	 * @param codons the codons of every rule
+	 * @param limit the maximal allowed sentence length. If the generated
+	 *        sentence exceeds this length, the generation is interrupted and
+	 *        an empty sentence (empty list) is returned.
+	 * @return a newly created terminal list (sentence), or an empty list if
+	 *         the length of the sentence exceed the defined sentence limit
+	 * @throws NullPointerException if the given {@code codons} array is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the number of codon arrays doesn't
+	 *         match the number of rules, or if one of the codon arrays is
+	 *         empty
+	 */
+	public List<Terminal<T>> sentence(final int[][] codons, final int limit) {
+		return sentence(new Cursor(codons, _ruleOffsets.length - 1), limit);
+	}
+
+	List<Terminal<T>> sentence(final Cursor cursor, final int limit) {
+		int[] stack = new int[16];
+		int size = 0;
+		stack[size++] = 0;
+
+		@SuppressWarnings("unchecked")
+		Terminal<T>[] sentence = (Terminal<T>[])new Terminal<?>[16];
+		int length = 0;
+
+		while (size > 0) {
+			final int symbol = stack[--size];
+			final int rule = _codes[symbol];
+
+			if (rule == TERMINAL) {
+				if (length == sentence.length) {
+					sentence = Arrays.copyOf(sentence, length*2);
+				}
+				sentence[length++] = (Terminal<T>)_symbols[symbol];
+			} else if (rule != UNDEFINED) {
+				final int alternative = alternative(rule, cursor);
+				final int from = _alternativeOffsets[alternative];
+				final int to = _alternativeOffsets[alternative + 1];
+
+				// Length of the current sentential form.
+				if (length + size + (to - from) > limit) {
+					return List.of();
+				}
+				if (size + (to - from) > stack.length) {
+					stack = Arrays.copyOf(stack, Math.max(stack.length*2, size + to - from));
+				}
+				for (int i = to; --i >= from;) {
+					stack[size++] = i;
+				}
+			}
+		}
+
+		return List.of(Arrays.copyOf(sentence, length));
+	}
+
+	/**
+	 * Generates a new derivation tree from the given {@code codons}, which are
+	 * used for selecting the alternatives of all rules.
+	 *
+	 * @param codons the codons used for selecting the rule alternatives
+	 * @param limit the maximal allowed nodes of the tree. If the generated
+	 *        tree exceeds this length, the generation is interrupted and
+	 *        an empty tree is returned.
+	 * @return a newly created derivation tree, or an empty tree if
+	 *         the number of nodes exceed the defined node limit
+	 * @throws NullPointerException if the given {@code codons} array is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given {@code codons} array is
+	 *         empty
+	 */
+	public Tree<Symbol<T>, ?> derivationTree(final int[] codons, final int limit) {
+		return derivationTree(new Cursor(codons), limit);
+	}
+
+	/**
+	 * Generates a new derivation tree from the given {@code codons}. Every
+	 * rule has its own codons, {@code codons[i]} are used for selecting the
+	 * alternatives of the rule {@code cfg().rules().get(i)}.
+	 *
+	 * @param codons the codons of every rule
+	 * @param limit the maximal allowed nodes of the tree. If the generated
+	 *        tree exceeds this length, the generation is interrupted and
+	 *        an empty tree is returned.
+	 * @return a newly created derivation tree, or an empty tree if
+	 *         the number of nodes exceed the defined node limit
+	 * @throws NullPointerException if the given {@code codons} array is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the number of codon arrays doesn't
+	 *         match the number of rules, or if one of the codon arrays is
+	 *         empty
+	 */
+	public Tree<Symbol<T>, ?> derivationTree(final int[][] codons, final int limit) {
+		return derivationTree(new Cursor(codons, _ruleOffsets.length - 1), limit);
+	}
+
+	Tree<Symbol<T>, ?> derivationTree(final Cursor cursor, final int limit) {
+		final TreeNode<Symbol<T>> root = TreeNode.of(_symbols[0]);
+
+		// The non-terminal leaves are expanded in breadth-first order, which
+		// is done with a FIFO queue of the (node, symbol) pairs.
+		@SuppressWarnings("unchecked")
+		TreeNode<Symbol<T>>[] nodes = (TreeNode<Symbol<T>>[])new TreeNode<?>[16];
+		int[] queue = new int[16];
+		int head = 0;
+		int tail = 0;
+		nodes[tail] = root;
+		queue[tail++] = 0;
+
+		int count = 1;
+		while (head < tail) {
+			final TreeNode<Symbol<T>> node = nodes[head];
+			final int rule = _codes[queue[head]];
+			nodes[head++] = null;
+
+			if (rule >= 0) {
+				final int alternative = alternative(rule, cursor);
+				final int from = _alternativeOffsets[alternative];
+				final int to = _alternativeOffsets[alternative + 1];
+
+				count += to - from;
+				if (count > limit) {
+					return TreeNode.of();
+				}
+
+				if (tail + (to - from) > queue.length) {
+					final int capacity = Math.max(queue.length*2, tail + to - from);
+					queue = Arrays.copyOf(queue, capacity);
+					nodes = Arrays.copyOf(nodes, capacity);
+				}
+				for (int i = from; i < to; ++i) {
+					final TreeNode<Symbol<T>> child = TreeNode.of(_symbols[i]);
+					node.attach(child);
+					nodes[tail] = child;
+					queue[tail++] = i;
+				}
+			}
+		}
+
+		return root;
+	}
+
+	private int alternative(final int rule, final Cursor cursor) {
+		final int offset = _ruleOffsets[rule];
+		return offset + cursor.next(rule, _ruleOffsets[rule + 1] - offset);
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"CompiledCfg[rules=%d, alternatives=%d, symbols=%d]",
+			_ruleOffsets.length - 1,
+			_alternativeOffsets.length - 1,
+			_symbols.length - 1
+		);
+	}
+
+	/**
+	 * Compiles the given grammar.
+	 *
+	 * @param cfg the grammar to compile
+	 * @param <T> the terminal symbol value type
+	 * @return the compiled grammar
+	 * @throws NullPointerException if the given {@code cfg} is {@code null}
+	 */
+	public static <T> CompiledCfg<T> of(final Cfg<? extends T> cfg) {
+		return new CompiledCfg<>(Cfg.upcast(requireNonNull(cfg)));
+	}
+
+	/**
+	 * Reads the codon values, either from one codon array, which is used by
+	 * all rules, or from a codon array per rule.
+	 */
+	static final class Cursor {
+		private final int[][] _codons;
+		private final int[] _positions;
+		private final boolean _shared;
+
+		// The recorded alternative choices, or null if not recorded.
+		private int[] _choices;
+		private int _count;
+
+		Cursor(final int[] codons) {
+			if (codons.length == 0) {
+				throw new IllegalArgumentException("Codons must not be empty.");
+			}
+			_codons = new int[][] {codons};
+			_positions = new int[1];
+			_shared = true;
+		}
+
+		Cursor(final int[][] codons, final int rules) {
+			if (codons.length != rules) {
+				throw new IllegalArgumentException(format(
+					"Expected codons for %d rules, but got %d.",
+					rules, codons.length
+				));
+			}
+			for (int[] values : codons) {
+				if (values.length == 0) {
+					throw new IllegalArgumentException(
+						"Codons must not be empty."
+					);
+				}
+			}
+			_codons = codons;
+			_positions = new int[codons.length];
+			_shared = false;
+		}
+
+		int next(final int rule, final int bound) {
+			final int index = _shared ? 0 : rule;
+			final int[] values = _codons[index];
+			final int position = _positions[index];
+			_positions[index] = position + 1 == values.length ? 0 : position + 1;
+
+			final int choice = values[position]%bound;
+			if (_choices != null) {
+				if (_count == _choices.length) {
+					_choices = Arrays.copyOf(_choices, _count*2);
+				}
+				_choices[_count++] = choice;
+			}
+			return choice;
+		}
+
+		/**
+		 * Enables the recording of the chosen rule alternatives.
+		 *
+		 * @return {@code this} cursor
+		 */
+		Cursor record() {
+			_choices = new int[16];
+			_count = 0;
+			return this;
+		}
+
+		/**
+		 * Return the recorded rule alternatives, in derivation order. The
+		 * chosen alternatives (the codon values modulo the number of rule
+		 * alternatives) fully determine the derivation tree.
+		 *
+		 * @return the recorded rule alternatives
+		 */
+		int[] choices() {
+			return _choices != null ? Arrays.copyOf(_choices, _count) : new int[0];
+		}
+	}
+
+}
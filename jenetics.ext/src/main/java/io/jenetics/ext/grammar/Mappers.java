@@ -19,6 +19,7 @@
  */
 package io.jenetics.ext.grammar;
 
+import java.util.List;
 import java.util.function.Function;
 
 import io.jenetics.BitChromosome;
@@ -30,6 +31,7 @@ import io.jenetics.engine.Codec;
 import io.jenetics.util.IntRange;
 
 import io.jenetics.ext.grammar.Cfg.Rule;
+import io.jenetics.ext.grammar.Cfg.Terminal;
 
 /**
  * This class defines factories for different CFG &harr; Chromosome mappings
@@ -55,7 +57,7 @@ import io.jenetics.ext.grammar.Cfg.Rule;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 7.1
- * @version 7.1
+ * @version 7.2
  */
 public final class Mappers {
 	private Mappers() {
@@ -100,6 +102,42 @@ public final class Mappers {
 		);
 	}
 
+	/**
+	 * Return a classic sentence mapping codec, like
+	 * {@link #singleBitChromosomeMapper(Cfg, int, Function)}, which uses the
+	 * {@link SentenceGenerator} with left-most expansion. The given grammar is
+	 * compiled once into a {@link CompiledCfg}, which makes the decoding
+	 * considerably faster.
+	 *
+	 * <pre>{@code
+	 * final Cfg<String> cfg = ...;
+	 * final Codec<List<Terminal<String>>, BitGene> codec =
+	 *     singleBitChromosomeMapper(cfg, 1000, 1000);
+	 * }</pre>
+	 *
+	 * @since 7.2
+	 *
+	 * @param cfg the encoding grammar
+	 * @param length the length of the bit-chromosome
+	 * @param limit the maximal allowed sentence length. If the generated
+	 *        sentence exceeds this length, an empty list is returned.
+	 * @param <T> the terminal token type of the grammar
+	 * @return a new mapping codec for the given {@code cfg}
+	 */
+	public static <T> Codec<List<Terminal<T>>, BitGene>
+	singleBitChromosomeMapper(
+		final Cfg<? extends T> cfg,
+		final int length,
+		final int limit
+	) {
+		final CompiledCfg<T> compiled = CompiledCfg.of(cfg);
+
+		return Codec.of(
+			Genotype.of(BitChromosome.of(length)),
+			gt -> compiled.sentence(Codons.toCodonArray(gt.chromosome()), limit)
+		);
+	}
+
 	/**
 	 * Create a mapping codec, similar as in {@link #singleBitChromosomeMapper(Cfg, int, Function)}.
 	 * The only difference is that the codons are encoded directly, via an
@@ -175,6 +213,78 @@ public final class Mappers {
 		);
 	}
 
+	/**
+	 * Create a sentence mapping codec, similar as in
+	 * {@link #singleIntegerChromosomeMapper(Cfg, IntRange, IntRange, Function)},
+	 * which uses the {@link SentenceGenerator} with left-most expansion. The
+	 * given grammar is compiled once into a {@link CompiledCfg}, which makes
+	 * the decoding considerably faster.
+	 *
+	 * <pre>{@code
+	 * final Cfg<String> cfg = ...;
+	 * final Codec<List<Terminal<String>>, IntegerGene> codec = singleIntegerChromosomeMapper(
+	 *     cfg,
+	 *     IntRange.of(0, 256), // Value range of chromosomes.
+	 *     IntRange.of(100),    // Length (range) ot the chromosome.
+	 *     1000                 // Maximal sentence length.
+	 * );
+	 * }</pre>
+	 *
+	 * @since 7.2
+	 *
+	 * @param cfg the encoding grammar
+	 * @param range the value range of the integer genes
+	 * @param length the length range of the integer-chromosome
+	 * @param limit the maximal allowed sentence length. If the generated
+	 *        sentence exceeds this length, an empty list is returned.
+	 * @param <T> the terminal token type of the grammar
+	 * @return a new mapping codec for the given {@code cfg}
+	 */
+	public static <T> Codec<List<Terminal<T>>, IntegerGene>
+	singleIntegerChromosomeMapper(
+		final Cfg<? extends T> cfg,
+		final IntRange range,
+		final IntRange length,
+		final int limit
+	) {
+		final CompiledCfg<T> compiled = CompiledCfg.of(cfg);
+
+		return Codec.of(
+			Genotype.of(IntegerChromosome.of(range, length)),
+			gt -> compiled.sentence(
+				gt.chromosome().as(IntegerChromosome.class).toArray(),
+				limit
+			)
+		);
+	}
+
+	/**
+	 * Create a sentence mapping codec, similar as in
+	 * {@link #singleIntegerChromosomeMapper(Cfg, IntRange, IntRange, int)},
+	 * with a fixed chromosome length.
+	 *
+	 * @since 7.2
+	 *
+	 * @param cfg the encoding grammar
+	 * @param range the value range of the integer genes
+	 * @param length the length of the integer-chromosome
+	 * @param limit the maximal allowed sentence length. If the generated
+	 *        sentence exceeds this length, an empty list is returned.
+	 * @param <T> the terminal token type of the grammar
+	 * @return a new mapping codec for the given {@code cfg}
+	 */
+	public static <T> Codec<List<Terminal<T>>, IntegerGene>
+	singleIntegerChromosomeMapper(
+		final Cfg<? extends T> cfg,
+		final IntRange range,
+		final int length,
+		final int limit
+	) {
+		return singleIntegerChromosomeMapper(
+			cfg, range, IntRange.of(length), limit
+		);
+	}
+
 	/**
 	 * Codec for creating <em>results</em> from a given grammar. The creation of
 	 * the grammar result is controlled by a given genotype. This encoding uses
@@ -236,5 +346,42 @@ public final class Mappers {
 		return new MultiIntegerChromosomeMapper<>(cfg, length, generator);
 	}
 
+	/**
+	 * Create a sentence mapping codec, with separate <em>codons</em> for every
+	 * rule, like {@link #multiIntegerChromosomeMapper(Cfg, Function, Function)}.
+	 * The sentences are created the same way as by the
+	 * {@link SentenceGenerator} with left-most expansion, but the given grammar
+	 * is compiled once into a {@link CompiledCfg}, which makes the decoding
+	 * considerably faster.
+	 *
+	 * <pre>{@code
+	 * final Cfg<String> cfg = Bnf.parse(...);
+	 * final Codec<List<Terminal<String>>, IntegerGene> codec = multiIntegerChromosomeMapper(
+	 *     cfg,
+	 *     rule -> IntRange.of(rule.alternatives().size()*25),
+	 *     500
+	 * );
+	 * }</pre>
+	 *
+	 * @since 7.2
+	 *
+	 * @param cfg the encoding grammar
+	 * @param length the length of the chromosome which is used for selecting
+	 *        rules and symbols. The input parameter for this function is the
+	 *        actual rule.
+	 * @param limit the maximal allowed sentence length. If the generated
+	 *        sentence exceeds this length, an empty list is returned.
+	 * @param <T> the terminal token type of the grammar
+	 * @return a new mapping codec for the given {@code cfg}
+	 */
+	public static <T> Codec<List<Terminal<T>>, IntegerGene>
+	multiIntegerChromosomeMapper(
+		final Cfg<? extends T> cfg,
+		final Function<? super Rule<?>, IntRange> length,
+		final int limit
+	) {
+		return MultiIntegerChromosomeMapper.ofSentences(cfg, length, limit);
+	}
+
 
 }
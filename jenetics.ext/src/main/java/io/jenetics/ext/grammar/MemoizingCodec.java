@@ -0,0 +1,412 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.grammar;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.BitGene;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.engine.Codec;
+import io.jenetics.internal.util.Concurrency;
+import io.jenetics.internal.util.Requires;
+import io.jenetics.util.Factory;
+import io.jenetics.util.IntRange;
+
+import io.jenetics.ext.grammar.Cfg.Rule;
+import io.jenetics.ext.grammar.Cfg.Terminal;
+
+/**
+ * Sentence mapping codec, which memoizes the results of an (expensive)
+ * sentence mapping function. In grammatical evolution, many genotypes are
+ * mapped to the same sentence, because of the codon redundancy (the codon
+ * value modulo the number of rule alternatives) and because only a prefix of
+ * the codons is used for the derivation. Two genotypes, which choose the same
+ * rule alternatives during the derivation, are guaranteed to have the same
+ * derivation tree and sentence. This codec uses the sequence of the chosen
+ * alternatives as cache key and re-uses the mapping result, e.g. a compiled
+ * program, of a previously decoded genotype with the same key.
+ *
+ * <pre>{@code
+ * final Cfg<String> cfg = Bnf.parse(...);
+ * final MemoizingCodec<String, Program, BitGene> codec = MemoizingCodec
+ *     .ofBitChromosome(
+ *         cfg,
+ *         1000,             // Length of the bit-chromosome.
+ *         1000,             // Maximal sentence length.
+ *         Program::compile, // Expensive sentence mapping.
+ *         10_000            // Maximal number of cached results.
+ *     );
+ *
+ * final Engine<BitGene, Double> engine = Engine
+ *     .builder(program -> fitness(program), codec)
+ *     .build();
+ * ...
+ * System.out.println("Cache hit rate: " + codec.hitRate());
+ * }</pre>
+ *
+ * The sentences are created by the {@link CompiledCfg} of the given grammar.
+ * The number of cached results is bounded and the least recently used
+ * results are evicted first. The cache is split into independently locked
+ * stripes, and the least recently used results are evicted per stripe. The
+ * codec is thread-safe and can be used by engines which evaluate the
+ * population concurrently.
+ *
+ * @apiNote
+ * The mapping function is not called while holding a cache lock. This
+ * means that the mapping function might be called more than once for the
+ * same key, if two equivalent genotypes are decoded concurrently. The mapping
+ * function must therefore be side effect free.
+ *
+ * @see Mappers
+ * @see CompiledCfg
+ *
+ * @param <T> the terminal token type of the grammar
+ * @param <R> the result type of the codec
+ * @param <G> the gene type of the codec
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 7.2
+ * @version 7.2
+ */
+public final class MemoizingCodec<T, R, G extends Gene<?, G>>
+	implements Codec<R, G>
+{
+
+	private final Factory<Genotype<G>> _encoding;
+	private final Function<? super Genotype<G>, int[][]> _codons;
+	private final boolean _shared;
+	private final CompiledCfg<T> _cfg;
+	private final int _limit;
+	private final Function<? super List<Terminal<T>>, ? extends R> _mapper;
+
+	private final Cache<Key, R> _cache;
+	private final LongAdder _lookups = new LongAdder();
+	private final LongAdder _hits = new LongAdder();
+
+	private MemoizingCodec(
+		final Factory<Genotype<G>> encoding,
+		final Function<? super Genotype<G>, int[][]> codons,
+		final boolean shared,
+		final CompiledCfg<T> cfg,
+		final int limit,
+		final Function<? super List<Terminal<T>>, ? extends R> mapper,
+		final int cacheSize
+	) {
+		_encoding = requireNonNull(encoding);
+		_codons = requireNonNull(codons);
+		_shared = shared;
+		_cfg = requireNonNull(cfg);
+		_limit = limit;
+		_mapper = requireNonNull(mapper);
+		_cache = new Cache<>(Requires.positive(cacheSize));
+	}
+
+	@Override
+	public Factory<Genotype<G>> encoding() {
+		return _encoding;
+	}
+
+	@Override
+	public Function<Genotype<G>, R> decoder() {
+		return this::decode;
+	}
+
+	@Override
+	public R decode(final Genotype<G> genotype) {
+		final int[][] codons = _codons.apply(genotype);
+		final var cursor = _shared
+			? new CompiledCfg.Cursor(codons[0])
+			: new CompiledCfg.Cursor(codons, _cfg.cfg().rules().size());
+
+		final List<Terminal<T>> sentence = _cfg.sentence(cursor.record(), _limit);
+		final Key key = new Key(cursor.choices());
+
+		_lookups.increment();
+		R result = _cache.get(key);
+		if (result != null) {
+			_hits.increment();
+		} else {
+			result = _mapper.apply(sentence);
+			_cache.put(key, result);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Return the number of decoded genotypes.
+	 *
+	 * @return the number of decoded genotypes
+	 */
+	public long lookups() {
+		return _lookups.sum();
+	}
+
+	/**
+	 * Return the number of decoded genotypes, where the sentence mapping
+	 * could be skipped, because the result was already cached.
+	 *
+	 * @return the number of cache hits
+	 */
+	public long hits() {
+		return _hits.sum();
+	}
+
+	/**
+	 * Return the fraction of decoded genotypes, where the sentence mapping
+	 * could be skipped. If no genotype has been decoded yet,
+	 * {@link Double#NaN} is returned.
+	 *
+	 * @return the cache hit rate in the range {@code [0, 1]}
+	 */
+	public double hitRate() {
+		final long lookups = lookups();
+		return lookups > 0 ? (double)hits()/lookups : Double.NaN;
+	}
+
+	/**
+	 * Return the current number of cached results.
+	 *
+	 * @return the current number of cached results
+	 */
+	public int size() {
+		return _cache.size();
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"MemoizingCodec[size=%d, lookups=%d, hits=%d]",
+			size(), lookups(), hits()
+		);
+	}
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Return a memoizing codec, which uses a bit-chromosome for creating the
+	 * sentences. The codons are created by dividing the chromosome in 8-bit
+	 * junks, like the codec created by
+	 * {@link Mappers#singleBitChromosomeMapper(Cfg, int, int)}.
+	 *
+	 * @param cfg the encoding grammar
+	 * @param length the length of the bit-chromosome
+	 * @param limit the maximal allowed sentence length. If the generated
+	 *        sentence exceeds this length, an empty list is passed to the
+	 *        {@code mapper}.
+	 * @param mapper the sentence mapping function, whose results are cached
+	 * @param cacheSize the maximal number of cached results
+	 * @param <T> the terminal token type of the grammar
+	 * @param <R> the result type of the codec
+	 * @return a new memoizing codec
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code cacheSize} is smaller
+	 *         than one
+	 */
+	public static <T, R> MemoizingCodec<T, R, BitGene> ofBitChromosome(
+		final Cfg<? extends T> cfg,
+		final int length,
+		final int limit,
+		final Function<? super List<Terminal<T>>, ? extends R> mapper,
+		final int cacheSize
+	) {
+		return new MemoizingCodec<>(
+			Genotype.of(BitChromosome.of(length)),
+			gt -> new int[][] {Codons.toCodonArray(gt.chromosome())},
+			true,
+			CompiledCfg.of(cfg),
+			limit,
+			mapper,
+			cacheSize
+		);
+	}
+
+	/**
+	 * Return a memoizing codec, which uses an integer-chromosome as codons,
+	 * like the codec created by
+	 * {@link Mappers#singleIntegerChromosomeMapper(Cfg, IntRange, IntRange, int)}.
+	 *
+	 * @param cfg the encoding grammar
+	 * @param range the value range of the integer genes
+	 * @param length the length range of the integer-chromosome
+	 * @param limit the maximal allowed sentence length. If the generated
+	 *        sentence exceeds this length, an empty list is passed to the
+	 *        {@code mapper}.
+	 * @param mapper the sentence mapping function, whose results are cached
+	 * @param cacheSize the maximal number of cached results
+	 * @param <T> the terminal token type of the grammar
+	 * @param <R> the result type of the codec
+	 * @return a new memoizing codec
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code cacheSize} is smaller
+	 *         than one
+	 */
+	public static <T, R> MemoizingCodec<T, R, IntegerGene> ofIntegerChromosome(
+		final Cfg<? extends T> cfg,
+		final IntRange range,
+		final IntRange length,
+		final int limit,
+		final Function<? super List<Terminal<T>>, ? extends R> mapper,
+		final int cacheSize
+	) {
+		return new MemoizingCodec<>(
+			Genotype.of(IntegerChromosome.of(range, length)),
+			MultiIntegerChromosomeMapper::codons,
+			true,
+			CompiledCfg.of(cfg),
+			limit,
+			mapper,
+			cacheSize
+		);
+	}
+
+	/**
+	 * Return a memoizing codec, which uses separate <em>codons</em> for every
+	 * rule, like the codec created by
+	 * {@link Mappers#multiIntegerChromosomeMapper(Cfg, Function, int)}.
+	 *
+	 * @param cfg the encoding grammar
+	 * @param length the length of the chromosome which is used for selecting
+	 *        rules and symbols. The input parameter for this function is the
+	 *        actual rule.
+	 * @param limit the maximal allowed sentence length. If the generated
+	 *        sentence exceeds this length, an empty list is passed to the
+	 *        {@code mapper}.
+	 * @param mapper the sentence mapping function, whose results are cached
+	 * @param cacheSize the maximal number of cached results
+	 * @param <T> the terminal token type of the grammar
+	 * @param <R> the result type of the codec
+	 * @return a new memoizing codec
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code cacheSize} is smaller
+	 *         than one
+	 */
+	public static <T, R> MemoizingCodec<T, R, IntegerGene> ofIntegerChromosomes(
+		final Cfg<? extends T> cfg,
+		final Function<? super Rule<?>, IntRange> length,
+		final int limit,
+		final Function<? super List<Terminal<T>>, ? extends R> mapper,
+		final int cacheSize
+	) {
+		return new MemoizingCodec<>(
+			MultiIntegerChromosomeMapper.encoding(cfg, length),
+			MultiIntegerChromosomeMapper::codons,
+			false,
+			CompiledCfg.of(cfg),
+			limit,
+			mapper,
+			cacheSize
+		);
+	}
+
+	/**
+	 * The cache key: the chosen rule alternatives, in derivation order.
+	 */
+	private static final class Key {
+		private final int[] _choices;
+		private final int _hash;
+
+		private Key(final int[] choices) {
+			_choices = choices;
+			_hash = Arrays.hashCode(choices);
+		}
+
+		@Override
+		public int hashCode() {
+			return _hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof Key other &&
+				_hash == other._hash &&
+				Arrays.equals(_choices, other._choices);
+		}
+	}
+
+	/**
+	 * Bounded LRU cache, which is split into independently locked stripes.
+	 * The capacities of the stripes sum up to the cache size.
+	 */
+	private static final class Cache<K, V> {
+		private final List<Map<K, V>> _stripes;
+
+		Cache(final int size) {
+			final int stripes = Math.min(size, 4*Concurrency.CORES);
+			_stripes = new ArrayList<>(stripes);
+			for (int i = 0; i < stripes; ++i) {
+				final int capacity = size/stripes + (i < size%stripes ? 1 : 0);
+				_stripes.add(new LinkedHashMap<>(16, 0.75f, true) {
+					@Override
+					protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+						return size() > capacity;
+					}
+				});
+			}
+		}
+
+		private Map<K, V> stripe(final Object key) {
+			final int hash = key.hashCode();
+			return _stripes.get(
+				Math.floorMod(hash ^ (hash >>> 16), _stripes.size())
+			);
+		}
+
+		V get(final K key) {
+			final Map<K, V> stripe = stripe(key);
+			synchronized (stripe) {
+				return stripe.get(key);
+			}
+		}
+
+		void put(final K key, final V value) {
+			final Map<K, V> stripe = stripe(key);
+			synchronized (stripe) {
+				stripe.put(key, value);
+			}
+		}
+
+		int size() {
+			int size = 0;
+			for (Map<K, V> stripe : _stripes) {
+				synchronized (stripe) {
+					size += stripe.size();
+				}
+			}
+			return size;
+		}
+	}
+
+}
@@ -21,11 +21,13 @@ package io.jenetics.ext.grammar;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import io.jenetics.Chromosome;
 import io.jenetics.Genotype;
 import io.jenetics.IntegerChromosome;
 import io.jenetics.IntegerGene;
@@ -35,6 +37,7 @@ import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
 
 import io.jenetics.ext.grammar.Cfg.Rule;
+import io.jenetics.ext.grammar.Cfg.Terminal;
 
 /**
  * Codec for creating <em>results</em> from a given grammar. The creation of
@@ -82,7 +85,7 @@ import io.jenetics.ext.grammar.Cfg.Rule;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 7.1
- * @version 7.1
+ * @version 7.2
  */
 final class MultiIntegerChromosomeMapper<T, R> implements Codec<R, IntegerGene> {
 
@@ -105,9 +108,27 @@ final class MultiIntegerChromosomeMapper<T, R> implements Codec<R, IntegerGene>
 		final Function<? super Rule<?>, IntRange> length,
 		final Function<? super SymbolIndex, ? extends Generator<T, R>> generator
 	) {
-		// Every rule gets its own codons. The ranges of the chromosomes
-		// will fit exactly the number of rule alternatives.
-		_encoding = Genotype.of(
+		_encoding = encoding(cfg, length);
+
+		final var codons = new CodonsFactory(cfg);
+		_decoder = gt -> generator.apply(codons.get(gt)).generate(cfg);
+	}
+
+	private MultiIntegerChromosomeMapper(
+		final Factory<Genotype<IntegerGene>> encoding,
+		final Function<Genotype<IntegerGene>, R> decoder
+	) {
+		_encoding = requireNonNull(encoding);
+		_decoder = requireNonNull(decoder);
+	}
+
+	// Every rule gets its own codons. The ranges of the chromosomes
+	// will fit exactly the number of rule alternatives.
+	static Factory<Genotype<IntegerGene>> encoding(
+		final Cfg<?> cfg,
+		final Function<? super Rule<?>, IntRange> length
+	) {
+		return Genotype.of(
 			cfg.rules().stream()
 				.map(rule ->
 					IntegerChromosome.of(
@@ -116,9 +137,51 @@ final class MultiIntegerChromosomeMapper<T, R> implements Codec<R, IntegerGene>
 					))
 				.collect(ISeq.toISeq())
 		);
+	}
 
-		final var codons = new CodonsFactory(cfg);
-		_decoder = gt -> generator.apply(codons.get(gt)).generate(cfg);
+	/**
+	 * Create a new sentence codec, which uses the {@link CompiledCfg} for
+	 * creating the sentences. The codons of the chromosomes are read directly
+	 * as {@code int[]} arrays, without looking up the rule indexes by name.
+	 *
+	 * @param cfg the encoding grammar
+	 * @param length the length of the chromosome which is used for selecting
+	 *        rules and symbols
+	 * @param limit the maximal allowed sentence length
+	 * @param <T> the terminal token type of the grammar
+	 * @return a new sentence codec
+	 */
+	static <T> MultiIntegerChromosomeMapper<T, List<Terminal<T>>> ofSentences(
+		final Cfg<? extends T> cfg,
+		final Function<? super Rule<?>, IntRange> length,
+		final int limit
+	) {
+		final CompiledCfg<T> compiled = CompiledCfg.of(cfg);
+
+		return new MultiIntegerChromosomeMapper<>(
+			encoding(cfg, length),
+			gt -> compiled.sentence(codons(gt), limit)
+		);
+	}
+
+	static int[][] codons(final Genotype<IntegerGene> gt) {
+		final int[][] codons = new int[gt.length()][];
+		for (int i = 0; i < codons.length; ++i) {
+			codons[i] = toArray(gt.get(i));
+		}
+		return codons;
+	}
+
+	private static int[] toArray(final Chromosome<IntegerGene> chromosome) {
+		if (chromosome instanceof IntegerChromosome ich) {
+			return ich.toArray();
+		}
+
+		final int[] values = new int[chromosome.length()];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = chromosome.get(i).intValue();
+		}
+		return values;
 	}
 
 	@Override
@@ -84,6 +84,24 @@ public final class IntList {
 		return _data[index];
 	}
 
+	/**
+	 * Replaces the element at the specified position in this list with the
+	 * specified element.
+	 *
+	 * @param index index of the element to replace
+	 * @param element element to be stored at the specified position
+	 * @return the element previously at the specified position
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 */
+	public int set(final int index, final int element) {
+		rangeCheck(index);
+
+		final int previous = _data[index];
+		_data[index] = element;
+		return previous;
+	}
+
 	/**
 	 * Performs the given action for each element of the list.
 	 *
@@ -30,7 +30,7 @@ import io.jenetics.util.BaseSeq;
  * Crowded distance comparator.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 7.2
  * @since 4.1
  */
 final class CrowdedComparator<T> implements IntComparator {
@@ -50,7 +50,11 @@ final class CrowdedComparator<T> implements IntComparator {
 			population,
 			opt == Optimize.MAXIMUM
 				? dominance
-				: dominance.reversed()
+				: dominance.reversed(),
+			opt == Optimize.MAXIMUM
+				? comparator
+				: comparator.reversed(),
+			dimension
 		);
 
 		_dist = Pareto.crowdingDistance(
@@ -58,11 +62,18 @@ final class CrowdedComparator<T> implements IntComparator {
 			opt == Optimize.MAXIMUM
 				? comparator
 				: comparator.reversed(),
-			distance,
+			opt == Optimize.MAXIMUM
+				? distance
+				: (u, v, i) -> distance.distance(v, u, i),
 			dimension
 		);
 	}
 
+	CrowdedComparator(final Objectives objectives) {
+		_rank = objectives.rank();
+		_dist = objectives.crowdingDistance();
+	}
+
 	@Override
 	public int compare(final int i, final int j) {
 		if (cco(i, j)) {
@@ -0,0 +1,136 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiPredicate;
+
+/**
+ * The storage of the elements of a {@link ParetoFront}. The index only
+ * contains non-dominated elements.
+ *
+ * @param <T> the element type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+interface FrontIndex<T> extends Iterable<T> {
+
+	/**
+	 * Inserts the given {@code element}, if it is not dominated by an element
+	 * of the index and removes all elements which are dominated by the new
+	 * one.
+	 *
+	 * @param element the element to insert
+	 * @return {@code true} if the element has been inserted
+	 */
+	boolean add(final T element);
+
+	/**
+	 * Removes the given element, using the object identity.
+	 *
+	 * @param element the element to remove
+	 * @return {@code true} if the element has been removed
+	 */
+	boolean remove(final T element);
+
+	/**
+	 * Return the number of elements of the index.
+	 *
+	 * @return the number of elements of the index
+	 */
+	int size();
+
+	/**
+	 * Removes all elements from the index.
+	 */
+	void clear();
+
+	/**
+	 * Return an iterator over the given {@code snapshot} of the
+	 * {@code index} elements. Removing an element from the iterator removes
+	 * it from the {@code index}.
+	 *
+	 * @param index the index the snapshot is taken from
+	 * @param snapshot the index elements
+	 * @param <T> the element type
+	 * @return a new iterator
+	 */
+	static <T> Iterator<T> iterator(
+		final FrontIndex<T> index,
+		final List<T> snapshot
+	) {
+		return new Iterator<>() {
+			private int _cursor = 0;
+			private int _last = -1;
+
+			@Override
+			public boolean hasNext() {
+				return _cursor < snapshot.size();
+			}
+
+			@Override
+			public T next() {
+				if (_cursor >= snapshot.size()) {
+					throw new NoSuchElementException();
+				}
+				_last = _cursor++;
+				return snapshot.get(_last);
+			}
+
+			@Override
+			public void remove() {
+				if (_last < 0) {
+					throw new IllegalStateException();
+				}
+				index.remove(snapshot.get(_last));
+				_last = -1;
+			}
+		};
+	}
+
+	/**
+	 * Create a new index for the given {@code dimension}. A
+	 * {@link SortedFrontIndex} is created for two dimensions and a
+	 * {@link NDTreeFrontIndex} for all other dimensions.
+	 *
+	 * @param dominance the dominance comparator
+	 * @param equals the equals predicate, used for keeping the index distinct
+	 * @param comparator the element comparator
+	 * @param dimension the number of objectives
+	 * @param <T> the element type
+	 * @return a new front index
+	 */
+	static <T> FrontIndex<T> of(
+		final Comparator<? super T> dominance,
+		final BiPredicate<? super T, ? super T> equals,
+		final ElementComparator<? super T> comparator,
+		final int dimension
+	) {
+		return dimension == 2
+			? new SortedFrontIndex<>(dominance, equals, comparator)
+			: new NDTreeFrontIndex<>(dominance, equals, comparator, dimension);
+	}
+
+}
@@ -24,18 +24,25 @@ import java.util.Comparator;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.2
+ * @version 7.2
  * @since 5.2
  */
 final class GeneralDoubleVec extends GeneralVec<double[]> {
 
+	/**
+	 * The optimization direction of the vector elements.
+	 */
+	final boolean[] _maximisations;
+
 	GeneralDoubleVec(
 		final double[] data,
 		final ElementComparator<double[]> comparator,
 		final ElementDistance<double[]> distance,
-		final Comparator<double[]> dominance
+		final Comparator<double[]> dominance,
+		final boolean[] maximisations
 	) {
 		super(data, comparator, distance, dominance);
+		_maximisations = maximisations;
 	}
 
 	@Override
@@ -64,7 +64,13 @@ final class GeneralDoubleVecFactory implements VecFactory<double[]> {
 	@Override
 	public Vec<double[]> newVec(final double[] array) {
 		requireVecLength(_maximisations.length, array.length);
-		return new GeneralDoubleVec(array, _comparator, _distance, _dominance);
+		return new GeneralDoubleVec(
+			array,
+			_comparator,
+			_distance,
+			_dominance,
+			_maximisations
+		);
 	}
 
 	@Override
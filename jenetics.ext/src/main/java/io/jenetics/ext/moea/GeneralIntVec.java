@@ -24,18 +24,25 @@ import java.util.Comparator;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.2
+ * @version 7.2
  * @since 5.2
  */
 final class GeneralIntVec extends GeneralVec<int[]> {
 
+	/**
+	 * The optimization direction of the vector elements.
+	 */
+	final boolean[] _maximisations;
+
 	GeneralIntVec(
 		final int[] data,
 		final ElementComparator<int[]> comparator,
 		final ElementDistance<int[]> distance,
-		final Comparator<int[]> dominance
+		final Comparator<int[]> dominance,
+		final boolean[] maximisations
 	) {
 		super(data, comparator, distance, dominance);
+		_maximisations = maximisations;
 	}
 
 	@Override
@@ -64,7 +64,13 @@ final class GeneralIntVecFactory implements VecFactory<int[]> {
 	@Override
 	public Vec<int[]> newVec(final int[] array) {
 		requireVecLength(_maximisations.length, array.length);
-		return new GeneralIntVec(array, _comparator, _distance, _dominance);
+		return new GeneralIntVec(
+			array,
+			_comparator,
+			_distance,
+			_dominance,
+			_maximisations
+		);
 	}
 
 	@Override
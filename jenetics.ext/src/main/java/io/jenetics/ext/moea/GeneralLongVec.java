@@ -24,18 +24,25 @@ import java.util.Comparator;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.2
+ * @version 7.2
  * @since 5.2
  */
 final class GeneralLongVec extends GeneralVec<long[]> {
 
+	/**
+	 * The optimization direction of the vector elements.
+	 */
+	final boolean[] _maximisations;
+
 	GeneralLongVec(
 		final long[] data,
 		final ElementComparator<long[]> comparator,
 		final ElementDistance<long[]> distance,
-		final Comparator<long[]> dominance
+		final Comparator<long[]> dominance,
+		final boolean[] maximisations
 	) {
 		super(data, comparator, distance, dominance);
+		_maximisations = maximisations;
 	}
 
 	@Override
@@ -64,7 +64,13 @@ final class GeneralLongVecFactory implements VecFactory<long[]> {
 	@Override
 	public Vec<long[]> newVec(final long[] array) {
 		requireVecLength(_maximisations.length, array.length);
-		return new GeneralLongVec(array, _comparator, _distance, _dominance);
+		return new GeneralLongVec(
+			array,
+			_comparator,
+			_distance,
+			_dominance,
+			_maximisations
+		);
 	}
 
 	@Override
@@ -0,0 +1,504 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Methods for calculating the <em>hypervolume</em> indicator of a point set.
+ * The hypervolume is the volume of the objective space, which is dominated by
+ * the given points and bounded by a <em>reference</em> point. All objectives
+ * are <em>maximized</em>, which is consistent with the {@link Vec} and
+ * {@link Pareto} classes. Points which don't strictly dominate the reference
+ * point in every objective don't contribute to the hypervolume.
+ *
+ * <pre>{@code
+ * final double[][] points = {{1, 4}, {2, 3}, {3, 1}};
+ * final double hv = Hypervolume.of(points, new double[]{0, 0});
+ * assert hv == 8.0;
+ * }</pre>
+ *
+ * @apiNote
+ * The hypervolume is calculated exactly, with the <em>WFG</em> algorithm, for
+ * up to {@link #MAX_EXACT_DIMENSION} objectives. For more objectives, a
+ * Monte-Carlo approximation is used.
+ *
+ * @see <a href="https://doi.org/10.1109/TEVC.2010.2077298">
+ *     A Fast Way of Calculating Exact Hypervolumes</a>
+ * @see SMSEMOASelector
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+public final class Hypervolume {
+
+	/**
+	 * The maximal number of objectives, for which the hypervolume is
+	 * calculated exactly by the {@link #of(double[][], double[])} method.
+	 */
+	public static final int MAX_EXACT_DIMENSION = 6;
+
+	/**
+	 * The number of samples used for the Monte-Carlo approximation of the
+	 * {@link #of(double[][], double[])} method.
+	 */
+	public static final int DEFAULT_SAMPLES = 100_000;
+
+	// The minimal number of points, for calculating the hypervolume
+	// contributions in parallel.
+	private static final int PARALLEL_SIZE = 64;
+
+	private Hypervolume() {
+	}
+
+	/**
+	 * Calculates the hypervolume of the given {@code points}. The value is
+	 * calculated exactly for up to {@link #MAX_EXACT_DIMENSION} objectives
+	 * and approximated with {@link #DEFAULT_SAMPLES} Monte-Carlo samples
+	 * otherwise.
+	 *
+	 * @param points the point set
+	 * @param reference the reference point
+	 * @return the hypervolume of the given {@code points}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the dimensions of the points and the
+	 *         reference point differ
+	 */
+	public static double of(final double[][] points, final double[] reference) {
+		check(points, reference);
+		return reference.length <= MAX_EXACT_DIMENSION
+			? wfg(relevant(points, reference), reference)
+			: monteCarlo(
+				relevant(points, reference),
+				reference,
+				DEFAULT_SAMPLES,
+				RandomRegistry.random()
+			);
+	}
+
+	/**
+	 * Calculates the hypervolume of the given {@code points} exactly. The
+	 * runtime grows exponentially with the number of objectives.
+	 *
+	 * @param points the point set
+	 * @param reference the reference point
+	 * @return the hypervolume of the given {@code points}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the dimensions of the points and the
+	 *         reference point differ
+	 */
+	public static double exact(final double[][] points, final double[] reference) {
+		check(points, reference);
+		return wfg(relevant(points, reference), reference);
+	}
+
+	/**
+	 * Approximates the hypervolume of the given {@code points} by uniformly
+	 * sampling the box between the reference point and the best objective
+	 * values.
+	 *
+	 * @param points the point set
+	 * @param reference the reference point
+	 * @param samples the number of Monte-Carlo samples
+	 * @param random the random generator used for the sampling
+	 * @return the approximated hypervolume of the given {@code points}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the dimensions of the points and the
+	 *         reference point differ or the number of {@code samples} is
+	 *         smaller than one
+	 */
+	public static double approximate(
+		final double[][] points,
+		final double[] reference,
+		final int samples,
+		final RandomGenerator random
+	) {
+		check(points, reference);
+		requireNonNull(random);
+		if (samples < 1) {
+			throw new IllegalArgumentException(format(
+				"Number of samples must be greater than zero: %d", samples
+			));
+		}
+
+		return monteCarlo(relevant(points, reference), reference, samples, random);
+	}
+
+	/**
+	 * Calculates the exclusive hypervolume contribution of every point. The
+	 * contribution of a point is the hypervolume which is lost, if the point
+	 * is removed from the set. Dominated and duplicate points have a
+	 * contribution of zero. For more than two objectives, the contributions
+	 * are calculated in parallel.
+	 *
+	 * @param points the point set
+	 * @param reference the reference point
+	 * @return the hypervolume contributions of the given {@code points}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the dimensions of the points and the
+	 *         reference point differ
+	 */
+	public static double[] contributions(
+		final double[][] points,
+		final double[] reference
+	) {
+		check(points, reference);
+
+		final double[] result = new double[points.length];
+		if (reference.length == 2 && contributions2D(points, reference, result)) {
+			return result;
+		}
+
+		final IntStream indexes = IntStream.range(0, points.length);
+		(points.length >= PARALLEL_SIZE ? indexes.parallel() : indexes)
+			.forEach(i -> result[i] = contribution(points, i, reference));
+
+		return result;
+	}
+
+	/**
+	 * Reduces the given point set to the given {@code size}, by removing the
+	 * point with the smallest hypervolume contribution one by one.
+	 *
+	 * @param points the point set
+	 * @param size the size of the reduced point set
+	 * @param reference the reference point
+	 * @return the indexes of the remaining points
+	 */
+	static int[] reduce(
+		final double[][] points,
+		final int size,
+		final double[] reference
+	) {
+		final int[] indexes = IntStream.range(0, points.length).toArray();
+		final double[][] remaining = points.clone();
+
+		int n = points.length;
+		while (n > size) {
+			final double[] contributions = contributions(
+				n == remaining.length ? remaining : Arrays.copyOf(remaining, n),
+				reference
+			);
+
+			int min = 0;
+			for (int i = 1; i < n; ++i) {
+				if (contributions[i] < contributions[min]) {
+					min = i;
+				}
+			}
+
+			--n;
+			indexes[min] = indexes[n];
+			remaining[min] = remaining[n];
+		}
+
+		return Arrays.copyOf(indexes, n);
+	}
+
+	private static double contribution(
+		final double[][] points,
+		final int index,
+		final double[] reference
+	) {
+		final double[] point = points[index];
+		if (!relevant(point, reference)) {
+			return 0;
+		}
+
+		final double[][] limits = new double[points.length - 1][];
+		int n = 0;
+		for (int i = 0; i < points.length; ++i) {
+			if (i != index && relevant(points[i], reference)) {
+				limits[n++] = limit(points[i], point);
+			}
+		}
+
+		final double[][] set = Arrays.copyOf(limits, n);
+		final double excluded = reference.length <= MAX_EXACT_DIMENSION
+			? wfg(set, reference)
+			: monteCarlo(set, reference, DEFAULT_SAMPLES, RandomRegistry.random());
+
+		return Math.max(inclusive(point, reference) - excluded, 0);
+	}
+
+	/*
+	 * Two-dimensional contributions of a point set, which contains only
+	 * non-dominated points and duplicates. In this case, the contribution of
+	 * a point is the rectangle spanned by its neighbours. Returns false, if
+	 * the point set contains dominated points.
+	 */
+	private static boolean contributions2D(
+		final double[][] points,
+		final double[] reference,
+		final double[] result
+	) {
+		final int[] order = sorted(points, reference);
+
+		final int[] front = new int[order.length];
+		final boolean[] duplicate = new boolean[points.length];
+		int n = 0;
+		double max = reference[1];
+		for (int i : order) {
+			final double[] point = points[i];
+			if (point[1] > max) {
+				front[n++] = i;
+				max = point[1];
+			} else if (n > 0 && Arrays.equals(point, points[front[n - 1]])) {
+				duplicate[front[n - 1]] = true;
+			} else {
+				return false;
+			}
+		}
+
+		for (int k = 0; k < n; ++k) {
+			final double[] point = points[front[k]];
+			if (!duplicate[front[k]]) {
+				final double x = k < n - 1 ? points[front[k + 1]][0] : reference[0];
+				final double y = k > 0 ? points[front[k - 1]][1] : reference[1];
+				result[front[k]] = (point[0] - x)*(point[1] - y);
+			}
+		}
+
+		return true;
+	}
+
+	/* *************************************************************************
+	 * WFG algorithm.
+	 * ************************************************************************/
+
+	private static double wfg(final double[][] points, final double[] reference) {
+		final int d = reference.length;
+		final int n = points.length;
+
+		if (n == 0) {
+			return 0;
+		} else if (n == 1) {
+			return inclusive(points[0], reference);
+		} else if (d == 1) {
+			double max = reference[0];
+			for (double[] point : points) {
+				max = Math.max(max, point[0]);
+			}
+			return max - reference[0];
+		} else if (d == 2) {
+			return hv2D(points, reference);
+		}
+
+		// Sorting the points in descending order of the last objective. The
+		// limit set of every point is then dominated in the last objective.
+		Arrays.sort(points, (a, b) -> Double.compare(b[d - 1], a[d - 1]));
+
+		double volume = 0;
+		for (int k = 0; k < n; ++k) {
+			volume += exclusive(points, k, reference);
+		}
+		return volume;
+	}
+
+	private static double exclusive(
+		final double[][] points,
+		final int k,
+		final double[] reference
+	) {
+		final double[] point = points[k];
+		final int n = points.length - k - 1;
+
+		final double[][] limits = new double[n][];
+		for (int i = 0; i < n; ++i) {
+			limits[i] = limit(points[k + 1 + i], point);
+		}
+
+		return inclusive(point, reference) - wfg(nonDominated(limits), reference);
+	}
+
+	// The point, which is dominated by both given points.
+	private static double[] limit(final double[] a, final double[] b) {
+		final double[] result = new double[a.length];
+		for (int i = 0; i < a.length; ++i) {
+			result[i] = Math.min(a[i], b[i]);
+		}
+		return result;
+	}
+
+	// Removes the weakly dominated points of the given set.
+	private static double[][] nonDominated(final double[][] points) {
+		int n = 0;
+		for (double[] point : points) {
+			boolean dominated = false;
+			for (int i = 0; i < n && !dominated; ++i) {
+				dominated = weaklyDominates(points[i], point);
+			}
+			if (!dominated) {
+				int j = 0;
+				for (int i = 0; i < n; ++i) {
+					if (!weaklyDominates(point, points[i])) {
+						points[j++] = points[i];
+					}
+				}
+				points[j] = point;
+				n = j + 1;
+			}
+		}
+
+		return n == points.length ? points : Arrays.copyOf(points, n);
+	}
+
+	private static boolean weaklyDominates(final double[] a, final double[] b) {
+		for (int i = 0; i < a.length; ++i) {
+			if (a[i] < b[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static double hv2D(final double[][] points, final double[] reference) {
+		double volume = 0;
+		double max = reference[1];
+		for (int i : sorted(points, reference)) {
+			final double[] point = points[i];
+			if (point[1] > max) {
+				volume += (point[0] - reference[0])*(point[1] - max);
+				max = point[1];
+			}
+		}
+		return volume;
+	}
+
+	// Return the indexes of the relevant points, sorted in descending order of
+	// the first and second objective.
+	private static int[] sorted(final double[][] points, final double[] reference) {
+		final int[] indexes = IntStream.range(0, points.length)
+			.filter(i -> relevant(points[i], reference))
+			.toArray();
+
+		return IntStream.of(indexes)
+			.boxed()
+			.sorted((i, j) -> {
+				final int cmp = Double.compare(points[j][0], points[i][0]);
+				return cmp != 0 ? cmp : Double.compare(points[j][1], points[i][1]);
+			})
+			.mapToInt(Integer::intValue)
+			.toArray();
+	}
+
+	/* *************************************************************************
+	 * Monte-Carlo approximation.
+	 * ************************************************************************/
+
+	private static double monteCarlo(
+		final double[][] points,
+		final double[] reference,
+		final int samples,
+		final RandomGenerator random
+	) {
+		if (points.length == 0) {
+			return 0;
+		}
+
+		final int d = reference.length;
+		final double[] upper = reference.clone();
+		for (double[] point : points) {
+			for (int i = 0; i < d; ++i) {
+				upper[i] = Math.max(upper[i], point[i]);
+			}
+		}
+
+		final double box = inclusive(upper, reference);
+		final double[] sample = new double[d];
+		int hits = 0;
+		for (int s = 0; s < samples; ++s) {
+			for (int i = 0; i < d; ++i) {
+				sample[i] = reference[i] + random.nextDouble()*(upper[i] - reference[i]);
+			}
+			for (double[] point : points) {
+				if (weaklyDominates(point, sample)) {
+					++hits;
+					break;
+				}
+			}
+		}
+
+		return box*hits/samples;
+	}
+
+	/* *************************************************************************
+	 * Helper methods.
+	 * ************************************************************************/
+
+	private static double inclusive(final double[] point, final double[] reference) {
+		double volume = 1;
+		for (int i = 0; i < point.length; ++i) {
+			volume *= point[i] - reference[i];
+		}
+		return volume;
+	}
+
+	private static boolean relevant(final double[] point, final double[] reference) {
+		for (int i = 0; i < point.length; ++i) {
+			if (!(point[i] > reference[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// Return the points, which strictly dominate the reference point.
+	private static double[][] relevant(
+		final double[][] points,
+		final double[] reference
+	) {
+		final double[][] result = new double[points.length][];
+		int n = 0;
+		for (double[] point : points) {
+			if (relevant(point, reference)) {
+				result[n++] = point;
+			}
+		}
+		return nonDominated(Arrays.copyOf(result, n));
+	}
+
+	private static void check(final double[][] points, final double[] reference) {
+		requireNonNull(points);
+		requireNonNull(reference);
+		if (reference.length == 0) {
+			throw new IllegalArgumentException(
+				"Reference point must have at least one objective."
+			);
+		}
+		for (double[] point : points) {
+			if (point.length != reference.length) {
+				throw new IllegalArgumentException(format(
+					"Point has dimension %d, but reference point %d.",
+					point.length, reference.length
+				));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import io.jenetics.engine.EvolutionResult;
+
+/**
+ * Implementation of the hypervolume-convergence limit strategy object. The
+ * evolution stream is stopped, if the relative change of the population
+ * hypervolume, within the last {@code generations}, is not greater than
+ * {@code epsilon}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+final class HypervolumeConvergenceLimit<C extends Comparable<? super C>>
+	implements Predicate<EvolutionResult<?, C>>
+{
+
+	private final Function<? super C, double[]> _objectives;
+	private final double[] _reference;
+	private final double _epsilon;
+
+	// Ring buffer of the last hypervolume values.
+	private final double[] _buffer;
+	private long _count = 0;
+
+	/**
+	 * Create a new hypervolume-convergence limit strategy object.
+	 *
+	 * @param objectives the objective function of the fitness values. If
+	 *        {@code null}, the fitness values must be {@link Vec} objects.
+	 * @param reference the hypervolume reference point
+	 * @param generations the number of generations the hypervolume is
+	 *        observed
+	 * @param epsilon the maximal relative hypervolume change of a converged
+	 *        population
+	 * @throws IllegalArgumentException if {@code generations < 2} or
+	 *         {@code epsilon < 0}
+	 * @throws NullPointerException if the {@code reference} point is
+	 *         {@code null}
+	 */
+	HypervolumeConvergenceLimit(
+		final Function<? super C, double[]> objectives,
+		final double[] reference,
+		final int generations,
+		final double epsilon
+	) {
+		if (generations < 2) {
+			throw new IllegalArgumentException(format(
+				"The number of generations must be greater than one: %d",
+				generations
+			));
+		}
+		if (!(epsilon >= 0)) {
+			throw new IllegalArgumentException(format(
+				"Epsilon must not be negative: %f", epsilon
+			));
+		}
+
+		_objectives = objectives;
+		_reference = requireNonNull(reference).clone();
+		_epsilon = epsilon;
+		_buffer = new double[generations];
+	}
+
+	@Override
+	public boolean test(final EvolutionResult<?, C> result) {
+		if (result.population().isEmpty()) {
+			return true;
+		}
+
+		final ObjectivePoints points = ObjectivePoints.of(
+			result.population(),
+			result.optimize(),
+			_objectives,
+			_reference
+		);
+		_buffer[(int)(_count++%_buffer.length)] =
+			Hypervolume.of(points.values(), points.reference());
+
+		if (_count < _buffer.length) {
+			return true;
+		}
+
+		double min = Double.POSITIVE_INFINITY;
+		double max = Double.NEGATIVE_INFINITY;
+		for (double volume : _buffer) {
+			min = Math.min(min, volume);
+			max = Math.max(max, volume);
+		}
+
+		return max - min > _epsilon*Math.abs(max);
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+/**
+ * Front index which stores the elements in a list. Inserting a new element
+ * has a time complexity of {@code O(n)}. This index is used, if only the
+ * dominance measure of the elements is known.
+ *
+ * @param <T> the element type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+final class ListFrontIndex<T> implements FrontIndex<T> {
+
+	private final List<T> _population = new ArrayList<>();
+
+	private final Comparator<? super T> _dominance;
+	private final BiPredicate<? super T, ? super T> _equals;
+
+	ListFrontIndex(
+		final Comparator<? super T> dominance,
+		final BiPredicate<? super T, ? super T> equals
+	) {
+		_dominance = requireNonNull(dominance);
+		_equals = requireNonNull(equals);
+	}
+
+	@Override
+	public boolean add(final T element) {
+		boolean updated = false;
+		final Iterator<T> iterator = _population.iterator();
+		while (iterator.hasNext()) {
+			final T existing = iterator.next();
+
+			int cmp = _dominance.compare(element, existing);
+			if (cmp > 0) {
+				iterator.remove();
+				updated = true;
+			} else if (cmp < 0 || _equals.test(element, existing)) {
+				return updated;
+			}
+		}
+
+		_population.add(element);
+		return true;
+	}
+
+	@Override
+	public boolean remove(final T element) {
+		for (int i = 0; i < _population.size(); ++i) {
+			if (_population.get(i) == element) {
+				_population.remove(i);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public int size() {
+		return _population.size();
+	}
+
+	@Override
+	public void clear() {
+		_population.clear();
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return _population.iterator();
+	}
+
+}
@@ -21,10 +21,11 @@ package io.jenetics.ext.moea;
 
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
-import static io.jenetics.ext.moea.Pareto.front;
 
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
 import java.util.stream.Collector;
 
@@ -63,7 +64,7 @@ import io.jenetics.util.IntRange;
  *
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.1
+ * @version 7.2
  * @since 4.1
  */
 public final class MOEA {
@@ -176,6 +177,86 @@ public final class MOEA {
 		);
 	}
 
+	/**
+	 * Return a predicate, which will truncate the evolution stream, if the
+	 * hypervolume of the population has converged. The evolution stream is
+	 * truncated, if the relative change of the population hypervolume within
+	 * the last {@code generations} is not greater than {@code epsilon}.
+	 *
+	 * <pre>{@code
+	 * final ISeq<Phenotype<DoubleGene, Vec<double[]>>> result = engine.stream()
+	 *     .limit(MOEA.byHypervolumeConvergence(new double[]{0, 0}, 20, 1e-4))
+	 *     .collect(MOEA.toParetoSet());
+	 * }</pre>
+	 *
+	 * @since 7.2
+	 *
+	 * @see Hypervolume
+	 *
+	 * @param reference the hypervolume reference point, in the objective space
+	 *        of the fitness vectors
+	 * @param generations the number of generations the hypervolume is observed
+	 * @param epsilon the maximal relative hypervolume change of a converged
+	 *        population
+	 * @param <T> the array type, e.g. {@code double[]}
+	 * @param <V> the multi object result type vector
+	 * @return a new hypervolume-convergence limit predicate
+	 * @throws NullPointerException if the {@code reference} point is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if {@code generations < 2} or
+	 *         {@code epsilon < 0}
+	 */
+	public static <T, V extends Vec<T>> Predicate<EvolutionResult<?, V>>
+	byHypervolumeConvergence(
+		final double[] reference,
+		final int generations,
+		final double epsilon
+	) {
+		return new HypervolumeConvergenceLimit<V>(
+			null,
+			reference,
+			generations,
+			epsilon
+		);
+	}
+
+	/**
+	 * Return a predicate, which will truncate the evolution stream, if the
+	 * hypervolume of the population has converged.
+	 *
+	 * @since 7.2
+	 *
+	 * @see #byHypervolumeConvergence(double[], int, double)
+	 *
+	 * @param objectives the function which returns the objective values of a
+	 *        fitness value. The objectives are maximized for
+	 *        {@link Optimize#MAXIMUM} and minimized for {@link Optimize#MINIMUM}.
+	 * @param reference the hypervolume reference point
+	 * @param generations the number of generations the hypervolume is observed
+	 * @param epsilon the maximal relative hypervolume change of a converged
+	 *        population
+	 * @param <C> the multi object result type
+	 * @return a new hypervolume-convergence limit predicate
+	 * @throws NullPointerException if one of the objects is {@code null}
+	 * @throws IllegalArgumentException if {@code generations < 2} or
+	 *         {@code epsilon < 0}
+	 */
+	public static <C extends Comparable<? super C>>
+	Predicate<EvolutionResult<?, C>> byHypervolumeConvergence(
+		final Function<? super C, double[]> objectives,
+		final double[] reference,
+		final int generations,
+		final double epsilon
+	) {
+		requireNonNull(objectives);
+		return new HypervolumeConvergenceLimit<C>(
+			objectives,
+			reference,
+			generations,
+			epsilon
+		);
+	}
+
 	private static final class Front<
 		G extends Gene<?, G>,
 		C extends Comparable<? super C>
@@ -207,14 +288,15 @@ public final class MOEA {
 		void add(final EvolutionResult<G, C> result) {
 			if (_front == null) {
 				_optimize = result.optimize();
-				_front = new ParetoFront<>(this::dominance, this::equals);
+				_front = new ParetoFront<>(
+					this::dominance,
+					this::equals,
+					this::compare,
+					v -> _dimension.applyAsInt(v.fitness())
+				);
 			}
 
-			final ISeq<Phenotype<G, C>> front = front(
-				result.population(),
-				this::dominance
-			);
-			_front.addAll(front.asList());
+			_front.addAll(result.population().asList());
 			trim();
 		}
 
@@ -0,0 +1,400 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+/**
+ * Front index for an arbitrary number of objectives, based on the
+ * <em>ND-tree</em>. Every node of the tree stores the approximated
+ * <em>ideal</em> and <em>nadir</em> point of the elements it contains.
+ * These bounds allow to skip whole sub-trees, when a new element is checked
+ * for dominance.
+ *
+ * @see <a href="https://doi.org/10.1109/TEVC.2018.2799684">
+ *     ND-Tree-Based Update: A Fast Algorithm for the Dynamic Nondominance
+ *     Problem</a>
+ *
+ * @param <T> the element type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+final class NDTreeFrontIndex<T> implements FrontIndex<T> {
+
+	/**
+	 * The maximal number of elements of a leaf node.
+	 */
+	private static final int MAX_LEAF_SIZE = 20;
+
+	private enum Update { REJECTED, ACCEPTED, REMOVED_ALL }
+
+	/**
+	 * The tree node. The bounds are stored as element references: the
+	 * {@code ideal[m]} element has the best value of objective {@code m} and
+	 * the {@code nadir[m]} element the worst value.
+	 */
+	private static final class Node<T> {
+		List<T> points = new ArrayList<>();
+		List<Node<T>> children = null;
+		Object[] ideal = null;
+		Object[] nadir = null;
+		int size = 0;
+
+		boolean isLeaf() {
+			return children == null;
+		}
+
+		@SuppressWarnings("unchecked")
+		T ideal(final int m) {
+			return (T)ideal[m];
+		}
+
+		@SuppressWarnings("unchecked")
+		T nadir(final int m) {
+			return (T)nadir[m];
+		}
+	}
+
+	private final Comparator<? super T> _dominance;
+	private final BiPredicate<? super T, ? super T> _equals;
+	private final ElementComparator<? super T> _comparator;
+	private final int _dimension;
+
+	private Node<T> _root = new Node<>();
+
+	NDTreeFrontIndex(
+		final Comparator<? super T> dominance,
+		final BiPredicate<? super T, ? super T> equals,
+		final ElementComparator<? super T> comparator,
+		final int dimension
+	) {
+		_dominance = requireNonNull(dominance);
+		_equals = requireNonNull(equals);
+		_comparator = requireNonNull(comparator);
+		if (dimension < 1) {
+			throw new IllegalArgumentException(
+				"Dimension must be greater than zero: " + dimension
+			);
+		}
+		_dimension = dimension;
+	}
+
+	@Override
+	public boolean add(final T element) {
+		final Update update = update(_root, element);
+		if (update == Update.REJECTED) {
+			return false;
+		}
+		if (update == Update.REMOVED_ALL) {
+			_root = new Node<>();
+		}
+		insert(_root, element, 0);
+		return true;
+	}
+
+	/* *************************************************************************
+	 * Update phase: checks the dominance of the new element and removes all
+	 * elements dominated by it.
+	 * ************************************************************************/
+
+	private Update update(final Node<T> node, final T y) {
+		if (node.size == 0) {
+			return Update.ACCEPTED;
+		}
+
+		boolean betterThanIdeal = false;
+		boolean idealBetter = false;
+		boolean worseThanNadir = false;
+		boolean nadirBetter = false;
+		for (int m = 0; m < _dimension; ++m) {
+			final int ci = _comparator.compare(y, node.ideal(m), m);
+			if (ci > 0) {
+				betterThanIdeal = true;
+			} else if (ci < 0) {
+				idealBetter = true;
+			}
+
+			final int cn = _comparator.compare(y, node.nadir(m), m);
+			if (cn < 0) {
+				worseThanNadir = true;
+			} else if (cn > 0) {
+				nadirBetter = true;
+			}
+		}
+
+		// The nadir point dominates y, and therefore every node element.
+		if (!nadirBetter && worseThanNadir) {
+			return Update.REJECTED;
+		}
+		// y dominates the ideal point, and therefore every node element.
+		if (!idealBetter && betterThanIdeal) {
+			return Update.REMOVED_ALL;
+		}
+		// y is not dominated by any node element and dominates none of them.
+		if (betterThanIdeal && worseThanNadir) {
+			return Update.ACCEPTED;
+		}
+
+		boolean rejected = false;
+		if (node.isLeaf()) {
+			final int size = node.points.size();
+			final Iterator<T> it = node.points.iterator();
+			while (it.hasNext() && !rejected) {
+				final T point = it.next();
+				final int cmp = _dominance.compare(y, point);
+				if (cmp > 0) {
+					it.remove();
+				} else if (cmp < 0 || _equals.test(y, point)) {
+					rejected = true;
+				}
+			}
+			if (node.points.size() != size) {
+				node.size = node.points.size();
+				bounds(node);
+			}
+		} else {
+			boolean changed = false;
+			final Iterator<Node<T>> it = node.children.iterator();
+			while (it.hasNext() && !rejected) {
+				final Node<T> child = it.next();
+				final int size = child.size;
+				final Update update = update(child, y);
+				if (update == Update.REMOVED_ALL || child.size == 0) {
+					it.remove();
+					changed = true;
+				} else if (child.size != size) {
+					changed = true;
+				}
+				rejected = update == Update.REJECTED;
+			}
+			if (changed) {
+				node.size = 0;
+				for (Node<T> child : node.children) {
+					node.size += child.size;
+				}
+				bounds(node);
+			}
+		}
+
+		if (rejected) {
+			return Update.REJECTED;
+		}
+		return node.size == 0 ? Update.REMOVED_ALL : Update.ACCEPTED;
+	}
+
+	/* *************************************************************************
+	 * Insert phase.
+	 * ************************************************************************/
+
+	private void insert(final Node<T> node, final T y, final int depth) {
+		extend(node, y);
+		++node.size;
+
+		if (node.isLeaf()) {
+			node.points.add(y);
+			if (node.points.size() > MAX_LEAF_SIZE) {
+				split(node, depth);
+			}
+		} else {
+			insert(closest(node, y), y, depth + 1);
+		}
+	}
+
+	// Return the child with the fewest objectives, where y lies outside the
+	// child bounds.
+	private Node<T> closest(final Node<T> node, final T y) {
+		Node<T> result = null;
+		int distance = Integer.MAX_VALUE;
+		for (Node<T> child : node.children) {
+			int outside = 0;
+			for (int m = 0; m < _dimension; ++m) {
+				if (_comparator.compare(y, child.ideal(m), m) > 0 ||
+					_comparator.compare(y, child.nadir(m), m) < 0)
+				{
+					++outside;
+				}
+			}
+			if (outside < distance ||
+				(outside == distance && child.size < result.size))
+			{
+				result = child;
+				distance = outside;
+			}
+		}
+		return result;
+	}
+
+	private void split(final Node<T> node, final int depth) {
+		final int m = depth%_dimension;
+		final List<T> points = node.points;
+		points.sort((a, b) -> _comparator.compare(b, a, m));
+
+		final int count = Math.min(_dimension + 1, points.size());
+		node.children = new ArrayList<>(count);
+		for (int i = 0; i < count; ++i) {
+			final Node<T> child = new Node<>();
+			final int start = i*points.size()/count;
+			final int end = (i + 1)*points.size()/count;
+			child.points.addAll(points.subList(start, end));
+			child.size = child.points.size();
+			bounds(child);
+			node.children.add(child);
+		}
+		node.points = null;
+	}
+
+	/* *************************************************************************
+	 * Bound handling.
+	 * ************************************************************************/
+
+	private void extend(final Node<T> node, final T y) {
+		if (node.ideal == null) {
+			node.ideal = new Object[_dimension];
+			node.nadir = new Object[_dimension];
+			for (int m = 0; m < _dimension; ++m) {
+				node.ideal[m] = y;
+				node.nadir[m] = y;
+			}
+		} else {
+			for (int m = 0; m < _dimension; ++m) {
+				if (_comparator.compare(y, node.ideal(m), m) > 0) {
+					node.ideal[m] = y;
+				}
+				if (_comparator.compare(y, node.nadir(m), m) < 0) {
+					node.nadir[m] = y;
+				}
+			}
+		}
+	}
+
+	private void bounds(final Node<T> node) {
+		node.ideal = null;
+		node.nadir = null;
+
+		if (node.isLeaf()) {
+			for (T point : node.points) {
+				extend(node, point);
+			}
+		} else {
+			for (Node<T> child : node.children) {
+				for (int m = 0; m < _dimension; ++m) {
+					extend(node, child.ideal(m));
+					extend(node, child.nadir(m));
+				}
+			}
+		}
+	}
+
+	private boolean contains(final Node<T> node, final T y) {
+		if (node.size == 0) {
+			return false;
+		}
+		for (int m = 0; m < _dimension; ++m) {
+			if (_comparator.compare(y, node.ideal(m), m) > 0 ||
+				_comparator.compare(y, node.nadir(m), m) < 0)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/* *************************************************************************
+	 * Removing and iterating.
+	 * ************************************************************************/
+
+	@Override
+	public boolean remove(final T element) {
+		final boolean removed = remove(_root, element);
+		if (_root.size == 0) {
+			_root = new Node<>();
+		}
+		return removed;
+	}
+
+	private boolean remove(final Node<T> node, final T element) {
+		if (!contains(node, element)) {
+			return false;
+		}
+
+		boolean removed = false;
+		if (node.isLeaf()) {
+			for (int i = 0; i < node.points.size() && !removed; ++i) {
+				if (node.points.get(i) == element) {
+					node.points.remove(i);
+					removed = true;
+				}
+			}
+		} else {
+			final Iterator<Node<T>> it = node.children.iterator();
+			while (it.hasNext() && !removed) {
+				final Node<T> child = it.next();
+				if (remove(child, element)) {
+					if (child.size == 0) {
+						it.remove();
+					}
+					removed = true;
+				}
+			}
+		}
+
+		if (removed) {
+			--node.size;
+			bounds(node);
+		}
+		return removed;
+	}
+
+	@Override
+	public int size() {
+		return _root.size;
+	}
+
+	@Override
+	public void clear() {
+		_root = new Node<>();
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		final List<T> snapshot = new ArrayList<>(_root.size);
+		collect(_root, snapshot);
+		return FrontIndex.iterator(this, snapshot);
+	}
+
+	private static <T> void collect(final Node<T> node, final List<T> elements) {
+		if (node.isLeaf()) {
+			elements.addAll(node.points);
+		} else {
+			for (Node<T> child : node.children) {
+				collect(child, elements);
+			}
+		}
+	}
+
+}
@@ -48,7 +48,7 @@ import io.jenetics.util.Seq;
  *          10.1109/4235.996017</a></em>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 7.2
  * @since 4.1
  */
 public class NSGA2Selector<
@@ -62,6 +62,7 @@ public class NSGA2Selector<
 	private final ElementComparator<Phenotype<G, C>> _comparator;
 	private final ElementDistance<Phenotype<G, C>> _distance;
 	private final ToIntFunction<Phenotype<G, C>> _dimension;
+	private final boolean _vectorized;
 
 	/**
 	 * Creates a new {@code NSGA2Selector} with the functions needed for
@@ -88,6 +89,16 @@ public class NSGA2Selector<
 		final ElementComparator<? super C> comparator,
 		final ElementDistance<? super C> distance,
 		final ToIntFunction<? super C> dimension
+	) {
+		this(dominance, comparator, distance, dimension, false);
+	}
+
+	private NSGA2Selector(
+		final Comparator<? super C> dominance,
+		final ElementComparator<? super C> comparator,
+		final ElementDistance<? super C> distance,
+		final ToIntFunction<? super C> dimension,
+		final boolean vectorized
 	) {
 		requireNonNull(dominance);
 		requireNonNull(comparator);
@@ -98,6 +109,7 @@ public class NSGA2Selector<
 		_comparator = comparator.map(Phenotype::fitness);
 		_distance = distance.map(Phenotype::fitness);
 		_dimension = v -> dimension.applyAsInt(v.fitness());
+		_vectorized = vectorized;
 	}
 
 	@Override
@@ -106,13 +118,9 @@ public class NSGA2Selector<
 		final int count,
 		final Optimize opt
 	) {
-		final CrowdedComparator<Phenotype<G, C>> cc = new CrowdedComparator<>(
+		final CrowdedComparator<Phenotype<G, C>> cc = crowdedComparator(
 			population,
-			opt,
-			_dominance,
-			_comparator,
-			_distance,
-			_dimension
+			opt
 		);
 
 		final int[] idx = ProxySorter.sort(
@@ -137,6 +145,26 @@ public class NSGA2Selector<
 		return indexes;
 	}
 
+	private CrowdedComparator<Phenotype<G, C>> crowdedComparator(
+		final Seq<Phenotype<G, C>> population,
+		final Optimize opt
+	) {
+		final Objectives objectives = _vectorized
+			? Objectives.of(population, opt)
+			: null;
+
+		return objectives != null
+			? new CrowdedComparator<>(objectives)
+			: new CrowdedComparator<>(
+				population,
+				opt,
+				_dominance,
+				_comparator,
+				_distance,
+				_dimension
+			);
+	}
+
 	/**
 	 * Return a new selector for the given result type {@code V}. This method is
 	 * a shortcut for
@@ -148,6 +176,10 @@ public class NSGA2Selector<
 	 *     Vec<T>::length
 	 * );
 	 * }</pre>
+	 * The returned selector extracts the objective values of the
+	 * {@code Vec<double[]>}, {@code Vec<int[]>} and {@code Vec<long[]>}
+	 * fitness values once into a primitive array, which is then used for
+	 * calculating the pareto ranks and crowding distances.
 	 *
 	 * @param <G> the gene type
 	 * @param <T> the array type, e.g. {@code double[]}
@@ -160,7 +192,8 @@ public class NSGA2Selector<
 			Vec::dominance,
 			Vec::compare,
 			Vec::distance,
-			Vec::length
+			Vec::length,
+			true
 		);
 	}
 
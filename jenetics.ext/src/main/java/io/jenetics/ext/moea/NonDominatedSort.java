@@ -0,0 +1,182 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import io.jenetics.internal.util.IntComparator;
+import io.jenetics.util.ProxySorter;
+
+import io.jenetics.ext.internal.util.IntList;
+
+/**
+ * Memory efficient implementations of the <em>non-dominated sorting</em>,
+ * used for calculating the pareto ranks of a point set. All algorithms need
+ * {@code O(n)} additional memory. The points are processed in the
+ * <em>lexicographical</em> order of their objectives. This guarantees that a
+ * point can only be dominated by points which have been processed before.
+ * <p>
+ *  <b>Reference:</b><em>
+ *      X. Zhang, Y. Tian, R. Cheng and Y. Jin. An Efficient Approach to
+ *      Nondominated Sorting for Evolutionary Multiobjective Optimization,
+ *      IEEE Transactions on Evolutionary Computation, vol. 19, no. 2,
+ *      pp. 201-213, April 2015.</em>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+final class NonDominatedSort {
+	private NonDominatedSort() {}
+
+	/**
+	 * The set size, where the dominance checks of big fronts are performed
+	 * in parallel.
+	 */
+	static final int PARALLEL_SET_SIZE = 5_000;
+
+	/**
+	 * The minimal front size, where the dominance check is performed in
+	 * parallel.
+	 */
+	private static final int PARALLEL_FRONT_SIZE = 1_000;
+
+	/**
+	 * Calculates the non-domination ranks of the points with the indexes
+	 * {@code [0, size)}. The algorithm is chosen by the number of objectives
+	 * and the set size.
+	 *
+	 * @param size the number of points
+	 * @param lexicographic the lexicographical point comparator
+	 * @param dominance the dominance comparator, consistent with the given
+	 *        {@code lexicographic} order
+	 * @param dimension the dimension of the points
+	 * @return the non-domination ranks
+	 */
+	static int[] rank(
+		final int size,
+		final IntComparator lexicographic,
+		final IntComparator dominance,
+		final int dimension
+	) {
+		// Points in descending lexicographical order. A point can't be
+		// dominated by a point which comes later in this order.
+		final int[] order = ProxySorter.sort(
+			lexicographic, size,
+			(c, i, j) -> c.compare(j, i)
+		);
+
+		return dimension == 2
+			? sweep(dominance, order)
+			: ens(dominance, order, size >= PARALLEL_SET_SIZE);
+	}
+
+	/**
+	 * Non-dominated sorting for two objectives, with a time complexity of
+	 * {@code O(n*log(n))}. Since the points of one front are sorted by the
+	 * first objective, only the last point of a front must be checked for
+	 * dominance.
+	 */
+	static int[] sweep(final IntComparator dominance, final int[] order) {
+		final int[] ranks = new int[order.length];
+		final IntList lasts = new IntList();
+
+		for (int p : order) {
+			int low = 0;
+			int high = lasts.size();
+			while (low < high) {
+				final int mid = (low + high) >>> 1;
+				if (dominance.compare(lasts.get(mid), p) > 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+
+			if (low == lasts.size()) {
+				lasts.add(p);
+			} else {
+				lasts.set(low, p);
+			}
+			ranks[p] = low;
+		}
+
+		return ranks;
+	}
+
+	/**
+	 * The <em>efficient non-dominated sort</em> with binary search (ENS-BS).
+	 * The front of a point is found by a binary search over the already
+	 * existing fronts. If a point is dominated by a point of front {@code k},
+	 * it is also dominated by a point of every front {@code j < k}.
+	 */
+	static int[] ens(
+		final IntComparator dominance,
+		final int[] order,
+		final boolean parallel
+	) {
+		final int[] ranks = new int[order.length];
+		final List<IntList> fronts = new ArrayList<>();
+
+		for (int p : order) {
+			int low = 0;
+			int high = fronts.size();
+			while (low < high) {
+				final int mid = (low + high) >>> 1;
+				if (dominated(p, fronts.get(mid), dominance, parallel)) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+
+			if (low == fronts.size()) {
+				fronts.add(new IntList());
+			}
+			fronts.get(low).add(p);
+			ranks[p] = low;
+		}
+
+		return ranks;
+	}
+
+	private static boolean dominated(
+		final int point,
+		final IntList front,
+		final IntComparator dominance,
+		final boolean parallel
+	) {
+		if (parallel && front.size() >= PARALLEL_FRONT_SIZE) {
+			return IntStream.range(0, front.size()).parallel()
+				.anyMatch(i -> dominance.compare(front.get(i), point) > 0);
+		}
+
+		// Points added last are the most similar ones.
+		for (int i = front.size(); --i >= 0;) {
+			if (dominance.compare(front.get(i), point) > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
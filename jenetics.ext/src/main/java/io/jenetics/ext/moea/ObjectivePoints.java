@@ -0,0 +1,135 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.String.format;
+
+import java.util.function.Function;
+
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.BaseSeq;
+
+/**
+ * The objective values of a population, oriented for maximization, together
+ * with the hypervolume reference point. This is the input of the
+ * {@link Hypervolume} calculations.
+ *
+ * @param values the objective vectors, where every objective is maximized
+ * @param reference the oriented reference point
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+record ObjectivePoints(double[][] values, double[] reference) {
+
+	/**
+	 * The offset of the derived reference point from the worst objective
+	 * values of the population.
+	 */
+	static final double REFERENCE_OFFSET = 1.0;
+
+	/**
+	 * Extracts the objective values of the given {@code population}.
+	 *
+	 * @param population the population
+	 * @param opt the optimization strategy
+	 * @param objectives the objective function of the fitness values. If
+	 *        {@code null}, the fitness values must be {@link Vec} objects with
+	 *        {@code double[]}, {@code int[]} or {@code long[]} data.
+	 * @param reference the reference point in the original objective space.
+	 *        If {@code null}, the reference point is derived from the worst
+	 *        objective values of the population.
+	 * @param <C> the fitness type
+	 * @return the oriented objective points
+	 * @throws IllegalArgumentException if the fitness values are not supported
+	 */
+	static <C extends Comparable<? super C>> ObjectivePoints of(
+		final BaseSeq<? extends Phenotype<?, C>> population,
+		final Optimize opt,
+		final Function<? super C, double[]> objectives,
+		final double[] reference
+	) {
+		final double[][] values;
+		final double[] ref;
+
+		if (objectives == null) {
+			final Objectives obj = Objectives.of(population, opt);
+			if (obj == null) {
+				throw new IllegalArgumentException(
+					"Fitness type is not supported: " +
+						population.get(0).fitness().getClass().getName()
+				);
+			}
+			values = obj.points();
+			ref = reference != null
+				? obj.orient(check(reference, obj.dimension()))
+				: null;
+		} else {
+			final double sign = opt == Optimize.MAXIMUM ? 1 : -1;
+			values = new double[population.length()][];
+			for (int i = 0; i < values.length; ++i) {
+				final double[] point = objectives
+					.apply(population.get(i).fitness())
+					.clone();
+				for (int m = 0; m < point.length; ++m) {
+					point[m] *= sign;
+				}
+				values[i] = point;
+			}
+
+			if (reference != null) {
+				ref = reference.clone();
+				for (int m = 0; m < ref.length; ++m) {
+					ref[m] *= sign;
+				}
+			} else {
+				ref = null;
+			}
+		}
+
+		return new ObjectivePoints(values, ref != null ? ref : worst(values));
+	}
+
+	private static double[] check(final double[] reference, final int dimension) {
+		if (reference.length != dimension) {
+			throw new IllegalArgumentException(format(
+				"Reference point has dimension %d, but objectives %d.",
+				reference.length, dimension
+			));
+		}
+		return reference;
+	}
+
+	private static double[] worst(final double[][] values) {
+		final double[] result = values[0].clone();
+		for (double[] point : values) {
+			for (int m = 0; m < result.length; ++m) {
+				result[m] = Math.min(result[m], point[m]);
+			}
+		}
+		for (int m = 0; m < result.length; ++m) {
+			result[m] -= REFERENCE_OFFSET;
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,354 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Double.POSITIVE_INFINITY;
+
+import java.util.Arrays;
+
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.BaseSeq;
+import io.jenetics.util.ProxySorter;
+
+/**
+ * Primitive, row-major layout of the objective values of a population. The
+ * objective values are extracted once from the {@link Vec} fitness values and
+ * are stored in one contiguous {@code double[size*dimension]} array. The
+ * pareto ranks, the crowding distances and the dominance relations are then
+ * calculated directly on this array, without going through the
+ * {@link ElementComparator} and {@link ElementDistance} functions of the
+ * {@code Vec} objects.
+ *
+ * @implNote
+ * Only {@code Vec<double[]>}, {@code Vec<int[]>} and {@code Vec<long[]>}
+ * instances, created by the {@link Vec} and {@link VecFactory} factory
+ * methods, are supported. {@code long} values which can't be represented
+ * exactly as {@code double} are not supported either.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+final class Objectives {
+
+	private static final long MAX_EXACT_LONG = 1L << 53;
+
+	private final double[] _values;
+	private final boolean[] _maximisations;
+	private final int _size;
+	private final int _dimension;
+
+	private Objectives(
+		final double[] values,
+		final boolean[] maximisations,
+		final int size,
+		final int dimension
+	) {
+		_values = values;
+		_maximisations = maximisations;
+		_size = size;
+		_dimension = dimension;
+	}
+
+	/**
+	 * Return the number of objective vectors.
+	 *
+	 * @return the number of objective vectors
+	 */
+	int size() {
+		return _size;
+	}
+
+	/**
+	 * Return the number of objectives.
+	 *
+	 * @return the number of objectives
+	 */
+	int dimension() {
+		return _dimension;
+	}
+
+	/**
+	 * Return the objective value {@code m} of the vector with the given
+	 * {@code index}.
+	 *
+	 * @param index the vector index
+	 * @param m the objective index
+	 * @return the objective value
+	 */
+	double value(final int index, final int m) {
+		return _values[index*_dimension + m];
+	}
+
+	/**
+	 * Return the objective vectors, where every objective is maximized.
+	 * Values of minimized objectives are negated.
+	 *
+	 * @return the objective vectors, oriented for maximization
+	 */
+	double[][] points() {
+		final double[][] points = new double[_size][_dimension];
+		for (int i = 0; i < _size; ++i) {
+			for (int m = 0; m < _dimension; ++m) {
+				final double value = _values[i*_dimension + m];
+				points[i][m] = _maximisations[m] ? value : -value;
+			}
+		}
+		return points;
+	}
+
+	/**
+	 * Orients the given {@code point}, like the vectors returned by the
+	 * {@link #points()} method.
+	 *
+	 * @param point the point to orient
+	 * @return a new, oriented point
+	 */
+	double[] orient(final double[] point) {
+		final double[] result = new double[_dimension];
+		for (int m = 0; m < _dimension; ++m) {
+			result[m] = _maximisations[m] ? point[m] : -point[m];
+		}
+		return result;
+	}
+
+	/**
+	 * Compares the objective {@code m} of the vectors {@code i} and {@code j},
+	 * where the greater value is the better one.
+	 */
+	int compare(final int i, final int j, final int m) {
+		final double a = _values[i*_dimension + m];
+		final double b = _values[j*_dimension + m];
+		return _maximisations[m] ? Double.compare(a, b) : Double.compare(b, a);
+	}
+
+	/**
+	 * The distance of the objective {@code m} of the vectors {@code i} and
+	 * {@code j}.
+	 */
+	double distance(final int i, final int j, final int m) {
+		final double a = _values[i*_dimension + m];
+		final double b = _values[j*_dimension + m];
+		return _maximisations[m] ? a - b : b - a;
+	}
+
+	/**
+	 * Lexicographical comparison of the vectors {@code i} and {@code j}.
+	 */
+	int compare(final int i, final int j) {
+		for (int m = 0; m < _dimension; ++m) {
+			final int cmp = compare(i, j, m);
+			if (cmp != 0) {
+				return cmp;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Calculates the pareto dominance of the vectors {@code i} and {@code j}.
+	 *
+	 * @return {@code 1} if <b>i</b> ≻ <b>j</b>, {@code -1} if <b>j</b> ≻
+	 *         <b>i</b> and {@code 0} otherwise
+	 */
+	int dominance(final int i, final int j) {
+		boolean idominated = false;
+		boolean jdominated = false;
+
+		for (int m = 0; m < _dimension; ++m) {
+			final int cmp = compare(i, j, m);
+
+			if (cmp > 0) {
+				if (jdominated) {
+					return 0;
+				}
+				idominated = true;
+			} else if (cmp < 0) {
+				if (idominated) {
+					return 0;
+				}
+				jdominated = true;
+			}
+		}
+
+		if (idominated == jdominated) {
+			return 0;
+		} else if (idominated) {
+			return 1;
+		} else {
+			return -1;
+		}
+	}
+
+	/**
+	 * Calculates the <em>non-domination</em> ranks of the objective vectors.
+	 *
+	 * @see Pareto#rank(BaseSeq, java.util.Comparator, ElementComparator, java.util.function.ToIntFunction)
+	 *
+	 * @return the <em>non-domination</em> ranks
+	 */
+	int[] rank() {
+		return _size == 0
+			? new int[0]
+			: NonDominatedSort.rank(_size, this::compare, this::dominance, _dimension);
+	}
+
+	/**
+	 * Calculates the crowding distances of the objective vectors.
+	 *
+	 * @see Pareto#crowdingDistance(BaseSeq)
+	 *
+	 * @return the crowding distances
+	 */
+	double[] crowdingDistance() {
+		final double[] result = new double[_size];
+		if (_size < 3) {
+			Arrays.fill(result, POSITIVE_INFINITY);
+		} else {
+			for (int m = 0; m < _dimension; ++m) {
+				final int objective = m;
+				final int[] idx = ProxySorter.sort(
+					this, _size,
+					(o, i, j) -> o.compare(j, i, objective)
+				);
+
+				result[idx[0]] = POSITIVE_INFINITY;
+				result[idx[_size - 1]] = POSITIVE_INFINITY;
+
+				final double dm = distance(idx[0], idx[_size - 1], m);
+				if (Double.compare(dm, 0) > 0) {
+					for (int i = 1, n = _size - 1; i < n; ++i) {
+						result[idx[i]] += distance(idx[i - 1], idx[i + 1], m)/dm;
+					}
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Extracts the objective values of the given {@code population}. If the
+	 * fitness values are not supported, {@code null} is returned.
+	 *
+	 * @param population the population
+	 * @param opt the optimization strategy
+	 * @return the extracted objectives, or {@code null} if the fitness values
+	 *         are not supported
+	 */
+	static Objectives of(
+		final BaseSeq<? extends Phenotype<?, ?>> population,
+		final Optimize opt
+	) {
+		if (population.isEmpty()) {
+			return null;
+		}
+
+		final int dimension = dimension(population.get(0).fitness());
+		if (dimension <= 0) {
+			return null;
+		}
+
+		final double[] values = new double[population.length()*dimension];
+		final boolean[] directions = directions(population.get(0).fitness());
+
+		for (int i = 0; i < population.length(); ++i) {
+			final Object fitness = population.get(i).fitness();
+			if (!sameType(fitness, directions, dimension) ||
+				!copy(fitness, values, i*dimension))
+			{
+				return null;
+			}
+		}
+
+		final boolean[] maximisations = new boolean[dimension];
+		for (int m = 0; m < dimension; ++m) {
+			final boolean max = directions == null || directions[m];
+			maximisations[m] = opt == Optimize.MAXIMUM ? max : !max;
+		}
+
+		return new Objectives(
+			values,
+			maximisations,
+			population.length(),
+			dimension
+		);
+	}
+
+	private static int dimension(final Object fitness) {
+		if (fitness instanceof SimpleDoubleVec ||
+			fitness instanceof SimpleIntVec ||
+			fitness instanceof SimpleLongVec ||
+			fitness instanceof GeneralDoubleVec ||
+			fitness instanceof GeneralIntVec ||
+			fitness instanceof GeneralLongVec)
+		{
+			return ((Vec<?>)fitness).length();
+		}
+		return -1;
+	}
+
+	private static boolean[] directions(final Object fitness) {
+		if (fitness instanceof GeneralDoubleVec vec) {
+			return vec._maximisations;
+		} else if (fitness instanceof GeneralIntVec vec) {
+			return vec._maximisations;
+		} else if (fitness instanceof GeneralLongVec vec) {
+			return vec._maximisations;
+		} else {
+			return null;
+		}
+	}
+
+	private static boolean sameType(
+		final Object fitness,
+		final boolean[] directions,
+		final int dimension
+	) {
+		return dimension(fitness) == dimension &&
+			Arrays.equals(directions(fitness), directions);
+	}
+
+	private static boolean
+	copy(final Object fitness, final double[] values, final int offset) {
+		final Object data = ((Vec<?>)fitness).data();
+
+		if (data instanceof double[] array) {
+			System.arraycopy(array, 0, values, offset, array.length);
+		} else if (data instanceof int[] array) {
+			for (int i = 0; i < array.length; ++i) {
+				values[offset + i] = array[i];
+			}
+		} else if (data instanceof long[] array) {
+			for (int i = 0; i < array.length; ++i) {
+				if (array[i] > MAX_EXACT_LONG || array[i] < -MAX_EXACT_LONG) {
+					return false;
+				}
+				values[offset + i] = array[i];
+			}
+		} else {
+			return false;
+		}
+
+		return true;
+	}
+
+}
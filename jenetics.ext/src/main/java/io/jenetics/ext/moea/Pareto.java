@@ -41,7 +41,7 @@ import io.jenetics.ext.internal.util.IntList;
  * are mostly for users who want to extend the existing <em>MOEA</em> classes.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 7.2
  * @since 4.1
  */
 public final class Pareto {
@@ -158,23 +158,16 @@ public final class Pareto {
 	 * measure.
 	 *
 	 * @apiNote
-	 * Calculating the rank has a time complexity of {@code O(n^2}, where
-	 * {@code n} the {@code set} size.
-	 *
-	 * <p>
-	 *  <b>Reference:</b><em>
-	 *      Kalyanmoy Deb, Associate Member, IEEE, Amrit Pratap,
-	 *      Sameer Agarwal, and T. Meyarivan.
-	 *      A Fast and Elitist Multiobjective Genetic Algorithm: NSGA-II,
-	 *      IEEE TRANSACTIONS ON EVOLUTIONARY COMPUTATION, VOL. 6, NO. 2,
-	 *      APRIL 2002.</em>
+	 * This method uses the element comparator of the {@link Vec} class for
+	 * sorting the input set and choosing the most efficient algorithm. See
+	 * {@link #rank(BaseSeq, Comparator, ElementComparator, ToIntFunction)}.
 	 *
 	 * @param set the input set
 	 * @param <T> the element type
 	 * @return the <em>non-domination</em> rank of the given input {@code set}
 	 */
 	public static <T> int[] rank(final BaseSeq<? extends Vec<T>> set) {
-		return rank(set, Vec::dominance);
+		return rank(set, Vec::dominance, Vec::compare, Vec::length);
 	}
 
 	/**
@@ -182,8 +175,13 @@ public final class Pareto {
 	 * using the given {@code dominance} comparator.
 	 *
 	 * @apiNote
-	 * Calculating the rank has a time and space complexity of {@code O(n^2},
-	 * where {@code n} the {@code set} size.
+	 * Calculating the rank has a time complexity of {@code O(n^2)} and a space
+	 * complexity of {@code O(n + d)}, where {@code n} the {@code set} size and
+	 * {@code d} the number of dominance relations between the elements of the
+	 * {@code set}. If the element comparator of the {@code set} elements is
+	 * available, the
+	 * {@link #rank(BaseSeq, Comparator, ElementComparator, ToIntFunction)}
+	 * method should be preferred.
 	 *
 	 * <p>
 	 *  <b>Reference:</b><em>
@@ -202,47 +200,37 @@ public final class Pareto {
 		final BaseSeq<? extends T> set,
 		final Comparator<? super T> dominance
 	) {
-		// Pre-compute the dominance relations.
-		final int[][] d = new int[set.length()][set.length()];
-		for (int i = 0; i < set.length(); ++i) {
-			for (int j = i + 1; j < set.length(); ++j) {
-				d[i][j] = dominance.compare(set.get(i), set.get(j));
-				d[j][i] = -d[i][j];
-			}
-		}
-
 		// Compute for each element p the element q that it dominates and the
 		// number of times it is dominated. Using the names as defined in the
-		// referenced paper.
+		// referenced paper. Every dominance relation is only calculated once.
 		final int[] nq = new int[set.length()];
-		final List<IntList> fronts = new ArrayList<>();
-		IntList Fi = new IntList();
+		final List<IntList> fronts = new ArrayList<>(set.length());
+		for (int p = 0; p < set.length(); ++p) {
+			fronts.add(new IntList());
+		}
 
 		for (int p = 0; p < set.length(); ++p) {
-			final IntList Sp = new IntList();
-			int np = 0;
-
-			for (int q = 0; q < set.length(); ++q) {
-				if (p != q) {
-					// If p dominates q, add q to the set of solutions
-					// dominated by p.
-					if (d[p][q] > 0) {
-						Sp.add(q);
-
-					// Increment the domination counter of p.
-					} else if (d[q][p] > 0) {
-						np += 1;
-					}
+			for (int q = p + 1; q < set.length(); ++q) {
+				final int d = dominance.compare(set.get(p), set.get(q));
+
+				// If p dominates q, add q to the set of solutions
+				// dominated by p and increment the domination counter of q.
+				if (d > 0) {
+					fronts.get(p).add(q);
+					nq[q] += 1;
+				} else if (d < 0) {
+					fronts.get(q).add(p);
+					nq[p] += 1;
 				}
 			}
+		}
 
-			// p belongs to the first front.
-			if (np == 0) {
+		// Elements which are not dominated belongs to the first front.
+		IntList Fi = new IntList();
+		for (int p = 0; p < set.length(); ++p) {
+			if (nq[p] == 0) {
 				Fi.add(p);
 			}
-
-			fronts.add(Sp);
-			nq[p] = np;
 		}
 
 		// Initialize the front counter.
@@ -275,6 +263,77 @@ public final class Pareto {
 		return ranks;
 	}
 
+	/**
+	 * Calculates the <em>non-domination</em> rank of the given input
+	 * {@code set}, using the given {@code dominance} comparator. The
+	 * additional element {@code comparator} is used for sorting the elements
+	 * lexicographically, which allows using more efficient algorithms with a
+	 * space complexity of {@code O(n)}. The algorithm is chosen by the
+	 * number of objectives and the {@code set} size:
+	 * <ul>
+	 *     <li>Two objectives: the elements are processed in lexicographical
+	 *     order, where only the last element of every front must be
+	 *     checked for dominance. This has a time complexity of
+	 *     {@code O(n*log(n))}.</li>
+	 *     <li>More objectives: the <em>efficient non-dominated sort</em> with
+	 *     binary search (ENS-BS), which has a worst case time complexity of
+	 *     {@code O(m*n^2)}, but performs considerably fewer dominance
+	 *     checks in practice. For big sets, the dominance checks against
+	 *     big fronts are performed in parallel.</li>
+	 * </ul>
+	 *
+	 * <p>
+	 *  <b>Reference:</b><em>
+	 *      X. Zhang, Y. Tian, R. Cheng and Y. Jin. An Efficient Approach to
+	 *      Nondominated Sorting for Evolutionary Multiobjective Optimization,
+	 *      IEEE Transactions on Evolutionary Computation, vol. 19, no. 2,
+	 *      pp. 201-213, April 2015.</em>
+	 *
+	 * @since 7.2
+	 *
+	 * @param set the input set
+	 * @param dominance the dominance comparator used
+	 * @param comparator the element comparator, which must be consistent with
+	 *        the given {@code dominance} comparator. If {@code u} dominates
+	 *        {@code v}, then {@code comparator.compare(u, v, i) >= 0} must
+	 *        hold for every index {@code i}.
+	 * @param dimension the dimension of the element type {@code T}
+	 * @param <T> the element type
+	 * @return the <em>non-domination</em> rank of the given input {@code set}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <T> int[] rank(
+		final BaseSeq<? extends T> set,
+		final Comparator<? super T> dominance,
+		final ElementComparator<? super T> comparator,
+		final ToIntFunction<? super T> dimension
+	) {
+		requireNonNull(set);
+		requireNonNull(dominance);
+		requireNonNull(comparator);
+		requireNonNull(dimension);
+
+		if (set.isEmpty()) {
+			return new int[0];
+		}
+
+		final int dim = dimension.applyAsInt(set.get(0));
+		return NonDominatedSort.rank(
+			set.length(),
+			(i, j) -> {
+				for (int k = 0; k < dim; ++k) {
+					final int cmp = comparator.compare(set.get(i), set.get(j), k);
+					if (cmp != 0) {
+						return cmp;
+					}
+				}
+				return 0;
+			},
+			(i, j) -> dominance.compare(set.get(i), set.get(j)),
+			dim
+		);
+	}
+
 	/* *************************************************************************
 	 * 'front'
 	 * ************************************************************************/
@@ -25,12 +25,14 @@ import static io.jenetics.internal.util.Arrays.revert;
 import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.function.ToIntFunction;
 import java.util.stream.Collector;
 import java.util.stream.IntStream;
@@ -69,18 +71,56 @@ import io.jenetics.util.Seq;
  * @see Pareto
  *
  * @apiNote
- * Inserting a new element has a time complexity of {@code O(n)}.
+ * Inserting a new element has a time complexity of {@code O(n)}. If the
+ * front is created with an additional {@link ElementComparator} and the
+ * dimension of the elements, the non-dominated elements are stored in a
+ * spatial index. For two objectives, the elements are kept in a sorted tree
+ * and the insertion has a time complexity of {@code O(log(n))}. For more
+ * objectives, an <em>ND-tree</em> is used, which allows to skip whole groups
+ * of elements while checking the dominance of a new element.
+ * <pre>{@code
+ * final ParetoFront<Vec<double[]>> front =
+ *     new ParetoFront<>(Vec::dominance, Objects::equals, Vec::compare, Vec::length);
+ * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.1
+ * @version 7.2
  * @since 4.1
  */
 public final class ParetoFront<T> extends AbstractSet<T> {
 
-	private final List<T> _population = new ArrayList<>();
-
 	private final Comparator<? super T> _dominance;
 	private final BiPredicate<? super T, ? super T> _equals;
+	private final ElementComparator<? super T> _comparator;
+	private final ToIntFunction<? super T> _dimension;
+
+	private FrontIndex<T> _index;
+
+	/**
+	 * Create a new {@code ParetoSet} with the given {@code dominance} measure,
+	 * which stores its elements in a spatial index. The index is chosen
+	 * according to the dimension of the first inserted element.
+	 *
+	 * @since 7.2
+	 *
+	 * @param dominance the <em>Pareto</em> dominance measure
+	 * @param equals the equals predicate used for keeping the set distinct
+	 * @param comparator the element comparator, which must be consistent
+	 *        with the given {@code dominance} measure
+	 * @param dimension the number of vector elements of {@code T}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public ParetoFront(
+		final Comparator<? super T> dominance,
+		final BiPredicate<? super T, ? super T> equals,
+		final ElementComparator<? super T> comparator,
+		final ToIntFunction<? super T> dimension
+	) {
+		_dominance = requireNonNull(dominance);
+		_equals = requireNonNull(equals);
+		_comparator = requireNonNull(comparator);
+		_dimension = requireNonNull(dimension);
+	}
 
 	/**
 	 * Create a new {@code ParetoSet} with the given {@code dominance} measure.
@@ -98,6 +138,9 @@ public final class ParetoFront<T> extends AbstractSet<T> {
 	) {
 		_dominance = requireNonNull(dominance);
 		_equals = requireNonNull(equals);
+		_comparator = null;
+		_dimension = null;
+		_index = new ListFrontIndex<>(dominance, equals);
 	}
 
 	/**
@@ -116,7 +159,8 @@ public final class ParetoFront<T> extends AbstractSet<T> {
 	 *
 	 * @implNote
 	 * Inserting a new element has a time complexity of {@code O(this.size())},
-	 * where <em>n</em> is the number of elements of {@code this} pareto-front.
+	 * where <em>n</em> is the number of elements of {@code this} pareto-front,
+	 * if no spatial index is used.
 	 *
 	 * @param element the element to add
 	 * @return {@code true} if this set did not already contain the specified
@@ -125,23 +169,19 @@ public final class ParetoFront<T> extends AbstractSet<T> {
 	@Override
 	public boolean add(final T element) {
 		requireNonNull(element);
+		return index(element).add(element);
+	}
 
-		boolean updated = false;
-		final Iterator<T> iterator = _population.iterator();
-		while (iterator.hasNext()) {
-			final T existing = iterator.next();
-
-			int cmp = _dominance.compare(element, existing);
-			if (cmp > 0) {
-				iterator.remove();
-				updated = true;
-			} else if (cmp < 0 || _equals.test(element, existing)) {
-				return updated;
-			}
+	private FrontIndex<T> index(final T element) {
+		if (_index == null) {
+			_index = FrontIndex.of(
+				_dominance,
+				_equals,
+				_comparator,
+				_dimension.applyAsInt(element)
+			);
 		}
-
-		_population.add(element);
-		return true;
+		return _index;
 	}
 
 	/**
@@ -149,7 +189,10 @@ public final class ParetoFront<T> extends AbstractSet<T> {
 	 *
 	 * @implNote
 	 * The runtime complexity of this operation is
-	 * {@code O(elements.size()*this.size())}.
+	 * {@code O(elements.size()*this.size())}, if no spatial index is used.
+	 * Otherwise, the elements are sorted lexicographically in descending order
+	 * before they are inserted. This way, an inserted element is never
+	 * dominated by a later one, which keeps the index small.
 	 *
 	 * @param elements the elements to add to {@code this} pareto front
 	 * @return {@code true} if {@code this} pareto front has been changed,
@@ -157,10 +200,30 @@ public final class ParetoFront<T> extends AbstractSet<T> {
 	 */
 	@Override
 	public boolean addAll(final Collection<? extends T> elements) {
-		final int sum = elements.stream()
-			.mapToInt(e -> add(e) ? 1 : 0)
-			.sum();
-		return sum > 0;
+		if (_comparator == null || elements.size() < 2) {
+			final int sum = elements.stream()
+				.mapToInt(e -> add(e) ? 1 : 0)
+				.sum();
+			return sum > 0;
+		}
+
+		final List<T> sorted = new ArrayList<>(elements);
+		final int dimension = _dimension.applyAsInt(sorted.get(0));
+		sorted.sort((a, b) -> {
+			for (int i = 0; i < dimension; ++i) {
+				final int cmp = _comparator.compare(b, a, i);
+				if (cmp != 0) {
+					return cmp;
+				}
+			}
+			return 0;
+		});
+
+		boolean changed = false;
+		for (T element : sorted) {
+			changed |= add(element);
+		}
+		return changed;
 	}
 
 	/**
@@ -210,8 +273,11 @@ public final class ParetoFront<T> extends AbstractSet<T> {
 		requireNonNull(dimension);
 
 		if (size() > size) {
+			final List<T> population = new ArrayList<>(size());
+			_index.forEach(population::add);
+
 			final double[] distances = Pareto.crowdingDistance(
-				Seq.viewOf(_population),
+				Seq.viewOf(population),
 				comparator,
 				distance,
 				dimension
@@ -221,11 +287,67 @@ public final class ParetoFront<T> extends AbstractSet<T> {
 
 			final List<T> list = IntStream.of(indexes)
 				.limit(size)
-				.mapToObj(_population::get)
+				.mapToObj(population::get)
 				.toList();
 
-			_population.clear();
-			_population.addAll(list);
+			// The remaining elements are non-dominated and can't be rejected.
+			_index.clear();
+			list.forEach(_index::add);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Trims {@code this} pareto front to the given size. The element with the
+	 * smallest exclusive hypervolume contribution is removed first, until the
+	 * front has the desired size.
+	 *
+	 * <pre>{@code
+	 * final ParetoFront<Vec<double[]>> front = new ParetoFront<>(Vec::dominance);
+	 * front.trim(10, Vec::data, new double[]{0, 0});
+	 * }</pre>
+	 * The example above reduces the given front to 10 elements.
+	 *
+	 * @since 7.2
+	 *
+	 * @see Hypervolume#contributions(double[][], double[])
+	 *
+	 * @param size the number of front elements after the trim. If
+	 *        {@code size() <= size}, nothing is trimmed.
+	 * @param objectives the function which returns the objective values of
+	 *        an element. The objective values must be consistent with the
+	 *        dominance measure of {@code this} front, where greater values
+	 *        are better.
+	 * @param reference the hypervolume reference point
+	 * @return {@code this} trimmed pareto front
+	 * @throws NullPointerException if one of the objects is {@code null}
+	 */
+	public ParetoFront<T> trim(
+		final int size,
+		final Function<? super T, double[]> objectives,
+		final double[] reference
+	) {
+		requireNonNull(objectives);
+		requireNonNull(reference);
+
+		if (size() > size) {
+			final List<T> population = new ArrayList<>(size());
+			_index.forEach(population::add);
+
+			final double[][] points = population.stream()
+				.map(objectives)
+				.toArray(double[][]::new);
+			final int[] indexes = Hypervolume.reduce(
+				points,
+				Math.max(size, 0),
+				reference
+			);
+
+			_index.clear();
+			for (int i : indexes) {
+				_index.add(population.get(i));
+			}
 		}
 
 		return this;
@@ -233,17 +355,19 @@ public final class ParetoFront<T> extends AbstractSet<T> {
 
 	@Override
 	public Iterator<T> iterator() {
-		return _population.iterator();
+		return _index != null
+			? _index.iterator()
+			: Collections.emptyIterator();
 	}
 
 	@Override
 	public int size() {
-		return _population.size();
+		return _index != null ? _index.size() : 0;
 	}
 
 	@Override
 	public boolean isEmpty() {
-		return _population.isEmpty();
+		return size() == 0;
 	}
 
 	/**
@@ -252,7 +376,7 @@ public final class ParetoFront<T> extends AbstractSet<T> {
 	 * @return the elements of {@code this} pareto-front as {@link ISeq}
 	 */
 	public ISeq<T> toISeq() {
-		return ISeq.of(_population);
+		return ISeq.of(this);
 	}
 
 	/**
@@ -0,0 +1,242 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.ProxySorter;
+import io.jenetics.util.Seq;
+
+/**
+ * Hypervolume based selector, as used by the <em>SMS-EMOA</em>. The population
+ * is sorted into non-dominated fronts. The fronts are selected, in the order
+ * of their rank, as long as they fit completely into the selection. The
+ * elements of the first front which doesn't fit, are removed one by one,
+ * always removing the element with the smallest exclusive hypervolume
+ * contribution.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Vec<double[]>> engine = Engine.builder(problem)
+ *     .survivorsSelector(SMSEMOASelector.ofVec())
+ *     .build();
+ * }</pre>
+ *
+ * If no reference point is given, it is derived from the worst objective
+ * values of the population, minus one.
+ * <p>
+ *  <b>Reference:</b><em>
+ *      N. Beume, B. Naujoks, and M. Emmerich. 2007. SMS-EMOA: Multiobjective
+ *      selection based on dominated hypervolume. European Journal of
+ *      Operational Research 181, 3 (2007), 1653-1669.
+ *      DOI=<a href="https://doi.org/10.1016/j.ejor.2006.08.008">
+ *          10.1016/j.ejor.2006.08.008</a></em>
+ *
+ * @see Hypervolume
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+public class SMSEMOASelector<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Selector<G, C>
+{
+
+	private final Function<? super C, double[]> _objectives;
+	private final double[] _reference;
+
+	private SMSEMOASelector(
+		final Function<? super C, double[]> objectives,
+		final double[] reference,
+		final boolean vectorized
+	) {
+		_objectives = vectorized ? null : requireNonNull(objectives);
+		_reference = reference != null ? reference.clone() : null;
+	}
+
+	/**
+	 * Create a new selector with the given objective function and a fixed
+	 * hypervolume reference point.
+	 *
+	 * @param objectives the function which returns the objective values of a
+	 *        fitness value. The objectives are maximized for
+	 *        {@link Optimize#MAXIMUM} and minimized for {@link Optimize#MINIMUM}.
+	 * @param reference the hypervolume reference point, which must be
+	 *        dominated by every relevant fitness value
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public SMSEMOASelector(
+		final Function<? super C, double[]> objectives,
+		final double[] reference
+	) {
+		this(objectives, requireNonNull(reference), false);
+	}
+
+	/**
+	 * Create a new selector with the given objective function. The
+	 * hypervolume reference point is derived from the worst objective values
+	 * of the population.
+	 *
+	 * @param objectives the function which returns the objective values of a
+	 *        fitness value. The objectives are maximized for
+	 *        {@link Optimize#MAXIMUM} and minimized for {@link Optimize#MINIMUM}.
+	 * @throws NullPointerException if the {@code objectives} is {@code null}
+	 */
+	public SMSEMOASelector(final Function<? super C, double[]> objectives) {
+		this(objectives, null, false);
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> select(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt
+	) {
+		requireNonNull(population, "Population");
+		requireNonNull(opt, "Optimization");
+		if (count < 0) {
+			throw new IllegalArgumentException(format(
+				"Selection count must be greater or equal then zero, but was %s",
+				count
+			));
+		}
+		if (population.isEmpty() || count == 0) {
+			return ISeq.empty();
+		}
+
+		final ObjectivePoints points = ObjectivePoints.of(
+			population, opt, _objectives, _reference
+		);
+		final int[] selected = select(points, Math.min(count, population.size()));
+
+		final List<Phenotype<G, C>> result = new ArrayList<>(count);
+		while (result.size() < count) {
+			for (int i = 0; i < selected.length && result.size() < count; ++i) {
+				result.add(population.get(selected[i]));
+			}
+		}
+
+		return ISeq.of(result);
+	}
+
+	private static int[] select(final ObjectivePoints points, final int count) {
+		final double[][] values = points.values();
+		final int dimension = points.reference().length;
+
+		final int[] ranks = NonDominatedSort.rank(
+			values.length,
+			(i, j) -> lexicographic(values[i], values[j]),
+			(i, j) -> Pareto.dominance(values[i], values[j]),
+			dimension
+		);
+		final int[] order = ProxySorter.sort(ranks);
+
+		final int[] result = new int[count];
+		int size = 0;
+		int start = 0;
+		while (size < count) {
+			int end = start;
+			while (end < order.length && ranks[order[end]] == ranks[order[start]]) {
+				++end;
+			}
+
+			if (size + end - start <= count) {
+				System.arraycopy(order, start, result, size, end - start);
+				size += end - start;
+			} else {
+				final int[] front = Arrays.copyOfRange(order, start, end);
+				final double[][] objectives = new double[front.length][];
+				for (int i = 0; i < front.length; ++i) {
+					objectives[i] = values[front[i]];
+				}
+
+				final int[] kept = Hypervolume.reduce(
+					objectives,
+					count - size,
+					points.reference()
+				);
+				for (int i : kept) {
+					result[size++] = front[i];
+				}
+			}
+			start = end;
+		}
+
+		return result;
+	}
+
+	private static int lexicographic(final double[] a, final double[] b) {
+		for (int i = 0; i < a.length; ++i) {
+			final int cmp = Double.compare(a[i], b[i]);
+			if (cmp != 0) {
+				return cmp;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Return a new selector for {@code Vec<double[]>}, {@code Vec<int[]>} and
+	 * {@code Vec<long[]>} fitness values. The hypervolume reference point is
+	 * derived from the worst objective values of the population.
+	 *
+	 * @param <G> the gene type
+	 * @param <T> the array type, e.g. {@code double[]}
+	 * @param <V> the multi object result type vector
+	 * @return a new selector for the given result type {@code V}
+	 */
+	public static <G extends Gene<?, G>, T, V extends Vec<T>>
+	SMSEMOASelector<G, V> ofVec() {
+		return new SMSEMOASelector<>(null, null, true);
+	}
+
+	/**
+	 * Return a new selector for {@code Vec<double[]>}, {@code Vec<int[]>} and
+	 * {@code Vec<long[]>} fitness values, with the given fixed hypervolume
+	 * {@code reference} point.
+	 *
+	 * @param reference the hypervolume reference point, in the objective
+	 *        space of the fitness vectors
+	 * @param <G> the gene type
+	 * @param <T> the array type, e.g. {@code double[]}
+	 * @param <V> the multi object result type vector
+	 * @return a new selector for the given result type {@code V}
+	 * @throws NullPointerException if the {@code reference} point is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, T, V extends Vec<T>>
+	SMSEMOASelector<G, V> ofVec(final double[] reference) {
+		return new SMSEMOASelector<>(null, requireNonNull(reference), true);
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiPredicate;
+
+/**
+ * Front index for two objectives. The non-dominated elements are stored in
+ * a sorted tree, ordered by the first and then by the second objective. In
+ * this order, the second objective of the non-dominated elements is strictly
+ * decreasing. This allows to check the dominance of a new element against
+ * its successor only, which leads to a time complexity of
+ * {@code O(log(n) + k)} for inserting a new element, where {@code k} is the
+ * number of removed elements.
+ *
+ * @param <T> the element type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+final class SortedFrontIndex<T> implements FrontIndex<T> {
+
+	private final Comparator<? super T> _dominance;
+	private final BiPredicate<? super T, ? super T> _equals;
+
+	// Elements with the same objective values are stored in one bucket.
+	private final TreeMap<T, List<T>> _elements;
+	private int _size = 0;
+
+	SortedFrontIndex(
+		final Comparator<? super T> dominance,
+		final BiPredicate<? super T, ? super T> equals,
+		final ElementComparator<? super T> comparator
+	) {
+		requireNonNull(comparator);
+		_dominance = requireNonNull(dominance);
+		_equals = requireNonNull(equals);
+		_elements = new TreeMap<>((a, b) -> {
+			final int cmp = comparator.compare(a, b, 0);
+			return cmp != 0 ? cmp : comparator.compare(a, b, 1);
+		});
+	}
+
+	@Override
+	public boolean add(final T element) {
+		final List<T> bucket = _elements.get(element);
+		if (bucket != null) {
+			for (T existing : bucket) {
+				if (_equals.test(element, existing)) {
+					return false;
+				}
+			}
+			bucket.add(element);
+			++_size;
+			return true;
+		}
+
+		// The successor has the biggest second objective of all elements
+		// with a bigger first objective.
+		final Map.Entry<T, List<T>> successor = _elements.higherEntry(element);
+		if (successor != null &&
+			_dominance.compare(successor.getKey(), element) > 0)
+		{
+			return false;
+		}
+
+		// Removing the dominated predecessors.
+		Map.Entry<T, List<T>> predecessor = _elements.lowerEntry(element);
+		while (predecessor != null &&
+			_dominance.compare(element, predecessor.getKey()) > 0)
+		{
+			_elements.remove(predecessor.getKey());
+			_size -= predecessor.getValue().size();
+			predecessor = _elements.lowerEntry(element);
+		}
+
+		final List<T> elements = new ArrayList<>(1);
+		elements.add(element);
+		_elements.put(element, elements);
+		++_size;
+
+		return true;
+	}
+
+	@Override
+	public boolean remove(final T element) {
+		final List<T> bucket = _elements.get(element);
+		if (bucket != null) {
+			for (int i = 0; i < bucket.size(); ++i) {
+				if (bucket.get(i) == element) {
+					if (bucket.size() == 1) {
+						_elements.remove(element);
+					} else {
+						bucket.remove(i);
+						// The bucket key might have been the removed element.
+						if (i == 0) {
+							_elements.remove(element);
+							_elements.put(bucket.get(0), bucket);
+						}
+					}
+					--_size;
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public int size() {
+		return _size;
+	}
+
+	@Override
+	public void clear() {
+		_elements.clear();
+		_size = 0;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		final List<T> snapshot = new ArrayList<>(_size);
+		_elements.values().forEach(snapshot::addAll);
+		return FrontIndex.iterator(this, snapshot);
+	}
+
+}
@@ -25,7 +25,9 @@ import static java.util.Objects.requireNonNull;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 import io.jenetics.Gene;
 import io.jenetics.Optimize;
@@ -56,7 +58,7 @@ import io.jenetics.util.Seq;
  *
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 7.2
  * @since 4.1
  */
 public class UFTournamentSelector<
@@ -69,6 +71,7 @@ public class UFTournamentSelector<
 	private final ElementComparator<Phenotype<G, C>> _comparator;
 	private final ElementDistance<Phenotype<G, C>> _distance;
 	private final ToIntFunction<Phenotype<G, C>> _dimension;
+	private final boolean _vectorized;
 
 	/**
 	 * Creates a new {@code UFTournamentSelector} with the functions needed for
@@ -95,6 +98,16 @@ public class UFTournamentSelector<
 		final ElementComparator<? super C> comparator,
 		final ElementDistance<? super C> distance,
 		final ToIntFunction<? super C> dimension
+	) {
+		this(dominance, comparator, distance, dimension, false);
+	}
+
+	private UFTournamentSelector(
+		final Comparator<? super C> dominance,
+		final ElementComparator<? super C> comparator,
+		final ElementDistance<? super C> distance,
+		final ToIntFunction<? super C> dimension,
+		final boolean vectorized
 	) {
 		requireNonNull(dominance);
 		requireNonNull(comparator);
@@ -105,6 +118,7 @@ public class UFTournamentSelector<
 		_comparator = comparator.map(Phenotype::fitness);
 		_distance = distance.map(Phenotype::fitness);
 		_dimension = v -> dimension.applyAsInt(v.fitness());
+		_vectorized = vectorized;
 	}
 
 	@Override
@@ -115,15 +129,15 @@ public class UFTournamentSelector<
 	) {
 		final var random = RandomRegistry.random();
 
-		final CrowdedComparator<Phenotype<G, C>> cc = new CrowdedComparator<>(
+		final CrowdedComparator<Phenotype<G, C>> cc = crowdedComparator(
 			population,
-			opt,
-			_dominance,
-			_comparator,
-			_distance,
-			_dimension
+			opt
 		);
 
+		// Phenotypes grouped by their (unique) fitness value.
+		final Map<C, List<Phenotype<G, C>>> fitnesses = population.stream()
+			.collect(Collectors.groupingBy(Phenotype::fitness));
+
 		final List<Phenotype<G, C>> S = new ArrayList<>();
 		while (S.size() < count) {
 			final int k = min(2*count - S.size(), population.size());
@@ -140,10 +154,8 @@ public class UFTournamentSelector<
 					p = random.nextBoolean() ? G[j] : G[j + 1];
 				}
 
-				final C fitness = population.get(p).fitness();
-				final List<Phenotype<G, C>> list = population.stream()
-					.filter(pt -> pt.fitness().equals(fitness))
-					.toList();
+				final List<Phenotype<G, C>> list =
+					fitnesses.get(population.get(p).fitness());
 
 				S.add(list.get(random.nextInt(list.size())));
 			}
@@ -152,6 +164,26 @@ public class UFTournamentSelector<
 		return ISeq.of(S);
 	}
 
+	private CrowdedComparator<Phenotype<G, C>> crowdedComparator(
+		final Seq<Phenotype<G, C>> population,
+		final Optimize opt
+	) {
+		final Objectives objectives = _vectorized
+			? Objectives.of(population, opt)
+			: null;
+
+		return objectives != null
+			? new CrowdedComparator<>(objectives)
+			: new CrowdedComparator<>(
+				population,
+				opt,
+				_dominance,
+				_comparator,
+				_distance,
+				_dimension
+			);
+	}
+
 	/**
 	 * Return a new selector for the given result type {@code V}. This method is
 	 * a shortcut for
@@ -163,6 +195,10 @@ public class UFTournamentSelector<
 	 *     Vec<T>::length
 	 * );
 	 * }</pre>
+	 * The returned selector extracts the objective values of the
+	 * {@code Vec<double[]>}, {@code Vec<int[]>} and {@code Vec<long[]>}
+	 * fitness values once into a primitive array, which is then used for
+	 * calculating the pareto ranks and crowding distances.
 	 *
 	 * @param <G> the gene type
 	 * @param <T> the array type, e.g. {@code double[]}
@@ -175,7 +211,8 @@ public class UFTournamentSelector<
 			Vec::dominance,
 			Vec::compare,
 			Vec::distance,
-			Vec::length
+			Vec::length,
+			true
 		);
 	}
 
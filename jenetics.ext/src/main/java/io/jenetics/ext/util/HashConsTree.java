@@ -0,0 +1,416 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.util;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Immutable, <em>hash-consed</em> implementation of the {@link Tree}
+ * interface. Structurally equal (sub-)trees, created by the same
+ * {@link Pool}, are represented by the very same object instance. This
+ * allows to share common subtrees between different trees, e.g. of a GP
+ * population, and makes the {@code equals} and {@code hashCode} methods
+ * O(1) operations.
+ *
+ * <pre>{@code
+ * final var pool = new HashConsTree.Pool<String>();
+ * final HashConsTree<String> t1 = pool.ofTree(TreeNode.parse("add(x,mul(x,1))"));
+ * final HashConsTree<String> t2 = pool.ofTree(TreeNode.parse("sub(mul(x,1),x)"));
+ *
+ * // The common sub-tree 'mul(x,1)' is shared.
+ * assert t1.childAt(1) == t2.childAt(0);
+ * }</pre>
+ *
+ * Modifying a tree, e.g. by replacing a subtree during crossover, only
+ * creates the nodes on the path from the root to the replaced subtree. All
+ * other nodes are re-used.
+ *
+ * <pre>{@code
+ * final HashConsTree<String> t3 = t1.replace(Tree.Path.of(1), t2.childAt(1));
+ * assert t3.childAt(0) == t1.childAt(0);
+ * }</pre>
+ *
+ * @implNote
+ * Since subtrees are shared, a node has no unique parent. The
+ * {@link #parent()} method will therefore always return
+ * {@link Optional#empty()} and every node is a root node. If you need
+ * the parent links, convert the tree with {@link TreeNode#ofTree(Tree)} or
+ * {@link FlatTreeNode#ofTree(Tree)}. This class is immutable and
+ * thread-safe.
+ *
+ * @see Pool
+ *
+ * @param <V> the tree value type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+public final class HashConsTree<V> implements Tree<V, HashConsTree<V>> {
+
+	private final Pool<V> _pool;
+	private final V _value;
+	private final HashConsTree<V>[] _children;
+
+	private final int _size;
+	private final int _height;
+
+	// Sum of the node hashes, compatible with 'Tree.hashCode(Tree)'.
+	private final int _hashSum;
+
+	private HashConsTree(
+		final Pool<V> pool,
+		final V value,
+		final HashConsTree<V>[] children
+	) {
+		_pool = pool;
+		_value = value;
+		_children = children;
+
+		int size = 1;
+		int height = 0;
+		int hash = 31*Objects.hashCode(value) + 37;
+		for (var child : children) {
+			size += child._size;
+			height = Math.max(height, child._height + 1);
+			hash += child._hashSum;
+		}
+		_size = size;
+		_height = height;
+		_hashSum = hash;
+	}
+
+	/**
+	 * Return the pool {@code this} tree node has been created with.
+	 *
+	 * @return the pool of {@code this} tree
+	 */
+	public Pool<V> pool() {
+		return _pool;
+	}
+
+	@Override
+	public V value() {
+		return _value;
+	}
+
+	/**
+	 * Hash-consed nodes have no unique parent, since they might be shared
+	 * by different trees.
+	 *
+	 * @return always {@link Optional#empty()}
+	 */
+	@Override
+	public Optional<HashConsTree<V>> parent() {
+		return Optional.empty();
+	}
+
+	@Override
+	public HashConsTree<V> childAt(final int index) {
+		return _children[index];
+	}
+
+	@Override
+	public int childCount() {
+		return _children.length;
+	}
+
+	/**
+	 * Return the number of nodes of {@code this} tree. This implementation
+	 * has a runtime complexity of O(1).
+	 *
+	 * @return the number of nodes of {@code this} tree
+	 */
+	@Override
+	public int size() {
+		return _size;
+	}
+
+	/**
+	 * Return the height of {@code this} tree, which is the length of the
+	 * longest path from {@code this} node to a leaf. A leaf node has a height
+	 * of zero. This implementation has a runtime complexity of O(1).
+	 *
+	 * @return the height of {@code this} tree
+	 */
+	public int height() {
+		return _height;
+	}
+
+	/**
+	 * Return a new tree where the subtree at the given {@code path} is
+	 * replaced by the given {@code subtree}. Only the nodes along the
+	 * {@code path} are newly created, all other nodes are shared with
+	 * {@code this} tree.
+	 *
+	 * @param path the path of the subtree to replace
+	 * @param subtree the new subtree
+	 * @return a new tree with the replaced subtree
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the given {@code path} doesn't
+	 *         point to a node of {@code this} tree
+	 */
+	public HashConsTree<V> replace(
+		final Path path,
+		final Tree<? extends V, ?> subtree
+	) {
+		requireNonNull(path);
+		return replace(path, 0, _pool.ofTree(subtree));
+	}
+
+	private HashConsTree<V> replace(
+		final Path path,
+		final int level,
+		final HashConsTree<V> subtree
+	) {
+		if (level == path.length()) {
+			return subtree;
+		}
+
+		final int index = path.get(level);
+		if (index >= _children.length) {
+			throw new IllegalArgumentException(format(
+				"Invalid path %s for tree %s.", path, this
+			));
+		}
+
+		final HashConsTree<V> child = _children[index]
+			.replace(path, level + 1, subtree);
+		if (child == _children[index]) {
+			return this;
+		}
+
+		final HashConsTree<V>[] children = _children.clone();
+		children[index] = child;
+		return _pool.intern(_value, children);
+	}
+
+	@Override
+	public int hashCode() {
+		return _hashSum + 17;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (obj instanceof HashConsTree<?> other && other._pool == _pool) {
+			return false;
+		}
+
+		return obj instanceof Tree<?, ?> other &&
+			other.hashCode() == hashCode() &&
+			Tree.equals(other, this);
+	}
+
+	@Override
+	public String toString() {
+		return toParenthesesString();
+	}
+
+
+	/* *************************************************************************
+	 *  Inner classes
+	 * ************************************************************************/
+
+	/**
+	 * The pool which holds the unique, shared instances of the
+	 * {@link HashConsTree} nodes. Two structurally equal trees created from
+	 * the same pool are identical. The pool keeps strong references to its
+	 * nodes, so it should only live as long as the trees it creates, e.g.
+	 * for one evolution run.
+	 *
+	 * @implNote
+	 * This class is thread-safe.
+	 *
+	 * @param <V> the tree value type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 7.2
+	 * @since 7.2
+	 */
+	public static final class Pool<V> {
+
+		private record Key(Object value, Object[] children) {
+			@Override
+			public int hashCode() {
+				int hash = Objects.hashCode(value);
+				for (var child : children) {
+					hash = 31*hash + System.identityHashCode(child);
+				}
+				return hash;
+			}
+
+			@Override
+			public boolean equals(final Object obj) {
+				if (obj == this) {
+					return true;
+				}
+				if (!(obj instanceof Key other) ||
+					other.children.length != children.length ||
+					!Objects.equals(other.value, value))
+				{
+					return false;
+				}
+				for (int i = 0; i < children.length; ++i) {
+					if (other.children[i] != children[i]) {
+						return false;
+					}
+				}
+				return true;
+			}
+
+			@Override
+			public String toString() {
+				return format("Key[%s, %s]", value, Arrays.toString(children));
+			}
+		}
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		private static final HashConsTree[] EMPTY = new HashConsTree[0];
+
+		private final ConcurrentMap<Key, HashConsTree<V>> _nodes =
+			new ConcurrentHashMap<>();
+
+		/**
+		 * Create a new, empty node pool.
+		 */
+		public Pool() {
+		}
+
+		/**
+		 * Return the number of distinct nodes stored in {@code this} pool.
+		 *
+		 * @return the number of distinct nodes
+		 */
+		public int size() {
+			return _nodes.size();
+		}
+
+		/**
+		 * Return the unique leaf node with the given {@code value}.
+		 *
+		 * @param value the node value
+		 * @return the unique leaf node with the given {@code value}
+		 */
+		@SuppressWarnings("unchecked")
+		public HashConsTree<V> of(final V value) {
+			return intern(value, (HashConsTree<V>[])EMPTY);
+		}
+
+		/**
+		 * Return the unique tree node with the given {@code value} and
+		 * {@code children}. Children, which has been created by a different
+		 * pool, are interned first.
+		 *
+		 * @param value the node value
+		 * @param children the child nodes
+		 * @return the unique tree node
+		 * @throws NullPointerException if the {@code children} are
+		 *         {@code null}
+		 */
+		@SafeVarargs
+		public final HashConsTree<V> of(
+			final V value,
+			final Tree<? extends V, ?>... children
+		) {
+			return of(value, List.of(children));
+		}
+
+		/**
+		 * Return the unique tree node with the given {@code value} and
+		 * {@code children}. Children, which has been created by a different
+		 * pool, are interned first.
+		 *
+		 * @param value the node value
+		 * @param children the child nodes
+		 * @return the unique tree node
+		 * @throws NullPointerException if the {@code children} are
+		 *         {@code null}
+		 */
+		public HashConsTree<V> of(
+			final V value,
+			final List<? extends Tree<? extends V, ?>> children
+		) {
+			final HashConsTree<V>[] nodes = newArray(children.size());
+			for (int i = 0; i < nodes.length; ++i) {
+				nodes[i] = ofTree(children.get(i));
+			}
+			return intern(value, nodes);
+		}
+
+		/**
+		 * Return the unique, hash-consed version of the given {@code tree}.
+		 * If the given {@code tree} has been already created by {@code this}
+		 * pool, it is returned unchanged.
+		 *
+		 * @param tree the source tree
+		 * @return the hash-consed tree
+		 * @throws NullPointerException if the given {@code tree} is
+		 *         {@code null}
+		 */
+		public HashConsTree<V> ofTree(final Tree<? extends V, ?> tree) {
+			requireNonNull(tree);
+
+			if (tree instanceof HashConsTree<?> hct && hct._pool == this) {
+				@SuppressWarnings("unchecked")
+				final var result = (HashConsTree<V>)hct;
+				return result;
+			}
+
+			final HashConsTree<V>[] children = newArray(tree.childCount());
+			for (int i = 0; i < children.length; ++i) {
+				children[i] = ofTree(tree.childAt(i));
+			}
+			return intern(tree.value(), children);
+		}
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		private static <V> HashConsTree<V>[] newArray(final int length) {
+			return length == 0 ? (HashConsTree<V>[])EMPTY : new HashConsTree[length];
+		}
+
+		private HashConsTree<V> intern(
+			final V value,
+			final HashConsTree<V>[] children
+		) {
+			return _nodes.computeIfAbsent(
+				new Key(value, children),
+				key -> new HashConsTree<>(this, value, children)
+			);
+		}
+
+		@Override
+		public String toString() {
+			return format("HashConsTree.Pool[size=%d]", size());
+		}
+
+	}
+
+}
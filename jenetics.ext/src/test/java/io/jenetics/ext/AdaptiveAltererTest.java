@@ -0,0 +1,237 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.Alterer;
+import io.jenetics.AltererResult;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.TournamentSelector;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class AdaptiveAltererTest {
+
+	// Alterer, which shifts the gene value of every individual.
+	private static Alterer<DoubleGene, Double> shift(final double delta) {
+		return (population, generation) -> new AltererResult<>(
+			population.map(pt -> Phenotype.<DoubleGene, Double>of(
+				Genotype.of(DoubleChromosome.of(
+					pt.genotype().gene().newInstance(
+						pt.genotype().gene().doubleValue() + delta
+					)
+				)),
+				generation
+			)).asISeq(),
+			population.length()
+		);
+	}
+
+	private static ISeq<Phenotype<DoubleGene, Double>>
+	evaluate(final ISeq<Phenotype<DoubleGene, Double>> population) {
+		return population.map(pt -> pt.isEvaluated()
+			? pt
+			: pt.withFitness(pt.genotype().gene().doubleValue()));
+	}
+
+	@Test(dataProvider = "strategies")
+	public void adapt(final AdaptiveAlterer.Strategy strategy) {
+		final var alterer = new AdaptiveAlterer<>(
+			Optimize.MAXIMUM,
+			strategy,
+			shift(-1),
+			shift(1)
+		);
+
+		final var random = new Random(123);
+		ISeq<Phenotype<DoubleGene, Double>> population = ISeq.of(
+			() -> Phenotype.<DoubleGene, Double>of(
+				Genotype.of(DoubleChromosome.of(0, 1_000_000)), 1
+			),
+			100
+		);
+		population = evaluate(population);
+
+		for (int generation = 1; generation <= 50; ++generation) {
+			final var pop = population;
+			final long gen = generation;
+			final var result = RandomRegistry.with(
+				random,
+				r -> alterer.alter(pop, gen)
+			);
+
+			Assert.assertEquals(result.population().length(), pop.length());
+			Assert.assertEquals(result.alterations(), pop.length());
+			population = evaluate(result.population());
+		}
+
+		final var statistics = alterer.statistics();
+		Assert.assertEquals(statistics.length(), 2);
+
+		final var worse = statistics.get(0);
+		final var better = statistics.get(1);
+		Assert.assertEquals(worse.successes(), 0);
+		Assert.assertEquals(better.successes(), better.credits());
+		Assert.assertEquals(better.successRate(), 1.0);
+		Assert.assertTrue(better.quality() > 0.99, "" + better.quality());
+		Assert.assertTrue(
+			better.applications() > 5*worse.applications(),
+			statistics.toString()
+		);
+		Assert.assertTrue(better.share() > worse.share(), statistics.toString());
+		Assert.assertEquals(
+			better.applications() + worse.applications(),
+			50*100
+		);
+	}
+
+	@DataProvider
+	public Object[][] strategies() {
+		return new Object[][] {
+			{AdaptiveAlterer.Strategy.probabilityMatching(0.05)},
+			{AdaptiveAlterer.Strategy.ucb(0.1)}
+		};
+	}
+
+	// Alterer, which replaces every individual with a new, random one.
+	private static Alterer<DoubleGene, Double> renew() {
+		return (population, generation) -> new AltererResult<>(
+			population.map(pt -> Phenotype.<DoubleGene, Double>of(
+				pt.genotype().newInstance(),
+				generation
+			)).asISeq(),
+			population.length()
+		);
+	}
+
+	private static long credits(final AdaptiveAlterer<?, ?> alterer) {
+		return alterer.statistics().stream()
+			.mapToLong(AdaptiveAlterer.Statistics::credits)
+			.sum();
+	}
+
+	private static long applications(final AdaptiveAlterer<?, ?> alterer) {
+		return alterer.statistics().stream()
+			.mapToLong(AdaptiveAlterer.Statistics::applications)
+			.sum();
+	}
+
+	@Test
+	public void creditEvaluatedPopulation() {
+		final var credited = new AdaptiveAlterer<DoubleGene, Double>(
+			Optimize.MAXIMUM,
+			AdaptiveAlterer.Strategy.probabilityMatching(0.1),
+			renew(), renew()
+		);
+		final var selected = new AdaptiveAlterer<DoubleGene, Double>(
+			Optimize.MAXIMUM,
+			AdaptiveAlterer.Strategy.probabilityMatching(0.1),
+			renew(), renew()
+		);
+
+		final Engine.Builder<DoubleGene, Double> builder = Engine
+			.builder(gt -> gt.gene().doubleValue(), DoubleChromosome.of(0, 10))
+			.populationSize(100)
+			.selector(new TournamentSelector<>(3));
+
+		builder.copy()
+			.alterers(credited)
+			.interceptor(credited.interceptor())
+			.build()
+			.stream()
+			.limit(10)
+			.collect(EvolutionResult.toBestEvolutionResult());
+		builder.copy()
+			.alterers(selected)
+			.build()
+			.stream()
+			.limit(10)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertTrue(applications(credited) > 0);
+		Assert.assertEquals(credits(credited), applications(credited));
+		Assert.assertTrue(credits(selected) < applications(selected));
+	}
+
+	@Test
+	public void unalteredIndividualsAreNotCredited() {
+		final var alterer = new AdaptiveAlterer<DoubleGene, Double>(
+			Optimize.MAXIMUM,
+			AdaptiveAlterer.Strategy.ucb(1),
+			(population, generation) -> new AltererResult<>(population.asISeq())
+		);
+
+		final var population = evaluate(ISeq.of(
+			() -> Phenotype.<DoubleGene, Double>of(
+				Genotype.of(DoubleChromosome.of(0, 10)), 1
+			),
+			10
+		));
+
+		alterer.alter(population, 1);
+		alterer.alter(population, 2);
+
+		final var statistics = alterer.statistics().get(0);
+		Assert.assertEquals(statistics.applications(), 20);
+		Assert.assertEquals(statistics.credits(), 0);
+		Assert.assertEquals(statistics.share(), 1.0);
+	}
+
+	@Test
+	public void ucbExploresAllOperators() {
+		final var statistics = new AdaptiveAlterer<DoubleGene, Double>(
+			Optimize.MINIMUM,
+			AdaptiveAlterer.Strategy.ucb(1),
+			shift(1), shift(2), shift(3)
+		).statistics();
+
+		final int[] operators = AdaptiveAlterer.Strategy.ucb(1)
+			.allocate(statistics, 3, new Random());
+		Assert.assertEquals(operators, new int[]{0, 1, 2});
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void noAlterers() {
+		new AdaptiveAlterer<DoubleGene, Double>(
+			Optimize.MAXIMUM,
+			AdaptiveAlterer.Strategy.ucb(1)
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidMinProbability() {
+		AdaptiveAlterer.Strategy.probabilityMatching(1);
+	}
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.grammar;
+
+import static io.jenetics.ext.grammar.SentenceGeneratorTest.CFG;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.BitGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerGene;
+import io.jenetics.engine.Codec;
+import io.jenetics.util.IntRange;
+
+import io.jenetics.ext.grammar.Cfg.Terminal;
+import io.jenetics.ext.grammar.SentenceGenerator.Expansion;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class CompiledCfgTest {
+
+	@Test(dataProvider = "grammars")
+	public void sentence(final Cfg<String> cfg, final int limit) {
+		final var compiled = CompiledCfg.of(cfg);
+		final var random = new Random(123);
+
+		for (int i = 0; i < 100; ++i) {
+			final int[] codons = codons(random, 1 + random.nextInt(50));
+
+			final var expected = new SentenceGenerator<String>(
+				symbolIndex(codons), Expansion.LEFT_MOST, limit
+			).generate(cfg);
+
+			Assert.assertEquals(compiled.sentence(codons, limit), expected);
+		}
+	}
+
+	@Test(dataProvider = "grammars")
+	public void derivationTree(final Cfg<String> cfg, final int limit) {
+		final var compiled = CompiledCfg.of(cfg);
+		final var random = new Random(456);
+
+		for (int i = 0; i < 100; ++i) {
+			final int[] codons = codons(random, 1 + random.nextInt(50));
+
+			final var expected = new DerivationTreeGenerator<String>(
+				symbolIndex(codons), limit
+			).generate(cfg);
+
+			Assert.assertEquals(compiled.derivationTree(codons, limit), expected);
+		}
+	}
+
+	@DataProvider
+	public Object[][] grammars() {
+		final var random = new Random(789);
+
+		return new Object[][] {
+			{CFG, 1_000},
+			{CFG, 50},
+			{CFG, 5},
+			{RandomCfg.next(random), 1_000},
+			{RandomCfg.next(random), 10_000},
+			{RandomCfg.next(random), 100}
+		};
+	}
+
+	@Test
+	public void multiCodonsSentence() {
+		final var compiled = CompiledCfg.of(CFG);
+		final var random = new Random(321);
+
+		for (int i = 0; i < 100; ++i) {
+			final int[][] codons = new int[CFG.rules().size()][];
+			for (int j = 0; j < codons.length; ++j) {
+				codons[j] = codons(random, 1 + random.nextInt(20));
+			}
+
+			final SymbolIndex index = new SymbolIndex() {
+				final Codons[] _codons = Arrays.stream(codons)
+					.map(CompiledCfgTest::symbolIndex)
+					.toArray(Codons[]::new);
+
+				@Override
+				public int next(final Cfg.Rule<?> rule, final int bound) {
+					return _codons[CFG.rules().indexOf(rule)].next(rule, bound);
+				}
+			};
+			final var expected = new SentenceGenerator<String>(index, 1_000)
+				.generate(CFG);
+
+			Assert.assertEquals(compiled.sentence(codons, 1_000), expected);
+		}
+	}
+
+	@Test
+	public void multiIntegerChromosomeMapper() {
+		final Codec<List<Terminal<String>>, IntegerGene> expected = Mappers
+			.multiIntegerChromosomeMapper(
+				CFG,
+				rule -> IntRange.of(rule.alternatives().size()*25),
+				index -> new SentenceGenerator<>(index, 1_000)
+			);
+		final Codec<List<Terminal<String>>, IntegerGene> codec = Mappers
+			.multiIntegerChromosomeMapper(
+				CFG,
+				rule -> IntRange.of(rule.alternatives().size()*25),
+				1_000
+			);
+
+		for (int i = 0; i < 100; ++i) {
+			final Genotype<IntegerGene> gt = codec.encoding().newInstance();
+			Assert.assertEquals(codec.decode(gt), expected.decode(gt));
+		}
+	}
+
+	@Test
+	public void singleBitChromosomeMapper() {
+		final Codec<List<Terminal<String>>, BitGene> expected = Mappers
+			.singleBitChromosomeMapper(
+				CFG,
+				1_000,
+				index -> new SentenceGenerator<>(index, 1_000)
+			);
+		final Codec<List<Terminal<String>>, BitGene> codec = Mappers
+			.singleBitChromosomeMapper(CFG, 1_000, 1_000);
+
+		for (int i = 0; i < 100; ++i) {
+			final Genotype<BitGene> gt = Genotype.of(BitChromosome.of(1_000));
+			Assert.assertEquals(codec.decode(gt), expected.decode(gt));
+		}
+	}
+
+	@Test
+	public void singleIntegerChromosomeMapper() {
+		final Codec<List<Terminal<String>>, IntegerGene> expected = Mappers
+			.singleIntegerChromosomeMapper(
+				CFG,
+				IntRange.of(0, 256),
+				100,
+				index -> new SentenceGenerator<>(index, 1_000)
+			);
+		final Codec<List<Terminal<String>>, IntegerGene> codec = Mappers
+			.singleIntegerChromosomeMapper(CFG, IntRange.of(0, 256), 100, 1_000);
+
+		for (int i = 0; i < 100; ++i) {
+			final Genotype<IntegerGene> gt = codec.encoding().newInstance();
+			Assert.assertEquals(codec.decode(gt), expected.decode(gt));
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void emptyCodons() {
+		CompiledCfg.of(CFG).sentence(new int[0], 1_000);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void wrongCodonsCount() {
+		CompiledCfg.of(CFG).sentence(new int[][] {{1, 2, 3}}, 1_000);
+	}
+
+	private static int[] codons(final RandomGenerator random, final int length) {
+		return random.ints(length, 0, 256).toArray();
+	}
+
+	private static Codons symbolIndex(final int[] values) {
+		return new Codons(i -> values[i], values.length);
+	}
+
+}
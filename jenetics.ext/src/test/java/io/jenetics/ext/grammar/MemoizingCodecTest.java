@@ -0,0 +1,199 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.grammar;
+
+import static io.jenetics.ext.grammar.SentenceGeneratorTest.CFG;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.BitGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.engine.Codec;
+import io.jenetics.util.IntRange;
+
+import io.jenetics.ext.grammar.Cfg.Terminal;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class MemoizingCodecTest {
+
+	private static String string(final List<Terminal<String>> sentence) {
+		return sentence.stream()
+			.map(Terminal::name)
+			.collect(Collectors.joining());
+	}
+
+	@Test
+	public void bitChromosome() {
+		final var calls = new AtomicInteger();
+		final Function<List<Terminal<String>>, String> mapper = s -> {
+			calls.incrementAndGet();
+			return string(s);
+		};
+
+		final var codec = MemoizingCodec
+			.ofBitChromosome(CFG, 1_000, 1_000, mapper, 1_000);
+		final Codec<List<Terminal<String>>, BitGene> expected = Mappers
+			.singleBitChromosomeMapper(CFG, 1_000, 1_000);
+
+		for (int i = 0; i < 500; ++i) {
+			final Genotype<BitGene> gt = codec.encoding().newInstance();
+			Assert.assertEquals(codec.decode(gt), string(expected.decode(gt)));
+		}
+
+		Assert.assertEquals(codec.lookups(), 500);
+		Assert.assertEquals(calls.get() + codec.hits(), 500);
+		Assert.assertTrue(codec.size() <= calls.get());
+	}
+
+	@Test
+	public void integerChromosomes() {
+		final var calls = new AtomicInteger();
+		final Function<List<Terminal<String>>, String> mapper = s -> {
+			calls.incrementAndGet();
+			return string(s);
+		};
+
+		final Function<Cfg.Rule<?>, IntRange> length =
+			rule -> IntRange.of(rule.alternatives().size()*5);
+		final var codec = MemoizingCodec
+			.ofIntegerChromosomes(CFG, length, 1_000, mapper, 1_000);
+		final Codec<List<Terminal<String>>, IntegerGene> expected = Mappers
+			.multiIntegerChromosomeMapper(CFG, length, 1_000);
+
+		for (int i = 0; i < 500; ++i) {
+			final Genotype<IntegerGene> gt = codec.encoding().newInstance();
+			Assert.assertEquals(codec.decode(gt), string(expected.decode(gt)));
+		}
+
+		Assert.assertEquals(calls.get() + codec.hits(), 500);
+	}
+
+	@Test
+	public void chosenAlternatives() {
+		final var calls = new AtomicInteger();
+		final var codec = MemoizingCodec.ofIntegerChromosome(
+			CFG,
+			IntRange.of(0, 256),
+			IntRange.of(10),
+			1_000,
+			s -> {
+				calls.incrementAndGet();
+				return string(s);
+			},
+			10
+		);
+
+		// <expr> -> <num> -> 3, only two codons are consumed.
+		final var gt1 = genotype(1, 3, 7, 8, 9, 1, 2, 3, 4, 5);
+		final var gt2 = genotype(1, 3, 0, 0, 0, 0, 0, 0, 0, 0);
+		// Different codons, but the same chosen alternatives (5%4, 13%10).
+		final var gt3 = genotype(5, 13, 0, 0, 0, 0, 0, 0, 0, 0);
+		// Different chosen alternative.
+		final var gt4 = genotype(1, 4, 0, 0, 0, 0, 0, 0, 0, 0);
+
+		Assert.assertEquals(codec.decode(gt1), "3");
+		Assert.assertEquals(codec.decode(gt2), "3");
+		Assert.assertEquals(calls.get(), 1);
+		Assert.assertEquals(codec.hits(), 1);
+		Assert.assertEquals(codec.hitRate(), 0.5);
+
+		Assert.assertEquals(codec.decode(gt3), "3");
+		Assert.assertEquals(calls.get(), 1);
+		Assert.assertEquals(codec.hits(), 2);
+
+		Assert.assertEquals(codec.decode(gt4), "4");
+		Assert.assertEquals(calls.get(), 2);
+		Assert.assertEquals(codec.size(), 2);
+	}
+
+	private static Genotype<IntegerGene> genotype(final int... values) {
+		return Genotype.of(IntegerChromosome.of(
+			IntStream.of(values)
+				.mapToObj(v -> IntegerGene.of(v, IntRange.of(0, 256)))
+				.toArray(IntegerGene[]::new)
+		));
+	}
+
+	@Test
+	public void boundedCache() {
+		final var codec = MemoizingCodec.ofIntegerChromosome(
+			CFG,
+			IntRange.of(0, 256),
+			IntRange.of(100),
+			1_000,
+			MemoizingCodecTest::string,
+			5
+		);
+
+		for (int i = 0; i < 100; ++i) {
+			codec.decode(codec.encoding().newInstance());
+			Assert.assertTrue(codec.size() <= 5);
+		}
+	}
+
+	@Test
+	public void concurrentDecoding() {
+		final var codec = MemoizingCodec.ofIntegerChromosome(
+			CFG,
+			IntRange.of(0, 256),
+			IntRange.of(20),
+			1_000,
+			MemoizingCodecTest::string,
+			50
+		);
+		final Codec<List<Terminal<String>>, IntegerGene> expected = Mappers
+			.singleIntegerChromosomeMapper(CFG, IntRange.of(0, 256), IntRange.of(20), 1_000);
+
+		final List<Genotype<IntegerGene>> genotypes = IntStream.range(0, 5_000)
+			.mapToObj(i -> codec.encoding().newInstance())
+			.toList();
+		genotypes.parallelStream().forEach(gt ->
+			Assert.assertEquals(codec.decode(gt), string(expected.decode(gt)))
+		);
+
+		Assert.assertEquals(codec.lookups(), 5_000);
+		Assert.assertTrue(codec.size() <= 50);
+	}
+
+	@Test
+	public void emptyHitRate() {
+		final var codec = MemoizingCodec.ofBitChromosome(
+			CFG, 100, 100, MemoizingCodecTest::string, 5
+		);
+		Assert.assertTrue(Double.isNaN(codec.hitRate()));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidCacheSize() {
+		MemoizingCodec.ofBitChromosome(CFG, 100, 100, MemoizingCodecTest::string, 0);
+	}
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class HypervolumeTest {
+
+	@Test
+	public void of2D() {
+		final double[][] points = {{1, 4}, {2, 3}, {3, 1}, {1, 1}, {2, 3}};
+		Assert.assertEquals(Hypervolume.of(points, new double[]{0, 0}), 8.0);
+		Assert.assertEquals(Hypervolume.of(points, new double[]{1, 0}), 4.0);
+		Assert.assertEquals(Hypervolume.of(new double[0][], new double[]{0, 0}), 0.0);
+	}
+
+	@Test
+	public void of3D() {
+		final double[][] points = {{1, 1, 1}, {2, 1, 1}, {1, 2, 1}, {1, 1, 2}};
+		Assert.assertEquals(Hypervolume.of(points, new double[]{0, 0, 0}), 4.0);
+	}
+
+	@Test(dataProvider = "pointSets")
+	public void exact(final double[][] points, final double[] reference) {
+		Assert.assertEquals(
+			Hypervolume.exact(points, reference),
+			grid(points, reference),
+			0.000001
+		);
+	}
+
+	@Test(dataProvider = "pointSets")
+	public void approximate(final double[][] points, final double[] reference) {
+		final double volume = Hypervolume.exact(points, reference);
+		final double approx = Hypervolume.approximate(
+			points, reference, 200_000, new Random(123)
+		);
+		Assert.assertEquals(approx, volume, volume*0.02);
+	}
+
+	@Test(dataProvider = "pointSets")
+	public void contributions(final double[][] points, final double[] reference) {
+		final double volume = Hypervolume.exact(points, reference);
+		final double[] contributions = Hypervolume.contributions(points, reference);
+
+		for (int i = 0; i < points.length; ++i) {
+			final int index = i;
+			final double[][] others = IntStream.range(0, points.length)
+				.filter(j -> j != index)
+				.mapToObj(j -> points[j])
+				.toArray(double[][]::new);
+
+			Assert.assertEquals(
+				contributions[i],
+				volume - Hypervolume.exact(others, reference),
+				0.000001
+			);
+		}
+	}
+
+	@DataProvider
+	public Object[][] pointSets() {
+		final Random random = new Random(456);
+		return new Object[][] {
+			{points(random, 30, 2, 10), new double[]{0, 0}},
+			{points(random, 30, 2, 1_000), new double[]{100, 100}},
+			{circle(random, 50, 2), new double[]{0, 0}},
+			{points(random, 20, 3, 6), new double[]{0, 0, 0}},
+			{circle(random, 40, 3), new double[]{0, 0, 0}},
+			{points(random, 15, 4, 5), new double[]{0, 0, 0, 0}},
+			{circle(random, 20, 5), new double[]{0, 0, 0, 0, 0}}
+		};
+	}
+
+	@Test
+	public void contributions2DFront() {
+		final double[][] points = {{1, 4}, {2, 3}, {3, 1}, {2, 3}};
+		final double[] contributions = Hypervolume.contributions(
+			points, new double[]{0, 0}
+		);
+		Assert.assertEquals(contributions, new double[]{1, 0, 1, 0});
+	}
+
+	@Test
+	public void reduce() {
+		final double[][] points = {{1, 4}, {2, 3}, {3, 1}, {2.1, 2.9}};
+		final int[] indexes = Hypervolume.reduce(points, 3, new double[]{0, 0});
+		Arrays.sort(indexes);
+		Assert.assertEquals(indexes.length, 3);
+		Assert.assertTrue(indexes[0] == 0 && indexes[1] == 2);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void dimensionMismatch() {
+		Hypervolume.of(new double[][]{{1, 2, 3}}, new double[]{0, 0});
+	}
+
+	private static double[][]
+	points(final Random random, final int size, final int dim, final int bound) {
+		return IntStream.range(0, size)
+			.mapToObj(i -> random.ints(dim, 0, bound).asDoubleStream().toArray())
+			.toArray(double[][]::new);
+	}
+
+	// Random points on the positive part of the unit sphere.
+	private static double[][]
+	circle(final Random random, final int size, final int dim) {
+		return IntStream.range(0, size)
+			.mapToObj(i -> {
+				final double[] p = random.doubles(dim).toArray();
+				final double norm = Math.sqrt(Arrays.stream(p).map(v -> v*v).sum());
+				return Arrays.stream(p).map(v -> v/norm).toArray();
+			})
+			.toArray(double[][]::new);
+	}
+
+	// Reference implementation, which sums up the volume of the grid cells
+	// spanned by the point coordinates.
+	private static double grid(final double[][] points, final double[] reference) {
+		final int dim = reference.length;
+		final double[][] axes = new double[dim][];
+		for (int m = 0; m < dim; ++m) {
+			final int objective = m;
+			axes[m] = DoubleStream.concat(
+					DoubleStream.of(reference[m]),
+					Arrays.stream(points).mapToDouble(p -> p[objective])
+				)
+				.filter(v -> v >= reference[objective])
+				.distinct()
+				.sorted()
+				.toArray();
+		}
+
+		return cells(points, axes, new int[dim], 0);
+	}
+
+	private static double cells(
+		final double[][] points,
+		final double[][] axes,
+		final int[] cell,
+		final int m
+	) {
+		if (m == axes.length) {
+			double volume = 1;
+			final double[] upper = new double[axes.length];
+			for (int i = 0; i < axes.length; ++i) {
+				volume *= axes[i][cell[i] + 1] - axes[i][cell[i]];
+				upper[i] = axes[i][cell[i] + 1];
+			}
+			for (double[] point : points) {
+				boolean covers = true;
+				for (int i = 0; i < upper.length && covers; ++i) {
+					covers = point[i] >= upper[i];
+				}
+				if (covers) {
+					return volume;
+				}
+			}
+			return 0;
+		}
+
+		double volume = 0;
+		for (int i = 0; i < axes[m].length - 1; ++i) {
+			cell[m] = i;
+			volume += cells(points, axes, cell, m + 1);
+		}
+		return volume;
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ObjectivesTest {
+
+	@Test(dataProvider = "populations")
+	public void rank(
+		final ISeq<Phenotype<DoubleGene, Vec<Object>>> population,
+		final Optimize opt
+	) {
+		final Objectives objectives = Objectives.of(population, opt);
+		Assert.assertNotNull(objectives);
+
+		final ISeq<Vec<Object>> fitness = fitness(population);
+		Assert.assertEquals(
+			objectives.rank(),
+			Pareto.rank(
+				fitness,
+				opt == Optimize.MAXIMUM
+					? Vec::dominance
+					: (u, v) -> v.dominance(u)
+			)
+		);
+	}
+
+	@Test(dataProvider = "populations")
+	public void crowdingDistance(
+		final ISeq<Phenotype<DoubleGene, Vec<Object>>> population,
+		final Optimize opt
+	) {
+		final Objectives objectives = Objectives.of(population, opt);
+		Assert.assertNotNull(objectives);
+
+		final ISeq<Vec<Object>> fitness = fitness(population);
+		Assert.assertEquals(
+			objectives.crowdingDistance(),
+			Pareto.crowdingDistance(
+				fitness,
+				opt == Optimize.MAXIMUM
+					? Vec::compare
+					: (u, v, i) -> v.compare(u, i),
+				opt == Optimize.MAXIMUM
+					? Vec::distance
+					: (u, v, i) -> v.distance(u, i),
+				Vec::length
+			),
+			0.000001
+		);
+	}
+
+	@DataProvider
+	public Object[][] populations() {
+		final Random random = new Random(123);
+		final VecFactory<double[]> doubles = VecFactory.ofDoubleVec(
+			Optimize.MAXIMUM, Optimize.MINIMUM, Optimize.MAXIMUM
+		);
+		final VecFactory<int[]> ints = VecFactory.ofIntVec(
+			Optimize.MINIMUM, Optimize.MAXIMUM
+		);
+
+		return new Object[][] {
+			{population(50, i -> Vec.of(random.doubles(2).toArray())), Optimize.MAXIMUM},
+			{population(50, i -> Vec.of(random.doubles(4).toArray())), Optimize.MINIMUM},
+			{population(50, i -> Vec.of(random.ints(3, 0, 10).toArray())), Optimize.MAXIMUM},
+			{population(50, i -> Vec.of(random.longs(3, 0, 10).toArray())), Optimize.MINIMUM},
+			{population(50, i -> doubles.newVec(random.doubles(3).toArray())), Optimize.MAXIMUM},
+			{population(50, i -> doubles.newVec(random.doubles(3).toArray())), Optimize.MINIMUM},
+			{population(50, i -> ints.newVec(random.ints(2, 0, 10).toArray())), Optimize.MAXIMUM}
+		};
+	}
+
+	@Test
+	public void unsupportedFitness() {
+		final var population = population(10, i ->
+			Vec.of(new String[]{"a" + i, "b"}, (u, v, j) -> 0)
+		);
+		Assert.assertNull(Objectives.of(population, Optimize.MAXIMUM));
+	}
+
+	@Test
+	public void selectorFacade() {
+		final Random random = new Random(456);
+		final var population = population(500, i ->
+			Vec.of(random.doubles(3).toArray())
+		);
+
+		for (Optimize opt : Optimize.values()) {
+			Assert.assertEquals(
+				NSGA2Selector.<DoubleGene, Object, Vec<Object>>ofVec()
+					.select(population, 100, opt),
+				new NSGA2Selector<DoubleGene, Vec<Object>>(
+					Vec::dominance,
+					Vec::compare,
+					Vec::distance,
+					Vec::length
+				).select(population, 100, opt)
+			);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ISeq<Phenotype<DoubleGene, Vec<Object>>> population(
+		final int size,
+		final Function<Integer, ? extends Vec<?>> fitness
+	) {
+		final Genotype<DoubleGene> gt = Genotype.of(DoubleChromosome.of(0, 1));
+		return IntStream.range(0, size)
+			.mapToObj(i -> Phenotype.of(gt, 1, (Vec<Object>)fitness.apply(i)))
+			.collect(ISeq.toISeq());
+	}
+
+	private static ISeq<Vec<Object>>
+	fitness(final ISeq<Phenotype<DoubleGene, Vec<Object>>> population) {
+		return population.map(Phenotype::fitness);
+	}
+
+}
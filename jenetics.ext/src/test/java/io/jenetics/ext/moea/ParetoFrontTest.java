@@ -34,6 +34,7 @@ import java.util.random.RandomGenerator;
 import java.util.stream.IntStream;
 
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.util.ISeq;
@@ -131,6 +132,112 @@ public class ParetoFrontTest {
 		*/
 	}
 
+	@Test(dataProvider = "dimensions")
+	public void addIndexed(final int dimension, final int bound) {
+		final Random random = new Random(dimension*31L + bound);
+
+		final List<Vec<int[]>> elements = new ArrayList<>();
+		final ParetoFront<Vec<int[]>> expected = new ParetoFront<>(Vec::dominance);
+		final ParetoFront<Vec<int[]>> front = new ParetoFront<>(
+			Vec::dominance, Objects::equals, Vec::compare, Vec::length
+		);
+
+		for (int i = 0; i < 2_000; ++i) {
+			final Vec<int[]> point = Vec.of(random.ints(dimension, 0, bound).toArray());
+			elements.add(point);
+			Assert.assertEquals(front.add(point), expected.add(point));
+			Assert.assertEquals(front.size(), expected.size());
+		}
+
+		Assert.assertEquals(
+			new HashSet<>(front),
+			new HashSet<>(Pareto.front(ISeq.of(elements)).asList())
+		);
+	}
+
+	@Test(dataProvider = "dimensions")
+	public void addAllIndexed(final int dimension, final int bound) {
+		final Random random = new Random(dimension*17L + bound);
+
+		final List<Vec<int[]>> elements = IntStream.range(0, 5_000)
+			.mapToObj(i -> Vec.of(random.ints(dimension, 0, bound).toArray()))
+			.toList();
+
+		final ParetoFront<Vec<int[]>> front = new ParetoFront<>(
+			(a, b) -> b.dominance(a),
+			Objects::equals,
+			(a, b, i) -> b.compare(a, i),
+			Vec::length
+		);
+		front.addAll(elements);
+
+		Assert.assertEquals(
+			new HashSet<>(front),
+			new HashSet<>(
+				Pareto.front(ISeq.of(elements), (a, b) -> b.dominance(a)).asList()
+			)
+		);
+	}
+
+	@DataProvider
+	public Object[][] dimensions() {
+		return new Object[][] {
+			{2, 50}, {2, 1_000_000}, {3, 20}, {3, 1_000}, {4, 10}, {5, 100}
+		};
+	}
+
+	@Test(dataProvider = "dimensions")
+	public void removeIndexed(final int dimension, final int bound) {
+		final Random random = new Random(dimension*13L + bound);
+		final ParetoFront<Vec<int[]>> front = new ParetoFront<>(
+			Vec::dominance, Objects::equals, Vec::compare, Vec::length
+		);
+		IntStream.range(0, 2_000)
+			.mapToObj(i -> Vec.of(random.ints(dimension, 0, bound).toArray()))
+			.forEach(front::add);
+
+		final List<Vec<int[]>> remaining = new ArrayList<>();
+		final var it = front.iterator();
+		for (int i = 0; it.hasNext(); ++i) {
+			final Vec<int[]> element = it.next();
+			if (i%2 == 0) {
+				it.remove();
+			} else {
+				remaining.add(element);
+			}
+		}
+
+		Assert.assertEquals(front.size(), remaining.size());
+		Assert.assertEquals(new HashSet<>(front), new HashSet<>(remaining));
+
+		// A new element, dominating all others, replaces the whole front.
+		final Vec<int[]> best = Vec.of(IntStream.range(0, dimension).map(i -> bound).toArray());
+		Assert.assertTrue(front.add(best));
+		Assert.assertEquals(front.size(), 1);
+	}
+
+	@Test
+	public void trimIndexed() {
+		final Random random = new Random();
+		final ParetoFront<Vec<double[]>> set = new ParetoFront<>(
+			Vec::dominance, Objects::equals, Vec::compare, Vec::length
+		);
+
+		final List<Vec<double[]>> elements = IntStream.range(0, 100_000)
+			.mapToObj(i -> circle(random))
+			.toList();
+
+		set.addAll(elements);
+		Assert.assertEquals(
+			new HashSet<>(set),
+			new HashSet<>(Pareto.front(Seq.viewOf(elements)).asList())
+		);
+
+		final int trimmedSize = set.size()/2;
+		set.trim(trimmedSize, Vec::compare, Vec::distance, Vec::length);
+		Assert.assertEquals(set.size(), trimmedSize);
+	}
+
 	private static Vec<double[]> circle(final RandomGenerator random) {
 		final double r = random.nextDouble();
 		final double a = random.nextDouble()*2*PI;
@@ -170,4 +277,28 @@ public class ParetoFrontTest {
 		Assert.assertEquals(front.size(), 1);
 	}
 
+	@Test
+	public void withEqualsPredicateIndexed() {
+		record Entry(int id, Vec<int[]> data) {}
+
+		for (int dimension : new int[]{2, 3}) {
+			final ParetoFront<Entry> front = new ParetoFront<>(
+				(e1, e2) -> e1.data.dominance(e2.data),
+				(e1, e2) -> e1.id == e2.id,
+				(e1, e2, i) -> e1.data.compare(e2.data, i),
+				e -> e.data.length()
+			);
+
+			final int[] values = IntStream.range(0, dimension).map(i -> 1).toArray();
+			Assert.assertTrue(front.add(new Entry(1, Vec.of(values.clone()))));
+			Assert.assertFalse(front.add(new Entry(1, Vec.of(values.clone()))));
+			Assert.assertTrue(front.add(new Entry(2, Vec.of(values.clone()))));
+			Assert.assertEquals(front.size(), 2);
+
+			values[0] = 2;
+			Assert.assertTrue(front.add(new Entry(3, Vec.of(values.clone()))));
+			Assert.assertEquals(front.size(), 1);
+		}
+	}
+
 }
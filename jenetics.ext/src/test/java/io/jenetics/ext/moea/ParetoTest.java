@@ -31,6 +31,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.util.ISeq;
@@ -212,6 +213,61 @@ public class ParetoTest {
 		}
 	}
 
+	@Test(dataProvider = "rankSets")
+	public void rankNonDominatedSort(final ISeq<Vec<int[]>> points) {
+		final int[] expected = Pareto.rank(points, Vec::dominance);
+
+		Assert.assertEquals(Pareto.rank(points), expected);
+		Assert.assertEquals(
+			Pareto.rank(
+				points,
+				(u, v) -> v.dominance(u),
+				(u, v, i) -> v.compare(u, i),
+				Vec::length
+			),
+			Pareto.rank(points, (u, v) -> v.dominance(u))
+		);
+	}
+
+	@Test
+	public void rankParallelNonDominatedSort() {
+		final Random random = new Random(34567);
+		final ISeq<Vec<int[]>> points = points(
+			NonDominatedSort.PARALLEL_SET_SIZE + 100, 8, 1000, random
+		);
+
+		Assert.assertEquals(
+			Pareto.rank(points),
+			Pareto.rank(points, Vec::dominance)
+		);
+	}
+
+	@DataProvider
+	public Object[][] rankSets() {
+		final Random random = new Random(1234);
+		return new Object[][] {
+			{ISeq.<Vec<int[]>>empty()},
+			{points(1, 2, 10, random)},
+			{points(500, 2, 10, random)},
+			{points(500, 2, 1000, random)},
+			{points(500, 3, 10, random)},
+			{points(500, 3, 1000, random)},
+			{points(500, 5, 10, random)},
+			{points(500, 8, 1000, random)}
+		};
+	}
+
+	private static ISeq<Vec<int[]>> points(
+		final int count,
+		final int dimension,
+		final int bound,
+		final Random random
+	) {
+		return IntStream.range(0, count)
+			.mapToObj(i -> Vec.of(random.ints(dimension, 0, bound).toArray()))
+			.collect(ISeq.toISeq());
+	}
+
 	@Test
 	public void crowdedDistance() {
 		final Random random = new Random(5345);
@@ -0,0 +1,178 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Mutator;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.TournamentSelector;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.Problem;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SMSEMOASelectorTest {
+
+	@Test
+	public void selectFronts() {
+		final Random random = new Random(123);
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			population(500, () -> Vec.of(random.doubles(3).toArray()));
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			SMSEMOASelector.<DoubleGene, double[], Vec<double[]>>ofVec()
+				.select(population, 100, Optimize.MAXIMUM);
+		Assert.assertEquals(selected.size(), 100);
+		Assert.assertEquals(new HashSet<>(selected.asList()).size(), 100);
+
+		// The selected individuals must not be dominated by an unselected one
+		// with a better rank.
+		final int[] ranks = Pareto.rank(population.map(Phenotype::fitness));
+		final Set<Phenotype<DoubleGene, Vec<double[]>>> set =
+			new HashSet<>(selected.asList());
+		final int maxRank = IntStream.range(0, population.size())
+			.filter(i -> set.contains(population.get(i)))
+			.map(i -> ranks[i])
+			.max()
+			.orElseThrow();
+
+		IntStream.range(0, population.size())
+			.filter(i -> ranks[i] < maxRank)
+			.forEach(i -> Assert.assertTrue(set.contains(population.get(i))));
+	}
+
+	@Test
+	public void selectExtremes() {
+		// The boundary points of a 2D front have the biggest contribution.
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population = population(
+			11,
+			new Supplier<>() {
+				int i = 0;
+				@Override
+				public Vec<double[]> get() {
+					final double x = i++/10.0;
+					return Vec.of(x, 1 - x*x);
+				}
+			}
+		);
+
+		final var selected = new SMSEMOASelector<DoubleGene, Vec<double[]>>(
+			Vec::data,
+			new double[]{-1, -1}
+		).select(population, 3, Optimize.MAXIMUM);
+
+		final Set<Vec<double[]>> fitness = new HashSet<>(
+			selected.map(Phenotype::fitness).asList()
+		);
+		Assert.assertTrue(fitness.contains(Vec.of(0.0, 1.0)));
+		Assert.assertTrue(fitness.contains(Vec.of(1.0, 0.0)));
+	}
+
+	@Test
+	public void selectMinimum() {
+		final Random random = new Random(456);
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			population(200, () -> Vec.of(random.doubles(2).toArray()));
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			SMSEMOASelector.<DoubleGene, double[], Vec<double[]>>ofVec()
+				.select(population, 10, Optimize.MINIMUM);
+
+		final ISeq<Vec<double[]>> front = Pareto.front(
+			population.map(Phenotype::fitness),
+			(a, b) -> b.dominance(a)
+		);
+		if (front.size() >= 10) {
+			Assert.assertTrue(
+				front.asList().containsAll(selected.map(Phenotype::fitness).asList())
+			);
+		}
+	}
+
+	@Test
+	public void selectMoreThanPopulation() {
+		final Random random = new Random(789);
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			population(10, () -> Vec.of(random.doubles(2).toArray()));
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			SMSEMOASelector.<DoubleGene, double[], Vec<double[]>>ofVec()
+				.select(population, 25, Optimize.MAXIMUM);
+		Assert.assertEquals(selected.size(), 25);
+	}
+
+	@Test
+	public void hypervolumeConvergence() {
+		final Problem<double[], DoubleGene, Vec<double[]>> problem = Problem.of(
+			v -> Vec.of(v[0]*cos(v[1]), v[0]*sin(v[1])),
+			Codecs.ofVector(DoubleRange.of(0, 1), DoubleRange.of(0, 2*PI))
+		);
+
+		final Engine<DoubleGene, Vec<double[]>> engine = Engine.builder(problem)
+			.alterers(new Mutator<>(0.1))
+			.offspringSelector(new TournamentSelector<>(2))
+			.survivorsSelector(SMSEMOASelector.ofVec())
+			.populationSize(50)
+			.build();
+
+		final Predicate<EvolutionResult<?, Vec<double[]>>> limit =
+			MOEA.byHypervolumeConvergence(new double[]{-1, -1}, 5, 0.01);
+
+		final long generations = engine.stream()
+			.limit(limit)
+			.limit(500)
+			.count();
+		Assert.assertTrue(generations >= 5);
+		Assert.assertTrue(generations < 500);
+	}
+
+	private static ISeq<Phenotype<DoubleGene, Vec<double[]>>> population(
+		final int size,
+		final Supplier<Vec<double[]>> fitness
+	) {
+		final Genotype<DoubleGene> gt = Genotype.of(DoubleChromosome.of(0, 1));
+		return IntStream.range(0, size)
+			.mapToObj(i -> Phenotype.of(gt, 1, fitness.get()))
+			.collect(ISeq.toISeq());
+	}
+
+}
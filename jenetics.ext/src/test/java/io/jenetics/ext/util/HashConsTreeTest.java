@@ -0,0 +1,125 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.util;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.ext.util.Tree.Path;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class HashConsTreeTest {
+
+	@Test
+	public void ofTree() {
+		final TreeNode<Integer> tree = TreeNode.of(0);
+		TreeNodeTest.fill(tree, 5, new Random(123));
+
+		final var pool = new HashConsTree.Pool<Integer>();
+		final HashConsTree<Integer> hct = pool.ofTree(tree);
+
+		Assert.assertEquals(hct.size(), tree.size());
+		Assert.assertEquals(hct.hashCode(), tree.hashCode());
+		Assert.assertEquals(hct.toParenthesesString(), tree.toParenthesesString());
+		Assert.assertTrue(Tree.equals(hct, tree));
+		Assert.assertEquals(TreeNode.ofTree(hct), tree);
+		Assert.assertTrue(pool.size() <= tree.size());
+	}
+
+	@Test
+	public void sharedSubtrees() {
+		final var pool = new HashConsTree.Pool<String>();
+		final HashConsTree<String> t1 =
+			pool.ofTree(TreeNode.parse("add(x,mul(x,1))"));
+		final HashConsTree<String> t2 =
+			pool.ofTree(TreeNode.parse("sub(mul(x,1),x)"));
+
+		Assert.assertSame(t1.childAt(1), t2.childAt(0));
+		Assert.assertSame(t1.childAt(0), t2.childAt(1));
+		Assert.assertSame(t1, pool.ofTree(TreeNode.parse("add(x,mul(x,1))")));
+		Assert.assertSame(t1, pool.ofTree(t1));
+
+		// Distinct nodes: 'x', '1', 'mul(x,1)', 'add(...)', 'sub(...)'.
+		Assert.assertEquals(pool.size(), 5);
+	}
+
+	@Test
+	public void equality() {
+		final var pool1 = new HashConsTree.Pool<String>();
+		final var pool2 = new HashConsTree.Pool<String>();
+
+		final HashConsTree<String> t1 = pool1.ofTree(TreeNode.parse("add(x,y)"));
+		final HashConsTree<String> t2 = pool2.ofTree(TreeNode.parse("add(x,y)"));
+		final HashConsTree<String> t3 = pool1.ofTree(TreeNode.parse("add(y,x)"));
+
+		Assert.assertEquals(t1, t2);
+		Assert.assertEquals(t1.hashCode(), t2.hashCode());
+		Assert.assertNotEquals(t1, t3);
+		Assert.assertEquals(t1, FlatTreeNode.parse("add(x,y)"));
+	}
+
+	@Test
+	public void replace() {
+		final var pool = new HashConsTree.Pool<String>();
+		final HashConsTree<String> tree =
+			pool.ofTree(TreeNode.parse("add(sub(x,y),mul(x,div(y,2)))"));
+
+		final HashConsTree<String> replaced =
+			tree.replace(Path.of(1, 1), TreeNode.parse("sin(z)"));
+
+		Assert.assertEquals(
+			replaced.toParenthesesString(),
+			"add(sub(x,y),mul(x,sin(z)))"
+		);
+		Assert.assertSame(replaced.childAt(0), tree.childAt(0));
+		Assert.assertSame(replaced.childAt(1).childAt(0), tree.childAt(1).childAt(0));
+		Assert.assertEquals(tree.toParenthesesString(), "add(sub(x,y),mul(x,div(y,2)))");
+
+		Assert.assertSame(tree.replace(Path.of(0), tree.childAt(0)), tree);
+		Assert.assertSame(
+			replaced.replace(Path.of(1, 1), TreeNode.parse("div(y,2)")),
+			tree
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void replaceInvalidPath() {
+		final var pool = new HashConsTree.Pool<String>();
+		pool.ofTree(TreeNode.parse("add(x,y)"))
+			.replace(Path.of(0, 0), TreeNode.parse("z"));
+	}
+
+	@Test
+	public void heightAndLeafs() {
+		final var pool = new HashConsTree.Pool<String>();
+		final HashConsTree<String> tree =
+			pool.of("add", pool.of("x"), pool.of("mul", pool.of("x"), pool.of("y")));
+
+		Assert.assertEquals(tree.height(), 2);
+		Assert.assertEquals(tree.size(), 5);
+		Assert.assertEquals(tree.leafCount(), 3);
+		Assert.assertTrue(tree.parent().isEmpty());
+	}
+
+}
@@ -49,7 +49,12 @@ dependencies {
 tasks.test { dependsOn(tasks.compileJmhJava) }
 
 jmh {
-	includes.add(".*MathExprPerf.*")
+	// Selecting the benchmarks: ./gradlew :jenetics.prog:jmh -Pjmh.includes=MathExprPerf
+	includes.add(findProperty("jmh.includes")?.toString() ?: ".*MathExprPerf.*")
+	profilers.add("gc")
+	resultFormat.set("JSON")
+	resultsFile.set(layout.buildDirectory.file("results/jmh/results-${project.version}.json"))
+	failOnError.set(true)
 }
 
 tasks.javadoc {
@@ -0,0 +1,100 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.FlatTreeNode;
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * Measures the evaluation of random programs of different depths, and the
+ * parsing of their {@link MathExpr} string representation.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ProgramPerf {
+
+	private static final ISeq<Op<Double>> OPERATIONS = ISeq.of(
+		MathOp.ADD,
+		MathOp.SUB,
+		MathOp.MUL,
+		MathOp.SIN
+	);
+
+	private static final ISeq<Op<Double>> TERMINALS = ISeq.of(
+		Var.of("x", 0),
+		Var.of("y", 1),
+		Const.of(1.0)
+	);
+
+	@Param({"3", "5", "7", "9"})
+	public int depth;
+
+	private TreeNode<Op<Double>> _tree;
+	private FlatTreeNode<Op<Double>> _flatTree;
+	private String _expression;
+
+	@Setup
+	public void setup() {
+		_tree = Program.of(depth, OPERATIONS, TERMINALS, new Random(123));
+		_flatTree = FlatTreeNode.ofTree(_tree);
+		_expression = new MathExpr(_tree).toString();
+	}
+
+	@Benchmark
+	public double eval() {
+		return Program.eval(_tree, 1.5, 2.5);
+	}
+
+	@Benchmark
+	public double flatEval() {
+		return Program.eval(_flatTree, 1.5, 2.5);
+	}
+
+	@Benchmark
+	public Object parse() {
+		return MathExpr.parse(_expression);
+	}
+
+}
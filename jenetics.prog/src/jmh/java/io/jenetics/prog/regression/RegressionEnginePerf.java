@@ -0,0 +1,126 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.Mutator;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+import io.jenetics.ext.SingleNodeCrossover;
+
+import io.jenetics.prog.ProgramGene;
+import io.jenetics.prog.op.EphemeralConst;
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Var;
+
+/**
+ * Measures the end-to-end throughput of a symbolic regression engine, in
+ * generations per second.
+ *
+ * <pre>{@code
+ * $ ./gradlew :jenetics.prog:jmh -Pjmh.includes=RegressionEnginePerf
+ * }</pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RegressionEnginePerf {
+
+	private static final ISeq<Op<Double>> OPS =
+		ISeq.of(MathOp.ADD, MathOp.SUB, MathOp.MUL);
+
+	private static final ISeq<Op<Double>> TMS = ISeq.of(
+		Var.of("x", 0),
+		EphemeralConst.of(() -> (double)RandomRegistry.random().nextInt(10))
+	);
+
+	// Samples of the function '4*x^3 - 3*x^2 + x'.
+	private static final Regression<Double> REGRESSION = Regression.of(
+		Regression.codecOf(OPS, TMS, 5, t -> t.gene().size() < 30),
+		Error.of(LossFunction::mse),
+		IntStream.rangeClosed(-10, 10)
+			.mapToObj(i -> {
+				final double x = i/10.0;
+				return Sample.ofDouble(x, 4*x*x*x - 3*x*x + x);
+			})
+			.toList()
+	);
+
+	@Param({"50", "500", "5000"})
+	public int populationSize;
+
+	@Param({"true", "false"})
+	public boolean parallel;
+
+	private Engine<ProgramGene<Double>, Double> _engine;
+	private EvolutionStart<ProgramGene<Double>, Double> _start;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		_engine = Engine.builder(REGRESSION)
+			.minimizing()
+			.populationSize(populationSize)
+			.executor(parallel ? ForkJoinPool.commonPool() : Runnable::run)
+			.alterers(
+				new SingleNodeCrossover<>(0.1),
+				new Mutator<>())
+			.build();
+	}
+
+	@Setup(Level.Iteration)
+	public void reset() {
+		_start = _engine.evolve(EvolutionStart.empty()).next();
+	}
+
+	@Benchmark
+	public Object evolve() {
+		final EvolutionResult<ProgramGene<Double>, Double> result =
+			_engine.evolve(_start);
+		_start = result.next();
+		return result;
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.TreeNode;
+
+import io.jenetics.prog.op.Const;
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Program;
+import io.jenetics.prog.op.Var;
+
+/**
+ * Measures the error calculation of a regression problem, for different
+ * sample counts and program depths.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RegressionPerf {
+
+	private static final ISeq<Op<Double>> OPERATIONS =
+		ISeq.of(MathOp.ADD, MathOp.SUB, MathOp.MUL);
+
+	private static final ISeq<Op<Double>> TERMINALS =
+		ISeq.of(Var.of("x", 0), Const.of(1.0));
+
+	@Param({"10", "100", "1000"})
+	public int samples;
+
+	@Param({"3", "6"})
+	public int depth;
+
+	private Regression<Double> _regression;
+	private TreeNode<Op<Double>> _program;
+
+	@Setup
+	public void setup() {
+		_regression = Regression.of(
+			Regression.codecOf(OPERATIONS, TERMINALS, depth),
+			Error.of(LossFunction::mse),
+			IntStream.range(0, samples)
+				.mapToObj(i -> {
+					final double x = -1.0 + 2.0*i/samples;
+					return Sample.ofDouble(x, 4*x*x*x - 3*x*x + x);
+				})
+				.toList()
+		);
+		_program = Program.of(depth, OPERATIONS, TERMINALS, new Random(123));
+	}
+
+	@Benchmark
+	public double error() {
+		return _regression.error(_program);
+	}
+
+}
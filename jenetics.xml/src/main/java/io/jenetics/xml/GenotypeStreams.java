@@ -0,0 +1,825 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.xml;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static javax.xml.stream.XMLStreamConstants.CDATA;
+import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
+import static javax.xml.stream.XMLStreamConstants.END_DOCUMENT;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.SPACE;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.BoundedChromosome;
+import io.jenetics.CharacterChromosome;
+import io.jenetics.Chromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.LongChromosome;
+import io.jenetics.LongGene;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.CharSeq;
+import io.jenetics.xml.stream.Reader;
+import io.jenetics.xml.stream.Writer;
+import io.jenetics.xml.stream.XML;
+
+/**
+ * Streaming XML marshalling of (big) genotype collections. In contrast to the
+ * {@link Writers.Genotypes} and {@link Readers.Genotypes} classes, the
+ * genotypes are written <em>element by element</em> and are read back as
+ * <em>lazy</em> {@link Stream}. Only the genotype, which is currently
+ * written or read, must be kept in memory.
+ *
+ * <pre>{@code
+ * try (var out = Files.newOutputStream(path)) {
+ *     GenotypeStreams.write(out, result.genotypes().stream(), null);
+ * }
+ *
+ * try (var in = Files.newInputStream(path);
+ *     Stream<Genotype<DoubleGene>> genotypes = GenotypeStreams.read(in))
+ * {
+ *     genotypes.forEach(gt -> ...);
+ * }
+ * }</pre>
+ *
+ * The written XML has the same format as the one written by
+ * {@link Writers.Genotypes}. Since the number of genotypes of a stream is not
+ * known in advance, the {@code length} attribute of the {@code genotypes}
+ * element is omitted.
+ * <p>
+ * The default chromosome writer and reader supports the following
+ * chromosome types: {@link BitChromosome}, {@link CharacterChromosome},
+ * {@link IntegerChromosome}, {@link LongChromosome} and
+ * {@link DoubleChromosome}. The alleles of the numeric chromosomes are
+ * formatted and parsed without creating intermediate {@code String} objects.
+ * Other chromosome types can be written and read with an explicitly given
+ * chromosome {@link Writer} and {@link Reader}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+public final class GenotypeStreams {
+	private GenotypeStreams() {}
+
+	/* *************************************************************************
+	 * Writing genotypes
+	 * ************************************************************************/
+
+	/**
+	 * Writes the given {@code genotypes} element by element to the given XML
+	 * stream, using the default chromosome writers.
+	 *
+	 * @param xml the XML stream writer
+	 * @param genotypes the genotypes to write
+	 * @param <G> the gene type
+	 * @throws XMLStreamException if writing the genotypes fails
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the genotypes contain chromosomes,
+	 *         which are not supported by the default chromosome writer
+	 */
+	public static <G extends Gene<?, G>> void write(
+		final XMLStreamWriter xml,
+		final Stream<? extends Genotype<G>> genotypes
+	)
+		throws XMLStreamException
+	{
+		requireNonNull(xml);
+		requireNonNull(genotypes);
+
+		write(xml, genotypes.iterator(), -1, chromosomeWriter());
+	}
+
+	/**
+	 * Writes the given {@code genotypes} element by element to the given XML
+	 * stream, using the given chromosome writer.
+	 *
+	 * @param xml the XML stream writer
+	 * @param genotypes the genotypes to write
+	 * @param chromosomeWriter the chromosome writer
+	 * @param <A> the allele type
+	 * @param <G> the gene type
+	 * @param <C> the chromosome type
+	 * @throws XMLStreamException if writing the genotypes fails
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <
+		A,
+		G extends Gene<A, G>,
+		C extends Chromosome<G>
+	>
+	void write(
+		final XMLStreamWriter xml,
+		final Stream<? extends Genotype<G>> genotypes,
+		final Writer<? super C> chromosomeWriter
+	)
+		throws XMLStreamException
+	{
+		requireNonNull(xml);
+		requireNonNull(genotypes);
+		requireNonNull(chromosomeWriter);
+
+		write(xml, genotypes.iterator(), -1, chromosomeWriter);
+	}
+
+	/**
+	 * Writes the genotypes of the given evolution {@code result} population
+	 * element by element to the given XML stream, using the default
+	 * chromosome writers.
+	 *
+	 * @param xml the XML stream writer
+	 * @param result the evolution result to write
+	 * @param <G> the gene type
+	 * @throws XMLStreamException if writing the genotypes fails
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the genotypes contain chromosomes,
+	 *         which are not supported by the default chromosome writer
+	 */
+	public static <G extends Gene<?, G>> void write(
+		final XMLStreamWriter xml,
+		final EvolutionResult<G, ?> result
+	)
+		throws XMLStreamException
+	{
+		requireNonNull(xml);
+		requireNonNull(result);
+
+		write(
+			xml,
+			result.population().stream().map(pt -> pt.genotype()).iterator(),
+			result.population().size(),
+			chromosomeWriter()
+		);
+	}
+
+	/**
+	 * Writes the given {@code genotypes} element by element to the given
+	 * output stream, using the default chromosome writers.
+	 *
+	 * @param out the output stream
+	 * @param genotypes the genotypes to write
+	 * @param indent the XML level indentation, might be {@code null}
+	 * @param <G> the gene type
+	 * @throws XMLStreamException if writing the genotypes fails
+	 * @throws NullPointerException if the {@code out} stream or the
+	 *         {@code genotypes} are {@code null}
+	 * @throws IllegalArgumentException if the genotypes contain chromosomes,
+	 *         which are not supported by the default chromosome writer
+	 */
+	public static <G extends Gene<?, G>> void write(
+		final OutputStream out,
+		final Stream<? extends Genotype<G>> genotypes,
+		final String indent
+	)
+		throws XMLStreamException
+	{
+		requireNonNull(out);
+		requireNonNull(genotypes);
+
+		try (var xml = XML.writer(out, indent)) {
+			write(xml, genotypes);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <G extends Gene<?, G>> void write(
+		final XMLStreamWriter xml,
+		final Iterator<? extends Genotype<G>> genotypes,
+		final int length,
+		final Writer<?> chromosomeWriter
+	)
+		throws XMLStreamException
+	{
+		final Writer<Chromosome<G>> writer = (Writer<Chromosome<G>>)chromosomeWriter;
+
+		xml.writeStartElement(Writers.Genotypes.ROOT_NAME);
+		if (length >= 0) {
+			xml.writeAttribute(
+				Writers.Genotypes.LENGTH_NAME,
+				Integer.toString(length)
+			);
+		}
+		while (genotypes.hasNext()) {
+			final Genotype<G> gt = genotypes.next();
+
+			xml.writeStartElement(Writers.Genotype.ROOT_NAME);
+			xml.writeAttribute(
+				Writers.Genotype.LENGTH_NAME,
+				Integer.toString(gt.length())
+			);
+			xml.writeAttribute(
+				Writers.Genotype.NGENES_NAME,
+				Integer.toString(gt.geneCount())
+			);
+			for (Chromosome<G> ch : gt) {
+				writer.write(xml, ch);
+			}
+			xml.writeEndElement();
+		}
+		xml.writeEndElement();
+	}
+
+	private static Writer<Chromosome<?>> chromosomeWriter() {
+		final char[] buffer = new char[Numbers.BUFFER_LENGTH];
+		return (xml, ch) -> chromosome(xml, ch, buffer);
+	}
+
+	// The default chromosome writer.
+	private static void chromosome(
+		final XMLStreamWriter xml,
+		final Chromosome<?> chromosome,
+		final char[] buffer
+	)
+		throws XMLStreamException
+	{
+		if (chromosome instanceof DoubleChromosome ch) {
+			bounded(xml, Writers.DoubleChromosome.ROOT_NAME, ch, buffer);
+		} else if (chromosome instanceof IntegerChromosome ch) {
+			bounded(xml, Writers.IntegerChromosome.ROOT_NAME, ch, buffer);
+		} else if (chromosome instanceof LongChromosome ch) {
+			bounded(xml, Writers.LongChromosome.ROOT_NAME, ch, buffer);
+		} else if (chromosome instanceof BitChromosome ch) {
+			Writers.BitChromosome.writer().write(xml, ch);
+		} else if (chromosome instanceof CharacterChromosome ch) {
+			Writers.CharacterChromosome.writer().write(xml, ch);
+		} else {
+			throw new IllegalArgumentException(format(
+				"No default XML writer for chromosome type '%s'.",
+				chromosome.getClass().getName()
+			));
+		}
+	}
+
+	private static void bounded(
+		final XMLStreamWriter xml,
+		final String name,
+		final BoundedChromosome<?, ?> chromosome,
+		final char[] buffer
+	)
+		throws XMLStreamException
+	{
+		xml.writeStartElement(name);
+		xml.writeAttribute(
+			Writers.BoundedChromosome.LENGTH_NAME,
+			Integer.toString(chromosome.length())
+		);
+		element(xml, Writers.BoundedChromosome.MIN_NAME, chromosome.min(), buffer);
+		element(xml, Writers.BoundedChromosome.MAX_NAME, chromosome.max(), buffer);
+
+		xml.writeStartElement(Writers.BoundedChromosome.ALLELES_NAME);
+		if (chromosome instanceof DoubleChromosome ch) {
+			for (int i = 0, n = ch.length(); i < n; ++i) {
+				xml.writeStartElement(Writers.BoundedChromosome.ALLELE_NAME);
+				xml.writeCharacters(buffer, 0, Numbers.format(ch.doubleValue(i), buffer));
+				xml.writeEndElement();
+			}
+		} else if (chromosome instanceof IntegerChromosome ch) {
+			for (int i = 0, n = ch.length(); i < n; ++i) {
+				xml.writeStartElement(Writers.BoundedChromosome.ALLELE_NAME);
+				xml.writeCharacters(buffer, 0, Numbers.format(ch.intValue(i), buffer));
+				xml.writeEndElement();
+			}
+		} else if (chromosome instanceof LongChromosome ch) {
+			for (int i = 0, n = ch.length(); i < n; ++i) {
+				xml.writeStartElement(Writers.BoundedChromosome.ALLELE_NAME);
+				xml.writeCharacters(buffer, 0, Numbers.format(ch.longValue(i), buffer));
+				xml.writeEndElement();
+			}
+		}
+		xml.writeEndElement();
+		xml.writeEndElement();
+	}
+
+	private static void element(
+		final XMLStreamWriter xml,
+		final String name,
+		final Object value,
+		final char[] buffer
+	)
+		throws XMLStreamException
+	{
+		xml.writeStartElement(name);
+		final int length = value instanceof Double d
+			? Numbers.format(d, buffer)
+			: Numbers.format(((Number)value).longValue(), buffer);
+		xml.writeCharacters(buffer, 0, length);
+		xml.writeEndElement();
+	}
+
+
+	/* *************************************************************************
+	 * Reading genotypes
+	 * ************************************************************************/
+
+	/**
+	 * Return a lazy stream of the genotypes of the given XML stream, using the
+	 * default chromosome readers. The genotypes are read on demand from the
+	 * XML stream, which must not be used by the caller, while the returned
+	 * stream is consumed. Every {@code genotype} element, which follows the
+	 * current stream position, is read, independent of its parent element.
+	 *
+	 * @param xml the XML stream reader
+	 * @param <G> the gene type
+	 * @return a lazy stream of the read genotypes
+	 * @throws NullPointerException if the given {@code xml} reader is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>> Stream<Genotype<G>>
+	read(final XMLStreamReader xml) {
+		requireNonNull(xml);
+
+		final TextBuffer text = new TextBuffer();
+		return stream(xml, x -> chromosome(x, text));
+	}
+
+	/**
+	 * Return a lazy stream of the genotypes of the given XML stream, using the
+	 * given chromosome reader. The genotypes are read on demand from the XML
+	 * stream, which must not be used by the caller, while the returned
+	 * stream is consumed.
+	 *
+	 * @param xml the XML stream reader
+	 * @param chromosomeReader the chromosome reader
+	 * @param <A> the allele type
+	 * @param <G> the gene type
+	 * @param <C> the chromosome type
+	 * @return a lazy stream of the read genotypes
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <
+		A,
+		G extends Gene<A, G>,
+		C extends Chromosome<G>
+	>
+	Stream<Genotype<G>> read(
+		final XMLStreamReader xml,
+		final Reader<? extends C> chromosomeReader
+	) {
+		requireNonNull(xml);
+		requireNonNull(chromosomeReader);
+
+		return stream(xml, chromosomeReader::read);
+	}
+
+	/**
+	 * Return a lazy stream of the genotypes of the given input stream, using
+	 * the default chromosome readers. The underlying XML reader is closed
+	 * when the returned stream is closed, but not the given input stream.
+	 *
+	 * @param in the input stream
+	 * @param <G> the gene type
+	 * @return a lazy stream of the read genotypes
+	 * @throws XMLStreamException if the XML reader can't be created
+	 * @throws NullPointerException if the given input stream is {@code null}
+	 */
+	public static <G extends Gene<?, G>> Stream<Genotype<G>>
+	read(final InputStream in) throws XMLStreamException {
+		final var xml = XML.reader(in);
+		return GenotypeStreams.<G>read(xml).onClose(() -> close(xml));
+	}
+
+	/**
+	 * Return a lazy stream of the genotypes of the given input stream, using
+	 * the given chromosome reader. The underlying XML reader is closed when
+	 * the returned stream is closed, but not the given input stream.
+	 *
+	 * @param in the input stream
+	 * @param chromosomeReader the chromosome reader
+	 * @param <A> the allele type
+	 * @param <G> the gene type
+	 * @param <C> the chromosome type
+	 * @return a lazy stream of the read genotypes
+	 * @throws XMLStreamException if the XML reader can't be created
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <
+		A,
+		G extends Gene<A, G>,
+		C extends Chromosome<G>
+	>
+	Stream<Genotype<G>> read(
+		final InputStream in,
+		final Reader<? extends C> chromosomeReader
+	)
+		throws XMLStreamException
+	{
+		requireNonNull(chromosomeReader);
+
+		final var xml = XML.reader(in);
+		return GenotypeStreams.<A, G, C>read(xml, chromosomeReader)
+			.onClose(() -> close(xml));
+	}
+
+	private static void close(final XMLStreamReader xml) {
+		try {
+			xml.close();
+		} catch (XMLStreamException e) {
+			throw new UncheckedIOException(new IOException(e));
+		}
+	}
+
+	@FunctionalInterface
+	private interface ChromosomeReader {
+		Chromosome<?> read(final XMLStreamReader xml) throws XMLStreamException;
+	}
+
+	private static <G extends Gene<?, G>> Stream<Genotype<G>> stream(
+		final XMLStreamReader xml,
+		final ChromosomeReader reader
+	) {
+		return StreamSupport.stream(
+			new GenotypeSpliterator<>(xml, reader),
+			false
+		);
+	}
+
+	/**
+	 * Reads one genotype at a time from the underlying XML stream.
+	 */
+	private static final class GenotypeSpliterator<G extends Gene<?, G>>
+		implements Spliterator<Genotype<G>>
+	{
+		private final XMLStreamReader _xml;
+		private final ChromosomeReader _reader;
+
+		private final List<Chromosome<G>> _chromosomes = new ArrayList<>();
+
+		GenotypeSpliterator(
+			final XMLStreamReader xml,
+			final ChromosomeReader reader
+		) {
+			_xml = xml;
+			_reader = reader;
+		}
+
+		@Override
+		public boolean tryAdvance(final Consumer<? super Genotype<G>> action) {
+			requireNonNull(action);
+
+			try {
+				final Genotype<G> genotype = next();
+				if (genotype != null) {
+					action.accept(genotype);
+					return true;
+				} else {
+					return false;
+				}
+			} catch (XMLStreamException e) {
+				throw new UncheckedIOException(new IOException(e));
+			}
+		}
+
+		private Genotype<G> next() throws XMLStreamException {
+			while (_xml.getEventType() != START_ELEMENT ||
+				!Writers.Genotype.ROOT_NAME.equals(_xml.getLocalName()))
+			{
+				if (!_xml.hasNext()) {
+					return null;
+				}
+				_xml.next();
+			}
+
+			_chromosomes.clear();
+			while (_xml.hasNext()) {
+				switch (_xml.next()) {
+					case START_ELEMENT -> {
+						@SuppressWarnings("unchecked")
+						final Chromosome<G> ch = (Chromosome<G>)_reader.read(_xml);
+						_chromosomes.add(ch);
+					}
+					case END_ELEMENT -> {
+						if (Writers.Genotype.ROOT_NAME.equals(_xml.getLocalName())) {
+							final Genotype<G> genotype = Genotype.of(_chromosomes);
+							_xml.next();
+							return genotype;
+						}
+					}
+					case END_DOCUMENT -> {
+						return null;
+					}
+				}
+			}
+
+			throw new XMLStreamException(format(
+				"Premature end of file while reading '%s'.",
+				Writers.Genotype.ROOT_NAME
+			));
+		}
+
+		@Override
+		public Spliterator<Genotype<G>> trySplit() {
+			return null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return Long.MAX_VALUE;
+		}
+
+		@Override
+		public int characteristics() {
+			return NONNULL | ORDERED;
+		}
+	}
+
+	// The default chromosome reader.
+	private static Chromosome<?> chromosome(
+		final XMLStreamReader xml,
+		final TextBuffer text
+	)
+		throws XMLStreamException
+	{
+		final String name = xml.getLocalName();
+		return switch (name) {
+			case Writers.DoubleChromosome.ROOT_NAME -> doubleChromosome(xml, text);
+			case Writers.IntegerChromosome.ROOT_NAME -> intChromosome(xml, text);
+			case Writers.LongChromosome.ROOT_NAME -> longChromosome(xml, text);
+			case Writers.BitChromosome.ROOT_NAME ->
+				Readers.BitChromosome.reader().read(xml);
+			case Writers.CharacterChromosome.ROOT_NAME ->
+				characterChromosome(xml, text);
+			default -> throw new XMLStreamException(format(
+				"No default XML reader for chromosome element '%s'.", name
+			));
+		};
+	}
+
+	private static DoubleChromosome doubleChromosome(
+		final XMLStreamReader xml,
+		final TextBuffer text
+	)
+		throws XMLStreamException
+	{
+		final int length = length(xml, Writers.BoundedChromosome.LENGTH_NAME);
+		final DoubleGene[] genes = new DoubleGene[length];
+
+		double min = Double.NaN;
+		double max = Double.NaN;
+		int index = 0;
+		while (nextElement(xml, Writers.DoubleChromosome.ROOT_NAME)) {
+			switch (xml.getLocalName()) {
+				case Writers.BoundedChromosome.MIN_NAME ->
+					min = Numbers.parseDouble(text.read(xml));
+				case Writers.BoundedChromosome.MAX_NAME ->
+					max = Numbers.parseDouble(text.read(xml));
+				case Writers.BoundedChromosome.ALLELE_NAME -> {
+					if (index == length) {
+						checkLength(index + 1, length);
+					}
+					genes[index++] =
+						DoubleGene.of(Numbers.parseDouble(text.read(xml)), min, max);
+				}
+			}
+		}
+		checkLength(index, length);
+
+		return DoubleChromosome.of(genes);
+	}
+
+	private static IntegerChromosome intChromosome(
+		final XMLStreamReader xml,
+		final TextBuffer text
+	)
+		throws XMLStreamException
+	{
+		final int length = length(xml, Writers.BoundedChromosome.LENGTH_NAME);
+		final IntegerGene[] genes = new IntegerGene[length];
+
+		int min = 0;
+		int max = 0;
+		int index = 0;
+		while (nextElement(xml, Writers.IntegerChromosome.ROOT_NAME)) {
+			switch (xml.getLocalName()) {
+				case Writers.BoundedChromosome.MIN_NAME ->
+					min = Numbers.parseInt(text.read(xml));
+				case Writers.BoundedChromosome.MAX_NAME ->
+					max = Numbers.parseInt(text.read(xml));
+				case Writers.BoundedChromosome.ALLELE_NAME -> {
+					if (index == length) {
+						checkLength(index + 1, length);
+					}
+					genes[index++] =
+						IntegerGene.of(Numbers.parseInt(text.read(xml)), min, max);
+				}
+			}
+		}
+		checkLength(index, length);
+
+		return IntegerChromosome.of(genes);
+	}
+
+	private static LongChromosome longChromosome(
+		final XMLStreamReader xml,
+		final TextBuffer text
+	)
+		throws XMLStreamException
+	{
+		final int length = length(xml, Writers.BoundedChromosome.LENGTH_NAME);
+		final LongGene[] genes = new LongGene[length];
+
+		long min = 0;
+		long max = 0;
+		int index = 0;
+		while (nextElement(xml, Writers.LongChromosome.ROOT_NAME)) {
+			switch (xml.getLocalName()) {
+				case Writers.BoundedChromosome.MIN_NAME ->
+					min = Numbers.parseLong(text.read(xml));
+				case Writers.BoundedChromosome.MAX_NAME ->
+					max = Numbers.parseLong(text.read(xml));
+				case Writers.BoundedChromosome.ALLELE_NAME -> {
+					if (index == length) {
+						checkLength(index + 1, length);
+					}
+					genes[index++] =
+						LongGene.of(Numbers.parseLong(text.read(xml)), min, max);
+				}
+			}
+		}
+		checkLength(index, length);
+
+		return LongChromosome.of(genes);
+	}
+
+	private static CharacterChromosome characterChromosome(
+		final XMLStreamReader xml,
+		final TextBuffer text
+	)
+		throws XMLStreamException
+	{
+		CharSeq validChars = null;
+		String alleles = null;
+		while (nextElement(xml, Writers.CharacterChromosome.ROOT_NAME)) {
+			switch (xml.getLocalName()) {
+				case Writers.CharacterChromosome.VALID_ALLELES_NAME ->
+					validChars = new CharSeq(text.read(xml).toString());
+				case Writers.CharacterChromosome.ALLELES_NAME ->
+					alleles = text.read(xml).toString();
+			}
+		}
+		if (validChars == null || alleles == null) {
+			throw new XMLStreamException(format(
+				"Incomplete '%s' element.",
+				Writers.CharacterChromosome.ROOT_NAME
+			));
+		}
+
+		return CharacterChromosome.of(alleles, validChars);
+	}
+
+	private static int length(final XMLStreamReader xml, final String name)
+		throws XMLStreamException
+	{
+		final String value = xml.getAttributeValue(null, name);
+		if (value == null) {
+			throw new XMLStreamException(format(
+				"Missing '%s' attribute of element '%s'.",
+				name, xml.getLocalName()
+			));
+		}
+		try {
+			return Numbers.parseInt(value);
+		} catch (NumberFormatException e) {
+			throw new XMLStreamException(e);
+		}
+	}
+
+	private static void checkLength(final int index, final int length)
+		throws XMLStreamException
+	{
+		if (index != length) {
+			throw new XMLStreamException(format(
+				"Expected %d alleles, but got %d.", length, index
+			));
+		}
+	}
+
+	/**
+	 * Moves the XML stream to the next start element. Returns {@code false},
+	 * if the end element with the given {@code name} has been reached.
+	 */
+	private static boolean nextElement(
+		final XMLStreamReader xml,
+		final String name
+	)
+		throws XMLStreamException
+	{
+		while (xml.hasNext()) {
+			final int event = xml.next();
+			if (event == START_ELEMENT) {
+				return true;
+			}
+			if (event == END_ELEMENT && name.equals(xml.getLocalName())) {
+				return false;
+			}
+		}
+
+		throw new XMLStreamException(format(
+			"Premature end of file while reading '%s'.", name
+		));
+	}
+
+	/**
+	 * Reusable buffer for the element text, which avoids the creation of
+	 * intermediate {@code String} objects.
+	 */
+	private static final class TextBuffer implements CharSequence {
+		private char[] _chars = new char[Numbers.BUFFER_LENGTH];
+		private int _length = 0;
+
+		/**
+		 * Reads the text of the current element and moves the XML stream
+		 * to its end element.
+		 */
+		CharSequence read(final XMLStreamReader xml) throws XMLStreamException {
+			_length = 0;
+			while (xml.hasNext()) {
+				switch (xml.next()) {
+					case CHARACTERS, CDATA, SPACE -> append(xml);
+					case END_ELEMENT -> {
+						return this;
+					}
+					case START_ELEMENT -> throw new XMLStreamException(format(
+						"Unexpected element '%s'.", xml.getLocalName()
+					));
+				}
+			}
+
+			throw new XMLStreamException("Premature end of file.");
+		}
+
+		private void append(final XMLStreamReader xml) {
+			final int length = xml.getTextLength();
+			if (_length + length > _chars.length) {
+				_chars = java.util.Arrays.copyOf(
+					_chars,
+					Math.max(_chars.length*2, _length + length)
+				);
+			}
+			System.arraycopy(
+				xml.getTextCharacters(), xml.getTextStart(),
+				_chars, _length, length
+			);
+			_length += length;
+		}
+
+		@Override
+		public int length() {
+			return _length;
+		}
+
+		@Override
+		public char charAt(final int index) {
+			return _chars[index];
+		}
+
+		@Override
+		public CharSequence subSequence(final int start, final int end) {
+			return new String(_chars, start, end - start);
+		}
+
+		@Override
+		public String toString() {
+			return new String(_chars, 0, _length);
+		}
+	}
+
+}
@@ -0,0 +1,370 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.xml;
+
+import io.jenetics.xml.stream.Writer;
+
+/**
+ * Formatting and parsing of primitive numbers, without creating intermediate
+ * {@code String} objects. The numbers are written into caller supplied
+ * {@code char} arrays, which must have a length of at least
+ * {@link #BUFFER_LENGTH}.
+ * <p>
+ * Doubles are formatted with the shortest number of digits (up to 16), which
+ * uniquely identifies the value, and are read back exactly. Values which
+ * can't be handled by the fast path are delegated to {@link Double#toString}
+ * and {@link Double#parseDouble(String)}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+final class Numbers {
+	private Numbers() {}
+
+	/**
+	 * The minimal length of the format buffers.
+	 */
+	static final int BUFFER_LENGTH = 32;
+
+	// Biggest long value, which can be represented exactly as double.
+	private static final long MAX_EXACT = 1L << 53;
+
+	// All powers of ten, which can be represented exactly as double.
+	private static final double[] POW10 = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+		1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+		1e21, 1e22
+	};
+
+	private static final long[] LONG_POW10 = {
+		1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L,
+		100_000_000L, 1_000_000_000L, 10_000_000_000L, 100_000_000_000L,
+		1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+		1_000_000_000_000_000L, 10_000_000_000_000_000L,
+		100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+	};
+
+	/* *************************************************************************
+	 * Formatting
+	 * ************************************************************************/
+
+	/**
+	 * Writes the decimal representation of the given {@code value} into the
+	 * given {@code buffer}, equivalent to {@link Long#toString(long)}.
+	 *
+	 * @param value the value to format
+	 * @param buffer the target buffer
+	 * @return the number of written characters
+	 */
+	static int format(final long value, final char[] buffer) {
+		if (value == Long.MIN_VALUE) {
+			final String string = Long.toString(value);
+			string.getChars(0, string.length(), buffer, 0);
+			return string.length();
+		}
+
+		int pos = 0;
+		long v = value;
+		if (v < 0) {
+			buffer[pos++] = '-';
+			v = -v;
+		}
+		return digits(v, buffer, pos);
+	}
+
+	// Writes the digits of the non-negative value at the given position.
+	private static int digits(final long value, final char[] buffer, final int pos) {
+		final int end = pos + digitCount(value);
+		long v = value;
+		int i = end;
+		do {
+			buffer[--i] = (char)('0' + v%10);
+			v /= 10;
+		} while (v != 0);
+		return end;
+	}
+
+	private static int digitCount(final long value) {
+		int count = 1;
+		while (count < LONG_POW10.length && value >= LONG_POW10[count]) {
+			++count;
+		}
+		return count;
+	}
+
+	/**
+	 * Writes a decimal representation of the given {@code value} into the
+	 * given {@code buffer}. The written value is parsed back to exactly the
+	 * same double by {@link Double#parseDouble(String)}. Values in the range
+	 * {@code [10^-3, 10^7)} are written in the plain format of
+	 * {@link Double#toString(double)}. All other values are written by
+	 * {@link Double#toString(double)} directly.
+	 *
+	 * @param value the value to format
+	 * @param buffer the target buffer
+	 * @return the number of written characters
+	 */
+	static int format(final double value, final char[] buffer) {
+		final double abs = Math.abs(value);
+		if (abs >= 1e-3 && abs < 1e7) {
+			final int length = plain(value, abs, buffer);
+			if (length > 0) {
+				return length;
+			}
+		} else if (value == 0.0) {
+			final int pos = Double.doubleToRawLongBits(value) < 0 ? 1 : 0;
+			buffer[0] = '-';
+			buffer[pos] = '0';
+			buffer[pos + 1] = '.';
+			buffer[pos + 2] = '0';
+			return pos + 3;
+		}
+
+		final String string = Double.toString(value);
+		string.getChars(0, string.length(), buffer, 0);
+		return string.length();
+	}
+
+	// Returns 0, if the value can't be formatted by the fast path.
+	private static int plain(
+		final double value,
+		final double abs,
+		final char[] buffer
+	) {
+		// Number of integer digits, in the range [-2, 7].
+		int exp = 0;
+		if (abs >= 1) {
+			while (exp < 7 && abs >= POW10[exp + 1]) {
+				++exp;
+			}
+			++exp;
+		} else {
+			while (exp > -2 && abs < 1.0/POW10[1 - exp]) {
+				--exp;
+			}
+		}
+
+		// Every decimal with at most 15 significant digits is exactly
+		// represented by its nearest double value. If the value needs more
+		// digits, the 16 digit approximation is tried.
+		for (int digits = 15; digits <= 16; ++digits) {
+			final int scale = digits - exp;
+			final double pow = POW10[scale];
+			final long m = Math.round(abs*pow);
+
+			// The division of two exactly representable values is correctly
+			// rounded, like the parsing of the decimal string.
+			if (m < MAX_EXACT && m/pow == abs) {
+				return write(value < 0, m, scale, buffer);
+			}
+		}
+
+		return 0;
+	}
+
+	private static int write(
+		final boolean negative,
+		final long mantissa,
+		final int scale,
+		final char[] buffer
+	) {
+		long m = mantissa;
+		int s = scale;
+		while (s > 1 && m%10 == 0) {
+			m /= 10;
+			--s;
+		}
+		if (s == 1 && m%10 == 0) {
+			// Integral value, written as "x.0".
+			m /= 10;
+			s = 0;
+		}
+
+		int pos = 0;
+		if (negative) {
+			buffer[pos++] = '-';
+		}
+
+		final long pow = LONG_POW10[s];
+		pos = digits(m/pow, buffer, pos);
+		buffer[pos++] = '.';
+		if (s == 0) {
+			buffer[pos++] = '0';
+		} else {
+			final long fraction = m%pow;
+			final int zeros = s - digitCount(fraction);
+			for (int i = 0; i < zeros; ++i) {
+				buffer[pos++] = '0';
+			}
+			pos = digits(fraction, buffer, pos);
+		}
+
+		return pos;
+	}
+
+	/**
+	 * Return a text writer for integral numbers.
+	 *
+	 * @param <N> the number type
+	 * @return a new text writer for integral numbers
+	 */
+	static <N extends Number> Writer<N> integralWriter() {
+		return (xml, value) -> {
+			if (value != null) {
+				final char[] chars = new char[BUFFER_LENGTH];
+				xml.writeCharacters(chars, 0, format(value.longValue(), chars));
+			}
+		};
+	}
+
+	/**
+	 * Return a text writer for double numbers.
+	 *
+	 * @return a new text writer for double numbers
+	 */
+	static Writer<Double> doubleWriter() {
+		return (xml, value) -> {
+			if (value != null) {
+				final char[] chars = new char[BUFFER_LENGTH];
+				xml.writeCharacters(chars, 0, format(value, chars));
+			}
+		};
+	}
+
+	/* *************************************************************************
+	 * Parsing
+	 * ************************************************************************/
+
+	/**
+	 * Parses the given character sequence as signed decimal {@code int}.
+	 *
+	 * @param chars the characters to parse
+	 * @return the parsed value
+	 * @throws NumberFormatException if the characters doesn't contain a valid
+	 *         {@code int} value
+	 */
+	static int parseInt(final CharSequence chars) {
+		final long value = parseLong(chars);
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw new NumberFormatException(
+				"Value out of range: " + chars.toString().trim()
+			);
+		}
+		return (int)value;
+	}
+
+	/**
+	 * Parses the given character sequence as signed decimal {@code long}.
+	 *
+	 * @param chars the characters to parse
+	 * @return the parsed value
+	 * @throws NumberFormatException if the characters doesn't contain a valid
+	 *         {@code long} value
+	 */
+	static long parseLong(final CharSequence chars) {
+		int start = 0;
+		int end = chars.length();
+		while (start < end && isWhitespace(chars.charAt(start))) ++start;
+		while (end > start && isWhitespace(chars.charAt(end - 1))) --end;
+
+		int i = start;
+		final boolean negative = i < end && chars.charAt(i) == '-';
+		if (negative || (i < end && chars.charAt(i) == '+')) {
+			++i;
+		}
+
+		// At most 18 digits can't overflow.
+		if (i == end || end - i > 18) {
+			return Long.parseLong(chars.subSequence(start, end).toString());
+		}
+
+		long value = 0;
+		for (; i < end; ++i) {
+			final int digit = chars.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				throw new NumberFormatException(
+					"For input string: \"" + chars.subSequence(start, end) + "\""
+				);
+			}
+			value = value*10 + digit;
+		}
+
+		return negative ? -value : value;
+	}
+
+	/**
+	 * Parses the given character sequence as {@code double}. Plain decimal
+	 * numbers, with at most 15 significant digits, are parsed directly. All
+	 * other number formats are parsed by {@link Double#parseDouble(String)}.
+	 *
+	 * @param chars the characters to parse
+	 * @return the parsed value
+	 * @throws NumberFormatException if the characters doesn't contain a valid
+	 *         {@code double} value
+	 */
+	static double parseDouble(final CharSequence chars) {
+		int start = 0;
+		int end = chars.length();
+		while (start < end && isWhitespace(chars.charAt(start))) ++start;
+		while (end > start && isWhitespace(chars.charAt(end - 1))) --end;
+
+		int i = start;
+		final boolean negative = i < end && chars.charAt(i) == '-';
+		if (negative) {
+			++i;
+		}
+
+		long mantissa = 0;
+		int digits = 0;
+		int scale = 0;
+		boolean point = false;
+		boolean fast = i < end;
+		for (; i < end && fast; ++i) {
+			final char c = chars.charAt(i);
+			if (c >= '0' && c <= '9') {
+				if (mantissa != 0 || c != '0') {
+					++digits;
+				}
+				mantissa = mantissa*10 + (c - '0');
+				if (point) {
+					++scale;
+				}
+				fast = digits <= 15 && scale < POW10.length;
+			} else if (c == '.' && !point) {
+				point = true;
+			} else {
+				fast = false;
+			}
+		}
+
+		if (fast && (digits > 0 || mantissa == 0) && chars.charAt(end - 1) != '.') {
+			final double value = mantissa/POW10[scale];
+			return negative ? -value : value;
+		}
+
+		return Double.parseDouble(chars.subSequence(start, end).toString());
+	}
+
+	private static boolean isWhitespace(final char c) {
+		return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+	}
+
+}
@@ -64,7 +64,7 @@ import io.jenetics.xml.stream.XML;
  * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 7.2
  * @since 3.9
  */
 public final class Readers {
@@ -278,7 +278,7 @@ public final class Readers {
 		 * @return the default allele reader
 		 */
 		public static Reader<Integer> alleleReader() {
-			return text().map(Integer::parseInt);
+			return text().map(Numbers::parseInt);
 		}
 
 		/**
@@ -341,7 +341,7 @@ public final class Readers {
 		 * @return the default allele reader
 		 */
 		public static Reader<Long> alleleReader() {
-			return text().map(Long::parseLong);
+			return text().map(Numbers::parseLong);
 		}
 
 		/**
@@ -404,7 +404,7 @@ public final class Readers {
 		 * @return the default allele reader
 		 */
 		public static Reader<Double> alleleReader() {
-			return text().map(Double::parseDouble);
+			return text().map(Numbers::parseDouble);
 		}
 
 		/**
@@ -66,7 +66,7 @@ import io.jenetics.xml.stream.XML;
  * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 7.2
  * @since 3.9
  */
 public final class Writers {
@@ -334,7 +334,7 @@ public final class Writers {
 		 * @return the default integer allele writer
 		 */
 		public static Writer<Integer> alleleWriter() {
-			return text();
+			return Numbers.integralWriter();
 		}
 
 		/**
@@ -455,7 +455,7 @@ public final class Writers {
 		 * @return the default long allele writer
 		 */
 		public static Writer<Long> alleleWriter() {
-			return Writer.text();
+			return Numbers.integralWriter();
 		}
 
 		/**
@@ -575,7 +575,7 @@ public final class Writers {
 		 * @return the default double allele writer
 		 */
 		public static Writer<Double> alleleWriter() {
-			return text().map(Object::toString);
+			return Numbers.doubleWriter();
 		}
 
 		/**
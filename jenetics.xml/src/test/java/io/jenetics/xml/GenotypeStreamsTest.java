@@ -0,0 +1,257 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.BitGene;
+import io.jenetics.CharacterChromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.EnumGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.LongChromosome;
+import io.jenetics.LongGene;
+import io.jenetics.PermutationChromosome;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.ISeq;
+import io.jenetics.xml.stream.XML;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class GenotypeStreamsTest {
+
+	@Test
+	public void writeReadDoubleGenotypes() throws Exception {
+		final Genotype<DoubleGene> gtf = Genotype.of(
+			DoubleChromosome.of(-10, 10, 9),
+			DoubleChromosome.of(0, 1, 5)
+		);
+		final List<Genotype<DoubleGene>> genotypes =
+			Stream.generate(gtf::newInstance).limit(100).toList();
+
+		Assert.assertEquals(
+			GenotypeStreamsTest.<DoubleGene>writeRead(genotypes, null),
+			genotypes
+		);
+		Assert.assertEquals(
+			GenotypeStreamsTest.<DoubleGene>writeRead(genotypes, "    "),
+			genotypes
+		);
+	}
+
+	@Test
+	public void writeReadIntegerGenotypes() throws Exception {
+		final Genotype<IntegerGene> gtf = Genotype.of(
+			IntegerChromosome.of(Integer.MIN_VALUE, Integer.MAX_VALUE, 10),
+			IntegerChromosome.of(-5, 5, 3)
+		);
+		final List<Genotype<IntegerGene>> genotypes =
+			Stream.generate(gtf::newInstance).limit(100).toList();
+
+		Assert.assertEquals(
+			GenotypeStreamsTest.<IntegerGene>writeRead(genotypes, null),
+			genotypes
+		);
+	}
+
+	@Test
+	public void writeReadLongGenotypes() throws Exception {
+		final Genotype<LongGene> gtf = Genotype.of(
+			LongChromosome.of(Long.MIN_VALUE, Long.MAX_VALUE, 10)
+		);
+		final List<Genotype<LongGene>> genotypes =
+			Stream.generate(gtf::newInstance).limit(100).toList();
+
+		Assert.assertEquals(
+			GenotypeStreamsTest.<LongGene>writeRead(genotypes, null),
+			genotypes
+		);
+	}
+
+	@Test
+	public void writeReadBitGenotypes() throws Exception {
+		final Genotype<BitGene> gtf = Genotype.of(
+			BitChromosome.of(100, 0.3),
+			BitChromosome.of(7)
+		);
+		final List<Genotype<BitGene>> genotypes =
+			Stream.generate(gtf::newInstance).limit(50).toList();
+
+		Assert.assertEquals(
+			GenotypeStreamsTest.<BitGene>writeRead(genotypes, null),
+			genotypes
+		);
+	}
+
+	@Test
+	public void writeReadCharacterGenotypes() throws Exception {
+		final var gtf = Genotype.of(CharacterChromosome.of(20));
+		final var genotypes = Stream.generate(gtf::newInstance).limit(50).toList();
+
+		Assert.assertEquals(writeRead(genotypes, null), genotypes);
+	}
+
+	@Test
+	public void writeReadCustomChromosome() throws Exception {
+		final Genotype<EnumGene<Integer>> gtf = Genotype.of(
+			PermutationChromosome.ofInteger(20)
+		);
+		final List<Genotype<EnumGene<Integer>>> genotypes =
+			Stream.generate(gtf::newInstance).limit(20).toList();
+
+		final var out = new ByteArrayOutputStream();
+		try (var xml = XML.writer(out)) {
+			GenotypeStreams.write(
+				xml,
+				genotypes.stream(),
+				Writers.PermutationChromosome.<Integer>writer()
+			);
+		}
+
+		final InputStream in = new ByteArrayInputStream(out.toByteArray());
+		try (Stream<Genotype<EnumGene<Integer>>> read = GenotypeStreams.read(
+				in,
+				Readers.PermutationChromosome.reader(
+					io.jenetics.xml.stream.Reader.text().map(Integer::parseInt)
+				)))
+		{
+			Assert.assertEquals(read.toList(), genotypes);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void writeUnsupportedChromosome() throws Exception {
+		final var genotypes = Stream.of(
+			Genotype.of(PermutationChromosome.ofInteger(10))
+		);
+		GenotypeStreams.write(new ByteArrayOutputStream(), genotypes, null);
+	}
+
+	@Test
+	public void compatibleFormat() throws Exception {
+		final Genotype<DoubleGene> gtf = Genotype.of(
+			DoubleChromosome.of(0, 1, 5),
+			DoubleChromosome.of(-1, 1, 3)
+		);
+		final List<Genotype<DoubleGene>> genotypes =
+			Stream.generate(gtf::newInstance).limit(20).toList();
+
+		// Written by the streaming writer, read by the existing reader.
+		final var out = new ByteArrayOutputStream();
+		GenotypeStreams.write(out, genotypes.stream(), null);
+		Assert.assertEquals(
+			Readers.Genotypes.read(
+				new ByteArrayInputStream(out.toByteArray()),
+				Readers.DoubleChromosome.reader()
+			),
+			genotypes
+		);
+
+		// Written by the existing writer, read by the streaming reader.
+		out.reset();
+		Writers.Genotypes.write(out, genotypes, Writers.DoubleChromosome.writer());
+		try (Stream<Genotype<DoubleGene>> read = GenotypeStreams
+				.read(new ByteArrayInputStream(out.toByteArray())))
+		{
+			Assert.assertEquals(read.toList(), genotypes);
+		}
+	}
+
+	@Test
+	public void lazyRead() throws Exception {
+		final Genotype<DoubleGene> gtf = Genotype.of(DoubleChromosome.of(0, 1, 5));
+		final AtomicInteger count = new AtomicInteger();
+
+		final var out = new ByteArrayOutputStream();
+		GenotypeStreams.write(
+			out,
+			Stream.generate(gtf::newInstance).limit(1_000),
+			null
+		);
+
+		try (Stream<Genotype<DoubleGene>> read = GenotypeStreams
+				.read(new ByteArrayInputStream(out.toByteArray())))
+		{
+			final List<Genotype<DoubleGene>> first = read
+				.peek(gt -> count.incrementAndGet())
+				.limit(10)
+				.toList();
+
+			Assert.assertEquals(first.size(), 10);
+			Assert.assertEquals(count.get(), 10);
+		}
+	}
+
+	@Test
+	public void writeEvolutionResult() throws Exception {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> gt.gene().doubleValue(),
+				Genotype.of(DoubleChromosome.of(0, 1, 4))
+			)
+			.populationSize(30)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(3)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		final var out = new ByteArrayOutputStream();
+		try (var xml = XML.writer(out)) {
+			GenotypeStreams.write(xml, result);
+		}
+
+		final List<Genotype<DoubleGene>> read = new ArrayList<>();
+		try (var xml = XML.reader(new ByteArrayInputStream(out.toByteArray()))) {
+			GenotypeStreams.<DoubleGene>read(xml).forEach(read::add);
+		}
+		Assert.assertEquals(ISeq.of(read), result.genotypes());
+	}
+
+	private static <G extends io.jenetics.Gene<?, G>> List<Genotype<G>>
+	writeRead(final List<Genotype<G>> genotypes, final String indent)
+		throws Exception
+	{
+		final var out = new ByteArrayOutputStream();
+		GenotypeStreams.write(out, genotypes.stream(), indent);
+
+		try (Stream<Genotype<G>> read = GenotypeStreams
+				.read(new ByteArrayInputStream(out.toByteArray())))
+		{
+			return read.toList();
+		}
+	}
+
+}
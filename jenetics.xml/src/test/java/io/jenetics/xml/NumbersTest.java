@@ -0,0 +1,126 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.xml;
+
+import java.util.random.RandomGenerator;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class NumbersTest {
+
+	@Test(dataProvider = "longs")
+	public void formatLong(final long value) {
+		final char[] buffer = new char[Numbers.BUFFER_LENGTH];
+		final String string = new String(buffer, 0, Numbers.format(value, buffer));
+
+		Assert.assertEquals(string, Long.toString(value));
+		Assert.assertEquals(Numbers.parseLong(string), value);
+	}
+
+	@DataProvider
+	public Object[][] longs() {
+		return new Object[][] {
+			{0L}, {1L}, {-1L}, {9L}, {10L}, {-10L}, {123456789L},
+			{Integer.MAX_VALUE}, {Integer.MIN_VALUE},
+			{Long.MAX_VALUE}, {Long.MIN_VALUE}, {Long.MAX_VALUE - 1}
+		};
+	}
+
+	@Test(dataProvider = "doubles")
+	public void formatDouble(final double value) {
+		final char[] buffer = new char[Numbers.BUFFER_LENGTH];
+		final String string = new String(buffer, 0, Numbers.format(value, buffer));
+
+		Assert.assertEquals(Double.parseDouble(string), value, string);
+		Assert.assertEquals(Numbers.parseDouble(string), value, string);
+	}
+
+	@DataProvider
+	public Object[][] doubles() {
+		return new Object[][] {
+			{0.0}, {-0.0}, {1.0}, {-1.0}, {0.1}, {0.2}, {0.3}, {1.5},
+			{0.001}, {0.0009}, {9_999_999.999}, {10_000_000.0}, {1e-300},
+			{Math.PI}, {-Math.E}, {1.0/3.0}, {2.0/3.0}, {123.456},
+			{Double.MAX_VALUE}, {Double.MIN_VALUE}, {Double.MIN_NORMAL},
+			{Double.NaN}, {Double.POSITIVE_INFINITY}, {Double.NEGATIVE_INFINITY}
+		};
+	}
+
+	@Test
+	public void formatPlainDouble() {
+		final char[] buffer = new char[Numbers.BUFFER_LENGTH];
+		for (double value : new double[]{0.1, 1.0, -2.5, 123.456, 0.001, 1e6}) {
+			Assert.assertEquals(
+				new String(buffer, 0, Numbers.format(value, buffer)),
+				Double.toString(value)
+			);
+		}
+	}
+
+	@Test
+	public void formatRandomDoubles() {
+		final var random = RandomGenerator.of("L64X256MixRandom");
+		final char[] buffer = new char[Numbers.BUFFER_LENGTH];
+
+		for (int i = 0; i < 100_000; ++i) {
+			final double value = switch (i%4) {
+				case 0 -> random.nextDouble();
+				case 1 -> random.nextDouble(-1_000, 1_000);
+				case 2 -> Math.round(random.nextDouble()*1_000)/1_000.0;
+				default -> Double.longBitsToDouble(random.nextLong());
+			};
+
+			final String string = new String(buffer, 0, Numbers.format(value, buffer));
+			Assert.assertEquals(Double.parseDouble(string), value, string);
+			Assert.assertEquals(Numbers.parseDouble(string), value, string);
+			Assert.assertTrue(string.length() <= Double.toString(value).length(), string);
+		}
+	}
+
+	@Test
+	public void parseDouble() {
+		Assert.assertEquals(Numbers.parseDouble(" 1.25\n"), 1.25);
+		Assert.assertEquals(Numbers.parseDouble("-0.0"), -0.0);
+		Assert.assertEquals(Numbers.parseDouble("1e3"), 1000.0);
+		Assert.assertEquals(Numbers.parseDouble("0.12345678901234567"), 0.12345678901234567);
+		Assert.assertEquals(Numbers.parseDouble("+3"), 3.0);
+	}
+
+	@Test(expectedExceptions = NumberFormatException.class)
+	public void parseInvalidDouble() {
+		Numbers.parseDouble("1.2.3");
+	}
+
+	@Test(expectedExceptions = NumberFormatException.class)
+	public void parseInvalidLong() {
+		Numbers.parseLong("12a");
+	}
+
+	@Test(expectedExceptions = NumberFormatException.class)
+	public void parseIntOverflow() {
+		Numbers.parseInt("2147483648");
+	}
+
+}
@@ -47,5 +47,10 @@ dependencies {
 tasks.test { dependsOn(tasks.compileJmhJava) }
 
 jmh {
-	includes.add(".*ProxySorterPerf.*")
+	// Selecting the benchmarks: ./gradlew :jenetics:jmh -Pjmh.includes=EnginePerf
+	includes.add(findProperty("jmh.includes")?.toString() ?: ".*ProxySorterPerf.*")
+	profilers.add("gc")
+	resultFormat.set("JSON")
+	resultsFile.set(layout.buildDirectory.file("results/jmh/results-${project.version}.json"))
+	failOnError.set(true)
 }
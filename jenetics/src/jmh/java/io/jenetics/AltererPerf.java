@@ -0,0 +1,111 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * Measures every alterer in isolation, by altering a population of
+ * {@code DoubleGene} genotypes with one chromosome of length 50.
+ *
+ * <pre>{@code
+ * $ ./gradlew :jenetics:jmh -Pjmh.includes=AltererPerf
+ * }</pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class AltererPerf {
+
+	/**
+	 * The benchmarked alterers.
+	 */
+	public enum Alterers {
+		MUTATOR(() -> new Mutator<>(0.1)),
+		GAUSSIAN_MUTATOR(() -> new GaussianMutator<>(0.1)),
+		SWAP_MUTATOR(() -> new SwapMutator<>(0.1)),
+		SINGLE_POINT_CROSSOVER(() -> new SinglePointCrossover<>(0.2)),
+		MULTI_POINT_CROSSOVER(() -> new MultiPointCrossover<>(0.2, 3)),
+		UNIFORM_CROSSOVER(() -> new UniformCrossover<>(0.2)),
+		MEAN_ALTERER(() -> new MeanAlterer<>(0.2)),
+		LINE_CROSSOVER(() -> new LineCrossover<>(0.2)),
+		INTERMEDIATE_CROSSOVER(() -> new IntermediateCrossover<>(0.2));
+
+		private final Supplier<Alterer<DoubleGene, Double>> _factory;
+
+		Alterers(final Supplier<Alterer<DoubleGene, Double>> factory) {
+			_factory = factory;
+		}
+	}
+
+	@Param({
+		"MUTATOR",
+		"GAUSSIAN_MUTATOR",
+		"SWAP_MUTATOR",
+		"SINGLE_POINT_CROSSOVER",
+		"MULTI_POINT_CROSSOVER",
+		"UNIFORM_CROSSOVER",
+		"MEAN_ALTERER",
+		"LINE_CROSSOVER",
+		"INTERMEDIATE_CROSSOVER"
+	})
+	public Alterers alterer;
+
+	@Param({"100", "1000", "10000"})
+	public int populationSize;
+
+	private Alterer<DoubleGene, Double> _alterer;
+	private ISeq<Phenotype<DoubleGene, Double>> _population;
+
+	@Setup
+	public void setup() {
+		final Genotype<DoubleGene> gtf = Genotype.of(DoubleChromosome.of(0, 10, 50));
+
+		_alterer = alterer._factory.get();
+		_population = ISeq.<Genotype<DoubleGene>>of(gtf::newInstance, populationSize)
+			.map(gt -> Phenotype.of(gt, 1, gt.gene().doubleValue()));
+	}
+
+	@Benchmark
+	public Object alter() {
+		return _alterer.alter(_population, 2);
+	}
+
+}
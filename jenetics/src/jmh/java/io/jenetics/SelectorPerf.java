@@ -0,0 +1,114 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * Measures every selector in isolation, by selecting a new population of
+ * the same size from a population of evaluated {@code DoubleGene} genotypes.
+ *
+ * <pre>{@code
+ * $ ./gradlew :jenetics:jmh -Pjmh.includes=SelectorPerf
+ * }</pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SelectorPerf {
+
+	/**
+	 * The benchmarked selectors.
+	 */
+	public enum Selectors {
+		TOURNAMENT(() -> new TournamentSelector<>(3)),
+		TRUNCATION(TruncationSelector::new),
+		ROULETTE_WHEEL(RouletteWheelSelector::new),
+		LINEAR_RANK(LinearRankSelector::new),
+		EXPONENTIAL_RANK(ExponentialRankSelector::new),
+		BOLTZMANN(BoltzmannSelector::new),
+		STOCHASTIC_UNIVERSAL(StochasticUniversalSelector::new),
+		MONTE_CARLO(MonteCarloSelector::new),
+		ELITE(EliteSelector::new);
+
+		private final Supplier<Selector<DoubleGene, Double>> _factory;
+
+		Selectors(final Supplier<Selector<DoubleGene, Double>> factory) {
+			_factory = factory;
+		}
+	}
+
+	@Param({
+		"TOURNAMENT",
+		"TRUNCATION",
+		"ROULETTE_WHEEL",
+		"LINEAR_RANK",
+		"EXPONENTIAL_RANK",
+		"BOLTZMANN",
+		"STOCHASTIC_UNIVERSAL",
+		"MONTE_CARLO",
+		"ELITE"
+	})
+	public Selectors selector;
+
+	@Param({"100", "1000", "10000"})
+	public int populationSize;
+
+	@Param({"MAXIMUM", "MINIMUM"})
+	public Optimize optimize;
+
+	private Selector<DoubleGene, Double> _selector;
+	private ISeq<Phenotype<DoubleGene, Double>> _population;
+
+	@Setup
+	public void setup() {
+		final Genotype<DoubleGene> gtf = Genotype.of(DoubleChromosome.of(0, 10, 10));
+
+		_selector = selector._factory.get();
+		_population = ISeq.<Genotype<DoubleGene>>of(gtf::newInstance, populationSize)
+			.map(gt -> Phenotype.of(gt, 1, gt.gene().doubleValue()));
+	}
+
+	@Benchmark
+	public Object select() {
+		return _selector.select(_population, populationSize, optimize);
+	}
+
+}
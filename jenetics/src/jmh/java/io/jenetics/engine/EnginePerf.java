@@ -0,0 +1,266 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Math.cos;
+import static java.lang.Math.hypot;
+import static java.lang.Math.sin;
+
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.BitGene;
+import io.jenetics.EnumGene;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Mutator;
+import io.jenetics.PartiallyMatchedCrossover;
+import io.jenetics.RouletteWheelSelector;
+import io.jenetics.SinglePointCrossover;
+import io.jenetics.SwapMutator;
+import io.jenetics.TournamentSelector;
+import io.jenetics.util.ISeq;
+
+/**
+ * Measures the end-to-end throughput of {@link Engine#evolve(EvolutionStart)},
+ * in generations per second, for representative problems, population sizes
+ * and executor configurations. The allocation rate is measured by running
+ * the benchmark with the GC profiler, which is enabled by the Gradle
+ * {@code jmh} task.
+ *
+ * <pre>{@code
+ * $ ./gradlew :jenetics:jmh -Pjmh.includes=EnginePerf
+ * }</pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class EnginePerf {
+
+	/**
+	 * The benchmarked problems.
+	 */
+	public enum Problems {
+
+		/**
+		 * Counting the ones of a bit-chromosome of length 1,000.
+		 */
+		ONES_COUNTING {
+			@Override
+			Engine.Builder<?, ?> builder() {
+				return Engine
+					.builder(
+						EnginePerf::count,
+						BitChromosome.of(1_000, 0.15)
+					)
+					.offspringSelector(new RouletteWheelSelector<>())
+					.alterers(
+						new Mutator<>(0.03),
+						new SinglePointCrossover<>(0.125)
+					);
+			}
+		},
+
+		/**
+		 * Knapsack problem with 100 items.
+		 */
+		KNAPSACK {
+			@Override
+			Engine.Builder<?, ?> builder() {
+				final Random random = new Random(123);
+				final ISeq<double[]> items = ISeq.of(
+					() -> new double[] {
+						random.nextDouble()*100,
+						random.nextDouble()*100
+					},
+					100
+				);
+				final double size = items.size()*100.0/3.0;
+
+				return Engine
+					.builder(
+						(ISeq<double[]> selected) -> {
+							double sum = 0, value = 0;
+							for (double[] item : selected) {
+								sum += item[0];
+								value += item[1];
+							}
+							return sum <= size ? value : 0.0;
+						},
+						Codecs.ofSubSet(items)
+					)
+					.survivorsSelector(new TournamentSelector<>(5))
+					.offspringSelector(new RouletteWheelSelector<>())
+					.alterers(
+						new Mutator<>(0.115),
+						new SinglePointCrossover<>(0.16)
+					);
+			}
+		},
+
+		/**
+		 * Traveling salesman problem with 50 cities on a circle.
+		 */
+		TRAVELING_SALESMAN {
+			@Override
+			Engine.Builder<EnumGene<double[]>, Double> builder() {
+				final ISeq<double[]> cities = IntStream.range(0, 50)
+					.mapToObj(i -> {
+						final double phi = 2.0*Math.PI*i/50;
+						return new double[] {cos(phi)*10, sin(phi)*10};
+					})
+					.collect(ISeq.toISeq());
+
+				return Engine
+					.builder(EnginePerf::distance, Codecs.ofPermutation(cities))
+					.minimizing()
+					.alterers(
+						new SwapMutator<>(0.2),
+						new PartiallyMatchedCrossover<>(0.35)
+					);
+			}
+		};
+
+		abstract Engine.Builder<?, ?> builder();
+	}
+
+	/**
+	 * The benchmarked executor configurations.
+	 */
+	public enum Executors {
+
+		/**
+		 * All evolution steps are executed in the calling thread.
+		 */
+		SERIAL {
+			@Override
+			Executor executor() {
+				return Runnable::run;
+			}
+		},
+
+		/**
+		 * The evolution steps are executed in the common fork-join pool.
+		 */
+		FORK_JOIN {
+			@Override
+			Executor executor() {
+				return ForkJoinPool.commonPool();
+			}
+		};
+
+		abstract Executor executor();
+	}
+
+	@Param({"ONES_COUNTING", "KNAPSACK", "TRAVELING_SALESMAN"})
+	public Problems problem;
+
+	@Param({"50", "500", "5000"})
+	public int populationSize;
+
+	@Param({"SERIAL", "FORK_JOIN"})
+	public Executors executor;
+
+	private Evolution<?, ?> _evolution;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		_evolution = new Evolution<>(
+			problem.builder()
+				.populationSize(populationSize)
+				.executor(executor.executor())
+				.build()
+		);
+	}
+
+	@Setup(Level.Iteration)
+	public void reset() {
+		_evolution.reset();
+	}
+
+	@Benchmark
+	public Object evolve() {
+		return _evolution.evolve();
+	}
+
+	/**
+	 * Holds the current evolution start object of an engine.
+	 */
+	static final class Evolution<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		private final Engine<G, C> _engine;
+		private EvolutionStart<G, C> _start;
+
+		Evolution(final Engine<G, C> engine) {
+			_engine = engine;
+		}
+
+		// Creates and evaluates the initial population, which is not part of
+		// the measurement.
+		void reset() {
+			_start = _engine.evolve(EvolutionStart.empty()).next();
+		}
+
+		EvolutionResult<G, C> evolve() {
+			final EvolutionResult<G, C> result = _engine.evolve(_start);
+			_start = result.next();
+			return result;
+		}
+	}
+
+	private static Integer count(final Genotype<BitGene> gt) {
+		return gt.chromosome().as(BitChromosome.class).bitCount();
+	}
+
+	private static double distance(final ISeq<double[]> path) {
+		double length = 0;
+		for (int i = 0; i < path.size(); ++i) {
+			final double[] a = path.get(i);
+			final double[] b = path.get((i + 1)%path.size());
+			length += hypot(a[0] - b[0], a[1] - b[1]);
+		}
+		return length;
+	}
+
+}
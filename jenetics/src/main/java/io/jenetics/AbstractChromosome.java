@@ -25,6 +25,7 @@ import static io.jenetics.internal.util.Hashes.hash;
 import java.util.Objects;
 
 import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
 import io.jenetics.util.Verifiable;
 
 /**
@@ -36,7 +37,7 @@ import io.jenetics.util.Verifiable;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.2
+ * @version 7.2
  */
 public abstract class AbstractChromosome<G extends Gene<?, G>>
 	implements Chromosome<G>
@@ -107,6 +108,22 @@ public abstract class AbstractChromosome<G extends Gene<?, G>>
 			Objects.equals(_genes, ((AbstractChromosome<?>)obj)._genes);
 	}
 
+	/**
+	 * Return a mutable copy of the genes of the given {@code chromosome}. If
+	 * the chromosome is an {@code AbstractChromosome}, the copy is backed by
+	 * the same kind of gene store as the chromosome, e.g. a primitive
+	 * {@code int[]} array for {@link IntegerChromosome}s.
+	 *
+	 * @param chromosome the chromosome to copy
+	 * @param <G> the gene type
+	 * @return a mutable copy of the chromosome genes
+	 */
+	static <G extends Gene<?, G>> MSeq<G> copyGenes(final Chromosome<G> chromosome) {
+		return chromosome instanceof AbstractChromosome<G> ac
+			? ac._genes.copy()
+			: MSeq.of(chromosome);
+	}
+
 	@Override
 	public String toString() {
 		return Objects.toString(_genes);
@@ -21,6 +21,8 @@ package io.jenetics;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.concurrent.Executor;
+
 import io.jenetics.util.ISeq;
 import io.jenetics.util.Seq;
 
@@ -47,7 +49,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 7.2
  */
 @FunctionalInterface
 public interface Alterer<
@@ -78,6 +80,34 @@ public interface Alterer<
 		final long generation
 	);
 
+	/**
+	 * Alters (recombine) a given population, using the given {@code executor}
+	 * for splitting the work. Alterers which support concurrent alteration
+	 * are overriding this method, the default implementation simply calls
+	 * {@link #alter(Seq, long)}. The concurrently altered population is
+	 * different from the serially altered one, but it doesn't depend on the
+	 * thread scheduling of the {@code executor}.
+	 *
+	 * @see io.jenetics.engine.Engine.Builder#parallelAlteration(boolean)
+	 *
+	 * @since 7.2
+	 *
+	 * @param population The Population to be altered.
+	 * @param generation the date of birth (generation) of the altered phenotypes.
+	 * @param executor the executor used for the concurrent alteration
+	 * @return the alter-result object, which contains the altered population
+	 *         and the alteration count
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	default AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Executor executor
+	) {
+		requireNonNull(executor);
+		return alter(population, generation);
+	}
+
 	/**
 	 * Returns a composed alterer that first applies the {@code before} alterer
 	 * to its input, and then applies {@code this} alterer to the result.
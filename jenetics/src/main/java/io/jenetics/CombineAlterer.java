@@ -39,7 +39,7 @@ import io.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 6.0
- * @version 6.0
+ * @version 7.2
  */
 public class CombineAlterer<
 	G extends Gene<?, G>,
@@ -103,30 +103,35 @@ public class CombineAlterer<
 		final int ci = RandomRegistry.random()
 			.nextInt(min(gt1.length(), gt2.length()));
 
-		final MSeq<Chromosome<G>> c1 = MSeq.of(gt1);
+		final Chromosome<G> ch1 = gt1.get(ci);
 
 		// Calculate the mean value of the gene array.
-		final MSeq<G> mean = combine(c1.get(ci), gt2.get(ci), _combiner);
+		final MSeq<G> mean = combine(ch1, gt2.get(ci), _combiner);
 
-		c1.set(ci, c1.get(ci).newInstance(mean.toISeq()));
-		population.set(individuals[0], Phenotype.of(Genotype.of(c1), generation));
+		final Genotype<G> gt = gt1.with(ci, ch1.newInstance(mean.toISeq()));
+		population.set(individuals[0], Phenotype.of(gt, generation));
 
 		return 1;
 	}
 
 	private static <G extends Gene<?, G>>
 	MSeq<G> combine(
-		final BaseSeq<G> a,
+		final Chromosome<G> a,
 		final BaseSeq<G> b,
 		final BinaryOperator<G> combiner
 	) {
-		final MSeq<G> result = MSeq.ofLength(a.length());
+		final MSeq<G> result = AbstractChromosome.copyGenes(a);
 		for (int i = a.length(); --i >= 0;) {
 			result.set(i, combiner.apply(a.get(i), b.get(i)));
 		}
 		return result;
 	}
 
+	@Override
+	protected boolean isConcurrent() {
+		return getClass() == CombineAlterer.class;
+	}
+
 	@Override
 	public String toString() {
 		return format("%s[p=%f]", getClass().getSimpleName(), _probability);
@@ -20,8 +20,10 @@
 package io.jenetics;
 
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 import static io.jenetics.util.ISeq.toISeq;
 
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -34,7 +36,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.0
+ * @version 7.2
  */
 final class CompositeAlterer<
 	G extends Gene<?, G>,
@@ -89,6 +91,31 @@ final class CompositeAlterer<
 		return result;
 	}
 
+	@Override
+	public AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Executor executor
+	) {
+		requireNonNull(executor);
+
+		AltererResult<G, C> result = new AltererResult<>(population.asISeq());
+		for (var alterer : _alterers) {
+			final AltererResult<G, C> as = alterer.alter(
+				result.population(),
+				generation,
+				executor
+			);
+
+			result = new AltererResult<>(
+				as.population(),
+				as.alterations() + result.alterations()
+			);
+		}
+
+		return result;
+	}
+
 	/**
 	 * Return the alterers this alterer consists of. The returned array is sealed
 	 * and cannot be changed.
@@ -40,7 +40,7 @@ import io.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 7.2
  */
 public abstract class Crossover<
 	G extends Gene<?, G>,
@@ -77,25 +77,20 @@ public abstract class Crossover<
 		final int chIndex = RandomRegistry.random()
 			.nextInt(min(gt1.length(), gt2.length()));
 
-		final var c1 = MSeq.of(gt1);
-		final var c2 = MSeq.of(gt2);
-		final var genes1 = MSeq.of(c1.get(chIndex));
-		final var genes2 = MSeq.of(c2.get(chIndex));
+		final var ch1 = gt1.get(chIndex);
+		final var ch2 = gt2.get(chIndex);
+		final var genes1 = AbstractChromosome.copyGenes(ch1);
+		final var genes2 = AbstractChromosome.copyGenes(ch2);
 
 		crossover(genes1, genes2);
 
-		c1.set(chIndex, c1.get(chIndex).newInstance(genes1.toISeq()));
-		c2.set(chIndex, c2.get(chIndex).newInstance(genes2.toISeq()));
+		// Only the altered chromosome is replaced, the others are shared.
+		final var c1 = gt1.with(chIndex, ch1.newInstance(genes1.toISeq()));
+		final var c2 = gt2.with(chIndex, ch2.newInstance(genes2.toISeq()));
 
 		//Creating two new Phenotypes and exchanging it with the old.
-		population.set(
-			individuals[0],
-			Phenotype.of(Genotype.of(c1), generation)
-		);
-		population.set(
-			individuals[1],
-			Phenotype.of(Genotype.of(c2), generation)
-		);
+		population.set(individuals[0], Phenotype.of(c1, generation));
+		population.set(individuals[1], Phenotype.of(c2, generation));
 
 		return order();
 	}
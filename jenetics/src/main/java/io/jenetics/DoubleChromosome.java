@@ -30,6 +30,7 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
+import java.nio.DoubleBuffer;
 import java.util.function.Function;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
@@ -38,7 +39,6 @@ import java.util.stream.Stream;
 import io.jenetics.util.DoubleRange;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
-import io.jenetics.util.MSeq;
 
 /**
  * Numeric chromosome implementation which holds 64 bit floating point numbers.
@@ -46,11 +46,13 @@ import io.jenetics.util.MSeq;
  * @see DoubleGene
  *
  * @implNote
- * This class is immutable and thread-safe.
+ * This class is immutable and thread-safe. The gene alleles are stored in a
+ * {@code double[]} array, together with the common gene range. The
+ * {@link DoubleGene} objects are created lazily, when they are accessed.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.6
- * @version 6.1
+ * @version 7.2
  */
 public class DoubleChromosome
 	extends AbstractBoundedChromosome<Double, DoubleGene>
@@ -61,6 +63,9 @@ public class DoubleChromosome
 	@Serial
 	private static final long serialVersionUID = 3L;
 
+	// The primitive gene store, if the genes have the same range.
+	private final transient DoubleGeneStore _store;
+
 	/**
 	 * Create a new chromosome from the given {@code genes} and the allowed
 	 * length range of the chromosome.
@@ -79,7 +84,8 @@ public class DoubleChromosome
 		final ISeq<DoubleGene> genes,
 		final IntRange lengthRange
 	) {
-		super(genes, lengthRange);
+		super(DoubleGeneStore.seq(genes), lengthRange);
+		_store = DoubleGeneStore.of(_genes);
 	}
 
 	@Override
@@ -122,12 +128,32 @@ public class DoubleChromosome
 	public DoubleChromosome map(final Function<? super double[], double[]> f) {
 		requireNonNull(f);
 
-		final var range = DoubleRange.of(_min, _max);
-		final var genes = DoubleStream.of(f.apply(toArray()))
-			.mapToObj(v -> DoubleGene.of(v, range))
-			.collect(ISeq.toISeq());
+		// The mapped array might be shared by the mapper function.
+		final double[] values = f.apply(toArray()).clone();
+		return newInstance(DoubleGeneStore.seq(values, _min, _max));
+	}
+
+	@Override
+	public double doubleValue(final int index) {
+		return _store != null ? _store.values[index] : get(index).doubleValue();
+	}
+
+	@Override
+	public boolean isValid() {
+		if (_store == null || !_store.isUniform()) {
+			return super.isValid();
+		}
 
-		return newInstance(genes);
+		if (_valid == null) {
+			boolean valid = Double.isFinite(_min) && Double.isFinite(_max);
+			for (int i = 0; i < _store.values.length && valid; ++i) {
+				valid = Double.isFinite(_store.values[i]) &&
+					Double.compare(_store.values[i], _min) >= 0 &&
+					Double.compare(_store.values[i], _max) < 0;
+			}
+			_valid = valid;
+		}
+		return _valid;
 	}
 
 	/**
@@ -139,7 +165,34 @@ public class DoubleChromosome
 	 * @return a sequential stream of alleles
 	 */
 	public DoubleStream doubleStream() {
-		return IntStream.range(0, length()).mapToDouble(this::doubleValue);
+		return _store != null
+			? DoubleStream.of(_store.values)
+			: IntStream.range(0, length()).mapToDouble(this::doubleValue);
+	}
+
+	/**
+	 * Return a <em>read-only</em> buffer view of the alleles of this
+	 * chromosome. In contrast to the {@link #toArray()} method, the alleles
+	 * are not copied, which makes this method the preferred way for accessing
+	 * the alleles of long chromosomes in performance critical code, e.g. in
+	 * the fitness function.
+	 *
+	 * <pre>{@code
+	 * final DoubleChromosome chromosome = ...;
+	 * final DoubleBuffer values = chromosome.buffer();
+	 * double sum = 0;
+	 * for (int i = 0; i < values.limit(); ++i) {
+	 *     sum += values.get(i);
+	 * }
+	 * }</pre>
+	 *
+	 * @since 7.2
+	 *
+	 * @return a new read-only buffer view of the chromosome alleles
+	 */
+	public DoubleBuffer buffer() {
+		final double[] values = _store != null ? _store.values : toArray();
+		return DoubleBuffer.wrap(values).asReadOnlyBuffer();
 	}
 
 	/**
@@ -161,8 +214,12 @@ public class DoubleChromosome
 			? array
 			: new double[length()];
 
-		for (int i = length(); --i >= 0;) {
-			a[i] = doubleValue(i);
+		if (_store != null) {
+			System.arraycopy(_store.values, 0, a, 0, length());
+		} else {
+			for (int i = length(); --i >= 0;) {
+				a[i] = doubleValue(i);
+			}
 		}
 
 		return a;
@@ -357,12 +414,15 @@ public class DoubleChromosome
 		final var min = in.readDouble();
 		final var max = in.readDouble();
 
-		final MSeq<DoubleGene> values = MSeq.ofLength(length);
+		final double[] values = new double[length];
 		for (int i = 0; i < length; ++i) {
-			values.set(i, DoubleGene.of(in.readDouble(), min, max));
+			values[i] = in.readDouble();
 		}
 
-		return new DoubleChromosome(values.toISeq(), lengthRange);
+		return new DoubleChromosome(
+			DoubleGeneStore.seq(values, min, max),
+			lengthRange
+		);
 	}
 
 }
@@ -33,7 +33,6 @@ import java.io.Serializable;
 import io.jenetics.util.DoubleRange;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
-import io.jenetics.util.MSeq;
 import io.jenetics.util.Mean;
 
 /**
@@ -52,7 +51,7 @@ import io.jenetics.util.Mean;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.6
- * @version 6.0
+ * @version 7.2
  */
 public final class DoubleGene
 	implements
@@ -289,9 +288,12 @@ public final class DoubleGene
 		final var random = random();
 		final var length = random.nextInt(lengthRange.min(), lengthRange.max());
 
-		return MSeq.<DoubleGene>ofLength(length)
-			.fill(() -> new DoubleGene(random.nextDouble(min, max), min, max))
-			.toISeq();
+		final double[] values = new double[length];
+		for (int i = 0; i < length; ++i) {
+			values[i] = random.nextDouble(min, max);
+		}
+
+		return DoubleGeneStore.seq(values, min, max);
 	}
 
 
@@ -19,6 +19,7 @@
  */
 package io.jenetics;
 
+import static java.util.Objects.requireNonNull;
 import static io.jenetics.internal.util.Hashes.hash;
 import static io.jenetics.internal.util.SerialIO.readInt;
 import static io.jenetics.internal.util.SerialIO.writeInt;
@@ -70,7 +71,7 @@ import io.jenetics.util.Verifiable;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 7.2
  */
 public final class Genotype<G extends Gene<?, G>>
 	implements
@@ -193,6 +194,28 @@ public final class Genotype<G extends Gene<?, G>>
 		return _valid == 1;
 	}
 
+	/**
+	 * Return a new genotype, where the chromosome at the given {@code index}
+	 * is replaced by the given {@code chromosome}. All other chromosomes are
+	 * shared with {@code this} genotype. If the given {@code chromosome} is
+	 * the very same object as the replaced one, {@code this} genotype is
+	 * returned.
+	 *
+	 * @param index the index of the chromosome to replace
+	 * @param chromosome the new chromosome
+	 * @return a genotype with the replaced chromosome
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	Genotype<G> with(final int index, final Chromosome<G> chromosome) {
+		if (_chromosomes.get(index) == chromosome) {
+			return this;
+		}
+
+		final MSeq<Chromosome<G>> chromosomes = _chromosomes.copy();
+		chromosomes.set(index, requireNonNull(chromosome));
+		return new Genotype<>(chromosomes.toISeq());
+	}
+
 	/**
 	 * Return a new, random genotype by creating new, random chromosomes (calling
 	 * the {@link Chromosome#newInstance()} method) from the chromosomes of this
@@ -36,7 +36,6 @@ import java.util.stream.Stream;
 
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
-import io.jenetics.util.MSeq;
 
 /**
  * Numeric chromosome implementation which holds 32-bit integer numbers.
@@ -44,11 +43,13 @@ import io.jenetics.util.MSeq;
  * @see IntegerGene
  *
  * @implNote
- * This class is immutable and thread-safe.
+ * This class is immutable and thread-safe. The gene alleles are stored in an
+ * {@code int[]} array, together with the common gene range. The
+ * {@link IntegerGene} objects are created lazily, when they are accessed.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz  Wilhelmstötter</a>
  * @since 2.0
- * @version 7.0
+ * @version 7.2
  */
 public class IntegerChromosome
 	extends AbstractBoundedChromosome<Integer, IntegerGene>
@@ -59,6 +60,9 @@ public class IntegerChromosome
 	@Serial
 	private static final long serialVersionUID = 3L;
 
+	// The primitive gene store, if the genes have the same range.
+	private final transient IntegerGeneStore _store;
+
 	/**
 	 * Create a new chromosome from the given {@code genes} and the allowed
 	 * length range of the chromosome.
@@ -77,7 +81,8 @@ public class IntegerChromosome
 		final ISeq<IntegerGene> genes,
 		final IntRange lengthRange
 	) {
-		super(genes, lengthRange);
+		super(IntegerGeneStore.seq(genes), lengthRange);
+		_store = IntegerGeneStore.of(_genes);
 	}
 
 	@Override
@@ -119,12 +124,41 @@ public class IntegerChromosome
 	public IntegerChromosome map(final Function<? super int[], int[]> f) {
 		requireNonNull(f);
 
-		final var range = IntRange.of(_min, _max);
-		final var genes = IntStream.of(f.apply(toArray()))
-			.mapToObj(v -> IntegerGene.of(v, range))
-			.collect(ISeq.toISeq());
+		// The mapped array might be shared by the mapper function.
+		final int[] values = f.apply(toArray()).clone();
+		return newInstance(IntegerGeneStore.seq(values, _min, _max));
+	}
+
+	@Override
+	public int intValue(final int index) {
+		return _store != null ? _store.values[index] : get(index).intValue();
+	}
+
+	@Override
+	public long longValue(final int index) {
+		return intValue(index);
+	}
 
-		return newInstance(genes);
+	@Override
+	public double doubleValue(final int index) {
+		return intValue(index);
+	}
+
+	@Override
+	public boolean isValid() {
+		if (_store == null || !_store.isUniform()) {
+			return super.isValid();
+		}
+
+		if (_valid == null) {
+			boolean valid = true;
+			for (int i = 0; i < _store.values.length && valid; ++i) {
+				valid = _store.values[i] >= _store.min &&
+					_store.values[i] < _store.max;
+			}
+			_valid = valid;
+		}
+		return _valid;
 	}
 
 	/**
@@ -136,7 +170,9 @@ public class IntegerChromosome
 	 * @return a sequential stream of alleles
 	 */
 	public IntStream intStream() {
-		return IntStream.range(0, length()).map(this::intValue);
+		return _store != null
+			? IntStream.of(_store.values)
+			: IntStream.range(0, length()).map(this::intValue);
 	}
 
 	/**
@@ -155,8 +191,12 @@ public class IntegerChromosome
 	 */
 	public int[] toArray(final int[] array) {
 		final int[] a = array.length >= length() ? array : new int[length()];
-		for (int i = length(); --i >= 0;) {
-			a[i] = intValue(i);
+		if (_store != null) {
+			System.arraycopy(_store.values, 0, a, 0, length());
+		} else {
+			for (int i = length(); --i >= 0;) {
+				a[i] = intValue(i);
+			}
 		}
 
 		return a;
@@ -360,12 +400,15 @@ public class IntegerChromosome
 		final var min = readInt(in);
 		final var max = readInt(in);
 
-		final MSeq<IntegerGene> values = MSeq.ofLength(length);
+		final int[] values = new int[length];
 		for (int i = 0; i < length; ++i) {
-			values.set(i, IntegerGene.of(readInt(in), min, max));
+			values[i] = readInt(in);
 		}
 
-		return new IntegerChromosome(values.toISeq(), lengthRange);
+		return new IntegerChromosome(
+			IntegerGeneStore.seq(values, min, max),
+			lengthRange
+		);
 	}
 
 }
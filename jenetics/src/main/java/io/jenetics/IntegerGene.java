@@ -34,7 +34,6 @@ import java.io.Serializable;
 
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
-import io.jenetics.util.MSeq;
 import io.jenetics.util.Mean;
 
 /**
@@ -53,7 +52,7 @@ import io.jenetics.util.Mean;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 2.0
- * @version 7.0
+ * @version 7.2
  */
 public final class IntegerGene
 	implements
@@ -284,9 +283,12 @@ public final class IntegerGene
 		final var random = random();
 		final var length = random.nextInt(lengthRange.min(), lengthRange.max());
 
-		return MSeq.<IntegerGene>ofLength(length)
-			.fill(() -> new IntegerGene(random.nextInt(min, max), min, max))
-			.toISeq();
+		final int[] values = new int[length];
+		for (int i = 0; i < length; ++i) {
+			values[i] = random.nextInt(min, max);
+		}
+
+		return IntegerGeneStore.seq(values, min, max);
 	}
 
 
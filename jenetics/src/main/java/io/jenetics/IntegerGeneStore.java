@@ -0,0 +1,229 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import io.jenetics.internal.collection.Array;
+import io.jenetics.internal.collection.ArrayISeq;
+import io.jenetics.util.ISeq;
+
+/**
+ * Array store of {@link IntegerGene}s, which only stores the {@code int}
+ * alleles and the common gene range. The genes are created lazily, when they
+ * are accessed. If a gene with a different range is set, the store falls back
+ * to storing the gene objects.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+final class IntegerGeneStore implements Array.Store<IntegerGene>, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	final int[] values;
+	final int min;
+	final int max;
+
+	// Only created, if genes with different ranges are stored.
+	private IntegerGene[] _genes;
+
+	private IntegerGeneStore(
+		final int[] values,
+		final int min,
+		final int max,
+		final IntegerGene[] genes
+	) {
+		this.values = requireNonNull(values);
+		this.min = min;
+		this.max = max;
+		_genes = genes;
+	}
+
+	IntegerGeneStore(final int[] values, final int min, final int max) {
+		this(values, min, max, null);
+	}
+
+	/**
+	 * Return {@code true} if all genes of this store have the common range
+	 * and the {@link #values} array is the only gene representation.
+	 *
+	 * @return {@code true} if all genes have the common range
+	 */
+	boolean isUniform() {
+		return _genes == null;
+	}
+
+	@Override
+	public IntegerGene get(final int index) {
+		return _genes != null
+			? _genes[index]
+			: IntegerGene.of(values[index], min, max);
+	}
+
+	@Override
+	public void set(final int index, final IntegerGene gene) {
+		if (_genes == null && gene.min() == min && gene.max() == max) {
+			values[index] = gene.intValue();
+		} else {
+			if (_genes == null) {
+				_genes = new IntegerGene[values.length];
+				for (int i = 0; i < values.length; ++i) {
+					_genes[i] = IntegerGene.of(values[i], min, max);
+				}
+			}
+			_genes[index] = requireNonNull(gene);
+			values[index] = gene.intValue();
+		}
+	}
+
+	@Override
+	public void swap(
+		final int from,
+		final int until,
+		final Array.Store<IntegerGene> other,
+		final int otherFrom
+	) {
+		if (other instanceof IntegerGeneStore store &&
+			_genes == null &&
+			store._genes == null &&
+			min == store.min &&
+			max == store.max)
+		{
+			for (int i = until - from; --i >= 0;) {
+				final int temp = values[i + from];
+				values[i + from] = store.values[otherFrom + i];
+				store.values[otherFrom + i] = temp;
+			}
+		} else {
+			Array.Store.super.swap(from, until, other, otherFrom);
+		}
+	}
+
+	@Override
+	public void sort(
+		final int from,
+		final int until,
+		final Comparator<? super IntegerGene> comparator
+	) {
+		if (comparator == null && _genes == null) {
+			Arrays.sort(values, from, until);
+		} else {
+			final IntegerGene[] genes = new IntegerGene[until - from];
+			for (int i = 0; i < genes.length; ++i) {
+				genes[i] = get(i + from);
+			}
+			Arrays.sort(genes, comparator);
+			for (int i = 0; i < genes.length; ++i) {
+				set(i + from, genes[i]);
+			}
+		}
+	}
+
+	@Override
+	public int length() {
+		return values.length;
+	}
+
+	@Override
+	public IntegerGeneStore copy(final int from, final int until) {
+		return new IntegerGeneStore(
+			Arrays.copyOfRange(values, from, until),
+			min,
+			max,
+			_genes != null ? Arrays.copyOfRange(_genes, from, until) : null
+		);
+	}
+
+	@Override
+	public IntegerGeneStore newInstance(final int length) {
+		return new IntegerGeneStore(new int[length], min, max);
+	}
+
+	/**
+	 * Return a new gene sequence, which uses the given {@code values} array
+	 * as gene store. The given array is not copied.
+	 *
+	 * @param values the gene alleles
+	 * @param min the minimal gene value
+	 * @param max the maximal gene value
+	 * @return a new gene sequence
+	 */
+	static ISeq<IntegerGene> seq(final int[] values, final int min, final int max) {
+		return new ArrayISeq<>(
+			Array.of(new IntegerGeneStore(values, min, max)).seal()
+		);
+	}
+
+	/**
+	 * Return a gene sequence with the same genes, which is backed by a
+	 * primitive gene store. If the given {@code genes} are already backed by
+	 * an {@code IntegerGeneStore} or the genes have different ranges, the
+	 * given sequence is returned unchanged.
+	 *
+	 * @param genes the gene sequence to convert
+	 * @return a gene sequence backed by a primitive gene store, if possible
+	 */
+	static ISeq<IntegerGene> seq(final ISeq<? extends IntegerGene> genes) {
+		requireNonNull(genes);
+		if (genes.isEmpty() || of(genes) != null) {
+			return ISeq.upcast(genes);
+		}
+
+		final int min = genes.get(0).min();
+		final int max = genes.get(0).max();
+		final int[] values = new int[genes.length()];
+		for (int i = 0; i < values.length; ++i) {
+			final IntegerGene gene = genes.get(i);
+			if (gene.min() != min || gene.max() != max) {
+				return ISeq.upcast(genes);
+			}
+			values[i] = gene.intValue();
+		}
+
+		return seq(values, min, max);
+	}
+
+	/**
+	 * Return the primitive gene store of the given sequence, if the sequence
+	 * is completely backed by an {@code IntegerGeneStore}.
+	 *
+	 * @param genes the gene sequence
+	 * @return the gene store of the given sequence or {@code null}, if the
+	 *         sequence isn't backed by an {@code IntegerGeneStore}
+	 */
+	static IntegerGeneStore of(final ISeq<? extends IntegerGene> genes) {
+		if (genes instanceof ArrayISeq<? extends IntegerGene> seq &&
+			seq.array.store() instanceof IntegerGeneStore store &&
+			seq.array.length() == store.length())
+		{
+			return store;
+		}
+		return null;
+	}
+
+}
@@ -136,6 +136,11 @@ public class IntermediateCrossover<
 		return 2;
 	}
 
+	@Override
+	protected boolean isConcurrent() {
+		return getClass() == IntermediateCrossover.class;
+	}
+
 	@Override
 	public String toString() {
 		return format("%s[p=%f]", getClass().getSimpleName(), _probability);
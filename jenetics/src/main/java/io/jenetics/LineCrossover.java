@@ -126,6 +126,11 @@ public class LineCrossover<
 		return changed ? 2 : 0;
 	}
 
+	@Override
+	protected boolean isConcurrent() {
+		return getClass() == LineCrossover.class;
+	}
+
 	@Override
 	public String toString() {
 		return format("%s[p=%f]", getClass().getSimpleName(), _probability);
@@ -40,7 +40,6 @@ import java.util.stream.Stream;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
 import io.jenetics.util.LongRange;
-import io.jenetics.util.MSeq;
 
 /**
  * Numeric chromosome implementation which holds 64-bit integer numbers.
@@ -48,11 +47,13 @@ import io.jenetics.util.MSeq;
  * @see LongGene
  *
  * @implNote
- * This class is immutable and thread-safe.
+ * This class is immutable and thread-safe. The gene alleles are stored in a
+ * {@code long[]} array, together with the common gene range. The
+ * {@link LongGene} objects are created lazily, when they are accessed.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.6
- * @version 6.1
+ * @version 7.2
  */
 public class LongChromosome
 	extends AbstractBoundedChromosome<Long, LongGene>
@@ -63,6 +64,9 @@ public class LongChromosome
 	@Serial
 	private static final long serialVersionUID = 3L;
 
+	// The primitive gene store, if the genes have the same range.
+	private final transient LongGeneStore _store;
+
 	/**
 	 * Create a new chromosome from the given {@code genes} and the allowed
 	 * length range of the chromosome.
@@ -81,7 +85,8 @@ public class LongChromosome
 		final ISeq<LongGene> genes,
 		final IntRange lengthRange
 	) {
-		super(genes, lengthRange);
+		super(LongGeneStore.seq(genes), lengthRange);
+		_store = LongGeneStore.of(_genes);
 	}
 
 	@Override
@@ -123,12 +128,41 @@ public class LongChromosome
 	public LongChromosome map(final Function<? super long[], long[]> f) {
 		requireNonNull(f);
 
-		final var range = LongRange.of(_min, _max);
-		final var genes = LongStream.of(f.apply(toArray()))
-			.mapToObj(v -> LongGene.of(v, range))
-			.collect(ISeq.toISeq());
+		// The mapped array might be shared by the mapper function.
+		final long[] values = f.apply(toArray()).clone();
+		return newInstance(LongGeneStore.seq(values, _min, _max));
+	}
+
+	@Override
+	public int intValue(final int index) {
+		return (int)longValue(index);
+	}
+
+	@Override
+	public long longValue(final int index) {
+		return _store != null ? _store.values[index] : get(index).longValue();
+	}
 
-		return newInstance(genes);
+	@Override
+	public double doubleValue(final int index) {
+		return longValue(index);
+	}
+
+	@Override
+	public boolean isValid() {
+		if (_store == null || !_store.isUniform()) {
+			return super.isValid();
+		}
+
+		if (_valid == null) {
+			boolean valid = true;
+			for (int i = 0; i < _store.values.length && valid; ++i) {
+				valid = _store.values[i] >= _store.min &&
+					_store.values[i] < _store.max;
+			}
+			_valid = valid;
+		}
+		return _valid;
 	}
 
 	/**
@@ -140,7 +174,9 @@ public class LongChromosome
 	 * @return a sequential stream of alleles
 	 */
 	public LongStream longStream() {
-		return IntStream.range(0, length()).mapToLong(this::longValue);
+		return _store != null
+			? LongStream.of(_store.values)
+			: IntStream.range(0, length()).mapToLong(this::longValue);
 	}
 
 	/**
@@ -159,8 +195,12 @@ public class LongChromosome
 	 */
 	public long[] toArray(final long[] array) {
 		final long[] a = array.length >= length() ? array : new long[length()];
-		for (int i = length(); --i >= 0;) {
-			a[i] = longValue(i);
+		if (_store != null) {
+			System.arraycopy(_store.values, 0, a, 0, length());
+		} else {
+			for (int i = length(); --i >= 0;) {
+				a[i] = longValue(i);
+			}
 		}
 
 		return a;
@@ -367,12 +407,15 @@ public class LongChromosome
 		final var min = readLong(in);
 		final var max = readLong(in);
 
-		final MSeq<LongGene> values = MSeq.ofLength(length);
+		final long[] values = new long[length];
 		for (int i = 0; i < length; ++i) {
-			values.set(i, LongGene.of(readLong(in), min, max));
+			values[i] = readLong(in);
 		}
 
-		return new LongChromosome(values.toISeq(), lengthRange);
+		return new LongChromosome(
+			LongGeneStore.seq(values, min, max),
+			lengthRange
+		);
 	}
 
 }
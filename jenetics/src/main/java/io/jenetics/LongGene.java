@@ -35,7 +35,6 @@ import java.io.Serializable;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
 import io.jenetics.util.LongRange;
-import io.jenetics.util.MSeq;
 import io.jenetics.util.Mean;
 
 /**
@@ -54,7 +53,7 @@ import io.jenetics.util.Mean;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.6
- * @version 6.1
+ * @version 7.2
  */
 public final class LongGene
 	implements
@@ -285,9 +284,12 @@ public final class LongGene
 		final var random = random();
 		final var length = random.nextInt(lengthRange.min(), lengthRange.max());
 
-		return MSeq.<LongGene>ofLength(length)
-			.fill(() -> LongGene.of(random.nextLong(min, max), min, max))
-			.toISeq();
+		final long[] values = new long[length];
+		for (int i = 0; i < length; ++i) {
+			values[i] = random.nextLong(min, max);
+		}
+
+		return LongGeneStore.seq(values, min, max);
 	}
 
 
@@ -57,4 +57,9 @@ public class MeanAlterer<
 		this(0.05);
 	}
 
+	@Override
+	protected boolean isConcurrent() {
+		return getClass() == MeanAlterer.class;
+	}
+
 }
@@ -23,8 +23,6 @@ import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
 import io.jenetics.util.ISeq;
-import io.jenetics.util.MSeq;
-import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
 
 /**
@@ -35,7 +33,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.0
+ * @version 7.2
  */
 public final class MonteCarloSelector<
 	G extends Gene<?, G>,
@@ -62,21 +60,18 @@ public final class MonteCarloSelector<
 			));
 		}
 
-		final MSeq<Phenotype<G, C>> selection;
+		final ISeq<Phenotype<G, C>> selection;
 		if (count > 0 && !population.isEmpty()) {
-			selection = MSeq.ofLength(count);
-			final var random = RandomRegistry.random();
 			final int size = population.size();
-
-			for (int i = 0; i < count; ++i) {
-				final int pos = random.nextInt(size);
-				selection.set(i, population.get(pos));
-			}
+			selection = Selections.sample(
+				count,
+				random -> population.get(random.nextInt(size))
+			);
 		} else {
-			selection = MSeq.empty();
+			selection = ISeq.empty();
 		}
 
-		return selection.toISeq();
+		return selection;
 	}
 
 	@Override
@@ -148,6 +148,11 @@ public class MultiPointCrossover<
 		}
 	}
 
+	@Override
+	protected boolean isConcurrent() {
+		return getClass() == MultiPointCrossover.class;
+	}
+
 	@Override
 	public String toString() {
 		return format(
@@ -22,10 +22,11 @@ package io.jenetics;
 import static java.lang.Math.pow;
 import static java.lang.String.format;
 
+import java.util.concurrent.Executor;
 import java.util.random.RandomGenerator;
 
 import io.jenetics.internal.math.Probabilities;
-import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
 
@@ -65,7 +66,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 7.2
  */
 public class Mutator<
 	G extends Gene<?, G>,
@@ -129,6 +130,24 @@ public class Mutator<
 		);
 	}
 
+	/**
+	 * Mutates the given population concurrently. Since every individual is
+	 * mutated independently, the population is split into chunks, which are
+	 * altered with {@link #alter(Seq, long)} in parallel. Every chunk uses its
+	 * own random generator, derived from the {@link RandomRegistry#random()}
+	 * of the calling thread.
+	 *
+	 * @since 7.2
+	 */
+	@Override
+	public AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Executor executor
+	) {
+		return Partitions.alter(this, population, generation, executor);
+	}
+
 	/**
 	 * Mutates the given phenotype.
 	 *
@@ -169,15 +188,27 @@ public class Mutator<
 		final RandomGenerator random
 	) {
 		final int P = Probabilities.toInt(p);
-		final ISeq<MutatorResult<Chromosome<G>>> result = genotype.stream()
-			.map(gt -> random.nextInt() < P
-				? mutate(gt, p, random)
-				: new MutatorResult<>(gt, 0))
-			.collect(ISeq.toISeq());
+
+		// The chromosomes are only copied, if one of them has been altered.
+		MSeq<Chromosome<G>> chromosomes = null;
+		int mutations = 0;
+		for (int i = 0, n = genotype.length(); i < n; ++i) {
+			if (random.nextInt() < P) {
+				final var chromosome = genotype.get(i);
+				final var result = mutate(chromosome, p, random);
+				if (result.result() != chromosome) {
+					if (chromosomes == null) {
+						chromosomes = MSeq.of(genotype);
+					}
+					chromosomes.set(i, result.result());
+				}
+				mutations += result.mutations();
+			}
+		}
 
 		return new MutatorResult<>(
-			Genotype.of(result.map(MutatorResult::result)),
-			result.stream().mapToInt(MutatorResult::mutations).sum()
+			chromosomes != null ? Genotype.of(chromosomes) : genotype,
+			mutations
 		);
 	}
 
@@ -197,16 +228,23 @@ public class Mutator<
 		final RandomGenerator random
 	) {
 		final int P = Probabilities.toInt(p);
-		final ISeq<MutatorResult<G>> result = chromosome.stream()
-			.map(gene -> random.nextInt() < P
-				? new MutatorResult<>(mutate(gene, random), 1)
-				: new MutatorResult<>(gene, 0))
-			.collect(ISeq.toISeq());
 
-		return new MutatorResult<>(
-			chromosome.newInstance(result.map(MutatorResult::result)),
-			result.stream().mapToInt(MutatorResult::mutations).sum()
-		);
+		// The genes are only copied, if at least one gene is mutated.
+		MSeq<G> genes = null;
+		int mutations = 0;
+		for (int i = 0, n = chromosome.length(); i < n; ++i) {
+			if (random.nextInt() < P) {
+				if (genes == null) {
+					genes = AbstractChromosome.copyGenes(chromosome);
+				}
+				genes.set(i, mutate(genes.get(i), random));
+				++mutations;
+			}
+		}
+
+		return genes != null
+			? new MutatorResult<>(chromosome.newInstance(genes.toISeq()), mutations)
+			: new MutatorResult<>(chromosome, 0);
 	}
 
 	/**
@@ -22,6 +22,7 @@ package io.jenetics;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
+import java.util.concurrent.Executor;
 import java.util.stream.IntStream;
 
 import io.jenetics.internal.util.Requires;
@@ -67,7 +68,7 @@ import io.jenetics.util.Seq;
  * of the needed <em>sectioning</em> of the genotype.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 7.2
  * @since 5.0
  */
 public final class PartialAlterer<
@@ -88,11 +89,33 @@ public final class PartialAlterer<
 	@Override
 	public AltererResult<G, C>
 	alter(final Seq<Phenotype<G, C>> population, final long generation) {
+		return alter(population, generation, _alterer);
+	}
+
+	@Override
+	public AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Executor executor
+	) {
+		requireNonNull(executor);
+		return alter(
+			population,
+			generation,
+			(pop, gen) -> _alterer.alter(pop, gen, executor)
+		);
+	}
+
+	private AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Alterer<G, C> alterer
+	) {
 		if (!population.isEmpty()) {
 			_projection.checkIndices(population.get(0).genotype().length());
 
 			final var projectedPopulation  = _projection.project(population);
-			final var result = _alterer.alter(projectedPopulation, generation);
+			final var result = alterer.alter(projectedPopulation, generation);
 
 			return new AltererResult<>(
 				_projection.merge(result.population(), population),
@@ -219,15 +242,22 @@ public final class PartialAlterer<
 			final Phenotype<G, C> projection,
 			final Phenotype<G, C> pt
 		) {
-			final var ch = MSeq.of(pt.genotype());
+			// The chromosomes are only copied, if one of them has been altered.
+			MSeq<Chromosome<G>> ch = null;
 			for (int i = 0; i < indices.length; ++i) {
-				ch.set(indices[i], projection.genotype().get(i));
+				final var altered = projection.genotype().get(i);
+				final var original = pt.genotype().get(indices[i]);
+				if (altered != original && !altered.equals(original)) {
+					if (ch == null) {
+						ch = MSeq.of(pt.genotype());
+					}
+					ch.set(indices[i], altered);
+				}
 			}
-			final var gt = Genotype.of(ch);
 
-			return gt.equals(pt.genotype())
-				? pt
-				: Phenotype.of(gt, pt.generation());
+			return ch != null
+				? Phenotype.of(Genotype.of(ch), pt.generation())
+				: pt;
 		}
 
 	}
@@ -124,6 +124,11 @@ public class PartiallyMatchedCrossover<T, C extends Comparable<? super C>>
 		}
 	}
 
+	@Override
+	protected boolean isConcurrent() {
+		return getClass() == PartiallyMatchedCrossover.class;
+	}
+
 	@Override
 	public String toString() {
 		return format("%s[p=%f]", getClass().getSimpleName(), _probability);
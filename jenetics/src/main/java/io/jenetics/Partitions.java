@@ -0,0 +1,189 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+import java.util.random.RandomGenerator;
+
+import io.jenetics.internal.math.Randoms;
+import io.jenetics.internal.util.Concurrency;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+
+/**
+ * Helper methods for the partitioned, concurrent alteration and selection of
+ * populations. Every partition task is executed with its own random generator,
+ * which is derived, in partition order, from the {@link RandomRegistry#random()}
+ * of the calling thread. The result is therefore independent of the thread
+ * scheduling of the used executor.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+final class Partitions {
+
+	/**
+	 * The number of individuals (or recombinations) processed by one task.
+	 */
+	static final int CHUNK_SIZE = 256;
+
+	private Partitions() {
+	}
+
+	/**
+	 * Return the number of chunks needed for the given {@code size}.
+	 *
+	 * @param size the number of elements
+	 * @return the number of chunks
+	 */
+	static int chunks(final int size) {
+		return (size + CHUNK_SIZE - 1)/CHUNK_SIZE;
+	}
+
+	/**
+	 * Alters the given {@code population} in chunks of {@link #CHUNK_SIZE}
+	 * individuals, by calling {@link Alterer#alter(Seq, long)} for every
+	 * chunk. This is only valid for alterers, which alter every individual
+	 * independently of the others.
+	 *
+	 * @param alterer the alterer to apply to every chunk
+	 * @param population the population to alter
+	 * @param generation the current generation
+	 * @param executor the executor used for altering the chunks
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return the merged alterer result
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	AltererResult<G, C> alter(
+		final Alterer<G, C> alterer,
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Executor executor
+	) {
+		requireNonNull(executor);
+
+		final int chunks = chunks(population.length());
+		if (chunks <= 1) {
+			return alterer.alter(population, generation);
+		}
+
+		final MSeq<Phenotype<G, C>> result = MSeq.ofLength(population.length());
+		final int[] alterations = new int[chunks];
+		execute(chunks, chunk -> {
+			final int start = chunk*CHUNK_SIZE;
+			final int end = min(start + CHUNK_SIZE, population.length());
+
+			final AltererResult<G, C> altered =
+				alterer.alter(population.subSeq(start, end), generation);
+			for (int i = start; i < end; ++i) {
+				result.set(i, altered.population().get(i - start));
+			}
+			alterations[chunk] = altered.alterations();
+		}, executor);
+
+		int count = 0;
+		for (int alteration : alterations) {
+			count += alteration;
+		}
+		return new AltererResult<>(result.toISeq(), count);
+	}
+
+	/**
+	 * Executes the given {@code task} for every index in the range
+	 * {@code [0, tasks)}. The calling thread takes part in the execution,
+	 * which makes this method deadlock free, even when called from a thread
+	 * of the given {@code executor}. The method returns when all tasks has
+	 * been finished.
+	 *
+	 * @param tasks the number of tasks to execute
+	 * @param task the task to execute for every index
+	 * @param executor the executor used for the task execution
+	 * @throws CancellationException if the calling thread has been
+	 *         interrupted while waiting for the tasks
+	 */
+	static void execute(
+		final int tasks,
+		final IntConsumer task,
+		final Executor executor
+	) {
+		requireNonNull(task);
+		requireNonNull(executor);
+
+		final RandomGenerator random = RandomRegistry.random();
+		final RandomGenerator[] generators = new RandomGenerator[tasks];
+		for (int i = 0; i < tasks; ++i) {
+			generators[i] = Randoms.split(random);
+		}
+
+		final AtomicInteger next = new AtomicInteger();
+		final CountDownLatch latch = new CountDownLatch(tasks);
+		final AtomicReference<Throwable> error = new AtomicReference<>();
+
+		final Runnable worker = () -> {
+			int index;
+			while ((index = next.getAndIncrement()) < tasks) {
+				final int i = index;
+				try {
+					if (error.get() == null) {
+						RandomRegistry.using(generators[i], r -> task.accept(i));
+					}
+				} catch (Throwable e) {
+					error.compareAndSet(null, e);
+				} finally {
+					latch.countDown();
+				}
+			}
+		};
+
+		for (int i = 1, n = min(tasks, Concurrency.CORES); i < n; ++i) {
+			executor.execute(worker);
+		}
+		worker.run();
+
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw (CancellationException)new CancellationException(e.getMessage())
+				.initCause(e);
+		}
+
+		final Throwable e = error.get();
+		if (e instanceof RuntimeException re) {
+			throw re;
+		} else if (e instanceof Error err) {
+			throw err;
+		} else if (e != null) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
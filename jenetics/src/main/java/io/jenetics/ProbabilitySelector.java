@@ -31,9 +31,7 @@ import java.util.function.Function;
 import io.jenetics.internal.math.DoubleAdder;
 import io.jenetics.internal.util.Arrays;
 import io.jenetics.util.ISeq;
-import io.jenetics.util.MSeq;
 import io.jenetics.util.ProxySorter;
-import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
 
 /**
@@ -51,7 +49,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 7.2
  */
 public abstract class ProbabilitySelector<
 	G extends Gene<?, G>,
@@ -107,12 +105,10 @@ public abstract class ProbabilitySelector<
 			));
 		}
 
-		final MSeq<Phenotype<G, C>> selection = MSeq
-			.ofLength(population.isEmpty() ? 0 : count);
-
+		ISeq<Phenotype<G, C>> selection = ISeq.empty();
 		if (count > 0 && !population.isEmpty()) {
 			final Seq<Phenotype<G, C>> pop = _sorted
-				? population.asISeq().copy().sort(POPULATION_COMPARATOR)
+				? Selections.sort(population, POPULATION_COMPARATOR)
 				: population;
 
 
@@ -125,11 +121,13 @@ public abstract class ProbabilitySelector<
 
 			incremental(prob);
 
-			final var random = RandomRegistry.random();
-			selection.fill(() -> pop.get(indexOf(prob, random.nextDouble())));
+			selection = Selections.sample(
+				count,
+				random -> pop.get(indexOf(prob, random.nextDouble()))
+			);
 		}
 
-		return selection.toISeq();
+		return selection;
 	}
 
 	/**
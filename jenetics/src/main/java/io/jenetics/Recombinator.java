@@ -19,9 +19,13 @@
  */
 package io.jenetics;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 import static io.jenetics.internal.math.Randoms.indexes;
 
+import java.util.concurrent.Executor;
 import java.util.random.RandomGenerator;
 
 import io.jenetics.internal.math.Subset;
@@ -51,7 +55,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 7.2
  */
 public abstract class Recombinator<
 	G extends Gene<?, G>,
@@ -116,6 +120,129 @@ public abstract class Recombinator<
 		return result;
 	}
 
+	/**
+	 * Recombines the given population concurrently. The recombination
+	 * partners are chosen from the whole population, exactly as in the
+	 * serial {@link #alter(Seq, long)} method, by the calling thread. The
+	 * recombinations are then scheduled in <em>rounds</em>. Recombinations
+	 * which share an individual are executed in different rounds, in their
+	 * original order, and all recombinations of one round are executed in
+	 * parallel. This guarantees the same semantics as the serial
+	 * recombination, also for partners which are not in the same partition
+	 * of the population. If the recombinator doesn't support the concurrent
+	 * recombination, {@link #isConcurrent()} returns {@code false}, the
+	 * population is recombined serially, with {@link #alter(Seq, long)}.
+	 *
+	 * @since 7.2
+	 */
+	@Override
+	public final AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Executor executor
+	) {
+		requireNonNull(executor);
+		if (!isConcurrent()) {
+			return alter(population, generation);
+		}
+		if (population.size() < 2) {
+			return new AltererResult<>(population.asISeq());
+		}
+
+		final var random = RandomRegistry.random();
+		final int size = population.size();
+		final int order = Math.min(_order, size);
+
+		final int[][] recombinations = indexes(random, size, _probability)
+			.mapToObj(i -> individuals(i, size, order, random))
+			.toArray(int[][]::new);
+
+		final MSeq<Phenotype<G, C>> pop = MSeq.<Phenotype<G, C>>ofLength(size)
+			.setAll(population);
+
+		int count = 0;
+		for (int[] round : rounds(recombinations, size)) {
+			final int chunks = Partitions.chunks(round.length);
+			final int[] counts = new int[chunks];
+
+			Partitions.execute(chunks, chunk -> {
+				final int start = chunk*Partitions.CHUNK_SIZE;
+				final int end = min(start + Partitions.CHUNK_SIZE, round.length);
+				for (int i = start; i < end; ++i) {
+					counts[chunk] += recombine(
+						pop, recombinations[round[i]], generation
+					);
+				}
+			}, executor);
+
+			for (int c : counts) {
+				count += c;
+			}
+		}
+
+		return new AltererResult<>(pop.toISeq(), count);
+	}
+
+	/**
+	 * Return {@code true} if the {@link #recombine(MSeq, int[], long)} method
+	 * of this recombinator can be called concurrently, for disjoint
+	 * individuals. Only then the population is recombined concurrently by
+	 * the {@link #alter(Seq, long, Executor)} method. The default
+	 * implementation returns {@code false}, which is the right choice for
+	 * recombinators with mutable state. The recombinators of the library
+	 * return {@code true}, but not their subclasses.
+	 *
+	 * @since 7.2
+	 *
+	 * @return {@code true} if the recombination can be executed concurrently
+	 */
+	protected boolean isConcurrent() {
+		return false;
+	}
+
+	/*
+	 * Assigns the given recombinations to rounds. A recombination is executed
+	 * one round after the last recombination, which shares one of its
+	 * individuals. The recombinations of one round are therefore disjoint.
+	 * Returns the recombination indexes for every round.
+	 */
+	static int[][] rounds(final int[][] recombinations, final int size) {
+		final int[] last = new int[size];
+		final int[] rounds = new int[recombinations.length];
+
+		int count = 0;
+		for (int i = 0; i < recombinations.length; ++i) {
+			int round = 0;
+			for (int individual : recombinations[i]) {
+				round = max(round, last[individual]);
+			}
+			++round;
+			for (int individual : recombinations[i]) {
+				last[individual] = round;
+			}
+
+			rounds[i] = round;
+			count = max(count, round);
+		}
+
+		final int[] lengths = new int[count];
+		for (int round : rounds) {
+			++lengths[round - 1];
+		}
+
+		final int[][] result = new int[count][];
+		for (int i = 0; i < count; ++i) {
+			result[i] = new int[lengths[i]];
+			lengths[i] = 0;
+		}
+		for (int i = 0; i < rounds.length; ++i) {
+			final int round = rounds[i] - 1;
+			result[round][lengths[round]++] = i;
+		}
+
+		return result;
+	}
+
 	static int[] individuals(
 		final int index,
 		final int size,
@@ -136,8 +263,12 @@ public abstract class Recombinator<
 	}
 
 	/**
-	 * Recombination template method. This method is called 0 to n times. It is
-	 * guaranteed that this method is only called by one thread.
+	 * Recombination template method. This method is called 0 to n times. For
+	 * the concurrent alteration, {@link #alter(Seq, long, Executor)}, this
+	 * method is called concurrently, but never for the same individuals, if
+	 * {@link #isConcurrent()} returns {@code true}. The
+	 * random generator, returned by {@link RandomRegistry#random()}, is not
+	 * shared between concurrent calls.
 	 *
 	 * @param population the population to recombine
 	 * @param individuals the array with the indexes of the individuals which
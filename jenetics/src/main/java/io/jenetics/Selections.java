@@ -0,0 +1,261 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import io.jenetics.internal.util.IntComparator;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.ProxySorter;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+
+/**
+ * Helper methods for selectors, which are executed concurrently for big
+ * populations. The concurrent execution is enabled automatically, if the
+ * population size (or the selection count) is greater or equal than
+ * {@link #PARALLEL_THRESHOLD}. The threshold can be changed with the
+ * {@code io.jenetics.selection.parallelThreshold} system property. The
+ * concurrent tasks are executed by the common {@link ForkJoinPool}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+final class Selections {
+
+	/**
+	 * The population size (selection count), from which on the selection is
+	 * performed concurrently.
+	 */
+	static final int PARALLEL_THRESHOLD = Env.parallelThreshold;
+
+	/**
+	 * The number of elements processed by one task.
+	 */
+	static final int CHUNK_SIZE = 4_096;
+
+	private Selections() {
+	}
+
+	/**
+	 * Return a copy of the given {@code seq}, stable sorted with the given
+	 * {@code comparator}. Sequences with at least {@link #PARALLEL_THRESHOLD}
+	 * elements are sorted concurrently.
+	 *
+	 * @param seq the sequence to sort
+	 * @param comparator the element comparator
+	 * @param <T> the element type
+	 * @return a sorted copy of the given sequence
+	 */
+	static <T> MSeq<T> sort(
+		final Seq<T> seq,
+		final Comparator<? super T> comparator
+	) {
+		if (seq.size() < PARALLEL_THRESHOLD) {
+			return seq.asISeq().copy().sort(comparator);
+		}
+
+		@SuppressWarnings("unchecked")
+		final T[] array = (T[])seq.toArray();
+		Arrays.parallelSort(array, comparator);
+		return MSeq.of(array);
+	}
+
+	/**
+	 * Return the {@code k} smallest elements, according to the given
+	 * {@code comparator}, in ascending order. The result is the same as the
+	 * first {@code k} elements of the stable sorted sequence. For sequences
+	 * with at least {@link #PARALLEL_THRESHOLD} elements, the sequence is
+	 * split into chunks and the {@code k} smallest elements of every chunk
+	 * are determined concurrently with a <em>quick-select</em> (nth-element)
+	 * algorithm. The full sequence is only sorted if {@code k} is in the
+	 * order of the sequence size.
+	 *
+	 * @param seq the sequence to select the elements from
+	 * @param k the number of elements to select
+	 * @param comparator the element comparator
+	 * @param <T> the element type
+	 * @return the {@code min(k, seq.size())} smallest elements
+	 */
+	static <T> ISeq<T> smallest(
+		final Seq<T> seq,
+		final int k,
+		final Comparator<? super T> comparator
+	) {
+		final int size = seq.size();
+		final int count = min(k, size);
+
+		if (size < PARALLEL_THRESHOLD || count*4 >= size) {
+			return sort(seq, comparator).subSeq(0, count).toISeq();
+		}
+
+		@SuppressWarnings("unchecked")
+		final T[] array = (T[])seq.toArray();
+
+		// Total order, which breaks ties by the element index.
+		final IntComparator cmp = (i, j) -> {
+			final int result = comparator.compare(array[i], array[j]);
+			return result != 0 ? result : Integer.compare(i, j);
+		};
+
+		final int chunk = max(CHUNK_SIZE, 4*count);
+		final int chunks = (size + chunk - 1)/chunk;
+		final int[] candidates = IntStream.range(0, chunks)
+			.parallel()
+			.flatMap(c -> {
+				final int from = c*chunk;
+				final int to = min(from + chunk, size);
+				final int[] indexes = IntStream.range(from, to).toArray();
+				select(indexes, min(count, indexes.length), cmp);
+				return Arrays.stream(indexes, 0, min(count, indexes.length));
+			})
+			.toArray();
+
+		select(candidates, count, cmp);
+		final int[] proxy = ProxySorter.sort(
+			candidates,
+			count,
+			(a, i, j) -> cmp.compare(a[i], a[j])
+		);
+
+		final MSeq<T> result = MSeq.ofLength(count);
+		for (int i = 0; i < count; ++i) {
+			result.set(i, array[candidates[proxy[i]]]);
+		}
+		return result.toISeq();
+	}
+
+	/**
+	 * Rearranges the given {@code indexes}, so that the first {@code k}
+	 * elements are the smallest ones, according to the given comparator.
+	 * The comparator must define a total order.
+	 *
+	 * @param indexes the indexes to rearrange
+	 * @param k the number of smallest elements
+	 * @param cmp the index comparator
+	 */
+	static void select(final int[] indexes, final int k, final IntComparator cmp) {
+		if (k <= 0 || k >= indexes.length) {
+			return;
+		}
+
+		final int nth = k - 1;
+		int lo = 0;
+		int hi = indexes.length - 1;
+		while (lo < hi) {
+			final int pivot = median(
+				indexes[lo], indexes[(lo + hi) >>> 1], indexes[hi], cmp
+			);
+
+			int i = lo;
+			int j = hi;
+			while (i <= j) {
+				while (cmp.compare(indexes[i], pivot) < 0) ++i;
+				while (cmp.compare(indexes[j], pivot) > 0) --j;
+				if (i <= j) {
+					final int temp = indexes[i];
+					indexes[i] = indexes[j];
+					indexes[j] = temp;
+					++i;
+					--j;
+				}
+			}
+
+			if (nth <= j) {
+				hi = j;
+			} else if (nth >= i) {
+				lo = i;
+			} else {
+				return;
+			}
+		}
+	}
+
+	private static int median(
+		final int a,
+		final int b,
+		final int c,
+		final IntComparator cmp
+	) {
+		if (cmp.compare(a, b) < 0) {
+			return cmp.compare(b, c) < 0 ? b : cmp.compare(a, c) < 0 ? c : a;
+		} else {
+			return cmp.compare(a, c) < 0 ? a : cmp.compare(b, c) < 0 ? c : b;
+		}
+	}
+
+	/**
+	 * Return {@code count} elements, created by the given {@code sampler}.
+	 * If the {@code count} is at least {@link #PARALLEL_THRESHOLD}, the
+	 * elements are sampled concurrently, in chunks. Every chunk uses its own
+	 * random generator, which is derived from the
+	 * {@link RandomRegistry#random()} of the calling thread.
+	 *
+	 * @param count the number of elements to sample
+	 * @param sampler the element sampler
+	 * @param <T> the element type
+	 * @return the sampled elements
+	 */
+	static <T> ISeq<T> sample(
+		final int count,
+		final Function<? super RandomGenerator, ? extends T> sampler
+	) {
+		final MSeq<T> result = MSeq.ofLength(count);
+
+		if (count < PARALLEL_THRESHOLD) {
+			final var random = RandomRegistry.random();
+			result.fill(() -> sampler.apply(random));
+		} else {
+			final int chunks = (count + CHUNK_SIZE - 1)/CHUNK_SIZE;
+			Partitions.execute(chunks, chunk -> {
+				final var random = RandomRegistry.random();
+				final int end = min(count, (chunk + 1)*CHUNK_SIZE);
+				for (int i = chunk*CHUNK_SIZE; i < end; ++i) {
+					result.set(i, sampler.apply(random));
+				}
+			}, ForkJoinPool.commonPool());
+		}
+
+		return result.toISeq();
+	}
+
+	@SuppressWarnings("removal")
+	private static final class Env {
+		private static final int parallelThreshold = max(
+			java.security.AccessController.doPrivileged(
+				(java.security.PrivilegedAction<Integer>)() -> Integer.getInteger(
+					"io.jenetics.selection.parallelThreshold",
+					32_768
+				)),
+			1
+		);
+	}
+
+}
@@ -99,6 +99,11 @@ public class SinglePointCrossover<
 		that.swap(index, min(that.length(), other.length()), other, index);
 	}
 
+	@Override
+	protected boolean isConcurrent() {
+		return getClass() == SinglePointCrossover.class;
+	}
+
 	@Override
 	public String toString() {
 		return format("%s[p=%f]", getClass().getSimpleName(), _probability);
@@ -46,7 +46,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.0
+ * @version 7.2
  */
 public class StochasticUniversalSelector<
 	G extends Gene<?, G>,
@@ -84,7 +84,7 @@ public class StochasticUniversalSelector<
 		final MSeq<Phenotype<G, N>> selection = MSeq.ofLength(count);
 
 		final Seq<Phenotype<G, N>> pop = _sorted
-			? population.asISeq().copy().sort(POPULATION_COMPARATOR)
+			? Selections.sort(population, POPULATION_COMPARATOR)
 			: population;
 
 		final double[] probabilities = probabilities(pop, count, opt);
@@ -27,8 +27,6 @@ import java.util.random.RandomGenerator;
 import java.util.stream.Stream;
 
 import io.jenetics.util.ISeq;
-import io.jenetics.util.MSeq;
-import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
 
 /**
@@ -45,7 +43,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 7.2
  */
 public class TournamentSelector<
 	G extends Gene<?, G>,
@@ -127,12 +125,9 @@ public class TournamentSelector<
 			));
 		}
 
-		final var random = RandomRegistry.random();
 		return population.isEmpty()
 			? ISeq.empty()
-			: MSeq.<Phenotype<G, C>>ofLength(count)
-				.fill(() -> select(population, opt, random))
-				.toISeq();
+			: Selections.sample(count, random -> select(population, opt, random));
 	}
 
 	private Phenotype<G, C> select(
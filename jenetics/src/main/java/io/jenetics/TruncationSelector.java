@@ -39,7 +39,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.0
+ * @version 7.2
  */
 public final class TruncationSelector<
 	G extends Gene<?, G>,
@@ -83,7 +83,8 @@ public final class TruncationSelector<
 	 * This method sorts the population in descending order while calculating
 	 * the selection probabilities. If the selection size is greater the the
 	 * population size, the whole population is duplicated until the desired
-	 * sample size is reached.
+	 * sample size is reached. For big populations, the best individuals are
+	 * determined concurrently, with a partial <em>top-k</em> selection.
 	 *
 	 * @throws NullPointerException if the {@code population} or {@code opt} is
 	 *         {@code null}.
@@ -107,15 +108,17 @@ public final class TruncationSelector<
 			.ofLength(population.isEmpty() ? 0 : count);
 
 		if (count > 0 && !population.isEmpty()) {
-			final MSeq<Phenotype<G, C>> copy = population.asISeq().copy();
-			copy.sort((a, b) ->
-				opt.<C>descending().compare(a.fitness(), b.fitness()));
+			final ISeq<Phenotype<G, C>> best = Selections.smallest(
+				population,
+				min(count, _n),
+				(a, b) -> opt.<C>descending().compare(a.fitness(), b.fitness())
+			);
 
 			int size = count;
 			do {
-				final int length = min(min(copy.size(), size), _n);
+				final int length = min(best.size(), size);
 				for (int i = 0; i < length; ++i) {
-					selection.set((count - size) + i, copy.get(i));
+					selection.set((count - size) + i, best.get(i));
 				}
 
 				size -= length;
@@ -117,4 +117,9 @@ public class UniformCrossover<
 			.count();
 	}
 
+	@Override
+	protected boolean isConcurrent() {
+		return getClass() == UniformCrossover.class;
+	}
+
 }
@@ -0,0 +1,569 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.engine.CheckpointWriter.EVOLUTION_DELTA;
+import static io.jenetics.engine.CheckpointWriter.EVOLUTION_RESULT;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Checkpoints.Compression;
+import io.jenetics.util.ISeq;
+
+/**
+ * Evolution interceptor, which writes checkpoints of the evolution results
+ * every {@code n} generations or after a given time interval. The checkpoints
+ * are written by a background thread and don't stall the evolution. Since the
+ * population of an {@link EvolutionResult} is immutable, taking a snapshot
+ * only means keeping the reference to the result object.
+ * <p>
+ * A checkpoint is either a <em>base</em> segment, containing the whole
+ * evolution result, or a <em>delta</em> segment, which only contains the
+ * phenotypes which are not part of the previously written snapshot. Every
+ * segment is written to a temporary file first, which is then atomically
+ * renamed. After the rename, the checkpoint directory is synced, which makes
+ * the new segment durable. An interrupted write will therefore never leave a
+ * corrupt segment behind. Temporary files of failed writes are removed
+ * immediately, and the ones of a crashed process before the first segment is
+ * written. Outdated segments are deleted after a new base segment has been
+ * written.
+ *
+ * <pre>{@code
+ * final Path dir = Path.of("checkpoints");
+ * try (var checkpoints = CheckpointInterceptor.<DoubleGene, Double>of(dir, 10)) {
+ *     final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *         .interceptor(checkpoints)
+ *         .build();
+ *
+ *     // Resume the evolution, if there is a previous checkpoint.
+ *     final EvolutionStream<DoubleGene, Double> stream = CheckpointInterceptor
+ *         .<DoubleGene, Double>resume(dir)
+ *         .map(engine::stream)
+ *         .orElseGet(engine::stream);
+ *
+ *     final Phenotype<DoubleGene, Double> best = stream
+ *         .limit(1_000)
+ *         .collect(EvolutionResult.toBestPhenotype());
+ * }
+ * }</pre>
+ *
+ * The interceptor can also be used as {@code Consumer<EvolutionResult>}, in a
+ * {@link EvolutionStream#peek(Consumer)} call. Errors of the background writes
+ * are re-thrown, as {@link UncheckedIOException}, by the next snapshot call,
+ * and as {@link IOException} by the {@link #close()} method.
+ *
+ * @see Checkpoints
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+public final class CheckpointInterceptor<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements
+		EvolutionInterceptor<G, C>,
+		Consumer<EvolutionResult<G, C>>,
+		Closeable
+{
+
+	/**
+	 * The default number of delta segments written between two base segments.
+	 */
+	public static final int DEFAULT_DELTAS = 10;
+
+	private static final Pattern SEGMENT =
+		Pattern.compile("checkpoint-(\\d{19})\\.(base|delta)");
+
+	private static final Pattern TEMP =
+		Pattern.compile("checkpoint-(\\d{19})\\.(base|delta)\\.tmp");
+
+	private record Segment(long sequence, boolean base, Path path) {}
+
+	private final Path _directory;
+	private final int _generations;
+	private final Duration _interval;
+	private final int _deltas;
+	private final Compression _compression;
+	private final Executor _executor;
+	private final ExecutorService _owned;
+	private final InstantSource _clock;
+
+	// State of the calling thread.
+	private int _count = 0;
+	private Instant _last;
+
+	private final AtomicReference<EvolutionResult<G, C>> _pending =
+		new AtomicReference<>();
+	private volatile IOException _error;
+
+	// State of the writing thread, guarded by the lock.
+	private final Object _lock = new Object();
+	private ISeq<Phenotype<G, C>> _previous;
+	private long _sequence = -1;
+	private int _deltaCount = 0;
+
+	CheckpointInterceptor(
+		final Path directory,
+		final int generations,
+		final Duration interval,
+		final int deltas,
+		final Compression compression,
+		final Executor executor,
+		final InstantSource clock
+	) {
+		if (generations < 1) {
+			throw new IllegalArgumentException(format(
+				"Generations must be greater than zero: %d", generations
+			));
+		}
+		if (deltas < 0) {
+			throw new IllegalArgumentException(format(
+				"Number of deltas must not be negative: %d", deltas
+			));
+		}
+
+		_directory = requireNonNull(directory);
+		_generations = generations;
+		_interval = interval;
+		_deltas = deltas;
+		_compression = requireNonNull(compression);
+		_clock = requireNonNull(clock);
+		_last = clock.instant();
+
+		if (executor != null) {
+			_executor = executor;
+			_owned = null;
+		} else {
+			_owned = Executors.newSingleThreadExecutor(runnable -> {
+				final Thread thread = new Thread(runnable, "checkpoint-writer");
+				thread.setDaemon(true);
+				return thread;
+			});
+			_executor = _owned;
+		}
+	}
+
+	/**
+	 * Return the checkpoint directory.
+	 *
+	 * @return the checkpoint directory
+	 */
+	public Path directory() {
+		return _directory;
+	}
+
+	@Override
+	public EvolutionResult<G, C> after(final EvolutionResult<G, C> result) {
+		accept(result);
+		return result;
+	}
+
+	/**
+	 * Takes a snapshot of the given evolution {@code result}, if the
+	 * generation count or the time interval has been reached since the last
+	 * snapshot. The snapshot is written asynchronously. If the previous
+	 * snapshot hasn't been written yet, it is replaced by the new one.
+	 *
+	 * @param result the evolution result
+	 * @throws NullPointerException if the given {@code result} is {@code null}
+	 * @throws UncheckedIOException if writing a previous snapshot failed
+	 */
+	@Override
+	public void accept(final EvolutionResult<G, C> result) {
+		requireNonNull(result);
+		checkError();
+
+		final Instant now = _clock.instant();
+		if (++_count >= _generations ||
+			(_interval != null && !now.isBefore(_last.plus(_interval))))
+		{
+			_count = 0;
+			_last = now;
+			if (_pending.getAndSet(result) == null) {
+				_executor.execute(this::drain);
+			}
+		}
+	}
+
+	private void checkError() {
+		final IOException error = _error;
+		if (error != null) {
+			throw new UncheckedIOException(error);
+		}
+	}
+
+	private void drain() {
+		synchronized (_lock) {
+			final EvolutionResult<G, C> result = _pending.getAndSet(null);
+			if (result != null && _error == null) {
+				try {
+					write(result);
+				} catch (IOException e) {
+					_error = e;
+				}
+			}
+		}
+	}
+
+	private void write(final EvolutionResult<G, C> result) throws IOException {
+		if (_sequence < 0) {
+			Files.createDirectories(_directory);
+			deleteTemps(_directory);
+			_sequence = segments(_directory).stream()
+				.mapToLong(Segment::sequence)
+				.max()
+				.orElse(0);
+		}
+
+		final boolean base = _previous == null || _deltaCount >= _deltas;
+		final long sequence = ++_sequence;
+		final Path path = _directory.resolve(name(sequence, base));
+		final Path temp = _directory.resolve(path.getFileName() + ".tmp");
+
+		try {
+			try (var channel = FileChannel.open(temp, CREATE, TRUNCATE_EXISTING, WRITE)) {
+				final byte kind = base ? EVOLUTION_RESULT : EVOLUTION_DELTA;
+				try (var out = CheckpointWriter.of(channel, kind, _compression)) {
+					out.write(result, base ? null : index(_previous));
+				}
+				channel.force(true);
+			}
+			move(temp, path);
+		} catch (IOException | RuntimeException | Error e) {
+			try {
+				Files.deleteIfExists(temp);
+			} catch (IOException suppressed) {
+				e.addSuppressed(suppressed);
+			}
+			throw e;
+		}
+		sync(_directory);
+
+		_previous = result.population();
+		if (base) {
+			_deltaCount = 0;
+			for (Segment segment : segments(_directory)) {
+				if (segment.sequence() < sequence) {
+					Files.deleteIfExists(segment.path());
+				}
+			}
+		} else {
+			++_deltaCount;
+		}
+	}
+
+	private static Map<Object, Integer> index(final ISeq<?> population) {
+		final Map<Object, Integer> index = new IdentityHashMap<>(population.size());
+		for (int i = population.size(); --i >= 0;) {
+			index.put(population.get(i), i);
+		}
+		return index;
+	}
+
+	private static void move(final Path source, final Path target)
+		throws IOException
+	{
+		try {
+			Files.move(source, target, ATOMIC_MOVE, REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, REPLACE_EXISTING);
+		}
+	}
+
+	/*
+	 * Flushes the directory entry of the renamed segment. Opening a directory
+	 * for reading is not supported on every platform (e.g. Windows), where the
+	 * rename is already durable.
+	 */
+	private static void sync(final Path directory) throws IOException {
+		final FileChannel channel;
+		try {
+			channel = FileChannel.open(directory, READ);
+		} catch (IOException e) {
+			return;
+		}
+		try (channel) {
+			channel.force(true);
+		}
+	}
+
+	private static void deleteTemps(final Path directory) throws IOException {
+		try (Stream<Path> paths = Files.list(directory)) {
+			for (Path path : (Iterable<Path>)paths::iterator) {
+				if (TEMP.matcher(path.getFileName().toString()).matches()) {
+					Files.deleteIfExists(path);
+				}
+			}
+		}
+	}
+
+	private static String name(final long sequence, final boolean base) {
+		return format("checkpoint-%019d.%s", sequence, base ? "base" : "delta");
+	}
+
+	private static List<Segment> segments(final Path directory)
+		throws IOException
+	{
+		if (!Files.isDirectory(directory)) {
+			return List.of();
+		}
+
+		final List<Segment> segments = new ArrayList<>();
+		try (Stream<Path> paths = Files.list(directory)) {
+			for (Path path : (Iterable<Path>)paths::iterator) {
+				final Matcher matcher =
+					SEGMENT.matcher(path.getFileName().toString());
+				if (matcher.matches()) {
+					segments.add(new Segment(
+						Long.parseLong(matcher.group(1)),
+						matcher.group(2).equals("base"),
+						path
+					));
+				}
+			}
+		}
+		segments.sort(Comparator.comparingLong(Segment::sequence));
+		return segments;
+	}
+
+	/**
+	 * Writes the pending snapshot and releases the background thread, if it
+	 * has been created by this interceptor.
+	 *
+	 * @throws IOException if writing a snapshot failed
+	 */
+	@Override
+	public void close() throws IOException {
+		drain();
+		if (_owned != null) {
+			_owned.shutdown();
+		}
+
+		final IOException error = _error;
+		if (error != null) {
+			throw error;
+		}
+	}
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Reads the latest evolution result from the given checkpoint
+	 * {@code directory}. The result is assembled from the latest base segment
+	 * and the delta segments written after it.
+	 *
+	 * @param directory the checkpoint directory
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the latest checkpoint result, or {@link Optional#empty()} if the
+	 *         directory contains no checkpoint
+	 * @throws NullPointerException if the {@code directory} is {@code null}
+	 * @throws IOException if reading the checkpoint fails
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Optional<EvolutionResult<G, C>> read(final Path directory)
+		throws IOException
+	{
+		final List<Segment> segments = segments(directory);
+
+		int start = segments.size() - 1;
+		while (start >= 0 && !segments.get(start).base()) {
+			--start;
+		}
+		if (start < 0) {
+			return Optional.empty();
+		}
+
+		EvolutionResult<G, C> result = null;
+		for (int i = start; i < segments.size(); ++i) {
+			final Segment segment = segments.get(i);
+			if (i > start &&
+				segment.sequence() != segments.get(i - 1).sequence() + 1)
+			{
+				break;
+			}
+
+			try (var channel = FileChannel.open(segment.path(), READ);
+				 var in = CheckpointReader.of(
+					 channel,
+					 segment.base() ? EVOLUTION_RESULT : EVOLUTION_DELTA))
+			{
+				result = in.readEvolutionResult(
+					result != null ? result.population() : null
+				);
+			}
+		}
+
+		return Optional.ofNullable(result);
+	}
+
+	/**
+	 * Return the evolution start object for resuming the evolution from the
+	 * latest checkpoint in the given {@code directory}.
+	 *
+	 * @see #read(Path)
+	 * @see EvolutionStreamable#stream(EvolutionStart)
+	 *
+	 * @param directory the checkpoint directory
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the evolution start of the generation following the latest
+	 *         checkpoint, or {@link Optional#empty()} if the directory contains
+	 *         no checkpoint
+	 * @throws NullPointerException if the {@code directory} is {@code null}
+	 * @throws IOException if reading the checkpoint fails
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Optional<EvolutionStart<G, C>> resume(final Path directory)
+		throws IOException
+	{
+		return CheckpointInterceptor.<G, C>read(directory)
+			.map(EvolutionResult::next);
+	}
+
+	/**
+	 * Create a new checkpoint interceptor.
+	 *
+	 * @param directory the checkpoint directory
+	 * @param generations the number of generations between two snapshots
+	 * @param interval the maximal time between two snapshots, may be
+	 *        {@code null}
+	 * @param deltas the number of delta segments written between two base
+	 *        segments
+	 * @param compression the block compression of the segments
+	 * @param executor the executor used for writing the snapshots. If
+	 *        {@code null}, a single background thread is used, which is
+	 *        released when the interceptor is closed.
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new checkpoint interceptor
+	 * @throws NullPointerException if the {@code directory} or the
+	 *         {@code compression} is {@code null}
+	 * @throws IllegalArgumentException if {@code generations < 1} or
+	 *         {@code deltas < 0}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	CheckpointInterceptor<G, C> of(
+		final Path directory,
+		final int generations,
+		final Duration interval,
+		final int deltas,
+		final Compression compression,
+		final Executor executor
+	) {
+		return new CheckpointInterceptor<>(
+			directory,
+			generations,
+			interval,
+			deltas,
+			compression,
+			executor,
+			InstantSource.system()
+		);
+	}
+
+	/**
+	 * Create a new checkpoint interceptor, which takes a snapshot every
+	 * {@code generations}.
+	 *
+	 * @param directory the checkpoint directory
+	 * @param generations the number of generations between two snapshots
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new checkpoint interceptor
+	 * @throws NullPointerException if the {@code directory} is {@code null}
+	 * @throws IllegalArgumentException if {@code generations < 1}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	CheckpointInterceptor<G, C> of(final Path directory, final int generations) {
+		return of(
+			directory,
+			generations,
+			null,
+			DEFAULT_DELTAS,
+			Compression.NONE,
+			null
+		);
+	}
+
+	/**
+	 * Create a new checkpoint interceptor, which takes a snapshot after the
+	 * given time {@code interval}.
+	 *
+	 * @param directory the checkpoint directory
+	 * @param interval the time between two snapshots
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new checkpoint interceptor
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	CheckpointInterceptor<G, C> of(final Path directory, final Duration interval) {
+		return of(
+			directory,
+			Integer.MAX_VALUE,
+			requireNonNull(interval),
+			DEFAULT_DELTAS,
+			Compression.NONE,
+			null
+		);
+	}
+
+}
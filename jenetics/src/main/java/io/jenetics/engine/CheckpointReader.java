@@ -0,0 +1,444 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static io.jenetics.engine.CheckpointWriter.BIT;
+import static io.jenetics.engine.CheckpointWriter.CHARACTER;
+import static io.jenetics.engine.CheckpointWriter.DOUBLE;
+import static io.jenetics.engine.CheckpointWriter.DOUBLE_FITNESS;
+import static io.jenetics.engine.CheckpointWriter.INTEGER;
+import static io.jenetics.engine.CheckpointWriter.INTEGER_FITNESS;
+import static io.jenetics.engine.CheckpointWriter.LONG;
+import static io.jenetics.engine.CheckpointWriter.LONG_FITNESS;
+import static io.jenetics.engine.CheckpointWriter.MAGIC;
+import static io.jenetics.engine.CheckpointWriter.NULL_FITNESS;
+import static io.jenetics.engine.CheckpointWriter.OBJECT;
+import static io.jenetics.engine.CheckpointWriter.OBJECT_FITNESS;
+import static io.jenetics.engine.CheckpointWriter.PERMUTATION;
+import static io.jenetics.engine.CheckpointWriter.VERSION;
+import static io.jenetics.internal.util.SerialIO.readBytes;
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.readLong;
+import static io.jenetics.internal.util.SerialIO.readString;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.CharacterChromosome;
+import io.jenetics.CharacterGene;
+import io.jenetics.Chromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.EnumGene;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.LongChromosome;
+import io.jenetics.LongGene;
+import io.jenetics.Optimize;
+import io.jenetics.PermutationChromosome;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.util.BlockInput;
+import io.jenetics.util.CharSeq;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+import io.jenetics.util.MSeq;
+
+/**
+ * Reads the binary checkpoint format, written by the {@link CheckpointWriter}.
+ *
+ * @see CheckpointWriter
+ * @see Checkpoints
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+final class CheckpointReader implements AutoCloseable {
+
+	@FunctionalInterface
+	private interface ChromosomeReader {
+		Chromosome<?> read() throws IOException;
+	}
+
+	private final BlockInput _in;
+	private final List<ChromosomeReader> _shapes = new ArrayList<>();
+
+	private CheckpointReader(final BlockInput in) {
+		_in = in;
+	}
+
+	/**
+	 * Reads and checks the checkpoint header and creates a reader for the
+	 * checkpoint payload.
+	 *
+	 * @param channel the source channel
+	 * @param kind the expected kind of the checkpoint object
+	 * @return a new checkpoint reader
+	 * @throws IOException if an I/O error occurs or the channel doesn't
+	 *         contain a valid checkpoint of the expected kind
+	 */
+	static CheckpointReader of(final ReadableByteChannel channel, final byte kind)
+		throws IOException
+	{
+		final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES + 3);
+		while (header.hasRemaining()) {
+			if (channel.read(header) < 0) {
+				throw new EOFException();
+			}
+		}
+		header.flip();
+
+		if (header.getInt() != MAGIC) {
+			throw new StreamCorruptedException("Invalid checkpoint header.");
+		}
+		final byte version = header.get();
+		if (version != VERSION) {
+			throw new StreamCorruptedException(format(
+				"Unsupported checkpoint version: %d", version
+			));
+		}
+		final byte type = header.get();
+		if (type != kind) {
+			throw new StreamCorruptedException(format(
+				"Expected checkpoint kind %d, but got %d.", kind, type
+			));
+		}
+		final byte compression = header.get();
+		if (compression < 0 ||
+			compression >= Checkpoints.Compression.values().length)
+		{
+			throw new StreamCorruptedException(format(
+				"Invalid checkpoint compression: %d", compression
+			));
+		}
+
+		return new CheckpointReader(new BlockInput(
+			channel,
+			compression == Checkpoints.Compression.DEFLATE.ordinal()
+		));
+	}
+
+	<G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> readEvolutionResult() throws IOException {
+		return readEvolutionResult(null);
+	}
+
+	/**
+	 * Reads an evolution result, written with a reference population.
+	 *
+	 * @param previous the population the phenotype references are pointing
+	 *        to, may be {@code null}
+	 * @return the read evolution result
+	 * @throws IOException if an I/O error occurs
+	 */
+	<G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C>
+	readEvolutionResult(final ISeq<Phenotype<G, C>> previous)
+		throws IOException
+	{
+		final byte ordinal = _in.readByte();
+		if (ordinal < 0 || ordinal >= Optimize.values().length) {
+			throw new StreamCorruptedException(format(
+				"Invalid optimization strategy: %d", ordinal
+			));
+		}
+		final Optimize optimize = Optimize.values()[ordinal];
+		final ISeq<Phenotype<G, C>> population = readPopulation(previous);
+		final long generation = readLong(_in);
+		final long totalGenerations = readLong(_in);
+		final EvolutionDurations durations = readDurations();
+		final int killCount = readInt(_in);
+		final int invalidCount = readInt(_in);
+		final int alterCount = readInt(_in);
+
+		return EvolutionResult.of(
+			optimize,
+			population,
+			generation,
+			totalGenerations,
+			durations,
+			killCount,
+			invalidCount,
+			alterCount
+		);
+	}
+
+	<G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionStart<G, C> readEvolutionStart() throws IOException {
+		final ISeq<Phenotype<G, C>> population = readPopulation(null);
+		final long generation = readLong(_in);
+		return EvolutionStart.of(population, generation);
+	}
+
+	private EvolutionDurations readDurations() throws IOException {
+		return new EvolutionDurations(
+			readDuration(),
+			readDuration(),
+			readDuration(),
+			readDuration(),
+			readDuration(),
+			readDuration(),
+			readDuration()
+		);
+	}
+
+	private Duration readDuration() throws IOException {
+		final long seconds = readLong(_in);
+		final int nanos = readInt(_in);
+		return Duration.ofSeconds(seconds, nanos);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <G extends Gene<?, G>, C extends Comparable<? super C>>
+	ISeq<Phenotype<G, C>> readPopulation(final ISeq<Phenotype<G, C>> previous)
+		throws IOException
+	{
+		final int size = readInt(_in);
+		final MSeq<Phenotype<G, C>> population = MSeq.ofLength(size);
+		for (int i = 0; i < size; ++i) {
+			if (previous != null) {
+				final int index = readInt(_in);
+				if (index < 0 || index > previous.size()) {
+					throw new StreamCorruptedException(format(
+						"Invalid phenotype reference: %d", index
+					));
+				}
+				if (index > 0) {
+					population.set(i, previous.get(index - 1));
+					continue;
+				}
+			}
+
+			final Genotype<G> genotype = readGenotype();
+			final long generation = readLong(_in);
+			final C fitness = (C)readFitness();
+
+			population.set(i, fitness != null
+				? Phenotype.of(genotype, generation, fitness)
+				: Phenotype.of(genotype, generation));
+		}
+
+		return population.toISeq();
+	}
+
+	private Object readFitness() throws IOException {
+		final byte type = _in.readByte();
+		return switch (type) {
+			case NULL_FITNESS -> null;
+			case DOUBLE_FITNESS -> _in.readDouble();
+			case INTEGER_FITNESS -> readInt(_in);
+			case LONG_FITNESS -> readLong(_in);
+			case OBJECT_FITNESS -> deserialize(readBytes(_in));
+			default -> throw new StreamCorruptedException(format(
+				"Invalid fitness type: %d", type
+			));
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	<G extends Gene<?, G>> Genotype<G> readGenotype() throws IOException {
+		final int length = readInt(_in);
+		final MSeq<Chromosome<G>> chromosomes = MSeq.ofLength(length);
+		for (int i = 0; i < length; ++i) {
+			chromosomes.set(i, (Chromosome<G>)readChromosome());
+		}
+
+		return Genotype.of(chromosomes);
+	}
+
+	private Chromosome<?> readChromosome() throws IOException {
+		final int id = readInt(_in);
+		if (id == 0) {
+			_shapes.add(readShape());
+			return _shapes.get(_shapes.size() - 1).read();
+		}
+		if (id < 0 || id > _shapes.size()) {
+			throw new StreamCorruptedException(format(
+				"Invalid chromosome shape: %d", id
+			));
+		}
+
+		return _shapes.get(id - 1).read();
+	}
+
+	private ChromosomeReader readShape() throws IOException {
+		final byte type = _in.readByte();
+		return switch (type) {
+			case DOUBLE -> doubleShape();
+			case INTEGER -> integerShape();
+			case LONG -> longShape();
+			case BIT -> bitShape();
+			case CHARACTER -> characterShape();
+			case PERMUTATION -> permutationShape();
+			case OBJECT -> () -> (Chromosome<?>)deserialize(readBytes(_in));
+			default -> throw new StreamCorruptedException(format(
+				"Invalid chromosome type: %d", type
+			));
+		};
+	}
+
+	private ChromosomeReader doubleShape() throws IOException {
+		final double min = _in.readDouble();
+		final double max = _in.readDouble();
+		final DoubleChromosome prototype =
+			DoubleChromosome.of(min, max, readLengths());
+
+		return () -> {
+			final double[] values = new double[readLength()];
+			_in.readDoubles(values);
+
+			final MSeq<DoubleGene> genes = MSeq.ofLength(values.length);
+			for (int i = 0; i < values.length; ++i) {
+				genes.set(i, DoubleGene.of(values[i], min, max));
+			}
+			return prototype.newInstance(genes.toISeq());
+		};
+	}
+
+	private ChromosomeReader integerShape() throws IOException {
+		final int min = readInt(_in);
+		final int max = readInt(_in);
+		final IntegerChromosome prototype =
+			IntegerChromosome.of(min, max, readLengths());
+
+		return () -> {
+			final int[] values = new int[readLength()];
+			_in.readInts(values);
+
+			final MSeq<IntegerGene> genes = MSeq.ofLength(values.length);
+			for (int i = 0; i < values.length; ++i) {
+				genes.set(i, IntegerGene.of(values[i], min, max));
+			}
+			return prototype.newInstance(genes.toISeq());
+		};
+	}
+
+	private ChromosomeReader longShape() throws IOException {
+		final long min = readLong(_in);
+		final long max = readLong(_in);
+		final LongChromosome prototype =
+			LongChromosome.of(min, max, readLengths());
+
+		return () -> {
+			final long[] values = new long[readLength()];
+			_in.readLongs(values);
+
+			final MSeq<LongGene> genes = MSeq.ofLength(values.length);
+			for (int i = 0; i < values.length; ++i) {
+				genes.set(i, LongGene.of(values[i], min, max));
+			}
+			return prototype.newInstance(genes.toISeq());
+		};
+	}
+
+	private ChromosomeReader bitShape() throws IOException {
+		final double p = _in.readDouble();
+
+		return () -> {
+			final int length = readLength();
+			final byte[] bits = new byte[(length + Byte.SIZE - 1)/Byte.SIZE];
+			_in.readFully(bits);
+			return new BitChromosome(bits, 0, length, p);
+		};
+	}
+
+	private ChromosomeReader characterShape() throws IOException {
+		final CharSeq chars = new CharSeq(readString(_in));
+		final CharacterChromosome prototype =
+			CharacterChromosome.of(chars, readLengths());
+
+		return () -> {
+			final int length = readLength();
+			final MSeq<CharacterGene> genes = MSeq.ofLength(length);
+			for (int i = 0; i < length; ++i) {
+				genes.set(i, CharacterGene.of(_in.readChar(), chars));
+			}
+			return prototype.newInstance(genes.toISeq());
+		};
+	}
+
+	private ChromosomeReader permutationShape() throws IOException {
+		final ISeq<?> alleles = (ISeq<?>)deserialize(readBytes(_in));
+		final int size = alleles.size();
+
+		return () -> {
+			final int length = readLength();
+			final MSeq<EnumGene<Object>> genes = MSeq.ofLength(length);
+			for (int i = 0; i < length; ++i) {
+				final int index;
+				if (size <= 1 << Byte.SIZE) {
+					index = _in.readUnsignedByte();
+				} else if (size <= 1 << Short.SIZE) {
+					index = _in.readUnsignedShort();
+				} else {
+					index = _in.readInt();
+				}
+				genes.set(i, EnumGene.of(index, alleles));
+			}
+			return new PermutationChromosome<>(genes.toISeq());
+		};
+	}
+
+	private IntRange readLengths() throws IOException {
+		final int min = readInt(_in);
+		final int max = readInt(_in);
+		return IntRange.of(min, max);
+	}
+
+	private int readLength() throws IOException {
+		final int length = readInt(_in);
+		if (length < 0) {
+			throw new StreamCorruptedException(format(
+				"Invalid chromosome length: %d", length
+			));
+		}
+		return length;
+	}
+
+	private static Object deserialize(final byte[] bytes) throws IOException {
+		try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return in.readObject();
+		} catch (ClassNotFoundException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Releases the decompression resources. The underlying channel is not
+	 * closed.
+	 */
+	@Override
+	public void close() {
+		_in.close();
+	}
+
+}
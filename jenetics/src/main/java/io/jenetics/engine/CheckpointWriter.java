@@ -0,0 +1,414 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static io.jenetics.internal.util.SerialIO.writeBytes;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+import static io.jenetics.internal.util.SerialIO.writeLong;
+import static io.jenetics.internal.util.SerialIO.writeString;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.CharacterChromosome;
+import io.jenetics.Chromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.LongChromosome;
+import io.jenetics.PermutationChromosome;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.util.BlockOutput;
+import io.jenetics.util.IntRange;
+import io.jenetics.util.Seq;
+
+/**
+ * Writes the binary checkpoint format, read by the {@link CheckpointReader}.
+ * The chromosome parameters (the <em>shape</em> of a chromosome), like the
+ * allele range or the valid alleles of a permutation, are written only once,
+ * when they are first seen. Subsequent chromosomes with the same shape only
+ * refer to the shape index, followed by their primitive allele values.
+ *
+ * @see CheckpointReader
+ * @see Checkpoints
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+final class CheckpointWriter implements AutoCloseable {
+
+	static final int MAGIC = 0x4A434B50;
+	static final byte VERSION = 1;
+
+	static final byte EVOLUTION_RESULT = 1;
+	static final byte EVOLUTION_START = 2;
+	static final byte GENOTYPE = 3;
+	static final byte EVOLUTION_DELTA = 4;
+
+	static final byte DOUBLE = 1;
+	static final byte INTEGER = 2;
+	static final byte LONG = 3;
+	static final byte BIT = 4;
+	static final byte CHARACTER = 5;
+	static final byte PERMUTATION = 6;
+	static final byte OBJECT = 7;
+
+	static final byte NULL_FITNESS = 0;
+	static final byte DOUBLE_FITNESS = 1;
+	static final byte INTEGER_FITNESS = 2;
+	static final byte LONG_FITNESS = 3;
+	static final byte OBJECT_FITNESS = 4;
+
+	private record Shape(byte type, Object min, Object max, IntRange lengths) {}
+
+	private final BlockOutput _out;
+
+	private final Map<Shape, Integer> _shapes = new HashMap<>();
+	private final Map<Object, Integer> _alleles = new IdentityHashMap<>();
+	private int _shapeCount = 0;
+
+	private CheckpointWriter(final BlockOutput out) {
+		_out = out;
+	}
+
+	/**
+	 * Writes the checkpoint header and creates a writer for the checkpoint
+	 * payload.
+	 *
+	 * @param channel the target channel
+	 * @param kind the kind of the written object
+	 * @param compression the block compression of the payload
+	 * @return a new checkpoint writer
+	 * @throws IOException if an I/O error occurs
+	 */
+	static CheckpointWriter of(
+		final WritableByteChannel channel,
+		final byte kind,
+		final Checkpoints.Compression compression
+	)
+		throws IOException
+	{
+		final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES + 3)
+			.putInt(MAGIC)
+			.put(VERSION)
+			.put(kind)
+			.put((byte)compression.ordinal())
+			.flip();
+		while (header.hasRemaining()) {
+			channel.write(header);
+		}
+
+		return new CheckpointWriter(new BlockOutput(
+			channel,
+			compression == Checkpoints.Compression.DEFLATE
+		));
+	}
+
+	void write(final EvolutionResult<?, ?> result) throws IOException {
+		write(result, null);
+	}
+
+	/**
+	 * Writes the given evolution {@code result}. Phenotypes, which are part
+	 * of the {@code previous} population, are only written as references,
+	 * into the previous population.
+	 *
+	 * @param result the evolution result to write
+	 * @param previous the (identity) index of the previous population, may
+	 *        be {@code null}
+	 * @throws IOException if an I/O error occurs
+	 */
+	void write(
+		final EvolutionResult<?, ?> result,
+		final Map<Object, Integer> previous
+	)
+		throws IOException
+	{
+		_out.writeByte(result.optimize().ordinal());
+		writePopulation(result.population(), previous);
+		writeLong(result.generation(), _out);
+		writeLong(result.totalGenerations(), _out);
+		writeDurations(result.durations());
+		writeInt(result.killCount(), _out);
+		writeInt(result.invalidCount(), _out);
+		writeInt(result.alterCount(), _out);
+	}
+
+	void write(final EvolutionStart<?, ?> start) throws IOException {
+		writePopulation(start.population(), null);
+		writeLong(start.generation(), _out);
+	}
+
+	private void writeDurations(final EvolutionDurations durations)
+		throws IOException
+	{
+		writeDuration(durations.offspringSelectionDuration());
+		writeDuration(durations.survivorsSelectionDuration());
+		writeDuration(durations.offspringAlterDuration());
+		writeDuration(durations.offspringFilterDuration());
+		writeDuration(durations.survivorFilterDuration());
+		writeDuration(durations.evaluationDuration());
+		writeDuration(durations.evolveDuration());
+	}
+
+	private void writeDuration(final Duration duration) throws IOException {
+		writeLong(duration.getSeconds(), _out);
+		writeInt(duration.getNano(), _out);
+	}
+
+	private void writePopulation(
+		final Seq<? extends Phenotype<?, ?>> population,
+		final Map<Object, Integer> previous
+	)
+		throws IOException
+	{
+		writeInt(population.size(), _out);
+		for (Phenotype<?, ?> pt : population) {
+			if (previous != null) {
+				final Integer index = previous.get(pt);
+				if (index != null) {
+					writeInt(index + 1, _out);
+					continue;
+				}
+				writeInt(0, _out);
+			}
+
+			write(pt.genotype());
+			writeLong(pt.generation(), _out);
+			writeFitness(pt.isEvaluated() ? pt.fitness() : null);
+		}
+	}
+
+	private void writeFitness(final Object fitness) throws IOException {
+		if (fitness == null) {
+			_out.writeByte(NULL_FITNESS);
+		} else if (fitness.getClass() == Double.class) {
+			_out.writeByte(DOUBLE_FITNESS);
+			_out.writeDouble((Double)fitness);
+		} else if (fitness.getClass() == Integer.class) {
+			_out.writeByte(INTEGER_FITNESS);
+			writeInt((Integer)fitness, _out);
+		} else if (fitness.getClass() == Long.class) {
+			_out.writeByte(LONG_FITNESS);
+			writeLong((Long)fitness, _out);
+		} else {
+			_out.writeByte(OBJECT_FITNESS);
+			writeBytes(serialize(fitness), _out);
+		}
+	}
+
+	void write(final Genotype<?> genotype) throws IOException {
+		writeInt(genotype.length(), _out);
+		for (Chromosome<?> chromosome : genotype) {
+			writeChromosome(chromosome);
+		}
+	}
+
+	private void writeChromosome(final Chromosome<?> chromosome)
+		throws IOException
+	{
+		final Class<?> type = chromosome.getClass();
+		if (type == DoubleChromosome.class) {
+			write((DoubleChromosome)chromosome);
+		} else if (type == IntegerChromosome.class) {
+			write((IntegerChromosome)chromosome);
+		} else if (type == LongChromosome.class) {
+			write((LongChromosome)chromosome);
+		} else if (type == BitChromosome.class) {
+			write((BitChromosome)chromosome);
+		} else if (type == CharacterChromosome.class) {
+			write((CharacterChromosome)chromosome);
+		} else if (type == PermutationChromosome.class) {
+			write((PermutationChromosome<?>)chromosome);
+		} else {
+			if (shape(new Shape(OBJECT, null, null, null))) {
+				_out.writeByte(OBJECT);
+			}
+			writeBytes(serialize(chromosome), _out);
+		}
+	}
+
+	private void write(final DoubleChromosome chromosome) throws IOException {
+		final Shape shape = new Shape(
+			DOUBLE,
+			chromosome.min(),
+			chromosome.max(),
+			chromosome.lengthRange()
+		);
+		if (shape(shape)) {
+			_out.writeByte(DOUBLE);
+			_out.writeDouble(chromosome.min());
+			_out.writeDouble(chromosome.max());
+			writeLengths(chromosome.lengthRange());
+		}
+
+		writeInt(chromosome.length(), _out);
+		_out.writeDoubles(chromosome.toArray());
+	}
+
+	private void write(final IntegerChromosome chromosome) throws IOException {
+		final Shape shape = new Shape(
+			INTEGER,
+			chromosome.min(),
+			chromosome.max(),
+			chromosome.lengthRange()
+		);
+		if (shape(shape)) {
+			_out.writeByte(INTEGER);
+			writeInt(chromosome.min(), _out);
+			writeInt(chromosome.max(), _out);
+			writeLengths(chromosome.lengthRange());
+		}
+
+		writeInt(chromosome.length(), _out);
+		_out.writeInts(chromosome.toArray());
+	}
+
+	private void write(final LongChromosome chromosome) throws IOException {
+		final Shape shape = new Shape(
+			LONG,
+			chromosome.min(),
+			chromosome.max(),
+			chromosome.lengthRange()
+		);
+		if (shape(shape)) {
+			_out.writeByte(LONG);
+			writeLong(chromosome.min(), _out);
+			writeLong(chromosome.max(), _out);
+			writeLengths(chromosome.lengthRange());
+		}
+
+		writeInt(chromosome.length(), _out);
+		_out.writeLongs(chromosome.toArray());
+	}
+
+	private void write(final BitChromosome chromosome) throws IOException {
+		final Shape shape = new Shape(
+			BIT,
+			chromosome.oneProbability(),
+			null,
+			null
+		);
+		if (shape(shape)) {
+			_out.writeByte(BIT);
+			_out.writeDouble(chromosome.oneProbability());
+		}
+
+		writeInt(chromosome.length(), _out);
+		_out.write(chromosome.toByteArray());
+	}
+
+	private void write(final CharacterChromosome chromosome) throws IOException {
+		final String chars = chromosome.gene().validChars().toString();
+		final Shape shape = new Shape(
+			CHARACTER,
+			chars,
+			null,
+			chromosome.lengthRange()
+		);
+		if (shape(shape)) {
+			_out.writeByte(CHARACTER);
+			writeString(chars, _out);
+			writeLengths(chromosome.lengthRange());
+		}
+
+		writeInt(chromosome.length(), _out);
+		for (int i = 0, n = chromosome.length(); i < n; ++i) {
+			_out.writeChar(chromosome.charAt(i));
+		}
+	}
+
+	private void write(final PermutationChromosome<?> chromosome)
+		throws IOException
+	{
+		final Seq<?> alleles = chromosome.validAlleles();
+		final Integer id = _alleles.get(alleles);
+		if (id != null) {
+			writeInt(id + 1, _out);
+		} else {
+			_alleles.put(alleles, _shapeCount++);
+			writeInt(0, _out);
+			_out.writeByte(PERMUTATION);
+			writeBytes(serialize(alleles), _out);
+		}
+
+		final int length = chromosome.length();
+		final int size = alleles.size();
+		writeInt(length, _out);
+		for (int i = 0; i < length; ++i) {
+			final int index = chromosome.get(i).alleleIndex();
+			if (size <= 1 << Byte.SIZE) {
+				_out.writeByte(index);
+			} else if (size <= 1 << Short.SIZE) {
+				_out.writeShort(index);
+			} else {
+				_out.writeInt(index);
+			}
+		}
+	}
+
+	private void writeLengths(final IntRange lengths) throws IOException {
+		writeInt(lengths.min(), _out);
+		writeInt(lengths.max(), _out);
+	}
+
+	// Writes the shape reference and returns true, if the shape definition
+	// must follow.
+	private boolean shape(final Shape shape) throws IOException {
+		final Integer id = _shapes.get(shape);
+		if (id != null) {
+			writeInt(id + 1, _out);
+			return false;
+		}
+
+		_shapes.put(shape, _shapeCount++);
+		writeInt(0, _out);
+		return true;
+	}
+
+	private static byte[] serialize(final Object object) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (var out = new ObjectOutputStream(bytes)) {
+			out.writeObject(object);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Writes the pending blocks and the end-of-stream marker. The underlying
+	 * channel is not closed.
+	 *
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public void close() throws IOException {
+		_out.close();
+	}
+
+}
@@ -0,0 +1,406 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.engine.CheckpointWriter.EVOLUTION_RESULT;
+import static io.jenetics.engine.CheckpointWriter.EVOLUTION_START;
+import static io.jenetics.engine.CheckpointWriter.GENOTYPE;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+
+/**
+ * Compact, versioned binary format for checkpointing evolution results,
+ * evolution starts and genotypes. Compared to the <em>Java</em> serialization
+ * of {@link io.jenetics.util.IO#object}, the alleles of the standard
+ * chromosomes are written as primitive arrays: the {@code double}, {@code int}
+ * and {@code long} values of the numeric chromosomes are written in raw form,
+ * {@link io.jenetics.BitChromosome}s are written bit-packed and
+ * {@link io.jenetics.PermutationChromosome}s are written as allele indexes.
+ * The chromosome parameters, like the allele range, are written only once per
+ * checkpoint. Other chromosome and fitness types are written with <em>Java</em>
+ * serialization.
+ *
+ * <pre>{@code
+ * final EvolutionResult<DoubleGene, Double> result = ...;
+ * Checkpoints.write(result, Path.of("result.bin"), Compression.DEFLATE);
+ *
+ * final EvolutionResult<DoubleGene, Double> restored =
+ *     Checkpoints.readEvolutionResult(Path.of("result.bin"));
+ * final EvolutionStream<DoubleGene, Double> stream = engine
+ *     .stream(restored.next());
+ * }</pre>
+ *
+ * The data is written block-wise to {@link java.nio.channels.FileChannel}s
+ * or any other byte channel. The channels given to the {@code write} and
+ * {@code read} methods are <em>not</em> closed.
+ *
+ * @apiNote
+ * The checkpoint format is meant for restarting evolution runs with the same
+ * version of the library. It is not meant as long-term storage format. Use the
+ * XML serialization of the {@code io.jenetics.xml} module for such cases.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+public final class Checkpoints {
+	private Checkpoints() {}
+
+	/**
+	 * The block compression of the checkpoint data.
+	 */
+	public enum Compression {
+
+		/**
+		 * The blocks are written uncompressed.
+		 */
+		NONE,
+
+		/**
+		 * The blocks are compressed with the <em>deflate</em> algorithm, using
+		 * the fastest compression level.
+		 */
+		DEFLATE
+
+	}
+
+	/* *************************************************************************
+	 * Evolution result
+	 * ************************************************************************/
+
+	/**
+	 * Writes the given evolution {@code result} to the given {@code channel}.
+	 *
+	 * @param result the evolution result to write
+	 * @param channel the target channel
+	 * @param compression the block compression
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(
+		final EvolutionResult<?, ?> result,
+		final WritableByteChannel channel,
+		final Compression compression
+	)
+		throws IOException
+	{
+		requireNonNull(result);
+		try (var out = CheckpointWriter.of(channel, EVOLUTION_RESULT, compression)) {
+			out.write(result);
+		}
+	}
+
+	/**
+	 * Writes the given evolution {@code result} to the given {@code path}. An
+	 * existing file is replaced.
+	 *
+	 * @param result the evolution result to write
+	 * @param path the target path
+	 * @param compression the block compression
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(
+		final EvolutionResult<?, ?> result,
+		final Path path,
+		final Compression compression
+	)
+		throws IOException
+	{
+		requireNonNull(result);
+		try (var channel = open(path)) {
+			write(result, channel, compression);
+		}
+	}
+
+	/**
+	 * Writes the given evolution {@code result}, uncompressed, to the given
+	 * {@code path}. An existing file is replaced.
+	 *
+	 * @param result the evolution result to write
+	 * @param path the target path
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(final EvolutionResult<?, ?> result, final Path path)
+		throws IOException
+	{
+		write(result, path, Compression.NONE);
+	}
+
+	/**
+	 * Reads an evolution result from the given {@code channel}.
+	 *
+	 * @param channel the source channel
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the read evolution result
+	 * @throws NullPointerException if the {@code channel} is {@code null}
+	 * @throws IOException if an I/O error occurs or the channel doesn't
+	 *         contain a valid evolution result checkpoint
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> readEvolutionResult(final ReadableByteChannel channel)
+		throws IOException
+	{
+		try (var in = CheckpointReader.of(channel, EVOLUTION_RESULT)) {
+			return in.readEvolutionResult();
+		}
+	}
+
+	/**
+	 * Reads an evolution result from the given {@code path}.
+	 *
+	 * @param path the source path
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the read evolution result
+	 * @throws NullPointerException if the {@code path} is {@code null}
+	 * @throws IOException if an I/O error occurs or the file doesn't
+	 *         contain a valid evolution result checkpoint
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> readEvolutionResult(final Path path)
+		throws IOException
+	{
+		try (var channel = FileChannel.open(path, READ)) {
+			return readEvolutionResult(channel);
+		}
+	}
+
+	/* *************************************************************************
+	 * Evolution start
+	 * ************************************************************************/
+
+	/**
+	 * Writes the given evolution {@code start} to the given {@code channel}.
+	 *
+	 * @param start the evolution start to write
+	 * @param channel the target channel
+	 * @param compression the block compression
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(
+		final EvolutionStart<?, ?> start,
+		final WritableByteChannel channel,
+		final Compression compression
+	)
+		throws IOException
+	{
+		requireNonNull(start);
+		try (var out = CheckpointWriter.of(channel, EVOLUTION_START, compression)) {
+			out.write(start);
+		}
+	}
+
+	/**
+	 * Writes the given evolution {@code start} to the given {@code path}. An
+	 * existing file is replaced.
+	 *
+	 * @param start the evolution start to write
+	 * @param path the target path
+	 * @param compression the block compression
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(
+		final EvolutionStart<?, ?> start,
+		final Path path,
+		final Compression compression
+	)
+		throws IOException
+	{
+		requireNonNull(start);
+		try (var channel = open(path)) {
+			write(start, channel, compression);
+		}
+	}
+
+	/**
+	 * Writes the given evolution {@code start}, uncompressed, to the given
+	 * {@code path}. An existing file is replaced.
+	 *
+	 * @param start the evolution start to write
+	 * @param path the target path
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(final EvolutionStart<?, ?> start, final Path path)
+		throws IOException
+	{
+		write(start, path, Compression.NONE);
+	}
+
+	/**
+	 * Reads an evolution start from the given {@code channel}.
+	 *
+	 * @param channel the source channel
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the read evolution start
+	 * @throws NullPointerException if the {@code channel} is {@code null}
+	 * @throws IOException if an I/O error occurs or the channel doesn't
+	 *         contain a valid evolution start checkpoint
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionStart<G, C> readEvolutionStart(final ReadableByteChannel channel)
+		throws IOException
+	{
+		try (var in = CheckpointReader.of(channel, EVOLUTION_START)) {
+			return in.readEvolutionStart();
+		}
+	}
+
+	/**
+	 * Reads an evolution start from the given {@code path}.
+	 *
+	 * @param path the source path
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the read evolution start
+	 * @throws NullPointerException if the {@code path} is {@code null}
+	 * @throws IOException if an I/O error occurs or the file doesn't
+	 *         contain a valid evolution start checkpoint
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionStart<G, C> readEvolutionStart(final Path path)
+		throws IOException
+	{
+		try (var channel = FileChannel.open(path, READ)) {
+			return readEvolutionStart(channel);
+		}
+	}
+
+	/* *************************************************************************
+	 * Genotype
+	 * ************************************************************************/
+
+	/**
+	 * Writes the given {@code genotype} to the given {@code channel}.
+	 *
+	 * @param genotype the genotype to write
+	 * @param channel the target channel
+	 * @param compression the block compression
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(
+		final Genotype<?> genotype,
+		final WritableByteChannel channel,
+		final Compression compression
+	)
+		throws IOException
+	{
+		requireNonNull(genotype);
+		try (var out = CheckpointWriter.of(channel, GENOTYPE, compression)) {
+			out.write(genotype);
+		}
+	}
+
+	/**
+	 * Writes the given {@code genotype} to the given {@code path}. An existing
+	 * file is replaced.
+	 *
+	 * @param genotype the genotype to write
+	 * @param path the target path
+	 * @param compression the block compression
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(
+		final Genotype<?> genotype,
+		final Path path,
+		final Compression compression
+	)
+		throws IOException
+	{
+		requireNonNull(genotype);
+		try (var channel = open(path)) {
+			write(genotype, channel, compression);
+		}
+	}
+
+	/**
+	 * Writes the given {@code genotype}, uncompressed, to the given
+	 * {@code path}. An existing file is replaced.
+	 *
+	 * @param genotype the genotype to write
+	 * @param path the target path
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(final Genotype<?> genotype, final Path path)
+		throws IOException
+	{
+		write(genotype, path, Compression.NONE);
+	}
+
+	/**
+	 * Reads a genotype from the given {@code channel}.
+	 *
+	 * @param channel the source channel
+	 * @param <G> the gene type
+	 * @return the read genotype
+	 * @throws NullPointerException if the {@code channel} is {@code null}
+	 * @throws IOException if an I/O error occurs or the channel doesn't
+	 *         contain a valid genotype checkpoint
+	 */
+	public static <G extends Gene<?, G>> Genotype<G>
+	readGenotype(final ReadableByteChannel channel) throws IOException {
+		try (var in = CheckpointReader.of(channel, GENOTYPE)) {
+			return in.readGenotype();
+		}
+	}
+
+	/**
+	 * Reads a genotype from the given {@code path}.
+	 *
+	 * @param path the source path
+	 * @param <G> the gene type
+	 * @return the read genotype
+	 * @throws NullPointerException if the {@code path} is {@code null}
+	 * @throws IOException if an I/O error occurs or the file doesn't
+	 *         contain a valid genotype checkpoint
+	 */
+	public static <G extends Gene<?, G>> Genotype<G>
+	readGenotype(final Path path) throws IOException {
+		try (var channel = FileChannel.open(path, READ)) {
+			return readGenotype(channel);
+		}
+	}
+
+	private static FileChannel open(final Path path) throws IOException {
+		return FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE);
+	}
+
+}
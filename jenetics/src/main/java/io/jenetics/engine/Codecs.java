@@ -24,6 +24,7 @@ import static java.util.Map.entry;
 import static java.util.Objects.requireNonNull;
 import static java.util.function.Function.identity;
 
+import java.nio.DoubleBuffer;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -64,7 +65,7 @@ import io.jenetics.util.LongRange;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.2
- * @version 5.2
+ * @version 7.2
  */
 public final class Codecs {
 
@@ -342,6 +343,64 @@ public final class Codecs {
 		);
 	}
 
+	/**
+	 * Return a vector {@link InvertibleCodec} for the given range, which
+	 * decodes the genotype into a <em>read-only</em> {@link DoubleBuffer}
+	 * view of the chromosome alleles. In contrast to the
+	 * {@link #ofVector(DoubleRange, int)} codec, the alleles are not copied
+	 * into a new {@code double[]} array for every decoding, which makes this
+	 * codec the better choice for high-dimensional problems.
+	 *
+	 * <pre>{@code
+	 * final Codec<DoubleBuffer, DoubleGene> codec =
+	 *     Codecs.ofVectorView(DoubleRange.of(-1, 1), 10_000);
+	 *
+	 * static double fitness(final DoubleBuffer x) {
+	 *     double sum = 0;
+	 *     for (int i = 0; i < x.limit(); ++i) {
+	 *         sum += x.get(i)*x.get(i);
+	 *     }
+	 *     return sum;
+	 * }
+	 * }</pre>
+	 *
+	 * @see DoubleChromosome#buffer()
+	 *
+	 * @since 7.2
+	 *
+	 * @param domain the domain of the vector values
+	 * @param length the vector length
+	 * @return a new vector {@code Codec}
+	 * @throws NullPointerException if the given {@code domain} is {@code null}
+	 * @throws IllegalArgumentException if the {@code length} is smaller than
+	 *         one.
+	 */
+	public static InvertibleCodec<DoubleBuffer, DoubleGene> ofVectorView(
+		final DoubleRange domain,
+		final int length
+	) {
+		requireNonNull(domain);
+		Requires.positive(length);
+
+		return InvertibleCodec.of(
+			Genotype.of(DoubleChromosome.of(domain, length)),
+			gt -> gt.chromosome().as(DoubleChromosome.class).buffer(),
+			val -> Genotype.of(toDoubleChromosome(val, domain))
+		);
+	}
+
+	private static DoubleChromosome toDoubleChromosome(
+		final DoubleBuffer values,
+		final DoubleRange domain
+	) {
+		final var genes = IntStream
+			.range(values.position(), values.limit())
+			.mapToObj(i -> DoubleGene.of(values.get(i), domain))
+			.collect(ISeq.toISeq());
+
+		return DoubleChromosome.of(genes);
+	}
+
 	/**
 	 * Create a vector {@link InvertibleCodec} for the given ranges. Each vector
 	 * element might have a different domain. The vector length is equal to the
@@ -369,7 +428,7 @@ public final class Codecs {
 			gt -> {
 				final int[] args = new int[gt.length()];
 				for (int i = gt.length(); --i >= 0;) {
-					args[i] = gt.get(i).gene().intValue();
+					args[i] = gt.get(i).as(IntegerChromosome.class).intValue(0);
 				}
 				return args;
 			},
@@ -409,7 +468,7 @@ public final class Codecs {
 			gt -> {
 				final long[] args = new long[gt.length()];
 				for (int i = gt.length(); --i >= 0;) {
-					args[i] = gt.get(i).gene().longValue();
+					args[i] = gt.get(i).as(LongChromosome.class).longValue(0);
 				}
 				return args;
 			},
@@ -781,6 +840,51 @@ public final class Codecs {
 		);
 	}
 
+	/**
+	 * Return a 2-dimensional matrix {@link InvertibleCodec} for the given
+	 * range, which decodes the genotype into <em>read-only</em>
+	 * {@link DoubleBuffer} views, one for every matrix row. In contrast to the
+	 * {@link #ofMatrix(DoubleRange, int, int)} codec, the alleles are not
+	 * copied into a new {@code double[][]} array for every decoding.
+	 *
+	 * @see DoubleChromosome#buffer()
+	 *
+	 * @since 7.2
+	 *
+	 * @param domain the domain of the matrix values
+	 * @param rows the number of rows of the matrix
+	 * @param cols the number of columns of the matrix
+	 * @return a new matrix {@code Codec}
+	 * @throws NullPointerException if the given {@code domain} is {@code null}
+	 * @throws IllegalArgumentException if the {@code rows} or {@code cols} are
+	 *         smaller than one.
+	 */
+	public static InvertibleCodec<DoubleBuffer[], DoubleGene> ofMatrixView(
+		final DoubleRange domain,
+		final int rows,
+		final int cols
+	) {
+		requireNonNull(domain);
+		Requires.positive(rows);
+		Requires.positive(cols);
+
+		return InvertibleCodec.of(
+			Genotype.of(
+				DoubleChromosome.of(domain, cols).instances()
+					.limit(rows)
+					.collect(ISeq.toISeq())
+			),
+			gt -> gt.stream()
+				.map(ch -> ch.as(DoubleChromosome.class).buffer())
+				.toArray(DoubleBuffer[]::new),
+			matrix -> Genotype.of(
+				Stream.of(matrix)
+					.map(row -> toDoubleChromosome(row, domain))
+					.collect(ISeq.toISeq())
+			)
+		);
+	}
+
 	/**
 	 * Create a codec, which creates a mapping from the elements given in the
 	 * {@code source} sequence to the elements given in the {@code target}
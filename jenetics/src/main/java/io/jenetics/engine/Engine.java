@@ -19,6 +19,7 @@
  */
 package io.jenetics.engine;
 
+import static java.lang.Math.max;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
@@ -108,7 +109,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 7.0
+ * @version 7.2
  */
 public final class Engine<
 	G extends Gene<?, G>,
@@ -133,6 +134,8 @@ public final class Engine<
 	private final Executor _executor;
 	private final InstantSource _clock;
 	private final EvolutionInterceptor<G, C> _interceptor;
+	private final boolean _parallelInitialization;
+	private final boolean _parallelAlteration;
 
 
 	/**
@@ -150,6 +153,10 @@ public final class Engine<
 	 * @param clock the clock used for calculating the timing results
 	 * @param interceptor the evolution interceptor, which gives additional
 	 *        possibilities to influence the actual evolution
+	 * @param parallelInitialization {@code true} if the initial population
+	 *        is created concurrently, with the given {@code executor}
+	 * @param parallelAlteration {@code true} if the offspring population is
+	 *        altered concurrently, with the given {@code executor}
 	 * @throws NullPointerException if one of the arguments is {@code null}
 	 * @throws IllegalArgumentException if the given integer values are smaller
 	 *         than one.
@@ -162,7 +169,9 @@ public final class Engine<
 		final EvolutionParams<G, C> evolutionParams,
 		final Executor executor,
 		final InstantSource clock,
-		final EvolutionInterceptor<G, C> interceptor
+		final EvolutionInterceptor<G, C> interceptor,
+		final boolean parallelInitialization,
+		final boolean parallelAlteration
 	) {
 		_evaluator = requireNonNull(evaluator);
 		_genotypeFactory = requireNonNull(genotypeFactory);
@@ -172,6 +181,8 @@ public final class Engine<
 		_executor = requireNonNull(executor);
 		_clock = requireNonNull(clock);
 		_interceptor = requireNonNull(interceptor);
+		_parallelInitialization = parallelInitialization;
+		_parallelAlteration = parallelAlteration;
 	}
 
 	@Override
@@ -213,7 +224,7 @@ public final class Engine<
 		final CompletableFuture<AltererResult<G, C>> alteredOffspring =
 			offspring.thenApplyAsync(off ->
 				timing.offspringAlter.timing(() ->
-					_evolutionParams.alterer().alter(off, es.generation())
+					alter(off, es.generation())
 				),
 				_executor
 			);
@@ -303,7 +314,18 @@ public final class Engine<
 			: ISeq.empty();
 	}
 
-	// Filters out invalid and old individuals. Filtering is done in place.
+	// Alters the offspring population, concurrently if enabled.
+	private AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation
+	) {
+		return _parallelAlteration
+			? _evolutionParams.alterer().alter(population, generation, _executor)
+			: _evolutionParams.alterer().alter(population, generation);
+	}
+
+	// Filters out invalid and old individuals. The population is only
+	// copied, if at least one individual has been replaced.
 	private FilterResult<G, C> filter(
 		final Seq<Phenotype<G, C>> population,
 		final long generation
@@ -311,22 +333,34 @@ public final class Engine<
 		int killCount = 0;
 		int invalidCount = 0;
 
-		final MSeq<Phenotype<G, C>> pop = MSeq.of(population);
-		for (int i = 0, n = pop.size(); i < n; ++i) {
-			final Phenotype<G, C> individual = pop.get(i);
+		MSeq<Phenotype<G, C>> pop = null;
+		for (int i = 0, n = population.size(); i < n; ++i) {
+			final Phenotype<G, C> individual = population.get(i);
 
+			Phenotype<G, C> replacement = null;
 			if (!_constraint.test(individual)) {
-				pop.set(i, _constraint.repair(individual, generation));
+				replacement = _constraint.repair(individual, generation);
 				++invalidCount;
 			} else if (individual.age(generation) >
 						_evolutionParams.maximalPhenotypeAge())
 			{
-				pop.set(i, Phenotype.of(_genotypeFactory.newInstance(), generation));
+				replacement = Phenotype.of(_genotypeFactory.newInstance(), generation);
 				++killCount;
 			}
+
+			if (replacement != null) {
+				if (pop == null) {
+					pop = MSeq.of(population);
+				}
+				pop.set(i, replacement);
+			}
 		}
 
-		return new FilterResult<>(pop.toISeq(), killCount, invalidCount);
+		return new FilterResult<>(
+			pop != null ? pop.toISeq() : ISeq.of(population),
+			killCount,
+			invalidCount
+		);
 	}
 
 
@@ -396,10 +430,17 @@ public final class Engine<
 		final ISeq<Phenotype<G, C>> population = start.population();
 		final long gen = start.generation();
 
+		final Stream<Genotype<G>> genotypes = _parallelInitialization
+			? PopulationInitializer.genotypes(
+					_genotypeFactory,
+					max(populationSize() - population.size(), 0),
+					_executor
+				).stream()
+			: _genotypeFactory.instances();
+
 		final Stream<Phenotype<G, C>> stream = Stream.concat(
 			population.stream(),
-			_genotypeFactory.instances()
-				.map(gt -> Phenotype.of(gt, gen))
+			genotypes.map(gt -> Phenotype.of(gt, gen))
 		);
 
 		final ISeq<Phenotype<G, C>> pop = stream
@@ -551,6 +592,35 @@ public final class Engine<
 		return _interceptor;
 	}
 
+	/**
+	 * Return {@code true} if the initial population is created concurrently,
+	 * with the {@link #executor()} of the engine.
+	 *
+	 * @see Builder#parallelInitialization(boolean)
+	 *
+	 * @since 7.2
+	 *
+	 * @return {@code true} if the initial population is created concurrently
+	 */
+	public boolean parallelInitialization() {
+		return _parallelInitialization;
+	}
+
+	/**
+	 * Return {@code true} if the offspring population is altered
+	 * concurrently, with the {@link #executor()} of the engine.
+	 *
+	 * @see Builder#parallelAlteration(boolean)
+	 *
+	 * @since 7.2
+	 *
+	 * @return {@code true} if the offspring population is altered
+	 *         concurrently
+	 */
+	public boolean parallelAlteration() {
+		return _parallelAlteration;
+	}
+
 	/**
 	 * Create a new evolution {@code Engine.Builder} initialized with the values
 	 * of the current evolution {@code Engine}. With this method, the evolution
@@ -565,7 +635,9 @@ public final class Engine<
 			.optimize(_optimize)
 			.constraint(_constraint)
 			.evolutionParams(_evolutionParams)
-			.interceptor(_interceptor);
+			.interceptor(_interceptor)
+			.parallelInitialization(_parallelInitialization)
+			.parallelAlteration(_parallelAlteration);
 	}
 
 
@@ -700,6 +772,8 @@ public final class Engine<
 
 		private EvolutionInterceptor<G, C> _interceptor =
 			EvolutionInterceptor.identity();
+		private boolean _parallelInitialization = false;
+		private boolean _parallelAlteration = false;
 
 		/**
 		 * Create a new evolution {@code Engine.Builder} with the given fitness
@@ -1001,6 +1075,54 @@ public final class Engine<
 			return this;
 		}
 
+		/**
+		 * Enables the concurrent creation of the initial population. The
+		 * missing individuals of the initial population are then created in
+		 * chunks, using the engine {@link #executor(Executor)}. This is
+		 * useful for big populations and expensive genotype factories. Every
+		 * chunk uses its own random generator, which is derived from the
+		 * {@link io.jenetics.util.RandomRegistry#random()} of the thread,
+		 * which creates the evolution start. The created population doesn't
+		 * depend on the thread scheduling of the executor, but it is
+		 * different from the serially created population. The default value
+		 * is {@code false}.
+		 *
+		 * @since 7.2
+		 *
+		 * @param parallel {@code true} if the initial population is created
+		 *        concurrently
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> parallelInitialization(final boolean parallel) {
+			_parallelInitialization = parallel;
+			return this;
+		}
+
+		/**
+		 * Enables the concurrent alteration of the offspring population.
+		 * The alterers are then called with
+		 * {@link Alterer#alter(Seq, long, Executor)}, using
+		 * the engine {@link #executor(Executor)}. Mutators alter the
+		 * population in independent chunks and recombinators execute the
+		 * non-overlapping recombinations in parallel. Every chunk uses its
+		 * own random generator, which is derived from the
+		 * {@link io.jenetics.util.RandomRegistry#random()} of the altering
+		 * thread. The altered population doesn't depend on the thread
+		 * scheduling of the executor, but it is different from the serially
+		 * altered population. This is useful for big populations. The default
+		 * value is {@code false}.
+		 *
+		 * @since 7.2
+		 *
+		 * @param parallel {@code true} if the offspring population is altered
+		 *        concurrently
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> parallelAlteration(final boolean parallel) {
+			_parallelAlteration = parallel;
+			return this;
+		}
+
 		/**
 		 * The evolution interceptor, which allows to change the evolution start
 		 * and result.
@@ -1033,7 +1155,9 @@ public final class Engine<
 				_evolutionParams.build(),
 				_executor,
 				_clock,
-				_interceptor
+				_interceptor,
+				_parallelInitialization,
+				_parallelAlteration
 			);
 		}
 
@@ -1086,6 +1210,32 @@ public final class Engine<
 			return _executor;
 		}
 
+		/**
+		 * Return {@code true} if the initial population is created
+		 * concurrently.
+		 *
+		 * @since 7.2
+		 *
+		 * @return {@code true} if the initial population is created
+		 *         concurrently
+		 */
+		public boolean parallelInitialization() {
+			return _parallelInitialization;
+		}
+
+		/**
+		 * Return {@code true} if the offspring population is altered
+		 * concurrently.
+		 *
+		 * @since 7.2
+		 *
+		 * @return {@code true} if the offspring population is altered
+		 *         concurrently
+		 */
+		public boolean parallelAlteration() {
+			return _parallelAlteration;
+		}
+
 		/**
 		 * Return the used genotype {@link Factory} of the GA. The genotype factory
 		 * is used for creating the initial population and new, random individuals
@@ -1211,7 +1361,9 @@ public final class Engine<
 				.constraint(_constraint)
 				.optimize(_optimize)
 				.evolutionParams(_evolutionParams.build())
-				.interceptor(_interceptor);
+				.interceptor(_interceptor)
+				.parallelInitialization(_parallelInitialization)
+			.parallelAlteration(_parallelAlteration);
 		}
 
 	}
@@ -19,6 +19,7 @@
  */
 package io.jenetics.engine;
 
+import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toMap;
 import static io.jenetics.engine.EvolutionInterceptor.ofAfter;
@@ -39,6 +40,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import io.jenetics.Gene;
@@ -46,6 +49,8 @@ import io.jenetics.Genotype;
 import io.jenetics.Optimize;
 import io.jenetics.Phenotype;
 import io.jenetics.internal.util.Lazy;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.stat.DoubleMoments;
 import io.jenetics.stat.MinMax;
 import io.jenetics.util.Factory;
 import io.jenetics.util.ISeq;
@@ -75,7 +80,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 7.2
  */
 public final class EvolutionResult<
 	G extends Gene<?, G>,
@@ -86,6 +91,9 @@ public final class EvolutionResult<
 	@Serial
 	private static final long serialVersionUID = 2L;
 
+	// Minimal population size for calculating the fitness values in parallel.
+	private static final int PARALLEL_FITNESS_SIZE = 10_000;
+
 	private final Optimize _optimize;
 	private final ISeq<Phenotype<G, C>> _population;
 	private final long _generation;
@@ -101,6 +109,9 @@ public final class EvolutionResult<
 	private final Lazy<Phenotype<G, C>> _best;
 	private final Lazy<Phenotype<G, C>> _worst;
 
+	private final Lazy<double[]> _fitnessValues;
+	private final Lazy<DoubleMomentStatistics> _fitnessStatistics;
+
 	private EvolutionResult(
 		final Optimize optimize,
 		final ISeq<Phenotype<G, C>> population,
@@ -131,6 +142,44 @@ public final class EvolutionResult<
 			.min(_optimize.ascending())
 			.orElse(null)
 		);
+
+		_fitnessValues = Lazy.of(() -> fitnessValues(_population));
+		_fitnessStatistics = Lazy.of(() ->
+			fitnessStatistics(_fitnessValues.get())
+		);
+	}
+
+	private static double[] fitnessValues(final Seq<? extends Phenotype<?, ?>> population) {
+		final double[] values = new double[population.size()];
+		final IntStream indexes = IntStream.range(0, values.length);
+		(values.length >= PARALLEL_FITNESS_SIZE ? indexes.parallel() : indexes)
+			.forEach(i -> values[i] = doubleValue(population.get(i)));
+
+		return values;
+	}
+
+	private static double doubleValue(final Phenotype<?, ?> phenotype) {
+		if (!phenotype.isEvaluated()) {
+			return Double.NaN;
+		}
+		if (phenotype.fitness() instanceof Number fitness) {
+			return fitness.doubleValue();
+		}
+
+		throw new UnsupportedOperationException(format(
+			"Fitness type '%s' is not a number.",
+			phenotype.fitness().getClass().getName()
+		));
+	}
+
+	private static DoubleMomentStatistics fitnessStatistics(final double[] values) {
+		final DoubleStream stream = DoubleStream.of(values);
+		return (values.length >= PARALLEL_FITNESS_SIZE ? stream.parallel() : stream)
+			.collect(
+				DoubleMomentStatistics::new,
+				DoubleMomentStatistics::accept,
+				DoubleMomentStatistics::combine
+			);
 	}
 
 	/**
@@ -254,6 +303,51 @@ public final class EvolutionResult<
 		return _worst.get() != null ? _worst.get().fitness() : null;
 	}
 
+	/**
+	 * Return the fitness values of the population as {@code double} array, in
+	 * the order of the {@link #population()}. The values are calculated once,
+	 * in parallel for big populations, and are shared by the built-in limits
+	 * and statistics. Fitness values of not evaluated phenotypes are
+	 * {@code Double.NaN}.
+	 *
+	 * @since 7.2
+	 *
+	 * @return a new array with the fitness values of the population
+	 * @throws UnsupportedOperationException if the fitness type of the
+	 *         population is not a {@link Number}
+	 */
+	public double[] fitnessValues() {
+		return _fitnessValues.get().clone();
+	}
+
+	/**
+	 * Return the shared fitness array, which must not be changed.
+	 */
+	double[] fitnessArray() {
+		return _fitnessValues.get();
+	}
+
+	/**
+	 * Return the statistical moments (min, max, mean, variance, ...) of the
+	 * {@link #fitnessValues()}. The moments are only calculated once.
+	 *
+	 * @since 7.2
+	 *
+	 * @return the statistical moments of the population fitness values
+	 * @throws UnsupportedOperationException if the fitness type of the
+	 *         population is not a {@link Number}
+	 */
+	public DoubleMoments fitnessMoments() {
+		return DoubleMoments.of(_fitnessStatistics.get());
+	}
+
+	/**
+	 * Return the shared fitness statistics, which must not be changed.
+	 */
+	DoubleMomentStatistics fitnessStatistics() {
+		return _fitnessStatistics.get();
+	}
+
 	/**
 	 * Return the next evolution start object with the current population and
 	 * the incremented generation.
@@ -31,6 +31,7 @@ import io.jenetics.stat.DoubleMomentStatistics;
 import io.jenetics.stat.IntMomentStatistics;
 import io.jenetics.stat.LongMomentStatistics;
 import io.jenetics.stat.MinMax;
+import io.jenetics.stat.QuantileSketch;
 
 /**
  * This class can be used to gather additional statistic information of an
@@ -81,11 +82,18 @@ import io.jenetics.stat.MinMax;
  * |                      var  = 13006.132537301528                            |
  * |                      std  = 114.044432                                    |
  * +---------------------------------------------------------------------------+
+ * |  Last generation statistics                                               |
+ * +---------------------------------------------------------------------------+
+ * |     Fitness quartiles:                                                    |
+ * |                      q25  = 351.219410236212                              |
+ * |                      q50  = 412.802151937440                              |
+ * |                      q75  = 457.106376342513                              |
+ * +---------------------------------------------------------------------------+
  * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 7.2
  */
 public abstract class EvolutionStatistics<
 	C extends Comparable<? super C>,
@@ -112,6 +120,7 @@ public abstract class EvolutionStatistics<
 	// The population statistics values.
 	final LongMomentStatistics _age = new LongMomentStatistics();
 	FitnessStatistics _fitness = null;
+	final QuantileSketch _fitnessQuantiles = new QuantileSketch();
 
 	EvolutionStatistics() {
 	}
@@ -123,6 +132,7 @@ public abstract class EvolutionStatistics<
 		_killed.accept(result.killCount());
 		_invalids.accept(result.invalidCount());
 		_altered.accept(result.alterCount());
+		_fitnessQuantiles.reset();
 
 		result.population()
 			.forEach(pt -> accept(pt, result.generation()));
@@ -251,6 +261,25 @@ public abstract class EvolutionStatistics<
 		return _fitness;
 	}
 
+	/**
+	 * Return a copy of the fitness quantile sketch of the last accepted
+	 * generation. Changing the returned sketch doesn't change the statistics.
+	 * The sketch is only filled for statistics objects created with
+	 * {@link #ofNumber()}, and is empty otherwise.
+	 *
+	 * <pre>{@code
+	 * final double[] percentiles = statistics.fitnessQuantiles()
+	 *     .quantiles(0.1, 0.25, 0.5, 0.75, 0.9);
+	 * }</pre>
+	 *
+	 * @since 7.2
+	 *
+	 * @return a copy of the fitness quantile sketch of the last generation
+	 */
+	public QuantileSketch fitnessQuantiles() {
+		return _fitnessQuantiles.copy();
+	}
+
 	final String cpattern = "| %22s %-51s|\n";
 	final String spattern = "| %27s %-46s|\n";
 
@@ -359,9 +388,17 @@ public abstract class EvolutionStatistics<
 		}
 
 		@Override
-		void accept(final Phenotype<?, N> pt, final long generation) {
-			super.accept(pt, generation);
-			_fitness.accept(pt.fitness().doubleValue());
+		public void accept(final EvolutionResult<?, N> result) {
+			super.accept(result);
+
+			// Uses the fitness values, cached by the evolution result.
+			final DoubleMomentStatistics fitness = result.fitnessStatistics();
+			if (fitness.count() > 0) {
+				_fitness.combine(fitness);
+			}
+			for (double value : result.fitnessArray()) {
+				_fitnessQuantiles.accept(value);
+			}
 		}
 
 		@Override
@@ -377,6 +414,13 @@ public abstract class EvolutionStatistics<
 				format(spattern, "mean =", d(_fitness.mean())) +
 				format(spattern, "var  =", d(_fitness.variance())) +
 				format(spattern, "std  =", d(sqrt(_fitness.variance()))) +
+				"+---------------------------------------------------------------------------+\n" +
+				"|  Last generation statistics                                               |\n" +
+				"+---------------------------------------------------------------------------+\n" +
+				format(cpattern, "Fitness quartiles:", "") +
+				format(spattern, "q25  =", d(_fitnessQuantiles.quantile(0.25))) +
+				format(spattern, "q50  =", d(_fitnessQuantiles.quantile(0.5))) +
+				format(spattern, "q75  =", d(_fitnessQuantiles.quantile(0.75))) +
 				"+---------------------------------------------------------------------------+";
 		}
 
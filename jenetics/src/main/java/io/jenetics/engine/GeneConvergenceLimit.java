@@ -22,18 +22,10 @@ package io.jenetics.engine;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.function.Predicate;
 
-import io.jenetics.Chromosome;
-import io.jenetics.Genotype;
 import io.jenetics.NumericGene;
-import io.jenetics.Phenotype;
-import io.jenetics.stat.DoubleMomentStatistics;
 import io.jenetics.stat.DoubleMoments;
-import io.jenetics.util.ISeq;
-import io.jenetics.util.Seq;
 
 /**
  * A termination method that stops the evolution when a user-specified percentage
@@ -43,7 +35,7 @@ import io.jenetics.util.Seq;
  * away from the maximum gene value across the genotypes.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.2
+ * @version 7.2
  * @since 4.0
  */
 final class GeneConvergenceLimit<G extends NumericGene<?, G>>
@@ -69,36 +61,13 @@ final class GeneConvergenceLimit<G extends NumericGene<?, G>>
 
 	@Override
 	public boolean test(final EvolutionResult<G, ?> result) {
-		final ISeq<DoubleMoments> stat = statistics(result.population());
-
-		return result.totalGenerations() <= 1 ||
-			stat.stream()
-				.filter(_convergence)
-				.count() <= _convergenceRate*stat.size();
-	}
-
-	private static <G extends NumericGene<?, G>> ISeq<DoubleMoments>
-	statistics(final Seq<? extends Phenotype<G, ?>> population) {
-		final Map<Long, DoubleMomentStatistics> statistics = new HashMap<>();
-
-		for (Phenotype<G, ?> pt : population) {
-			final Genotype<G> gt = pt.genotype();
-
-			for (int i = 0; i < gt.length(); ++i) {
-				final Chromosome<G> ch = gt.get(i);
-
-				for (int j = 0; j < ch.length(); ++j) {
-					statistics
-						.computeIfAbsent(((long)i << 32) | (j & 0xffffffffL),
-							k -> new DoubleMomentStatistics())
-						.accept(ch.get(j).doubleValue());
-				}
-			}
+		if (result.totalGenerations() <= 1) {
+			return true;
 		}
 
-		return statistics.values().stream()
-			.map(DoubleMomentStatistics::toDoubleMoments)
-			.collect(ISeq.toISeq());
+		final GeneDiversity diversity = GeneDiversity.of(result);
+		return diversity.count(_convergence) <=
+			_convergenceRate*diversity.size();
 	}
 
 }
@@ -0,0 +1,382 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Double.NaN;
+import static java.lang.Math.sqrt;
+import static java.lang.String.format;
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import io.jenetics.Chromosome;
+import io.jenetics.Genotype;
+import io.jenetics.NumericChromosome;
+import io.jenetics.NumericGene;
+import io.jenetics.Phenotype;
+import io.jenetics.stat.DoubleMoments;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Per-gene diversity report of a population. For every gene position, given
+ * by the chromosome index and the gene index within the chromosome, the
+ * statistical moments of the gene values across all genotypes of the
+ * population are calculated. Populations with variable chromosome lengths
+ * are supported, the moments of a gene position only contain the genotypes
+ * which have a gene at this position.
+ * <p>
+ * The statistics are calculated column by column, with primitive
+ * accumulators. Big populations are processed in parallel, where every task
+ * calculates the statistics of a block of genes of one chromosome.
+ *
+ * <pre>{@code
+ * final EvolutionResult<DoubleGene, Double> result = ...;
+ * final GeneDiversity diversity = GeneDiversity.of(result);
+ * final DoubleMoments moments = diversity.moments(0, 5);
+ * final long converged = diversity.count(m -> m.variance() < 0.001);
+ * }</pre>
+ *
+ * @see Limits#byGeneConvergence(Predicate, double)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+public final class GeneDiversity {
+
+	// Minimal number of gene values for calculating the statistics in parallel.
+	private static final int PARALLEL_SIZE = 100_000;
+
+	// Maximal number of genes (columns) handled by one task.
+	private static final int BLOCK_SIZE = 256;
+
+	// The start index of every chromosome in the flat gene arrays.
+	private final int[] _offsets;
+
+	private final long[] _n;
+	private final double[] _min;
+	private final double[] _max;
+	private final double[] _sum;
+	private final double[] _m1;
+	private final double[] _m2;
+	private final double[] _m3;
+	private final double[] _m4;
+
+	private GeneDiversity(final int[] lengths) {
+		_offsets = new int[lengths.length + 1];
+		for (int i = 0; i < lengths.length; ++i) {
+			_offsets[i + 1] = _offsets[i] + lengths[i];
+		}
+
+		final int size = _offsets[lengths.length];
+		_n = new long[size];
+		_min = new double[size];
+		_max = new double[size];
+		_sum = new double[size];
+		_m1 = new double[size];
+		_m2 = new double[size];
+		_m3 = new double[size];
+		_m4 = new double[size];
+
+		Arrays.fill(_min, Double.POSITIVE_INFINITY);
+		Arrays.fill(_max, Double.NEGATIVE_INFINITY);
+	}
+
+	/**
+	 * Return the number of chromosomes of the analyzed genotypes. For
+	 * genotypes of different length, the maximal genotype length is returned.
+	 *
+	 * @return the number of chromosomes
+	 */
+	public int chromosomeCount() {
+		return _offsets.length - 1;
+	}
+
+	/**
+	 * Return the (maximal) length of the chromosome with the given index.
+	 *
+	 * @param chromosome the chromosome index
+	 * @return the (maximal) length of the chromosome
+	 * @throws IndexOutOfBoundsException if the chromosome index is out of
+	 *         range
+	 */
+	public int length(final int chromosome) {
+		checkIndex(chromosome, chromosomeCount());
+		return _offsets[chromosome + 1] - _offsets[chromosome];
+	}
+
+	/**
+	 * Return the number of analyzed gene positions, summed over all
+	 * chromosomes.
+	 *
+	 * @return the number of gene positions
+	 */
+	public int size() {
+		return _n.length;
+	}
+
+	/**
+	 * Return the statistical moments of the gene at the given position.
+	 *
+	 * @param chromosome the chromosome index
+	 * @param gene the gene index within the chromosome
+	 * @return the statistical moments of the gene values
+	 * @throws IndexOutOfBoundsException if one of the indexes is out of range
+	 */
+	public DoubleMoments moments(final int chromosome, final int gene) {
+		checkIndex(gene, length(chromosome));
+		return moments(_offsets[chromosome] + gene);
+	}
+
+	/**
+	 * Return the statistical moments of all gene positions. The moments are
+	 * ordered by chromosome index and gene index.
+	 *
+	 * @return the statistical moments of all gene positions
+	 */
+	public ISeq<DoubleMoments> moments() {
+		return IntStream.range(0, size())
+			.mapToObj(this::moments)
+			.collect(ISeq.toISeq());
+	}
+
+	/**
+	 * Return the number of gene positions whose statistical moments fulfill
+	 * the given {@code predicate}.
+	 *
+	 * @param predicate the gene position predicate
+	 * @return the number of gene positions which fulfills the {@code predicate}
+	 * @throws NullPointerException if the given {@code predicate} is
+	 *         {@code null}
+	 */
+	public long count(final Predicate<? super DoubleMoments> predicate) {
+		requireNonNull(predicate);
+
+		long count = 0;
+		for (int i = 0; i < size(); ++i) {
+			if (predicate.test(moments(i))) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Return the mean standard deviation of all gene positions, as a simple
+	 * measure of the overall diversity of the population. Returns
+	 * {@code Double.NaN} if no gene values has been analyzed.
+	 *
+	 * @return the mean standard deviation of all gene positions
+	 */
+	public double diversity() {
+		double sum = 0;
+		int count = 0;
+		for (int i = 0; i < size(); ++i) {
+			if (_n[i] > 0) {
+				sum += sqrt(variance(i));
+				++count;
+			}
+		}
+		return count > 0 ? sum/count : NaN;
+	}
+
+	private DoubleMoments moments(final int index) {
+		final long n = _n[index];
+		final double m2 = _m2[index];
+		final double var = variance(index);
+
+		double skewness = NaN;
+		if (n >= 3) {
+			skewness = var < 10E-20
+				? 0.0
+				: (n*_m3[index])/((n - 1.0)*(n - 2.0)*sqrt(var)*var);
+		}
+
+		double kurtosis = NaN;
+		if (n > 3) {
+			kurtosis = var < 10E-20
+				? 0.0
+				: (n*(n + 1.0)*_m4[index] - 3.0*m2*m2*(n - 1.0))/
+					((n - 1.0)*(n - 2.0)*(n - 3.0)*var*var);
+		}
+
+		return new DoubleMoments(
+			n,
+			_min[index],
+			_max[index],
+			_sum[index],
+			n == 0 ? NaN : _m1[index],
+			var,
+			skewness,
+			kurtosis
+		);
+	}
+
+	private double variance(final int index) {
+		final long n = _n[index];
+		if (n == 0) {
+			return NaN;
+		} else if (n == 1) {
+			return _m2[index];
+		} else {
+			return _m2[index]/(n - 1.0);
+		}
+	}
+
+	// Update the moments of the gene at the given index with the given value.
+	// Uses the same online update formula as the moment statistics classes.
+	private void accept(final int index, final double value) {
+		final long count = ++_n[index];
+		_min[index] = Math.min(_min[index], value);
+		_max[index] = Math.max(_max[index], value);
+		_sum[index] += value;
+
+		final double n = count;
+		final double d = value - _m1[index];
+		final double dN = d/n;
+		final double dN2 = dN*dN;
+		final double t1 = d*dN*(n - 1.0);
+		final double m2 = _m2[index];
+
+		_m1[index] += dN;
+		_m4[index] += t1*dN2*(n*n - 3.0*n + 3.0) +
+			6.0*dN2*m2 - 4.0*dN*_m3[index];
+		_m3[index] += t1*dN*(n - 2.0) - 3.0*dN*m2;
+		_m2[index] += t1;
+	}
+
+	// Calculates the statistics of the genes [from, to) of one chromosome.
+	private <G extends NumericGene<?, G>> void accept(
+		final Seq<? extends Phenotype<G, ?>> population,
+		final int chromosome,
+		final int from,
+		final int to
+	) {
+		final int offset = _offsets[chromosome];
+		for (int p = 0, size = population.size(); p < size; ++p) {
+			final Genotype<G> gt = population.get(p).genotype();
+			if (chromosome < gt.length()) {
+				final Chromosome<G> ch = gt.get(chromosome);
+				final int end = Math.min(to, ch.length());
+
+				if (ch instanceof NumericChromosome<?, ?> nch) {
+					for (int j = from; j < end; ++j) {
+						accept(offset + j, nch.doubleValue(j));
+					}
+				} else {
+					for (int j = from; j < end; ++j) {
+						accept(offset + j, ch.get(j).doubleValue());
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"GeneDiversity[chromosomes=%d, genes=%d, diversity=%s]",
+			chromosomeCount(), size(), diversity()
+		);
+	}
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Calculates the per-gene statistics of the given {@code population}.
+	 *
+	 * @param population the population to analyze
+	 * @param <G> the gene type
+	 * @return the per-gene diversity report of the given population
+	 * @throws NullPointerException if the given {@code population} is
+	 *         {@code null}
+	 */
+	public static <G extends NumericGene<?, G>> GeneDiversity
+	of(final Seq<? extends Phenotype<G, ?>> population) {
+		final int[] lengths = lengths(population);
+		final GeneDiversity diversity = new GeneDiversity(lengths);
+
+		// Every task calculates a disjoint block of gene columns.
+		final int[][] blocks = blocks(lengths);
+		final IntStream tasks = IntStream.range(0, blocks.length);
+		final long values = (long)population.size()*diversity.size();
+		(values >= PARALLEL_SIZE && blocks.length > 1 ? tasks.parallel() : tasks)
+			.forEach(i -> diversity.accept(
+				population, blocks[i][0], blocks[i][1], blocks[i][2]
+			));
+
+		return diversity;
+	}
+
+	/**
+	 * Calculates the per-gene statistics of the population of the given
+	 * evolution {@code result}.
+	 *
+	 * @param result the evolution result to analyze
+	 * @param <G> the gene type
+	 * @return the per-gene diversity report of the given evolution result
+	 * @throws NullPointerException if the given {@code result} is {@code null}
+	 */
+	public static <G extends NumericGene<?, G>> GeneDiversity
+	of(final EvolutionResult<G, ?> result) {
+		return of(result.population());
+	}
+
+	// The maximal chromosome lengths of the population.
+	private static int[] lengths(final Seq<? extends Phenotype<?, ?>> population) {
+		int[] lengths = new int[0];
+		for (int p = 0, size = population.size(); p < size; ++p) {
+			final Genotype<?> gt = population.get(p).genotype();
+			if (gt.length() > lengths.length) {
+				lengths = Arrays.copyOf(lengths, gt.length());
+			}
+			for (int i = 0; i < gt.length(); ++i) {
+				lengths[i] = Math.max(lengths[i], gt.get(i).length());
+			}
+		}
+		return lengths;
+	}
+
+	// Splits the gene columns in blocks of [chromosome, from, to].
+	private static int[][] blocks(final int[] lengths) {
+		int count = 0;
+		for (int length : lengths) {
+			count += (length + BLOCK_SIZE - 1)/BLOCK_SIZE;
+		}
+
+		final int[][] blocks = new int[count][];
+		int index = 0;
+		for (int i = 0; i < lengths.length; ++i) {
+			for (int from = 0; from < lengths[i]; from += BLOCK_SIZE) {
+				blocks[index++] = new int[] {
+					i, from, Math.min(from + BLOCK_SIZE, lengths[i])
+				};
+			}
+		}
+		return blocks;
+	}
+
+}
@@ -0,0 +1,593 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+import io.jenetics.Chromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.LongChromosome;
+import io.jenetics.NumericChromosome;
+import io.jenetics.NumericGene;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.collection.Array;
+import io.jenetics.internal.collection.ObjectStore;
+import io.jenetics.util.IntRange;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.ProxySorter;
+
+/**
+ * Array store of phenotypes, which keeps the gene values in memory-mapped files
+ * instead of the Java heap. Every phenotype is stored in a fixed size record,
+ * which is determined by the {@link Layout} of the genotype. The phenotype
+ * objects are created lazily, when they are read from the store.
+ *
+ * <pre>
+ * record := generation:long fitness:(double|long) flags:int length:int[n] (pad)
+ *           genes:(double|int|long)[capacity(0)] ...
+ *           genes:(double|int|long)[capacity(n - 1)]
+ * </pre>
+ *
+ * The store keeps no phenotype objects on the heap. Every read creates a new
+ * phenotype instance, which is equal, but not identical, to the written one.
+ * <p>
+ * Since a mapped file can't be larger than {@code Integer.MAX_VALUE} bytes, the
+ * records are distributed over several mapped chunks. Every store uses one
+ * backing file, which is taken from a per-directory file pool. When the store
+ * has been garbage collected, its file is given back to the pool and reused by
+ * the next store. The pooled files are deleted when the VM exits.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+final class MappedPhenotypeStore<
+	G extends NumericGene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Array.Store<Phenotype<G, C>>, Serializable
+{
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private static final Cleaner CLEANER = Cleaner.create();
+
+	private static final int PRESENT = 1;
+	private static final int DOUBLE_FITNESS = 2;
+	private static final int INTEGER_FITNESS = 4;
+	private static final int LONG_FITNESS = 8;
+
+	private static final int GENERATION = 0;
+	private static final int FITNESS = 8;
+	private static final int FLAGS = 16;
+	private static final int LENGTHS = 20;
+
+	/**
+	 * The supported chromosome types and the binary representation of their
+	 * alleles.
+	 */
+	private enum Kind {
+		DOUBLE(DoubleChromosome.class, Double.BYTES),
+		INTEGER(IntegerChromosome.class, Integer.BYTES),
+		LONG(LongChromosome.class, Long.BYTES);
+
+		final Class<?> type;
+		final int bytes;
+
+		Kind(final Class<?> type, final int bytes) {
+			this.type = type;
+			this.bytes = bytes;
+		}
+
+		IntRange lengthRange(final Chromosome<?> ch) {
+			return switch (this) {
+				case DOUBLE -> ((DoubleChromosome)ch).lengthRange();
+				case INTEGER -> ((IntegerChromosome)ch).lengthRange();
+				case LONG -> ((LongChromosome)ch).lengthRange();
+			};
+		}
+
+		void write(
+			final ByteBuffer buffer,
+			final int offset,
+			final NumericChromosome<?, ?> ch
+		) {
+			for (int i = 0, n = ch.length(); i < n; ++i) {
+				switch (this) {
+					case DOUBLE -> buffer.putDouble(offset + bytes*i, ch.doubleValue(i));
+					case INTEGER -> buffer.putInt(offset + bytes*i, ch.intValue(i));
+					case LONG -> buffer.putLong(offset + bytes*i, ch.longValue(i));
+				}
+			}
+		}
+
+		Chromosome<?> read(
+			final ByteBuffer buffer,
+			final int offset,
+			final int length,
+			final Chromosome<?> prototype
+		) {
+			return switch (this) {
+				case DOUBLE -> {
+					final double[] values = new double[length];
+					for (int i = 0; i < length; ++i) {
+						values[i] = buffer.getDouble(offset + bytes*i);
+					}
+					yield ((DoubleChromosome)prototype).map(v -> values);
+				}
+				case INTEGER -> {
+					final int[] values = new int[length];
+					for (int i = 0; i < length; ++i) {
+						values[i] = buffer.getInt(offset + bytes*i);
+					}
+					yield ((IntegerChromosome)prototype).map(v -> values);
+				}
+				case LONG -> {
+					final long[] values = new long[length];
+					for (int i = 0; i < length; ++i) {
+						values[i] = buffer.getLong(offset + bytes*i);
+					}
+					yield ((LongChromosome)prototype).map(v -> values);
+				}
+			};
+		}
+
+		static Kind of(final Chromosome<?> ch) {
+			for (Kind kind : values()) {
+				if (ch.getClass() == kind.type) {
+					return kind;
+				}
+			}
+			throw new IllegalArgumentException(format(
+				"Only Double-, Integer- and LongChromosomes can be mapped, " +
+				"but found %s.",
+				ch.getClass().getName()
+			));
+		}
+	}
+
+	/**
+	 * The record layout of the stored genotypes. All chromosomes of the
+	 * genotype must be {@link DoubleChromosome}s, {@link IntegerChromosome}s
+	 * or {@link LongChromosome}s. The chromosome at a given position must have
+	 * the same type, allele range and length range for all stored genotypes.
+	 */
+	static final class Layout {
+		private final FilePool _files;
+		private final Kind[] _kinds;
+		private final NumericChromosome<?, ?>[] _prototypes;
+		private final int[] _offsets;
+		private final int _size;
+
+		private Layout(
+			final FilePool files,
+			final Kind[] kinds,
+			final NumericChromosome<?, ?>[] prototypes,
+			final int[] offsets,
+			final int size
+		) {
+			_files = files;
+			_kinds = kinds;
+			_prototypes = prototypes;
+			_offsets = offsets;
+			_size = size;
+		}
+
+		int size() {
+			return _size;
+		}
+
+		boolean accepts(final Genotype<?> genotype) {
+			if (genotype.length() != _prototypes.length) {
+				return false;
+			}
+			for (int i = 0; i < _prototypes.length; ++i) {
+				final Chromosome<?> ch = genotype.get(i);
+				if (ch.getClass() != _kinds[i].type) {
+					return false;
+				}
+
+				final NumericChromosome<?, ?> nc = (NumericChromosome<?, ?>)ch;
+				if (!nc.min().equals(_prototypes[i].min()) ||
+					!nc.max().equals(_prototypes[i].max()) ||
+					!_kinds[i].lengthRange(nc)
+						.equals(_kinds[i].lengthRange(_prototypes[i])))
+				{
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Create the record layout for the given {@code genotype}.
+		 *
+		 * @param directory the directory of the mapped files
+		 * @param genotype the template genotype
+		 * @return a new layout
+		 * @throws IllegalArgumentException if the genotype contains
+		 *         chromosomes other than {@link DoubleChromosome},
+		 *         {@link IntegerChromosome} or {@link LongChromosome}
+		 */
+		static Layout of(final Path directory, final Genotype<?> genotype) {
+			requireNonNull(directory);
+
+			final Kind[] kinds = new Kind[genotype.length()];
+			final NumericChromosome<?, ?>[] prototypes =
+				new NumericChromosome<?, ?>[genotype.length()];
+			final int[] offsets = new int[genotype.length()];
+
+			long size = LENGTHS + (long)Integer.BYTES*genotype.length();
+			size = (size + Long.BYTES - 1)/Long.BYTES*Long.BYTES;
+			for (int i = 0; i < genotype.length(); ++i) {
+				final Chromosome<?> ch = genotype.get(i);
+				kinds[i] = Kind.of(ch);
+				prototypes[i] = (NumericChromosome<?, ?>)ch;
+				offsets[i] = (int)size;
+				size += (long)kinds[i].bytes*(kinds[i].lengthRange(ch).max() - 1);
+			}
+			if (size > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException(format(
+					"Genotype too big for memory mapping: %d bytes.", size
+				));
+			}
+
+			return new Layout(
+				FilePool.of(directory),
+				kinds,
+				prototypes,
+				offsets,
+				(int)size
+			);
+		}
+	}
+
+	/**
+	 * The backing files of the mapped stores of one directory. Files of
+	 * garbage collected stores are reused, which limits the used disk space
+	 * to the size of the stores alive at the same time.
+	 */
+	private static final class FilePool {
+		private static final ConcurrentMap<Path, FilePool> POOLS =
+			new ConcurrentHashMap<>();
+
+		private final Path _directory;
+		private final Queue<Path> _files = new ConcurrentLinkedQueue<>();
+
+		private FilePool(final Path directory) {
+			_directory = directory;
+		}
+
+		Path acquire() throws IOException {
+			final Path file = _files.poll();
+			if (file != null) {
+				return file;
+			}
+
+			Files.createDirectories(_directory);
+			final Path created = Files.createTempFile(
+				_directory, "population-", ".bin"
+			);
+			created.toFile().deleteOnExit();
+			return created;
+		}
+
+		void release(final Path file) {
+			_files.add(file);
+		}
+
+		static FilePool of(final Path directory) {
+			return POOLS.computeIfAbsent(
+				directory.toAbsolutePath().normalize(),
+				FilePool::new
+			);
+		}
+	}
+
+	private final transient Layout _layout;
+	private final transient int _length;
+	private final transient int _chunkLength;
+	private final transient ByteBuffer[] _chunks;
+
+	private MappedPhenotypeStore(final Layout layout, final int length) {
+		if (length < 0) {
+			throw new NegativeArraySizeException(Integer.toString(length));
+		}
+
+		_layout = requireNonNull(layout);
+		_length = length;
+		_chunkLength = Math.max(1, Integer.MAX_VALUE/layout._size);
+
+		final int chunks = (int)((length + (long)_chunkLength - 1)/_chunkLength);
+		_chunks = new ByteBuffer[chunks];
+		if (chunks > 0) {
+			try {
+				map(length);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	private void map(final int length) throws IOException {
+		final FilePool files = _layout._files;
+		final Path file = files.acquire();
+
+		try (var channel = FileChannel.open(file, CREATE, READ, WRITE)) {
+			final long size = (long)length*_layout._size;
+			if (channel.size() > size) {
+				channel.truncate(size);
+			}
+
+			for (int i = 0; i < _chunks.length; ++i) {
+				final long records = Math.min(
+					_chunkLength,
+					length - (long)i*_chunkLength
+				);
+				_chunks[i] = channel
+					.map(
+						FileChannel.MapMode.READ_WRITE,
+						(long)i*_chunkLength*_layout._size,
+						records*_layout._size
+					)
+					.order(ByteOrder.nativeOrder());
+			}
+		} catch (IOException | RuntimeException e) {
+			files.release(file);
+			throw e;
+		}
+
+		CLEANER.register(this, release(files, file));
+	}
+
+	// Must not capture the store instance.
+	private static Runnable release(final FilePool files, final Path file) {
+		return () -> files.release(file);
+	}
+
+	Layout layout() {
+		return _layout;
+	}
+
+	private ByteBuffer chunk(final int index) {
+		return _chunks[index/_chunkLength];
+	}
+
+	private int offset(final int index) {
+		return index%_chunkLength*_layout._size;
+	}
+
+	@Override
+	public void set(final int index, final Phenotype<G, C> value) {
+		final ByteBuffer buffer = chunk(index);
+		final int base = offset(index);
+
+		if (value == null) {
+			buffer.putInt(base + FLAGS, 0);
+			return;
+		}
+		if (!_layout.accepts(value.genotype())) {
+			throw new IllegalArgumentException(format(
+				"Genotype doesn't match the store layout: %s", value.genotype()
+			));
+		}
+
+		final int fitness;
+		final Object result = value.isEvaluated() ? value.fitness() : null;
+		if (result == null) {
+			fitness = 0;
+		} else if (result.getClass() == Double.class) {
+			fitness = DOUBLE_FITNESS;
+			buffer.putDouble(base + FITNESS, (Double)result);
+		} else if (result.getClass() == Integer.class) {
+			fitness = INTEGER_FITNESS;
+			buffer.putLong(base + FITNESS, (Integer)result);
+		} else if (result.getClass() == Long.class) {
+			fitness = LONG_FITNESS;
+			buffer.putLong(base + FITNESS, (Long)result);
+		} else {
+			throw new IllegalArgumentException(format(
+				"Only Double, Integer and Long fitness values can be mapped, " +
+				"but found %s.",
+				result.getClass().getName()
+			));
+		}
+
+		buffer.putLong(base + GENERATION, value.generation());
+
+		final Genotype<G> gt = value.genotype();
+		for (int i = 0; i < gt.length(); ++i) {
+			final NumericChromosome<?, ?> ch = (NumericChromosome<?, ?>)gt.get(i);
+			buffer.putInt(base + LENGTHS + Integer.BYTES*i, ch.length());
+			_layout._kinds[i].write(buffer, base + _layout._offsets[i], ch);
+		}
+
+		buffer.putInt(base + FLAGS, PRESENT | fitness);
+	}
+
+	@Override
+	public Phenotype<G, C> get(final int index) {
+		final ByteBuffer buffer = chunk(index);
+		final int base = offset(index);
+
+		final int flags = buffer.getInt(base + FLAGS);
+		if ((flags & PRESENT) == 0) {
+			return null;
+		}
+
+		final NumericChromosome<?, ?>[] prototypes = _layout._prototypes;
+		final MSeq<Chromosome<G>> chromosomes = MSeq.ofLength(prototypes.length);
+		for (int i = 0; i < prototypes.length; ++i) {
+			final int length = buffer.getInt(base + LENGTHS + Integer.BYTES*i);
+
+			@SuppressWarnings("unchecked")
+			final Chromosome<G> ch = (Chromosome<G>)_layout._kinds[i].read(
+				buffer,
+				base + _layout._offsets[i],
+				length,
+				prototypes[i]
+			);
+			chromosomes.set(i, ch);
+		}
+
+		final Genotype<G> genotype = Genotype.of(chromosomes);
+		final long generation = buffer.getLong(base + GENERATION);
+		final Object fitness;
+		if ((flags & DOUBLE_FITNESS) != 0) {
+			fitness = buffer.getDouble(base + FITNESS);
+		} else if ((flags & INTEGER_FITNESS) != 0) {
+			fitness = (int)buffer.getLong(base + FITNESS);
+		} else if ((flags & LONG_FITNESS) != 0) {
+			fitness = buffer.getLong(base + FITNESS);
+		} else {
+			fitness = null;
+		}
+
+		@SuppressWarnings("unchecked")
+		final Phenotype<G, C> result = fitness != null
+			? Phenotype.of(genotype, generation, (C)fitness)
+			: Phenotype.of(genotype, generation);
+		return result;
+	}
+
+	/**
+	 * Sorts the given range by sorting an index array first and moving the
+	 * records afterwards, following the cycles of the index permutation.
+	 * Only one record is kept on the heap while moving the records. The
+	 * compared phenotypes are read from the mapped records for every
+	 * comparison.
+	 */
+	@Override
+	public void sort(
+		final int from,
+		final int until,
+		final Comparator<? super Phenotype<G, C>> comparator
+	) {
+		final int[] proxy = ProxySorter.sort(
+			this, from, until,
+			(store, i, j) -> comparator.compare(store.get(i), store.get(j))
+		);
+
+		final ByteBuffer record = ByteBuffer.allocate(_layout._size);
+		final BitSet moved = new BitSet(proxy.length);
+		for (int i = 0; i < proxy.length; ++i) {
+			final int start = from + i;
+			if (moved.get(i) || proxy[i] == start) {
+				continue;
+			}
+
+			record.put(0, chunk(start), offset(start), _layout._size);
+
+			int j = i;
+			while (proxy[j] != start) {
+				move(proxy[j], from + j);
+				moved.set(j);
+				j = proxy[j] - from;
+			}
+			chunk(from + j).put(offset(from + j), record, 0, _layout._size);
+			moved.set(j);
+		}
+	}
+
+	private void move(final int source, final int target) {
+		chunk(target).put(offset(target), chunk(source), offset(source), _layout._size);
+	}
+
+	@Override
+	public int length() {
+		return _length;
+	}
+
+	@Override
+	public MappedPhenotypeStore<G, C> copy(final int from, final int until) {
+		final MappedPhenotypeStore<G, C> store =
+			new MappedPhenotypeStore<>(_layout, until - from);
+
+		for (int i = from; i < until; ++i) {
+			store.chunk(i - from).put(
+				store.offset(i - from),
+				chunk(i),
+				offset(i),
+				_layout._size
+			);
+		}
+		return store;
+	}
+
+	@Override
+	public MappedPhenotypeStore<G, C> newInstance(final int length) {
+		return new MappedPhenotypeStore<>(_layout, length);
+	}
+
+	/**
+	 * Create a new, empty store with the given {@code layout}.
+	 *
+	 * @param layout the record layout
+	 * @param length the store length
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new mapped store
+	 * @throws UncheckedIOException if the mapped file can't be created
+	 */
+	static <G extends NumericGene<?, G>, C extends Comparable<? super C>>
+	MappedPhenotypeStore<G, C> of(final Layout layout, final int length) {
+		return new MappedPhenotypeStore<>(layout, length);
+	}
+
+
+	/* *************************************************************************
+	 *  Java object serialization
+	 * ************************************************************************/
+
+	// The mapped data is serialized as object store.
+	@Serial
+	private Object writeReplace() {
+		final ObjectStore<Phenotype<G, C>> store = ObjectStore.ofLength(_length);
+		for (int i = 0; i < _length; ++i) {
+			store.set(i, get(i));
+		}
+		return store;
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import io.jenetics.NumericGene;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.collection.Array;
+import io.jenetics.internal.collection.ArrayISeq;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Archive of numeric populations, whose genes are stored in memory-mapped
+ * files instead of the Java heap. The phenotype objects of such a population
+ * are created lazily, every time they are accessed. A read individual is
+ * equal, but not identical, to the written one. This allows keeping many, or
+ * very big, populations, e.g. the population history of an evolution run,
+ * without storing the phenotype objects on the heap.
+ *
+ * <pre>{@code
+ * final Path dir = Path.of("/data/populations");
+ * final List<ISeq<Phenotype<DoubleGene, Double>>> history = engine.stream()
+ *     .limit(1_000)
+ *     .map(result -> MappedPopulation.of(result.population(), dir))
+ *     .toList();
+ * }</pre>
+ *
+ * Every mapped population uses one backing file in the given directory. The
+ * file of a garbage collected population is reused by the next mapped
+ * population of the same directory. The files are deleted when the VM exits.
+ *
+ * @apiNote
+ * The mapped populations are only supported for genotypes consisting of
+ * {@link io.jenetics.DoubleChromosome}s, {@link io.jenetics.IntegerChromosome}s
+ * and {@link io.jenetics.LongChromosome}s, and {@code Double}, {@code Integer}
+ * or {@code Long} fitness values. All genotypes of a population must have the
+ * same chromosome types, chromosome ranges and chromosome length ranges.
+ * Mapped populations are meant for storing populations, not for evolving
+ * them. The {@link Engine} creates its working populations on the heap and
+ * mapping them doesn't reduce the heap usage of an evolution step. Since
+ * every element access creates a new phenotype, operations which access the
+ * elements repeatedly, like sorting, allocate more objects than on a heap
+ * population.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+public final class MappedPopulation {
+	private MappedPopulation() {}
+
+	/**
+	 * Copies the given {@code population} into a new memory-mapped
+	 * population.
+	 *
+	 * @param population the population to map
+	 * @param directory the directory of the mapped file
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the memory-mapped population
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the genotypes of the population
+	 *         don't consist of the supported chromosome types with the same
+	 *         shape, or if the fitness type is not supported
+	 * @throws java.io.UncheckedIOException if the mapped file can't be created
+	 */
+	public static <G extends NumericGene<?, G>, C extends Comparable<? super C>>
+	ISeq<Phenotype<G, C>> of(
+		final Seq<Phenotype<G, C>> population,
+		final Path directory
+	) {
+		requireNonNull(population);
+		requireNonNull(directory);
+		if (population.isEmpty()) {
+			return ISeq.empty();
+		}
+
+		final MappedPhenotypeStore<G, C> store = MappedPhenotypeStore.of(
+			MappedPhenotypeStore.Layout.of(directory, population.get(0).genotype()),
+			population.size()
+		);
+		for (int i = 0; i < population.size(); ++i) {
+			store.set(i, population.get(i));
+		}
+
+		return new ArrayISeq<>(Array.of(store).seal());
+	}
+
+	/**
+	 * Checks whether the given {@code population} is a memory-mapped
+	 * population.
+	 *
+	 * @param population the population to check
+	 * @return {@code true} if the given population is memory-mapped,
+	 *         {@code false} otherwise
+	 * @throws NullPointerException if the given {@code population} is
+	 *         {@code null}
+	 */
+	public static boolean isMapped(final Seq<?> population) {
+		return population instanceof ArrayISeq<?> seq &&
+			seq.array.store() instanceof MappedPhenotypeStore<?, ?>;
+	}
+
+}
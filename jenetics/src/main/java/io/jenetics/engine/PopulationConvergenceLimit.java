@@ -24,12 +24,11 @@ import static java.util.Objects.requireNonNull;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 
-import io.jenetics.stat.DoubleMomentStatistics;
 import io.jenetics.stat.DoubleMoments;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.2
+ * @version 7.2
  * @since 3.9
  */
 final class PopulationConvergenceLimit<N extends Number & Comparable<? super N>>
@@ -44,16 +43,12 @@ final class PopulationConvergenceLimit<N extends Number & Comparable<? super N>>
 
 	@Override
 	public boolean test(final EvolutionResult<?, N> result) {
-		final DoubleMomentStatistics fitness = new DoubleMomentStatistics();
-		result.population()
-			.forEach(p -> fitness.accept(p.fitness().doubleValue()));
-
 		return result.totalGenerations() <= 1 ||
 			_proceed.test(
 				result.bestFitness() != null
 					? result.bestFitness().doubleValue()
 					: Double.NaN,
-				DoubleMoments.of(fitness)
+				result.fitnessMoments()
 			);
 	}
 
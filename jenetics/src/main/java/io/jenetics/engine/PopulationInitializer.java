@@ -0,0 +1,108 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.random.RandomGenerator;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.internal.math.Randoms;
+import io.jenetics.internal.util.Requires;
+import io.jenetics.util.Factory;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Creates new genotypes concurrently, in chunks of {@link #CHUNK_SIZE}
+ * genotypes. Every chunk is created with its own random generator, which
+ * is derived, in chunk order, from the {@link RandomRegistry#random()} of
+ * the calling thread. The created genotypes are therefore independent of
+ * the thread scheduling of the used executor.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+final class PopulationInitializer {
+
+	/**
+	 * The number of genotypes created by one task.
+	 */
+	static final int CHUNK_SIZE = 256;
+
+	private PopulationInitializer() {
+	}
+
+	/**
+	 * Create {@code count} new genotypes with the given {@code factory}.
+	 *
+	 * @param factory the genotype factory
+	 * @param count the number of genotypes to create
+	 * @param executor the executor used for creating the genotypes
+	 * @param <G> the gene type
+	 * @return the newly created genotypes
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code count} is negative
+	 */
+	static <G extends Gene<?, G>> ISeq<Genotype<G>> genotypes(
+		final Factory<Genotype<G>> factory,
+		final int count,
+		final Executor executor
+	) {
+		requireNonNull(factory);
+		requireNonNull(executor);
+		Requires.nonNegative(count);
+
+		final RandomGenerator random = RandomRegistry.random();
+		final List<CompletableFuture<ISeq<Genotype<G>>>> chunks = new ArrayList<>();
+		for (int start = 0; start < count; start += CHUNK_SIZE) {
+			final int size = min(CHUNK_SIZE, count - start);
+			final RandomGenerator generator = Randoms.split(random);
+
+			chunks.add(supplyAsync(
+				() -> RandomRegistry.with(
+					generator,
+					r -> ISeq.of(factory::newInstance, size)
+				),
+				executor
+			));
+		}
+
+		final MSeq<Genotype<G>> genotypes = MSeq.ofLength(count);
+		int index = 0;
+		for (var chunk : chunks) {
+			for (var genotype : chunk.join()) {
+				genotypes.set(index++, genotype);
+			}
+		}
+
+		return genotypes.toISeq();
+	}
+
+}
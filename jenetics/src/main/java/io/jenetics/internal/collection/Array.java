@@ -41,7 +41,7 @@ import io.jenetics.internal.collection.Array.Store.Ref;
  *
  * @param <T> the array element type
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 7.2
  * @since 3.4
  */
 public final class Array<T> implements BaseMSeq<T>, Serializable {
@@ -157,6 +157,33 @@ public final class Array<T> implements BaseMSeq<T>, Serializable {
 		_store.sort(from + _start, until + _start, comparator);
 	}
 
+	/**
+	 * Swap a given range with a range of the same size with another array.
+	 * The array indexes are not checked.
+	 *
+	 * @since 7.2
+	 *
+	 * @param start the start index of {@code this} range, inclusively.
+	 * @param end the end index of {@code this} range, exclusively.
+	 * @param other the other array to swap the elements with.
+	 * @param otherStart the start index of the {@code other} range.
+	 */
+	public void swap(
+		final int start,
+		final int end,
+		final Array<T> other,
+		final int otherStart
+	) {
+		_store.copyIfSealed();
+		other._store.copyIfSealed();
+		_store._value.swap(
+			start + _start,
+			end + _start,
+			other._store._value,
+			otherStart + other._start
+		);
+	}
+
 	/**
 	 * Return a <i>new</i> {@code Array} object with the given values appended.
 	 *
@@ -401,7 +428,7 @@ public final class Array<T> implements BaseMSeq<T>, Serializable {
 	 *
 	 * @param <T> the array element type
 	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
-	 * @version 3.4
+	 * @version 7.2
 	 * @since 3.4
 	 */
 	public interface Store<T> {
@@ -438,6 +465,32 @@ public final class Array<T> implements BaseMSeq<T>, Serializable {
 			final Comparator<? super T> comparator
 		);
 
+		/**
+		 * Swap a given range with a range of the same size with another
+		 * store. The default implementation swaps the elements one by one;
+		 * stores with a primitive representation may swap the primitive
+		 * values directly.
+		 *
+		 * @since 7.2
+		 *
+		 * @param from the start index of {@code this} range, inclusively.
+		 * @param until the end index of {@code this} range, exclusively.
+		 * @param other the other store to swap the elements with.
+		 * @param otherFrom the start index of the {@code other} range.
+		 */
+		default void swap(
+			final int from,
+			final int until,
+			final Store<T> other,
+			final int otherFrom
+		) {
+			for (int i = until - from; --i >= 0;) {
+				final T temp = get(i + from);
+				set(i + from, other.get(otherFrom + i));
+				other.set(otherFrom + i, temp);
+			}
+		}
+
 		/**
 		 * Return the length of the array {@code Store}.
 		 *
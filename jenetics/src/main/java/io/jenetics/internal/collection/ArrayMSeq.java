@@ -36,7 +36,7 @@ import io.jenetics.util.MSeq;
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 3.4
+ * @version 7.2
  */
 public class ArrayMSeq<T> extends ArraySeq<T> implements MSeq<T> {
 
@@ -127,14 +127,23 @@ public class ArrayMSeq<T> extends ArraySeq<T> implements MSeq<T> {
 		checkIndex(start, end, otherStart, other.length());
 
 		if (start < end) {
-			for (int i = end - start; --i >= 0;) {
-				final T temp = array.get(i + start);
-				array.set(i + start, other.get(otherStart + i));
-				other.set(otherStart + i, temp);
+			if (other instanceof ArrayMSeq<T> seq) {
+				array.swap(start, end, seq.array, otherStart);
+			} else {
+				for (int i = end - start; --i >= 0;) {
+					final T temp = array.get(i + start);
+					array.set(i + start, other.get(otherStart + i));
+					other.set(otherStart + i, temp);
+				}
 			}
 		}
 	}
 
+	@Override
+	public void swap(final int index, final MSeq<T> other) {
+		swap(index, index + 1, other, index);
+	}
+
 	protected void checkIndex(
 		final int start, final int end,
 		final int otherStart, final int otherLength
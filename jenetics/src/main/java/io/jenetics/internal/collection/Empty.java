@@ -21,6 +21,8 @@ package io.jenetics.internal.collection;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -33,20 +35,29 @@ import java.util.stream.Stream;
 
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
 
 /**
  * Contains static {@code Seq} definitions.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 7.2
  * @since 3.4
  */
 public final class Empty {
 	private Empty() {}
 
-	public enum EmptyMSeq implements MSeq<Object> {
+	public static final class EmptyMSeq
+		implements MSeq<Object>, Serializable
+	{
 
-		INSTANCE;
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		public static final EmptyMSeq INSTANCE = new EmptyMSeq();
+
+		private EmptyMSeq() {
+		}
 
 		@Override
 		public void set(final int index, final Object value) {
@@ -151,16 +162,39 @@ public final class Empty {
 			return Collections.emptyIterator();
 		}
 
+		@Override
+		public int hashCode() {
+			return Seq.hashCode(this);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof Seq<?> seq && seq.isEmpty();
+		}
+
 		@Override
 		public String toString() {
 			return "[]";
 		}
 
+		@Serial
+		private Object readResolve() {
+			return INSTANCE;
+		}
+
 	}
 
-	public enum EmptyISeq implements ISeq<Object> {
+	public static final class EmptyISeq
+		implements ISeq<Object>, Serializable
+	{
 
-		INSTANCE;
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		public static final EmptyISeq INSTANCE = new EmptyISeq();
+
+		private EmptyISeq() {
+		}
 
 		@Override
 		public Iterator<Object> iterator() {
@@ -240,11 +274,26 @@ public final class Empty {
 			return EmptyMSeq.INSTANCE;
 		}
 
+		@Override
+		public int hashCode() {
+			return Seq.hashCode(this);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof Seq<?> seq && seq.isEmpty();
+		}
+
 		@Override
 		public String toString() {
 			return "[]";
 		}
 
+		@Serial
+		private Object readResolve() {
+			return INSTANCE;
+		}
+
 	}
 
 	@SuppressWarnings("unchecked")
@@ -0,0 +1,443 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.collection;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Persistent {@link ISeq} implementation, which is implemented as a
+ * bit-partitioned vector trie with a branching factor of 32. Updating
+ * ({@link #with(int, Object)}) and appending elements only copies the
+ * trie nodes on the path to the changed element. All other nodes are shared
+ * with the original sequence. The elements are stored in the leaf nodes of
+ * the trie, except the last (up to 32) elements, which are stored in a
+ * separate <em>tail</em> array.
+ * <p>
+ * The {@link #get(int)} and {@link #with(int, Object)} operations have a
+ * runtime complexity of O(log<sub>32</sub> n) and appending {@code m}
+ * elements has a complexity of O(m + m/32&middot;log<sub>32</sub> n),
+ * independent of the sequence length {@code n}.
+ *
+ * @param <T> the element type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+public final class PersistentISeq<T>
+	implements
+		ISeq<T>,
+		RandomAccess,
+		Serializable
+{
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private static final int BITS = 5;
+	private static final int WIDTH = 1 << BITS;
+	private static final int MASK = WIDTH - 1;
+
+	private static final Object[] EMPTY_NODE = new Object[WIDTH];
+	private static final Object[] EMPTY_TAIL = new Object[0];
+
+	private static final PersistentISeq<?> EMPTY =
+		new PersistentISeq<>(0, BITS, EMPTY_NODE, EMPTY_TAIL);
+
+	private final int _length;
+	private final int _shift;
+	private final Object[] _root;
+	private final Object[] _tail;
+
+	private PersistentISeq(
+		final int length,
+		final int shift,
+		final Object[] root,
+		final Object[] tail
+	) {
+		_length = length;
+		_shift = shift;
+		_root = root;
+		_tail = tail;
+	}
+
+	@Override
+	public int length() {
+		return _length;
+	}
+
+	// Index of the first element, which is stored in the tail array.
+	private int tailOffset() {
+		return _length < WIDTH ? 0 : ((_length - 1) >>> BITS) << BITS;
+	}
+
+	private Object[] leaf(final int index) {
+		if (index >= tailOffset()) {
+			return _tail;
+		}
+
+		Object[] node = _root;
+		for (int level = _shift; level > 0; level -= BITS) {
+			node = (Object[])node[(index >>> level) & MASK];
+		}
+		return node;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(final int index) {
+		checkIndex(index);
+		return (T)leaf(index)[index & MASK];
+	}
+
+	/**
+	 * Return a new sequence, where the element at the given {@code index} is
+	 * replaced by the given {@code value}. Only the trie nodes on the path
+	 * to the element are copied.
+	 *
+	 * @param index the index of the element to replace
+	 * @param value the new element
+	 * @return a new sequence with the replaced element
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	@Override
+	public PersistentISeq<T> with(final int index, final T value) {
+		checkIndex(index);
+
+		if (index >= tailOffset()) {
+			final Object[] tail = _tail.clone();
+			tail[index & MASK] = value;
+			return new PersistentISeq<>(_length, _shift, _root, tail);
+		} else {
+			final Object[] root = with(_shift, _root, index, value);
+			return new PersistentISeq<>(_length, _shift, root, _tail);
+		}
+	}
+
+	private static Object[] with(
+		final int level,
+		final Object[] node,
+		final int index,
+		final Object value
+	) {
+		final Object[] result = node.clone();
+		if (level == 0) {
+			result[index & MASK] = value;
+		} else {
+			final int child = (index >>> level) & MASK;
+			result[child] = with(level - BITS, (Object[])node[child], index, value);
+		}
+		return result;
+	}
+
+	private void checkIndex(final int index) {
+		if (index < 0 || index >= _length) {
+			throw new ArrayIndexOutOfBoundsException(format(
+				"Index %s is out of bounds [0, %s)", index, _length
+			));
+		}
+	}
+
+	@Override
+	public void forEach(final Consumer<? super T> action) {
+		requireNonNull(action);
+
+		for (int i = 0; i < _length; i += WIDTH) {
+			final Object[] leaf = leaf(i);
+			for (int j = 0, n = Math.min(WIDTH, _length - i); j < n; ++j) {
+				@SuppressWarnings("unchecked")
+				final T value = (T)leaf[j];
+				action.accept(value);
+			}
+		}
+	}
+
+	@Override
+	public <B> PersistentISeq<B> map(final Function<? super T, ? extends B> mapper) {
+		requireNonNull(mapper);
+
+		final var builder = new Builder<B>(empty());
+		forEach(value -> builder.add(mapper.apply(value)));
+		return builder.build();
+	}
+
+	@Override
+	public PersistentISeq<T> append(final Iterable<? extends T> values) {
+		final var builder = new Builder<>(this);
+		values.forEach(builder::add);
+		return builder.build();
+	}
+
+	@Override
+	public PersistentISeq<T> prepend(final Iterable<? extends T> values) {
+		final var builder = new Builder<T>(empty());
+		values.forEach(builder::add);
+		forEach(builder::add);
+		return builder.build();
+	}
+
+	@Override
+	public PersistentISeq<T> subSeq(final int start) {
+		return subSeq(start, _length);
+	}
+
+	@Override
+	public PersistentISeq<T> subSeq(final int start, final int end) {
+		Array.checkIndex(start, end, _length);
+
+		if (start == 0 && end == _length) {
+			return this;
+		}
+
+		final var builder = new Builder<T>(empty());
+		for (int i = start; i < end; ++i) {
+			builder.add(get(i));
+		}
+		return builder.build();
+	}
+
+	@Override
+	public MSeq<T> copy() {
+		return isEmpty()
+			? Empty.mseq()
+			: new ArrayMSeq<>(Array.of(ObjectStore.of(toArray())));
+	}
+
+	@Override
+	public Object[] toArray() {
+		final Object[] array = new Object[_length];
+		for (int i = 0; i < _length; i += WIDTH) {
+			System.arraycopy(leaf(i), 0, array, i, Math.min(WIDTH, _length - i));
+		}
+		return array;
+	}
+
+	@Override
+	public String toString() {
+		return toString("[", ",", "]");
+	}
+
+	@Override
+	public int hashCode() {
+		return Seq.hashCode(this);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return obj == this ||
+			obj instanceof Seq<?> other &&
+			Seq.equals(this, other);
+	}
+
+	/**
+	 * Return the empty persistent sequence.
+	 *
+	 * @param <T> the element type
+	 * @return the empty persistent sequence
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> PersistentISeq<T> empty() {
+		return (PersistentISeq<T>)EMPTY;
+	}
+
+	/**
+	 * Create a new persistent sequence with the given {@code values}.
+	 *
+	 * @param values the sequence elements
+	 * @param <T> the element type
+	 * @return a new persistent sequence with the given {@code values}
+	 * @throws NullPointerException if the given {@code values} are
+	 *         {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> PersistentISeq<T> of(final Iterable<? extends T> values) {
+		requireNonNull(values);
+
+		return values instanceof PersistentISeq<?> seq
+			? (PersistentISeq<T>)seq
+			: PersistentISeq.<T>empty().append(values);
+	}
+
+
+	/* *************************************************************************
+	 *  Builder
+	 * ************************************************************************/
+
+	/**
+	 * Appends elements to a persistent sequence. The full tail arrays are
+	 * pushed into the trie, without modifying the trie nodes of the original
+	 * sequence.
+	 *
+	 * @param <T> the element type
+	 */
+	public static final class Builder<T> {
+		private int _length;
+		private int _shift;
+		private Object[] _root;
+		private Object[] _tail;
+		private int _tailLength;
+
+		/**
+		 * Create a new builder, which appends the added elements to the
+		 * given {@code seq}.
+		 *
+		 * @param seq the initial sequence
+		 */
+		public Builder(final PersistentISeq<T> seq) {
+			_length = seq._length;
+			_shift = seq._shift;
+			_root = seq._root;
+			_tail = Arrays.copyOf(seq._tail, WIDTH);
+			_tailLength = seq._tail.length;
+		}
+
+		/**
+		 * Append the given {@code value}.
+		 *
+		 * @param value the value to append
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<T> add(final T value) {
+			if (_tailLength == WIDTH) {
+				pushTail();
+			}
+			_tail[_tailLength++] = value;
+			++_length;
+			return this;
+		}
+
+		// Pushes the full tail array into the trie.
+		private void pushTail() {
+			if ((_length >>> BITS) > (1 << _shift)) {
+				final Object[] root = new Object[WIDTH];
+				root[0] = _root;
+				root[1] = path(_shift, _tail);
+				_root = root;
+				_shift += BITS;
+			} else {
+				_root = push(_shift, _root, _tail);
+			}
+
+			_tail = new Object[WIDTH];
+			_tailLength = 0;
+		}
+
+		private Object[] push(
+			final int level,
+			final Object[] parent,
+			final Object[] tail
+		) {
+			final int index = ((_length - 1) >>> level) & MASK;
+			final Object[] result = parent.clone();
+
+			if (level == BITS) {
+				result[index] = tail;
+			} else {
+				final Object[] child = (Object[])parent[index];
+				result[index] = child != null
+					? push(level - BITS, child, tail)
+					: path(level - BITS, tail);
+			}
+
+			return result;
+		}
+
+		private static Object[] path(final int level, final Object[] node) {
+			if (level == 0) {
+				return node;
+			}
+
+			final Object[] result = new Object[WIDTH];
+			result[0] = path(level - BITS, node);
+			return result;
+		}
+
+		/**
+		 * Return a new persistent sequence with the added elements.
+		 *
+		 * @return a new persistent sequence
+		 */
+		public PersistentISeq<T> build() {
+			return _length == 0
+				? empty()
+				: new PersistentISeq<>(
+					_length,
+					_shift,
+					_root,
+					Arrays.copyOf(_tail, _tailLength)
+				);
+		}
+	}
+
+
+	/* *************************************************************************
+	 *  Java object serialization
+	 * ************************************************************************/
+
+	@Serial
+	private Object writeReplace() {
+		return new SerialProxy(SerialProxy.PERSISTENT_ISEQ, this);
+	}
+
+	@Serial
+	private void readObject(final ObjectInputStream stream)
+		throws InvalidObjectException
+	{
+		throw new InvalidObjectException("Serialization proxy required.");
+	}
+
+	void write(final ObjectOutput out) throws IOException {
+		writeInt(_length, out);
+		for (int i = 0; i < _length; ++i) {
+			out.writeObject(get(i));
+		}
+	}
+
+	static PersistentISeq<Object> read(final ObjectInput in)
+		throws IOException, ClassNotFoundException
+	{
+		final int length = readInt(in);
+		final var builder = new Builder<>(empty());
+		for (int i = 0; i < length; ++i) {
+			builder.add(in.readObject());
+		}
+		return builder.build();
+	}
+
+}
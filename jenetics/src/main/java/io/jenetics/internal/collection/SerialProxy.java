@@ -28,7 +28,7 @@ import java.io.StreamCorruptedException;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 7.2
  * @since 6.0
  */
 final class SerialProxy implements Externalizable {
@@ -39,6 +39,7 @@ final class SerialProxy implements Externalizable {
 	static final byte OBJECT_STORE = 1;
 	static final byte ARRAY = 2;
 	static final byte CHAR_STORE = 3;
+	static final byte PERSISTENT_ISEQ = 4;
 
 	/**
 	 * The type being serialized.
@@ -74,6 +75,7 @@ final class SerialProxy implements Externalizable {
 			case OBJECT_STORE -> ((ObjectStore<?>)_object).write(out);
 			case ARRAY -> ((Array<?>)_object).write(out);
 			case CHAR_STORE -> ((CharStore)_object).write(out);
+			case PERSISTENT_ISEQ -> ((PersistentISeq<?>)_object).write(out);
 			default -> throw new StreamCorruptedException("Unknown serialized type.");
 		}
 	}
@@ -87,6 +89,7 @@ final class SerialProxy implements Externalizable {
 			case OBJECT_STORE -> ObjectStore.read(in);
 			case ARRAY -> Array.read(in);
 			case CHAR_STORE -> CharStore.read(in);
+			case PERSISTENT_ISEQ -> PersistentISeq.read(in);
 			default -> throw new StreamCorruptedException("Unknown serialized type.");
 		};
 	}
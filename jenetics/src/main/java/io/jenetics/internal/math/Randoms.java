@@ -23,6 +23,8 @@ import static java.lang.Math.abs;
 import static io.jenetics.internal.util.Requires.probability;
 
 import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
 import java.util.stream.IntStream;
 
 /**
@@ -30,11 +32,30 @@ import java.util.stream.IntStream;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 7.0
+ * @version 7.2
  */
 public final class Randoms {
 	private Randoms() {}
 
+	private static final RandomGeneratorFactory<RandomGenerator> FACTORY =
+		RandomGeneratorFactory.of("L64X256MixRandom");
+
+	/**
+	 * Return a new, independent random generator, which is derived from the
+	 * given {@code random} generator. If the given generator is
+	 * {@link SplittableGenerator} it is split, otherwise a new
+	 * {@code L64X256MixRandom} generator is seeded with the next
+	 * {@code long} value of the given generator.
+	 *
+	 * @param random the parent random generator
+	 * @return a new, independent random generator
+	 */
+	public static RandomGenerator split(final RandomGenerator random) {
+		return random instanceof SplittableGenerator splittable
+			? splittable.split()
+			: FACTORY.create(random.nextLong());
+	}
+
 	public static byte nextByte(final RandomGenerator random) {
 		return (byte)random.nextInt(Byte.MIN_VALUE, Byte.MAX_VALUE + 1);
 	}
@@ -0,0 +1,372 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * {@link DataInput}, which reads the blocks written by a {@link BlockOutput}
+ * from a {@link ReadableByteChannel}.
+ *
+ * @see BlockOutput
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+public final class BlockInput implements DataInput, AutoCloseable {
+
+	private final ReadableByteChannel _channel;
+	private final Inflater _inflater;
+	private final ByteBuffer _header = ByteBuffer.allocate(Integer.BYTES*2);
+
+	private ByteBuffer _buffer = ByteBuffer.allocate(0);
+	private ByteBuffer _stored = ByteBuffer.allocate(0);
+	private boolean _eos = false;
+
+	/**
+	 * Create a new block input.
+	 *
+	 * @param channel the source channel
+	 * @param compressed {@code true} if the blocks are compressed
+	 * @throws NullPointerException if the {@code channel} is {@code null}
+	 */
+	public BlockInput(final ReadableByteChannel channel, final boolean compressed) {
+		_channel = requireNonNull(channel);
+		_inflater = compressed ? new Inflater() : null;
+	}
+
+	// Makes sure, that the given number of bytes is available.
+	private void require(final int bytes) throws IOException {
+		if (_buffer.remaining() >= bytes) {
+			return;
+		}
+
+		// Primitive values may span several blocks.
+		while (_buffer.remaining() < bytes) {
+			final ByteBuffer next = readBlock();
+			if (_buffer.hasRemaining()) {
+				final ByteBuffer joined = ByteBuffer
+					.allocate(_buffer.remaining() + next.remaining());
+				joined.put(_buffer).put(next).flip();
+				_buffer = joined;
+			} else {
+				_buffer = next;
+			}
+		}
+	}
+
+	private ByteBuffer readBlock() throws IOException {
+		if (_eos) {
+			throw new EOFException();
+		}
+
+		_header.clear();
+		readFully(_header);
+		_header.flip();
+		final int length = _header.getInt();
+		final int stored = _header.getInt();
+		if (length < 0 || stored < 0) {
+			throw new StreamCorruptedException("Invalid block header.");
+		}
+		if (length == 0) {
+			_eos = true;
+			throw new EOFException();
+		}
+
+		if (_inflater == null) {
+			if (stored != length) {
+				throw new StreamCorruptedException("Invalid block length.");
+			}
+			final ByteBuffer block = ByteBuffer.allocate(length);
+			readFully(block);
+			return block.flip().order(ByteOrder.BIG_ENDIAN);
+		}
+
+		if (_stored.capacity() < stored) {
+			_stored = ByteBuffer.allocate(stored);
+		}
+		_stored.clear().limit(stored);
+		readFully(_stored);
+
+		final byte[] data = new byte[length];
+		try {
+			_inflater.reset();
+			_inflater.setInput(_stored.array(), 0, stored);
+			int n = 0;
+			while (n < length && !_inflater.finished()) {
+				final int read = _inflater.inflate(data, n, length - n);
+				if (read == 0 && _inflater.needsInput()) {
+					break;
+				}
+				n += read;
+			}
+			if (n != length) {
+				throw new StreamCorruptedException("Invalid compressed block.");
+			}
+		} catch (DataFormatException e) {
+			throw new StreamCorruptedException(e.getMessage());
+		}
+
+		return ByteBuffer.wrap(data).order(ByteOrder.BIG_ENDIAN);
+	}
+
+	private void readFully(final ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (_channel.read(buffer) < 0) {
+				throw new EOFException();
+			}
+		}
+	}
+
+	@Override
+	public void readFully(final byte[] bytes) throws IOException {
+		readFully(bytes, 0, bytes.length);
+	}
+
+	@Override
+	public void readFully(final byte[] bytes, final int offset, final int length)
+		throws IOException
+	{
+		int off = offset;
+		int len = length;
+		while (len > 0) {
+			require(1);
+			final int n = Math.min(len, _buffer.remaining());
+			_buffer.get(bytes, off, n);
+			off += n;
+			len -= n;
+		}
+	}
+
+	@Override
+	public int skipBytes(final int n) throws IOException {
+		int skipped = 0;
+		while (skipped < n) {
+			require(1);
+			final int s = Math.min(n - skipped, _buffer.remaining());
+			_buffer.position(_buffer.position() + s);
+			skipped += s;
+		}
+		return skipped;
+	}
+
+	@Override
+	public boolean readBoolean() throws IOException {
+		return readByte() != 0;
+	}
+
+	@Override
+	public byte readByte() throws IOException {
+		require(1);
+		return _buffer.get();
+	}
+
+	@Override
+	public int readUnsignedByte() throws IOException {
+		return readByte() & 0xFF;
+	}
+
+	@Override
+	public short readShort() throws IOException {
+		require(Short.BYTES);
+		return _buffer.getShort();
+	}
+
+	@Override
+	public int readUnsignedShort() throws IOException {
+		return readShort() & 0xFFFF;
+	}
+
+	@Override
+	public char readChar() throws IOException {
+		require(Character.BYTES);
+		return _buffer.getChar();
+	}
+
+	@Override
+	public int readInt() throws IOException {
+		require(Integer.BYTES);
+		return _buffer.getInt();
+	}
+
+	@Override
+	public long readLong() throws IOException {
+		require(Long.BYTES);
+		return _buffer.getLong();
+	}
+
+	@Override
+	public float readFloat() throws IOException {
+		require(Float.BYTES);
+		return _buffer.getFloat();
+	}
+
+	@Override
+	public double readDouble() throws IOException {
+		require(Double.BYTES);
+		return _buffer.getDouble();
+	}
+
+	/**
+	 * Reads the next line of text, like the (deprecated)
+	 * {@link java.io.DataInputStream#readLine()} method. Every byte is
+	 * converted into one character, without character decoding. A line is
+	 * terminated by a line feed, a carriage return, a carriage return followed
+	 * by a line feed, or the end of the input.
+	 *
+	 * @return the next line of text, without the line terminator, or
+	 *         {@code null} if the end of the input has been reached
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public String readLine() throws IOException {
+		if (!available()) {
+			return null;
+		}
+
+		final StringBuilder line = new StringBuilder();
+		while (available()) {
+			final int c = _buffer.get() & 0xFF;
+			if (c == '\n') {
+				break;
+			}
+			if (c == '\r') {
+				if (available() && _buffer.get(_buffer.position()) == '\n') {
+					_buffer.get();
+				}
+				break;
+			}
+			line.append((char)c);
+		}
+		return line.toString();
+	}
+
+	// Return true, if at least one more byte can be read.
+	private boolean available() throws IOException {
+		try {
+			require(1);
+			return true;
+		} catch (EOFException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Reads a string, written by the {@link BlockOutput#writeUTF(String)}
+	 * method.
+	 *
+	 * @return the read string
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public String readUTF() throws IOException {
+		final int length = readInt();
+		if (length < 0) {
+			throw new StreamCorruptedException("Invalid string length.");
+		}
+		final byte[] bytes = new byte[length];
+		readFully(bytes);
+		return new String(bytes, UTF_8);
+	}
+
+	/**
+	 * Reads {@code values.length} {@code double} values.
+	 *
+	 * @param values the array the values are read into
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void readDoubles(final double[] values) throws IOException {
+		int i = 0;
+		while (i < values.length) {
+			require(Double.BYTES);
+			final int n = Math.min(
+				values.length - i,
+				_buffer.remaining()/Double.BYTES
+			);
+			_buffer.asDoubleBuffer().get(values, i, n);
+			_buffer.position(_buffer.position() + n*Double.BYTES);
+			i += n;
+		}
+	}
+
+	/**
+	 * Reads {@code values.length} {@code long} values.
+	 *
+	 * @param values the array the values are read into
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void readLongs(final long[] values) throws IOException {
+		int i = 0;
+		while (i < values.length) {
+			require(Long.BYTES);
+			final int n = Math.min(
+				values.length - i,
+				_buffer.remaining()/Long.BYTES
+			);
+			_buffer.asLongBuffer().get(values, i, n);
+			_buffer.position(_buffer.position() + n*Long.BYTES);
+			i += n;
+		}
+	}
+
+	/**
+	 * Reads {@code values.length} {@code int} values.
+	 *
+	 * @param values the array the values are read into
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void readInts(final int[] values) throws IOException {
+		int i = 0;
+		while (i < values.length) {
+			require(Integer.BYTES);
+			final int n = Math.min(
+				values.length - i,
+				_buffer.remaining()/Integer.BYTES
+			);
+			_buffer.asIntBuffer().get(values, i, n);
+			_buffer.position(_buffer.position() + n*Integer.BYTES);
+			i += n;
+		}
+	}
+
+	/**
+	 * Releases the decompression resources. The underlying channel is
+	 * <em>not</em> closed.
+	 */
+	@Override
+	public void close() {
+		if (_inflater != null) {
+			_inflater.end();
+		}
+	}
+
+}
@@ -0,0 +1,334 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.Deflater;
+
+/**
+ * Buffered {@link DataOutput}, which writes its data in blocks to a
+ * {@link WritableByteChannel}. Every block starts with its raw and its stored
+ * length, both written as 4 byte integers, followed by the stored bytes. If
+ * compression is enabled, the blocks are compressed with the
+ * <em>deflate</em> algorithm. The end of the block stream is marked with an
+ * empty block. Primitive values are written in <em>big endian</em> byte order,
+ * like the {@link java.io.DataOutputStream}.
+ *
+ * @see BlockInput
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+public final class BlockOutput implements DataOutput, Closeable {
+
+	/**
+	 * The default (raw) block size.
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 1 << 18;
+
+	private final WritableByteChannel _channel;
+	private final ByteBuffer _buffer;
+	private final Deflater _deflater;
+	private final ByteBuffer _header = ByteBuffer.allocate(Integer.BYTES*2);
+
+	private byte[] _compressed = new byte[0];
+	private boolean _closed = false;
+
+	/**
+	 * Create a new block output.
+	 *
+	 * @param channel the target channel
+	 * @param compress {@code true} if the blocks should be compressed
+	 * @param blockSize the raw block size
+	 * @throws NullPointerException if the {@code channel} is {@code null}
+	 * @throws IllegalArgumentException if the {@code blockSize} is smaller
+	 *         than 16
+	 */
+	public BlockOutput(
+		final WritableByteChannel channel,
+		final boolean compress,
+		final int blockSize
+	) {
+		_channel = requireNonNull(channel);
+		if (blockSize < 16) {
+			throw new IllegalArgumentException(
+				"Block size must be at least 16: " + blockSize
+			);
+		}
+		_buffer = ByteBuffer.allocate(blockSize).order(ByteOrder.BIG_ENDIAN);
+		_deflater = compress ? new Deflater(Deflater.BEST_SPEED) : null;
+	}
+
+	/**
+	 * Create a new block output with the {@link #DEFAULT_BLOCK_SIZE}.
+	 *
+	 * @param channel the target channel
+	 * @param compress {@code true} if the blocks should be compressed
+	 * @throws NullPointerException if the {@code channel} is {@code null}
+	 */
+	public BlockOutput(final WritableByteChannel channel, final boolean compress) {
+		this(channel, compress, DEFAULT_BLOCK_SIZE);
+	}
+
+	private void ensure(final int bytes) throws IOException {
+		if (_buffer.remaining() < bytes) {
+			flushBlock();
+		}
+	}
+
+	private void flushBlock() throws IOException {
+		if (_buffer.position() == 0) {
+			return;
+		}
+
+		_buffer.flip();
+		final int length = _buffer.remaining();
+		if (_deflater != null) {
+			if (_compressed.length < length + 64) {
+				_compressed = new byte[length + length/8 + 64];
+			}
+			_deflater.reset();
+			_deflater.setInput(_buffer.array(), 0, length);
+			_deflater.finish();
+			int stored = 0;
+			while (!_deflater.finished()) {
+				stored += _deflater.deflate(
+					_compressed, stored, _compressed.length - stored
+				);
+				if (stored == _compressed.length) {
+					_compressed = java.util.Arrays.copyOf(
+						_compressed, _compressed.length*2
+					);
+				}
+			}
+			writeBlock(length, ByteBuffer.wrap(_compressed, 0, stored));
+		} else {
+			writeBlock(length, _buffer);
+		}
+		_buffer.clear();
+	}
+
+	private void writeBlock(final int length, final ByteBuffer data)
+		throws IOException
+	{
+		_header.clear();
+		_header.putInt(length).putInt(data.remaining()).flip();
+		writeFully(_header);
+		writeFully(data);
+	}
+
+	private void writeFully(final ByteBuffer data) throws IOException {
+		while (data.hasRemaining()) {
+			_channel.write(data);
+		}
+	}
+
+	@Override
+	public void write(final int b) throws IOException {
+		ensure(1);
+		_buffer.put((byte)b);
+	}
+
+	@Override
+	public void write(final byte[] bytes) throws IOException {
+		write(bytes, 0, bytes.length);
+	}
+
+	@Override
+	public void write(final byte[] bytes, final int offset, final int length)
+		throws IOException
+	{
+		int off = offset;
+		int len = length;
+		while (len > 0) {
+			ensure(1);
+			final int n = Math.min(len, _buffer.remaining());
+			_buffer.put(bytes, off, n);
+			off += n;
+			len -= n;
+		}
+	}
+
+	@Override
+	public void writeBoolean(final boolean value) throws IOException {
+		write(value ? 1 : 0);
+	}
+
+	@Override
+	public void writeByte(final int value) throws IOException {
+		write(value);
+	}
+
+	@Override
+	public void writeShort(final int value) throws IOException {
+		ensure(Short.BYTES);
+		_buffer.putShort((short)value);
+	}
+
+	@Override
+	public void writeChar(final int value) throws IOException {
+		ensure(Character.BYTES);
+		_buffer.putChar((char)value);
+	}
+
+	@Override
+	public void writeInt(final int value) throws IOException {
+		ensure(Integer.BYTES);
+		_buffer.putInt(value);
+	}
+
+	@Override
+	public void writeLong(final long value) throws IOException {
+		ensure(Long.BYTES);
+		_buffer.putLong(value);
+	}
+
+	@Override
+	public void writeFloat(final float value) throws IOException {
+		ensure(Float.BYTES);
+		_buffer.putFloat(value);
+	}
+
+	@Override
+	public void writeDouble(final double value) throws IOException {
+		ensure(Double.BYTES);
+		_buffer.putDouble(value);
+	}
+
+	@Override
+	public void writeBytes(final String value) throws IOException {
+		for (int i = 0, n = value.length(); i < n; ++i) {
+			write(value.charAt(i));
+		}
+	}
+
+	@Override
+	public void writeChars(final String value) throws IOException {
+		for (int i = 0, n = value.length(); i < n; ++i) {
+			writeChar(value.charAt(i));
+		}
+	}
+
+	/**
+	 * Writes the given string as length prefixed UTF-8 byte sequence. Unlike
+	 * the {@link java.io.DataOutputStream#writeUTF(String)} method, there is no
+	 * length limit for the string.
+	 *
+	 * @param value the string to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public void writeUTF(final String value) throws IOException {
+		final byte[] bytes = value.getBytes(UTF_8);
+		writeInt(bytes.length);
+		write(bytes);
+	}
+
+	/**
+	 * Writes the given {@code double} values, without length information.
+	 *
+	 * @param values the values to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void writeDoubles(final double[] values) throws IOException {
+		int i = 0;
+		while (i < values.length) {
+			ensure(Double.BYTES);
+			final int n = Math.min(
+				values.length - i,
+				_buffer.remaining()/Double.BYTES
+			);
+			_buffer.asDoubleBuffer().put(values, i, n);
+			_buffer.position(_buffer.position() + n*Double.BYTES);
+			i += n;
+		}
+	}
+
+	/**
+	 * Writes the given {@code long} values, without length information.
+	 *
+	 * @param values the values to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void writeLongs(final long[] values) throws IOException {
+		int i = 0;
+		while (i < values.length) {
+			ensure(Long.BYTES);
+			final int n = Math.min(
+				values.length - i,
+				_buffer.remaining()/Long.BYTES
+			);
+			_buffer.asLongBuffer().put(values, i, n);
+			_buffer.position(_buffer.position() + n*Long.BYTES);
+			i += n;
+		}
+	}
+
+	/**
+	 * Writes the given {@code int} values, without length information.
+	 *
+	 * @param values the values to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void writeInts(final int[] values) throws IOException {
+		int i = 0;
+		while (i < values.length) {
+			ensure(Integer.BYTES);
+			final int n = Math.min(
+				values.length - i,
+				_buffer.remaining()/Integer.BYTES
+			);
+			_buffer.asIntBuffer().put(values, i, n);
+			_buffer.position(_buffer.position() + n*Integer.BYTES);
+			i += n;
+		}
+	}
+
+	/**
+	 * Writes the buffered data and the end-of-stream block. The underlying
+	 * channel is <em>not</em> closed.
+	 *
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public void close() throws IOException {
+		if (!_closed) {
+			_closed = true;
+			try {
+				flushBlock();
+				writeBlock(0, ByteBuffer.allocate(0));
+			} finally {
+				if (_deflater != null) {
+					_deflater.end();
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collector.Characteristics;
+
+/**
+ * Thread safe version of the {@link DoubleMomentStatistics} class, which can be
+ * updated concurrently from multiple threads without contending on a single
+ * lock. The values are recorded in independent {@link DoubleMomentStatistics}
+ * <em>stripes</em>, which are merged on read.
+ *
+ * <pre>{@code
+ * final ConcurrentDoubleMomentStatistics statistics =
+ *     new ConcurrentDoubleMomentStatistics();
+ *
+ * // Called concurrently by several threads.
+ * statistics.accept(value);
+ *
+ * final DoubleMomentStatistics snapshot = statistics.snapshot();
+ * }</pre>
+ *
+ * @implNote
+ * Every thread is mapped to one stripe, which is only locked while it is
+ * updated. The locks are therefore almost always uncontended. Reading the
+ * statistics merges all stripes, and is more expensive than reading a
+ * {@link DoubleMomentStatistics} object.
+ *
+ * @see DoubleMomentStatistics
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+public final class ConcurrentDoubleMomentStatistics implements DoubleConsumer {
+
+	private final Stripes<DoubleMomentStatistics> _stripes =
+		new Stripes<>(DoubleMomentStatistics::new);
+
+	/**
+	 * Create an empty moments object.
+	 */
+	public ConcurrentDoubleMomentStatistics() {
+	}
+
+	/**
+	 * Records a new value into the moments information.
+	 *
+	 * @param value the input {@code value}
+	 */
+	@Override
+	public void accept(final double value) {
+		final DoubleMomentStatistics stripe = _stripes.stripe();
+		synchronized (stripe) {
+			stripe.accept(value);
+		}
+	}
+
+	/**
+	 * Combine two concurrent moment statistic objects.
+	 *
+	 * @param other the other statistics to combine with {@code this} one
+	 * @return {@code this} statistics object
+	 * @throws NullPointerException if the other statistical summary is
+	 *         {@code null}
+	 */
+	public ConcurrentDoubleMomentStatistics
+	combine(final ConcurrentDoubleMomentStatistics other) {
+		final DoubleMomentStatistics snapshot = other.snapshot();
+		if (snapshot.count() > 0) {
+			final DoubleMomentStatistics stripe = _stripes.stripe();
+			synchronized (stripe) {
+				stripe.combine(snapshot);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Return a consistent snapshot of the current statistics, by merging the
+	 * statistics of all stripes.
+	 *
+	 * @return a new snapshot of the current statistics
+	 */
+	public DoubleMomentStatistics snapshot() {
+		final DoubleMomentStatistics result = new DoubleMomentStatistics();
+		for (int i = 0; i < _stripes.length(); ++i) {
+			final DoubleMomentStatistics stripe = _stripes.get(i);
+			synchronized (stripe) {
+				if (stripe.count() > 0) {
+					result.combine(stripe);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the count of values recorded.
+	 *
+	 * @return the count of recorded values
+	 */
+	public long count() {
+		long count = 0;
+		for (int i = 0; i < _stripes.length(); ++i) {
+			final DoubleMomentStatistics stripe = _stripes.get(i);
+			synchronized (stripe) {
+				count += stripe.count();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Compares the state of two concurrent statistics objects, by comparing
+	 * their {@link #snapshot()}s.
+	 *
+	 * @see DoubleMomentStatistics#sameState(DoubleMomentStatistics)
+	 *
+	 * @param other the other object for the test
+	 * @return {@code true} the {@code this} and the {@code other} objects have
+	 *         the same state, {@code false} otherwise
+	 */
+	public boolean sameState(final ConcurrentDoubleMomentStatistics other) {
+		return this == other || snapshot().sameState(other.snapshot());
+	}
+
+	/**
+	 * Return a {@code DoubleMoments} object from the current statistics.
+	 *
+	 * @return a {@code DoubleMoments} object from the current statistics
+	 */
+	public DoubleMoments toDoubleMoments() {
+		return snapshot().toDoubleMoments();
+	}
+
+	@Override
+	public String toString() {
+		return snapshot().toString();
+	}
+
+	/**
+	 * Return a <em>concurrent</em> {@code Collector} which applies an
+	 * double-producing mapping function to each input element, and returns
+	 * moments-statistics for the resulting values. All threads of a parallel
+	 * stream update the same result container.
+	 *
+	 * <pre>{@code
+	 * final Stream<SomeObject> stream = ...
+	 * final ConcurrentDoubleMomentStatistics statistics = stream.parallel()
+	 *     .collect(toConcurrentDoubleMomentStatistics(v -> v.doubleValue()));
+	 * }</pre>
+	 *
+	 * @param mapper a mapping function to apply to each element
+	 * @param <T> the type of the input elements
+	 * @return a concurrent {@code Collector} implementing the moments-statistics
+	 *         reduction
+	 * @throws java.lang.NullPointerException if the given {@code mapper} is
+	 *         {@code null}
+	 */
+	public static <T> Collector<T, ?, ConcurrentDoubleMomentStatistics>
+	toConcurrentDoubleMomentStatistics(final ToDoubleFunction<? super T> mapper) {
+		requireNonNull(mapper);
+		return Collector.of(
+			ConcurrentDoubleMomentStatistics::new,
+			(r, t) -> r.accept(mapper.applyAsDouble(t)),
+			ConcurrentDoubleMomentStatistics::combine,
+			Characteristics.CONCURRENT,
+			Characteristics.UNORDERED
+		);
+	}
+
+}
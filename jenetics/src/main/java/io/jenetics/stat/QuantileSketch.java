@@ -0,0 +1,512 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+
+/**
+ * Mergeable quantile sketch, which allows to estimate arbitrary quantiles of
+ * a stream of double values in one pass and with bounded memory. The
+ * implementation follows the algorithm published by
+ * <p>
+ * <strong>Zohar KARNIN, Kevin LANG and Edo LIBERTY</strong>:
+ * <em>Optimal Quantile Approximation in Streams</em>
+ * <br>
+ * [<a href="https://arxiv.org/abs/1603.05346">IEEE 57th Annual Symposium on
+ * Foundations of Computer Science (FOCS); 2016</a>]
+ * <p>
+ * In contrast to the {@link Quantile} class, one sketch object delivers the
+ * estimations for <em>all</em> quantiles, and sketches can be combined
+ * without losing accuracy. This makes the sketch usable for parallel streams.
+ * <pre>{@code
+ * final DoubleStream stream = ...
+ * final QuantileSketch sketch = stream.parallel().collect(
+ *         QuantileSketch::new,
+ *         QuantileSketch::accept,
+ *         QuantileSketch::combine
+ *     );
+ *
+ * final double median = sketch.quantile(0.5);
+ * final double[] quartiles = sketch.quantiles(0.25, 0.5, 0.75);
+ * }</pre>
+ *
+ * The rank error of the estimated quantiles is roughly {@code 1.7/k}, where
+ * {@code k} is the accuracy parameter of the sketch. The memory consumption
+ * is {@code O(k*log(n/k))} for {@code n} accepted values. As long as less
+ * than {@code k} values are accepted, the quantiles are exact.
+ *
+ * @implNote
+ * This implementation is not thread safe. However, it is safe to use
+ * {@link #toQuantileSketch(ToDoubleFunction)} on a parallel stream,
+ * because the parallel implementation of
+ * {@link java.util.stream.Stream#collect Stream.collect()}
+ * provides the necessary partitioning, isolation, and merging of results for
+ * safe and efficient parallel execution.
+ *
+ * @see Quantile
+ * @see <a href="https://en.wikipedia.org/wiki/Quantile">Wikipedia: Quantile</a>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+public final class QuantileSketch implements DoubleConsumer {
+
+	/**
+	 * The default accuracy parameter of the sketch.
+	 */
+	public static final int DEFAULT_K = 200;
+
+	// Capacity decrease factor of the lower compactor levels.
+	private static final double C = 2.0/3.0;
+
+	private final int _k;
+
+	// The compactors of the sketch. The values of level h have weight 2^h.
+	private double[][] _levels = new double[0][];
+	private int[] _sizes = new int[0];
+
+	private int _size = 0;
+	private int _capacity = 0;
+
+	private long _count = 0;
+	private double _min = Double.POSITIVE_INFINITY;
+	private double _max = Double.NEGATIVE_INFINITY;
+
+	// State of the random offset generator of the compactions.
+	private long _seed = 0x9E3779B97F4A7C15L;
+
+	/**
+	 * Create a new quantile sketch with the given accuracy parameter.
+	 *
+	 * @param k the accuracy parameter of the sketch
+	 * @throws IllegalArgumentException if {@code k < 8}
+	 */
+	public QuantileSketch(final int k) {
+		if (k < 8) {
+			throw new IllegalArgumentException(format(
+				"Accuracy parameter must be at least 8, but was %d.", k
+			));
+		}
+		_k = k;
+		grow();
+	}
+
+	/**
+	 * Create a new quantile sketch with the {@link #DEFAULT_K} accuracy
+	 * parameter.
+	 */
+	public QuantileSketch() {
+		this(DEFAULT_K);
+	}
+
+	private QuantileSketch(final QuantileSketch other) {
+		_k = other._k;
+		_levels = new double[other._levels.length][];
+		for (int h = 0; h < _levels.length; ++h) {
+			_levels[h] = Arrays.copyOf(other._levels[h], other._sizes[h]);
+		}
+		_sizes = other._sizes.clone();
+		_size = other._size;
+		_capacity = other._capacity;
+		_count = other._count;
+		_min = other._min;
+		_max = other._max;
+		_seed = other._seed;
+	}
+
+	/**
+	 * Return an independent copy of {@code this} sketch. Changing the copy
+	 * doesn't change {@code this} sketch and vice versa.
+	 *
+	 * @return a copy of {@code this} sketch
+	 */
+	public QuantileSketch copy() {
+		return new QuantileSketch(this);
+	}
+
+	/**
+	 * Return the accuracy parameter of the sketch.
+	 *
+	 * @return the accuracy parameter of the sketch
+	 */
+	public int k() {
+		return _k;
+	}
+
+	/**
+	 * Return the number of accepted values.
+	 *
+	 * @return the number of accepted values
+	 */
+	public long count() {
+		return _count;
+	}
+
+	/**
+	 * Return the minimum value recorded, or {@code Double.POSITIVE_INFINITY} if
+	 * no values have been recorded.
+	 *
+	 * @return the minimum value, or {@code Double.POSITIVE_INFINITY} if none
+	 */
+	public double min() {
+		return _min;
+	}
+
+	/**
+	 * Return the maximum value recorded, or {@code Double.NEGATIVE_INFINITY} if
+	 * no values have been recorded.
+	 *
+	 * @return the maximum value, or {@code Double.NEGATIVE_INFINITY} if none
+	 */
+	public double max() {
+		return _max;
+	}
+
+	@Override
+	public void accept(final double value) {
+		if (_sizes[0] == _levels[0].length) {
+			_levels[0] = Arrays.copyOf(_levels[0], Math.max(8, _sizes[0]*2));
+		}
+		_levels[0][_sizes[0]++] = value;
+		++_size;
+		++_count;
+		_min = Math.min(_min, value);
+		_max = Math.max(_max, value);
+
+		if (_size >= _capacity) {
+			compress();
+		}
+	}
+
+	/**
+	 * Combine two quantile sketches. The {@code other} sketch is not changed.
+	 *
+	 * @param other the other sketch to combine
+	 * @return {@code this} sketch
+	 * @throws NullPointerException if the {@code other} sketch is {@code null}
+	 */
+	public QuantileSketch combine(final QuantileSketch other) {
+		requireNonNull(other);
+
+		while (_levels.length < other._levels.length) {
+			grow();
+		}
+		for (int h = 0; h < other._levels.length; ++h) {
+			append(h, other._levels[h], other._sizes[h]);
+		}
+		_count += other._count;
+		_min = Math.min(_min, other._min);
+		_max = Math.max(_max, other._max);
+
+		updateSize();
+		while (_size >= _capacity) {
+			compress();
+		}
+
+		return this;
+	}
+
+	/**
+	 * Reset the sketch to its initial state.
+	 */
+	public void reset() {
+		_levels = new double[0][];
+		_sizes = new int[0];
+		_count = 0;
+		_min = Double.POSITIVE_INFINITY;
+		_max = Double.NEGATIVE_INFINITY;
+		grow();
+		updateSize();
+	}
+
+	private int capacity(final int level) {
+		final int height = _levels.length - level - 1;
+		return (int)Math.ceil(Math.pow(C, height)*_k) + 1;
+	}
+
+	private void grow() {
+		_levels = Arrays.copyOf(_levels, _levels.length + 1);
+		_levels[_levels.length - 1] = new double[0];
+		_sizes = Arrays.copyOf(_sizes, _sizes.length + 1);
+
+		_capacity = 0;
+		for (int h = 0; h < _levels.length; ++h) {
+			_capacity += capacity(h);
+		}
+	}
+
+	private void updateSize() {
+		_size = 0;
+		for (int size : _sizes) {
+			_size += size;
+		}
+	}
+
+	private void append(final int level, final double[] values, final int length) {
+		final int size = _sizes[level];
+		if (size + length > _levels[level].length) {
+			_levels[level] = Arrays.copyOf(
+				_levels[level],
+				Math.max(size + length, _levels[level].length*2)
+			);
+		}
+		System.arraycopy(values, 0, _levels[level], size, length);
+		_sizes[level] = size + length;
+	}
+
+	// Compacts the lowest level, which exceeds its capacity.
+	private void compress() {
+		for (int h = 0; h < _levels.length; ++h) {
+			if (_sizes[h] >= capacity(h)) {
+				if (h + 1 >= _levels.length) {
+					grow();
+				}
+				compact(h);
+				updateSize();
+				return;
+			}
+		}
+	}
+
+	// Moves every other (sorted) value of the given level to the next level.
+	private void compact(final int level) {
+		final double[] values = _levels[level];
+		final int size = _sizes[level];
+		Arrays.sort(values, 0, size);
+
+		// The largest value of an odd sized level stays at its level.
+		final int pairs = size/2;
+		final int offset = nextBit();
+
+		final double[] compacted = new double[pairs];
+		for (int i = 0; i < pairs; ++i) {
+			compacted[i] = values[2*i + offset];
+		}
+		if (size%2 == 1) {
+			values[0] = values[size - 1];
+			_sizes[level] = 1;
+		} else {
+			_sizes[level] = 0;
+		}
+
+		append(level + 1, compacted, pairs);
+	}
+
+	private int nextBit() {
+		// SplitMix64 step.
+		long z = (_seed += 0x9E3779B97F4A7C15L);
+		z = (z ^ (z >>> 30))*0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27))*0x94D049BB133111EBL;
+		return (int)((z ^ (z >>> 31)) >>> 63);
+	}
+
+	/**
+	 * Return the estimated rank of the given {@code value}, which is the
+	 * fraction of the accepted values, which are less or equal than the given
+	 * {@code value}.
+	 *
+	 * @param value the value, whose rank is estimated
+	 * @return the estimated rank of the given {@code value}, in the range
+	 *         {@code [0, 1]}, or {@code Double.NaN} if the sketch is empty
+	 */
+	public double rank(final double value) {
+		if (_count == 0) {
+			return Double.NaN;
+		}
+
+		long weight = 0;
+		long total = 0;
+		for (int h = 0; h < _levels.length; ++h) {
+			final double[] values = _levels[h];
+			for (int i = 0, n = _sizes[h]; i < n; ++i) {
+				if (values[i] <= value) {
+					weight += 1L << h;
+				}
+			}
+			total += (long)_sizes[h] << h;
+		}
+
+		return (double)weight/total;
+	}
+
+	/**
+	 * Return the estimated value of the given {@code quantile}.
+	 *
+	 * @param quantile the quantile, in the range of {@code [0, 1]}
+	 * @return the estimated quantile value, or {@code Double.NaN} if the
+	 *         sketch is empty
+	 * @throws IllegalArgumentException if the {@code quantile} is not in the
+	 *         range {@code [0, 1]}
+	 */
+	public double quantile(final double quantile) {
+		return quantiles(quantile)[0];
+	}
+
+	/**
+	 * Return the estimated values of the given {@code quantiles}. This is more
+	 * efficient than querying every quantile separately.
+	 *
+	 * @param quantiles the quantiles, in the range of {@code [0, 1]}
+	 * @return the estimated quantile values, or {@code Double.NaN} values if
+	 *         the sketch is empty
+	 * @throws IllegalArgumentException if one of the {@code quantiles} is not
+	 *         in the range {@code [0, 1]}
+	 * @throws NullPointerException if the {@code quantiles} array is
+	 *         {@code null}
+	 */
+	public double[] quantiles(final double... quantiles) {
+		for (double quantile : quantiles) {
+			if (!(quantile >= 0.0 && quantile <= 1.0)) {
+				throw new IllegalArgumentException(format(
+					"Quantile (%s) not in the valid range of [0, 1]", quantile
+				));
+			}
+		}
+
+		final double[] result = new double[quantiles.length];
+		if (_count == 0) {
+			Arrays.fill(result, Double.NaN);
+			return result;
+		}
+
+		// Sorted values of all levels, together with their weights.
+		double[] values = new double[0];
+		long[] weights = new long[0];
+		for (int h = 0; h < _levels.length; ++h) {
+			final int size = _sizes[h];
+			final double[] level = Arrays.copyOf(_levels[h], size);
+			Arrays.sort(level);
+
+			final double[] v = new double[values.length + size];
+			final long[] w = new long[v.length];
+			merge(values, weights, level, size, 1L << h, v, w);
+			values = v;
+			weights = w;
+		}
+
+		long total = 0;
+		for (long weight : weights) {
+			total += weight;
+		}
+
+		for (int i = 0; i < quantiles.length; ++i) {
+			if (quantiles[i] == 0.0) {
+				result[i] = _min;
+			} else if (quantiles[i] == 1.0) {
+				result[i] = _max;
+			} else {
+				final double rank = quantiles[i]*total;
+				long cumulative = 0;
+				int j = 0;
+				while (j < values.length - 1 && cumulative + weights[j] < rank) {
+					cumulative += weights[j++];
+				}
+				result[i] = values[j];
+			}
+		}
+
+		return result;
+	}
+
+	// Merges the sorted (value, weight) pairs with the sorted level values.
+	private static void merge(
+		final double[] values,
+		final long[] weights,
+		final double[] level,
+		final int size,
+		final long weight,
+		final double[] resultValues,
+		final long[] resultWeights
+	) {
+		int i = 0, j = 0, k = 0;
+		while (i < values.length && j < size) {
+			if (values[i] <= level[j]) {
+				resultValues[k] = values[i];
+				resultWeights[k++] = weights[i++];
+			} else {
+				resultValues[k] = level[j++];
+				resultWeights[k++] = weight;
+			}
+		}
+		while (i < values.length) {
+			resultValues[k] = values[i];
+			resultWeights[k++] = weights[i++];
+		}
+		while (j < size) {
+			resultValues[k] = level[j++];
+			resultWeights[k++] = weight;
+		}
+	}
+
+	/**
+	 * Return the number of values, which are currently stored by the sketch.
+	 * This value is bounded by {@code O(k*log(count()/k))}.
+	 *
+	 * @return the number of retained values
+	 */
+	public int retained() {
+		return _size;
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"QuantileSketch[N=%d, k=%d, ∧=%s, q25=%s, q50=%s, q75=%s, ∨=%s]",
+			_count, _k, _min,
+			quantile(0.25), quantile(0.5), quantile(0.75),
+			_max
+		);
+	}
+
+	/**
+	 * Return a {@code Collector} which applies a double-producing mapping
+	 * function to each input element, and returns a quantile sketch of the
+	 * resulting values.
+	 *
+	 * <pre>{@code
+	 * final Stream<SomeObject> stream = ...
+	 * final QuantileSketch sketch = stream
+	 *     .collect(toQuantileSketch(v -> v.doubleValue()));
+	 * }</pre>
+	 *
+	 * @param mapper a mapping function to apply to each element
+	 * @param <T> the type of the input elements
+	 * @return a {@code Collector} implementing the quantile sketch reduction
+	 * @throws java.lang.NullPointerException if the given {@code mapper} is
+	 *         {@code null}
+	 */
+	public static <T> Collector<T, ?, QuantileSketch>
+	toQuantileSketch(final ToDoubleFunction<? super T> mapper) {
+		requireNonNull(mapper);
+		return Collector.of(
+			QuantileSketch::new,
+			(r, t) -> r.accept(mapper.applyAsDouble(t)),
+			QuantileSketch::combine
+		);
+	}
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Supplier;
+
+/**
+ * Fixed array of independent accumulator <em>stripes</em>. Every thread is
+ * mapped to one stripe, which reduces the lock contention of concurrently
+ * updated statistics objects. The stripes are merged on read.
+ *
+ * @param <S> the stripe type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 7.2
+ * @since 7.2
+ */
+final class Stripes<S> {
+
+	private static final int MAX_STRIPES = 64;
+
+	private final Object[] _stripes;
+	private final int _mask;
+
+	Stripes(final Supplier<? extends S> factory) {
+		requireNonNull(factory);
+
+		final int processors = Runtime.getRuntime().availableProcessors();
+		final int length = Math.min(
+			MAX_STRIPES,
+			Integer.highestOneBit(Math.max(1, 2*processors - 1)) << 1
+		);
+
+		_stripes = new Object[length];
+		for (int i = 0; i < length; ++i) {
+			_stripes[i] = requireNonNull(factory.get());
+		}
+		_mask = length - 1;
+	}
+
+	/**
+	 * Return the stripe of the current thread. The stripe must be locked
+	 * while it is updated or read.
+	 *
+	 * @return the stripe of the current thread
+	 */
+	@SuppressWarnings("unchecked")
+	S stripe() {
+		final int hash = System.identityHashCode(Thread.currentThread());
+		return (S)_stripes[(hash ^ (hash >>> 16)) & _mask];
+	}
+
+	int length() {
+		return _stripes.length;
+	}
+
+	@SuppressWarnings("unchecked")
+	S get(final int index) {
+		return (S)_stripes[index];
+	}
+
+}
@@ -29,6 +29,7 @@ import java.util.stream.Collector;
 
 import io.jenetics.internal.collection.Empty;
 import io.jenetics.internal.collection.Empty.EmptyISeq;
+import io.jenetics.internal.collection.PersistentISeq;
 import io.jenetics.internal.util.Requires;
 
 /**
@@ -38,7 +39,7 @@ import io.jenetics.internal.util.Requires;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.2
+ * @version 7.2
  */
 public interface ISeq<T>
 	extends
@@ -73,6 +74,25 @@ public interface ISeq<T>
 	@Override
 	ISeq<T> prepend(final Iterable<? extends T> values);
 
+	/**
+	 * Return a new sequence, where the element at the given {@code index} is
+	 * replaced by the given {@code value}. The default implementation copies
+	 * the whole sequence. <em>Persistent</em> sequences, created with
+	 * {@link #persistent(Iterable)}, only copy O(log n) elements.
+	 *
+	 * @since 7.2
+	 *
+	 * @param index the index of the element to replace
+	 * @param value the new element
+	 * @return a new sequence with the replaced element
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	default ISeq<T> with(final int index, final T value) {
+		final MSeq<T> copy = copy();
+		copy.set(index, value);
+		return copy.toISeq();
+	}
+
 	/**
 	 * Return a shallow copy of this sequence. The sequence elements are not
 	 * cloned.
@@ -204,6 +224,57 @@ public interface ISeq<T>
 		return Seqs.toSeq(maxSize, Buffer::toSeq);
 	}
 
+	/**
+	 * Returns a {@code Collector} that accumulates the input elements into a
+	 * new <em>persistent</em> {@code ISeq}.
+	 *
+	 * @see #persistent(Iterable)
+	 *
+	 * @since 7.2
+	 *
+	 * @param <T> the type of the input elements
+	 * @return a {@code Collector} which collects all the input elements into a
+	 *         persistent {@code ISeq}, in encounter order
+	 */
+	static <T> Collector<T, ?, ISeq<T>> toPersistentISeq() {
+		return Collector.of(
+			(Supplier<List<T>>)ArrayList::new,
+			List::add,
+			(left, right) -> { left.addAll(right); return left; },
+			ISeq::persistent
+		);
+	}
+
+	/**
+	 * Create a new <em>persistent</em> {@code ISeq} from the given values.
+	 * A persistent sequence shares its structure with the sequences derived
+	 * from it. Appending {@code m} elements and replacing an element with
+	 * {@link #with(int, Object)} doesn't copy the whole sequence, which makes
+	 * it the better choice for large sequences, which are modified
+	 * incrementally. The price is a slower element access, with a
+	 * complexity of O(log n).
+	 *
+	 * <pre>{@code
+	 * final ISeq<Integer> seq1 = ISeq.persistent(List.of(1, 2, 3));
+	 * final ISeq<Integer> seq2 = seq1.append(4, 5).with(0, 0);
+	 * assert seq2.equals(ISeq.of(0, 2, 3, 4, 5));
+	 * }</pre>
+	 *
+	 * Sequences derived from a persistent sequence, via the {@code append},
+	 * {@code prepend}, {@code subSeq}, {@code map} and {@code with} methods,
+	 * are persistent as well.
+	 *
+	 * @since 7.2
+	 *
+	 * @param <T> the element type
+	 * @param values the sequence elements
+	 * @return a new persistent {@code ISeq} with the given values
+	 * @throws NullPointerException if the {@code values} are {@code null}
+	 */
+	static <T> ISeq<T> persistent(final Iterable<? extends T> values) {
+		return PersistentISeq.of(values);
+	}
+
 	/**
 	 * Create a new {@code ISeq} from the given values.
 	 *
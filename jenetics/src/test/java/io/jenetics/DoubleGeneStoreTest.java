@@ -0,0 +1,213 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.nio.DoubleBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Serialize;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DoubleGeneStoreTest {
+
+	@Test
+	public void primitiveBacked() {
+		final DoubleChromosome ch = DoubleChromosome.of(0, 1_000, 50);
+		final DoubleGeneStore store = DoubleGeneStore.of(
+			ISeq.of(ch).map(g -> g)
+		);
+		Assert.assertNull(store);
+
+		final ISeq<DoubleGene> genes = DoubleGeneStore.seq(ISeq.of(ch));
+		Assert.assertNotNull(DoubleGeneStore.of(genes));
+		Assert.assertEquals(genes, ISeq.of(ch));
+
+		for (int i = 0; i < ch.length(); ++i) {
+			Assert.assertEquals(ch.doubleValue(i), ch.get(i).doubleValue());
+		}
+	}
+
+	@Test
+	public void mixedRanges() {
+		final ISeq<DoubleGene> genes = ISeq.of(
+			DoubleGene.of(5, 0, 10),
+			DoubleGene.of(50, 0, 100)
+		);
+
+		Assert.assertSame(DoubleGeneStore.seq(genes), genes);
+		Assert.assertNull(DoubleGeneStore.of(genes));
+	}
+
+	@Test
+	public void setGeneWithDifferentRange() {
+		final MSeq<DoubleGene> genes = DoubleGeneStore
+			.seq(new double[]{1, 2, 3}, 0, 10)
+			.copy();
+		genes.set(1, DoubleGene.of(20, 0, 100));
+
+		Assert.assertEquals(genes.get(0), DoubleGene.of(1, 0, 10));
+		Assert.assertEquals(genes.get(1), DoubleGene.of(20, 0, 100));
+		Assert.assertEquals(genes.get(2), DoubleGene.of(3, 0, 10));
+	}
+
+	@Test
+	public void swap() {
+		final MSeq<DoubleGene> a = DoubleGeneStore
+			.seq(new double[]{1, 2, 3, 4}, 0, 10)
+			.copy();
+		final MSeq<DoubleGene> b = DoubleGeneStore
+			.seq(new double[]{5, 6, 7, 8}, 0, 10)
+			.copy();
+		final MSeq<DoubleGene> c = MSeq.of(
+			DoubleGene.of(9, 0, 20),
+			DoubleGene.of(10, 0, 20)
+		);
+
+		a.swap(1, 3, b, 1);
+		Assert.assertEquals(a.map(DoubleGene::doubleValue), MSeq.of(1.0, 6.0, 7.0, 4.0));
+		Assert.assertEquals(b.map(DoubleGene::doubleValue), MSeq.of(5.0, 2.0, 3.0, 8.0));
+
+		a.swap(0, 2, c, 0);
+		Assert.assertEquals(a.get(0), DoubleGene.of(9, 0, 20));
+		Assert.assertEquals(c.get(0), DoubleGene.of(1, 0, 10));
+	}
+
+	@Test
+	public void swapSealedCopy() {
+		final ISeq<DoubleGene> genes = DoubleGeneStore
+			.seq(new double[]{1, 2, 3, 4}, 0, 10);
+		final MSeq<DoubleGene> a = genes.copy();
+		final MSeq<DoubleGene> b = genes.copy();
+
+		a.swap(0, 4, b, 0);
+		Assert.assertEquals(genes.map(DoubleGene::doubleValue), ISeq.of(1.0, 2.0, 3.0, 4.0));
+	}
+
+	@Test
+	public void alter() {
+		final var random = new Random(123);
+		final DoubleChromosome ch1 = DoubleChromosome.of(0, 1_000, 100);
+		final DoubleChromosome ch2 = DoubleChromosome.of(0, 1_000, 100);
+
+		final var crossover = new MultiPointCrossover<DoubleGene, Double>(1, 3);
+		final MSeq<DoubleGene> a = ISeq.of(ch1).copy();
+		final MSeq<DoubleGene> b = ISeq.of(ch2).copy();
+		RandomRegistry.using(random, r -> crossover.crossover(a, b));
+
+		for (int i = 0; i < a.length(); ++i) {
+			Assert.assertTrue(
+				(a.get(i).equals(ch1.get(i)) && b.get(i).equals(ch2.get(i))) ||
+				(a.get(i).equals(ch2.get(i)) && b.get(i).equals(ch1.get(i)))
+			);
+		}
+
+		final var mutator = new Mutator<DoubleGene, Double>(0.5);
+		final var result = mutator.mutate(ch1, 0.5, random);
+		Assert.assertEquals(result.result().length(), ch1.length());
+		Assert.assertTrue(result.result().isValid());
+		Assert.assertTrue(result.mutations() >= count(ch1, result.result()));
+	}
+
+	private static int count(
+		final Chromosome<DoubleGene> a,
+		final Chromosome<DoubleGene> b
+	) {
+		int count = 0;
+		for (int i = 0; i < a.length(); ++i) {
+			if (!a.get(i).equals(b.get(i))) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	@Test
+	public void mapSharedArray() {
+		final double[] shared = {1, 2, 3};
+		final DoubleChromosome ch = DoubleChromosome.of(0, 10, 3)
+			.map(v -> shared);
+
+		shared[0] = 99;
+		Assert.assertEquals(ch.toArray(), new double[]{1, 2, 3});
+		Assert.assertTrue(ch.isValid());
+	}
+
+	@Test
+	public void range() {
+		final ISeq<DoubleGene> genes = DoubleGeneStore
+			.seq(new double[]{-1.5, 0, 2.5}, -2, 3);
+
+		for (DoubleGene gene : genes) {
+			Assert.assertEquals(gene.min(), -2.0);
+			Assert.assertEquals(gene.max(), 3.0);
+		}
+		Assert.assertEquals(genes.get(0).doubleValue(), -1.5);
+		Assert.assertEquals(genes.get(2).doubleValue(), 2.5);
+	}
+
+	@Test
+	public void validity() {
+		final DoubleChromosome valid = DoubleChromosome.of(0, 1, 10);
+		Assert.assertTrue(valid.isValid());
+
+		final DoubleChromosome invalid = valid.map(v -> {
+			v[3] = 5;
+			return v;
+		});
+		Assert.assertFalse(invalid.isValid());
+		Assert.assertFalse(invalid.get(3).isValid());
+		Assert.assertTrue(invalid.get(2).isValid());
+	}
+
+	@Test
+	public void buffer() {
+		final DoubleChromosome ch = DoubleChromosome.of(0, 1, 10);
+		final DoubleBuffer buffer = ch.buffer();
+
+		Assert.assertTrue(buffer.isReadOnly());
+		Assert.assertEquals(buffer.limit(), ch.length());
+		for (int i = 0; i < ch.length(); ++i) {
+			Assert.assertEquals(buffer.get(i), ch.doubleValue(i));
+		}
+
+		try {
+			buffer.put(0, 0.5);
+			Assert.fail("Buffer must be read-only.");
+		} catch (ReadOnlyBufferException expected) {
+		}
+		Assert.assertEquals(ch.buffer().get(0), ch.doubleValue(0));
+	}
+
+	@Test
+	public void serialize() throws Exception {
+		final DoubleChromosome ch = DoubleChromosome.of(0, 1_000, 20);
+		Serialize.object.test(ch);
+	}
+
+}
@@ -91,6 +91,21 @@ public class GenotypeTest extends ObjectTester<Genotype<DoubleGene>> {
 		assertNotEquals(g1, g2);
 	}
 
+	@Test
+	public void with() {
+		final LongChromosome c1 = LongChromosome.of(0, 100, 10);
+		final LongChromosome c2 = LongChromosome.of(0, 100, 10);
+		final LongChromosome c3 = LongChromosome.of(0, 100, 10);
+		final Genotype<LongGene> g1 = Genotype.of(c1, c2);
+
+		Assert.assertSame(g1.with(1, c2), g1);
+
+		final Genotype<LongGene> g2 = g1.with(1, c3);
+		assertEquals(g2, Genotype.of(c1, c3));
+		Assert.assertSame(g2.get(0), c1);
+		Assert.assertSame(g1.get(1), c2);
+	}
+
     @Test
     public void numberOfGenes() {
 		final Genotype<DoubleGene> genotype = Genotype.of(
@@ -0,0 +1,165 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Serialize;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class LongGeneStoreTest {
+
+	@Test
+	public void primitiveBacked() {
+		final LongChromosome ch = LongChromosome.of(0, 1_000, 50);
+		final LongGeneStore store = LongGeneStore.of(
+			ISeq.of(ch).map(g -> g)
+		);
+		Assert.assertNull(store);
+
+		final ISeq<LongGene> genes = LongGeneStore.seq(ISeq.of(ch));
+		Assert.assertNotNull(LongGeneStore.of(genes));
+		Assert.assertEquals(genes, ISeq.of(ch));
+
+		for (int i = 0; i < ch.length(); ++i) {
+			Assert.assertEquals(ch.longValue(i), ch.get(i).longValue());
+		}
+	}
+
+	@Test
+	public void mixedRanges() {
+		final ISeq<LongGene> genes = ISeq.of(
+			LongGene.of(5, 0, 10),
+			LongGene.of(50, 0, 100)
+		);
+
+		Assert.assertSame(LongGeneStore.seq(genes), genes);
+		Assert.assertNull(LongGeneStore.of(genes));
+	}
+
+	@Test
+	public void setGeneWithDifferentRange() {
+		final MSeq<LongGene> genes = LongGeneStore
+			.seq(new long[]{1, 2, 3}, 0, 10)
+			.copy();
+		genes.set(1, LongGene.of(20, 0, 100));
+
+		Assert.assertEquals(genes.get(0), LongGene.of(1, 0, 10));
+		Assert.assertEquals(genes.get(1), LongGene.of(20, 0, 100));
+		Assert.assertEquals(genes.get(2), LongGene.of(3, 0, 10));
+	}
+
+	@Test
+	public void swap() {
+		final MSeq<LongGene> a = LongGeneStore
+			.seq(new long[]{1, 2, 3, 4}, 0, 10)
+			.copy();
+		final MSeq<LongGene> b = LongGeneStore
+			.seq(new long[]{5, 6, 7, 8}, 0, 10)
+			.copy();
+		final MSeq<LongGene> c = MSeq.of(
+			LongGene.of(9, 0, 20),
+			LongGene.of(10, 0, 20)
+		);
+
+		a.swap(1, 3, b, 1);
+		Assert.assertEquals(a.map(LongGene::longValue), MSeq.of(1L, 6L, 7L, 4L));
+		Assert.assertEquals(b.map(LongGene::longValue), MSeq.of(5L, 2L, 3L, 8L));
+
+		a.swap(0, 2, c, 0);
+		Assert.assertEquals(a.get(0), LongGene.of(9, 0, 20));
+		Assert.assertEquals(c.get(0), LongGene.of(1, 0, 10));
+	}
+
+	@Test
+	public void swapSealedCopy() {
+		final ISeq<LongGene> genes = LongGeneStore
+			.seq(new long[]{1, 2, 3, 4}, 0, 10);
+		final MSeq<LongGene> a = genes.copy();
+		final MSeq<LongGene> b = genes.copy();
+
+		a.swap(0, 4, b, 0);
+		Assert.assertEquals(genes.map(LongGene::longValue), ISeq.of(1L, 2L, 3L, 4L));
+	}
+
+	@Test
+	public void alter() {
+		final var random = new Random(123);
+		final LongChromosome ch1 = LongChromosome.of(0, 1_000, 100);
+		final LongChromosome ch2 = LongChromosome.of(0, 1_000, 100);
+
+		final var crossover = new MultiPointCrossover<LongGene, Long>(1, 3);
+		final MSeq<LongGene> a = ISeq.of(ch1).copy();
+		final MSeq<LongGene> b = ISeq.of(ch2).copy();
+		RandomRegistry.using(random, r -> crossover.crossover(a, b));
+
+		for (int i = 0; i < a.length(); ++i) {
+			Assert.assertTrue(
+				(a.get(i).equals(ch1.get(i)) && b.get(i).equals(ch2.get(i))) ||
+				(a.get(i).equals(ch2.get(i)) && b.get(i).equals(ch1.get(i)))
+			);
+		}
+
+		final var mutator = new Mutator<LongGene, Long>(0.5);
+		final var result = mutator.mutate(ch1, 0.5, random);
+		Assert.assertEquals(result.result().length(), ch1.length());
+		Assert.assertTrue(result.result().isValid());
+		Assert.assertTrue(result.mutations() >= count(ch1, result.result()));
+	}
+
+	private static int count(
+		final Chromosome<LongGene> a,
+		final Chromosome<LongGene> b
+	) {
+		int count = 0;
+		for (int i = 0; i < a.length(); ++i) {
+			if (!a.get(i).equals(b.get(i))) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	@Test
+	public void mapSharedArray() {
+		final long[] shared = {1, 2, 3};
+		final LongChromosome ch = LongChromosome.of(0, 10, 3)
+			.map(v -> shared);
+
+		shared[0] = 99;
+		Assert.assertEquals(ch.toArray(), new long[]{1, 2, 3});
+		Assert.assertTrue(ch.isValid());
+	}
+
+	@Test
+	public void serialize() throws Exception {
+		final LongChromosome ch = LongChromosome.of(0, 1_000, 20);
+		Serialize.object.test(ch);
+	}
+
+}
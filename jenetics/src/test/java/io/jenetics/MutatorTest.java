@@ -19,6 +19,9 @@
  */
 package io.jenetics;
 
+import java.util.Random;
+
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 /**
@@ -32,4 +35,30 @@ public class MutatorTest extends MutatorTester {
 		return new Mutator<>(p);
 	}
 
+	@Test
+	public void mutateUnaltered() {
+		final var mutator = new Mutator<DoubleGene, Double>(0.0);
+		final Genotype<DoubleGene> gt = Genotype.of(
+			DoubleChromosome.of(0, 100, 10),
+			DoubleChromosome.of(0, 100, 10)
+		);
+
+		final var result = mutator.mutate(gt, 0.0, new Random(123));
+		Assert.assertSame(result.result(), gt);
+		Assert.assertEquals(result.mutations(), 0);
+	}
+
+	@Test
+	public void mutateSharesUnalteredChromosomes() {
+		final var mutator = new Mutator<DoubleGene, Double>(1.0);
+		final DoubleChromosome ch = DoubleChromosome.of(0, 100, 10);
+
+		final var unaltered = mutator.mutate(ch, 0.0, new Random(123));
+		Assert.assertSame(unaltered.result(), ch);
+
+		final var altered = mutator.mutate(ch, 1.0, new Random(123));
+		Assert.assertEquals(altered.mutations(), ch.length());
+		Assert.assertNotEquals(altered.result(), ch);
+	}
+
 }
@@ -0,0 +1,207 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGeneratorFactory;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class PartitionsTest {
+
+	private static ISeq<Phenotype<DoubleGene, Double>> population(final int size) {
+		return RandomRegistry.with(new Random(size), r ->
+			ISeq.of(
+				() -> Phenotype.<DoubleGene, Double>of(
+					Genotype.of(DoubleChromosome.of(0, 10, 5), 2), 1
+				),
+				size
+			)
+		);
+	}
+
+	private static AltererResult<DoubleGene, Double> alter(
+		final Alterer<DoubleGene, Double> alterer,
+		final ISeq<Phenotype<DoubleGene, Double>> population,
+		final Executor executor
+	) {
+		return RandomRegistry.with(
+			RandomGeneratorFactory.of("L64X256MixRandom").create(123),
+			r -> alterer.alter(population, 2, executor)
+		);
+	}
+
+	@Test(dataProvider = "alterers")
+	public void executorIndependence(final Alterer<DoubleGene, Double> alterer) {
+		final var population = population(10_000);
+
+		final var result1 = alter(alterer, population, ForkJoinPool.commonPool());
+		final var result2 = alter(alterer, population, Runnable::run);
+		final ExecutorService executor = Executors.newFixedThreadPool(3);
+		final AltererResult<DoubleGene, Double> result3;
+		try {
+			result3 = alter(alterer, population, executor);
+		} finally {
+			executor.shutdown();
+		}
+
+		Assert.assertEquals(result1.population().length(), population.length());
+		Assert.assertTrue(result1.alterations() > 0);
+		Assert.assertEquals(result1, result2);
+		Assert.assertEquals(result1, result3);
+		Assert.assertNotEquals(result1.population(), population);
+	}
+
+	@DataProvider
+	public Object[][] alterers() {
+		return new Object[][] {
+			{new Mutator<DoubleGene, Double>(0.2)},
+			{new GaussianMutator<DoubleGene, Double>(0.2)},
+			{new MultiPointCrossover<DoubleGene, Double>(0.5, 2)},
+			{new MeanAlterer<DoubleGene, Double>(0.3)},
+			{Alterer.<DoubleGene, Double>of(
+				new SinglePointCrossover<>(0.5),
+				new Mutator<>(0.1)
+			)},
+			{PartialAlterer.of(new Mutator<DoubleGene, Double>(0.5), 1)}
+		};
+	}
+
+	@Test
+	public void partialAlterer() {
+		final var population = population(1_000);
+		final var result = alter(
+			PartialAlterer.of(new Mutator<DoubleGene, Double>(0.5), 1),
+			population,
+			ForkJoinPool.commonPool()
+		);
+
+		for (int i = 0; i < population.length(); ++i) {
+			Assert.assertSame(
+				result.population().get(i).genotype().get(0),
+				population.get(i).genotype().get(0)
+			);
+		}
+	}
+
+	@Test
+	public void recombinationPreservesGenes() {
+		final var population = population(5_000);
+		final var result = alter(
+			new UniformCrossover<DoubleGene, Double>(0.8, 0.5),
+			population,
+			ForkJoinPool.commonPool()
+		);
+
+		// Crossover only swaps genes between individuals.
+		final Set<Double> expected = new HashSet<>();
+		final Set<Double> actual = new HashSet<>();
+		population.forEach(pt -> pt.genotype().forEach(ch ->
+			ch.forEach(g -> expected.add(g.allele()))));
+		result.population().forEach(pt -> pt.genotype().forEach(ch ->
+			ch.forEach(g -> actual.add(g.allele()))));
+
+		Assert.assertEquals(actual, expected);
+	}
+
+	@Test
+	public void rounds() {
+		final int[][] recombinations = {
+			{0, 1}, {2, 3}, {1, 2}, {4, 5}, {0, 5}, {3, 6}, {2, 5}
+		};
+
+		final int[][] rounds = Recombinator.rounds(recombinations, 7);
+		Assert.assertEquals(rounds, new int[][] {{0, 1, 3}, {2, 4, 5}, {6}});
+
+		for (int[] round : rounds) {
+			final Set<Integer> individuals = new HashSet<>();
+			for (int recombination : round) {
+				for (int individual : recombinations[recombination]) {
+					Assert.assertTrue(individuals.add(individual));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void smallPopulation() {
+		final var population = population(10);
+		final var mutator = new Mutator<DoubleGene, Double>(0.5);
+
+		final var serial = RandomRegistry.with(
+			RandomGeneratorFactory.of("L64X256MixRandom").create(123),
+			r -> mutator.alter(population, 2)
+		);
+		final var parallel = alter(mutator, population, ForkJoinPool.commonPool());
+		Assert.assertEquals(parallel, serial);
+	}
+
+	@Test
+	public void customRecombinatorIsSerial() {
+		final Set<Thread> threads = new HashSet<>();
+		final var recombinator = new Recombinator<DoubleGene, Double>(0.8, 2) {
+			@Override
+			protected int recombine(
+				final MSeq<Phenotype<DoubleGene, Double>> population,
+				final int[] individuals,
+				final long generation
+			) {
+				threads.add(Thread.currentThread());
+				return 1;
+			}
+		};
+		final var crossover = new SinglePointCrossover<DoubleGene, Double>(0.8) {};
+
+		Assert.assertFalse(recombinator.isConcurrent());
+		Assert.assertFalse(crossover.isConcurrent());
+		Assert.assertTrue(new SinglePointCrossover<>(0.8).isConcurrent());
+
+		final var population = population(10_000);
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final var serial = RandomRegistry.with(
+				RandomGeneratorFactory.of("L64X256MixRandom").create(123),
+				r -> crossover.alter(population, 2)
+			);
+			Assert.assertEquals(alter(crossover, population, executor), serial);
+
+			alter(recombinator, population, executor);
+			Assert.assertEquals(threads, Set.of(Thread.currentThread()));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
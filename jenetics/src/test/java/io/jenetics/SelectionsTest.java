@@ -0,0 +1,176 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.random.RandomGeneratorFactory;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SelectionsTest {
+
+	// Population with many equal fitness values.
+	private static ISeq<Phenotype<IntegerGene, Integer>> population(final int size) {
+		final var random = new Random(size);
+		return ISeq.of(
+			() -> {
+				final int value = random.nextInt(1_000);
+				return Phenotype.<IntegerGene, Integer>of(
+					Genotype.of(IntegerChromosome.of(IntegerGene.of(value, 0, 1_000))),
+					1,
+					value
+				);
+			},
+			size
+		);
+	}
+
+	private static <T> ISeq<T> sorted(
+		final ISeq<T> seq,
+		final Comparator<? super T> comparator
+	) {
+		return seq.copy().sort(comparator).toISeq();
+	}
+
+	@Test(dataProvider = "selections")
+	public void select(final int size, final int k) {
+		final var random = new Random(size*31L + k);
+		final int[] values = random.ints(size, 0, 100).toArray();
+		final int[] indexes = IntStream.range(0, size).toArray();
+
+		Selections.select(indexes, k, (i, j) -> {
+			final int cmp = Integer.compare(values[i], values[j]);
+			return cmp != 0 ? cmp : Integer.compare(i, j);
+		});
+
+		final int[] expected = IntStream.range(0, size).boxed()
+			.sorted(Comparator.<Integer>comparingInt(i -> values[i])
+				.thenComparingInt(i -> i))
+			.limit(k)
+			.mapToInt(Integer::intValue)
+			.sorted()
+			.toArray();
+		final int[] actual = Arrays.stream(indexes, 0, k).sorted().toArray();
+
+		Assert.assertEquals(actual, expected);
+	}
+
+	@DataProvider
+	public Object[][] selections() {
+		return new Object[][] {
+			{1, 1}, {2, 1}, {10, 3}, {100, 1}, {100, 50}, {100, 99},
+			{1_000, 10}, {1_000, 500}, {10_000, 1}, {10_000, 2_345}
+		};
+	}
+
+	@Test(dataProvider = "counts")
+	public void smallest(final int count) {
+		final var population = population(2*Selections.PARALLEL_THRESHOLD + 17);
+		final Comparator<Phenotype<IntegerGene, Integer>> comparator = (a, b) ->
+			Optimize.MAXIMUM.<Integer>descending().compare(a.fitness(), b.fitness());
+
+		final ISeq<Phenotype<IntegerGene, Integer>> expected =
+			sorted(population, comparator).subSeq(0, count);
+		final ISeq<Phenotype<IntegerGene, Integer>> actual =
+			Selections.smallest(population, count, comparator);
+
+		Assert.assertEquals(actual.length(), count);
+		for (int i = 0; i < count; ++i) {
+			Assert.assertSame(actual.get(i), expected.get(i));
+		}
+	}
+
+	@DataProvider
+	public Object[][] counts() {
+		return new Object[][] {
+			{0}, {1}, {2}, {100}, {5_000}, {10_000}, {Selections.PARALLEL_THRESHOLD}
+		};
+	}
+
+	@Test
+	public void sort() {
+		final var population = population(Selections.PARALLEL_THRESHOLD + 1);
+		final Comparator<Phenotype<IntegerGene, Integer>> comparator =
+			Comparator.comparing(Phenotype::fitness);
+
+		Assert.assertEquals(
+			Selections.sort(population, comparator),
+			sorted(population, comparator)
+		);
+	}
+
+	@Test
+	public void truncationSelector() {
+		final var population = population(Selections.PARALLEL_THRESHOLD + 1);
+		final var selector = new TruncationSelector<IntegerGene, Integer>(100);
+
+		final var selected = selector.select(population, 250, Optimize.MINIMUM);
+		final var expected = sorted(
+			population,
+			Comparator.comparing(Phenotype::fitness)
+		);
+
+		Assert.assertEquals(selected.length(), 250);
+		for (int i = 0; i < selected.length(); ++i) {
+			Assert.assertSame(selected.get(i), expected.get(i%100));
+		}
+	}
+
+	@Test(dataProvider = "selectors")
+	public void sampleDeterminism(final Selector<IntegerGene, Integer> selector) {
+		final var population = population(1_000);
+		final int count = Selections.PARALLEL_THRESHOLD + 123;
+
+		final var selection1 = RandomRegistry.with(
+			RandomGeneratorFactory.of("L64X256MixRandom").create(123),
+			r -> selector.select(population, count, Optimize.MAXIMUM)
+		);
+		final var selection2 = RandomRegistry.with(
+			RandomGeneratorFactory.of("L64X256MixRandom").create(123),
+			r -> selector.select(population, count, Optimize.MAXIMUM)
+		);
+
+		Assert.assertEquals(selection1.length(), count);
+		Assert.assertEquals(selection1, selection2);
+		Assert.assertTrue(population.asList().containsAll(selection1.asList()));
+	}
+
+	@DataProvider
+	public Object[][] selectors() {
+		return new Object[][] {
+			{new MonteCarloSelector<IntegerGene, Integer>()},
+			{new TournamentSelector<IntegerGene, Integer>(2)},
+			{new LinearRankSelector<IntegerGene, Integer>()},
+			{new RouletteWheelSelector<IntegerGene, Integer>()}
+		};
+	}
+
+}
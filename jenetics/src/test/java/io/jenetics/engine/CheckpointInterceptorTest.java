@@ -0,0 +1,241 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.engine.Checkpoints.Compression;
+import io.jenetics.util.DoubleRange;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class CheckpointInterceptorTest {
+
+	private static final Problem<double[], DoubleGene, Double> PROBLEM =
+		Problem.of(
+			v -> v[0]*v[0] + v[1]*v[1],
+			Codecs.ofVector(DoubleRange.of(-1, 1), 2)
+		);
+
+	@Test
+	public void readLatest() throws IOException {
+		final Path dir = Files.createTempDirectory("CheckpointInterceptorTest");
+		try {
+			final List<EvolutionResult<DoubleGene, Double>> results =
+				new ArrayList<>();
+
+			try (var checkpoints = new CheckpointInterceptor<DoubleGene, Double>(
+					dir, 1, null, 3, Compression.DEFLATE, Runnable::run,
+					InstantSource.system()))
+			{
+				final Engine<DoubleGene, Double> engine = Engine.builder(PROBLEM)
+					.interceptor(checkpoints)
+					.build();
+
+				engine.stream()
+					.limit(10)
+					.forEach(results::add);
+			}
+
+			final EvolutionResult<DoubleGene, Double> last =
+				results.get(results.size() - 1);
+			final EvolutionResult<DoubleGene, Double> read =
+				CheckpointInterceptor.<DoubleGene, Double>read(dir).orElseThrow();
+
+			Assert.assertEquals(read.generation(), last.generation());
+			Assert.assertEquals(read.population(), last.population());
+			Assert.assertEquals(read.optimize(), last.optimize());
+
+			// One base segment, followed by the delta segments.
+			final List<String> names = names(dir);
+			Assert.assertEquals(names.size(), 2);
+			Assert.assertTrue(names.get(0).endsWith(".base"));
+			Assert.assertTrue(names.get(1).endsWith(".delta"));
+		} finally {
+			delete(dir);
+		}
+	}
+
+	@Test
+	public void resume() throws IOException {
+		final Path dir = Files.createTempDirectory("CheckpointInterceptorTest");
+		try {
+			final Engine<DoubleGene, Double> engine = Engine.builder(PROBLEM)
+				.build();
+
+			try (var checkpoints = CheckpointInterceptor
+					.<DoubleGene, Double>of(dir, 5))
+			{
+				engine.stream()
+					.limit(12)
+					.forEach(checkpoints);
+			}
+
+			final EvolutionStart<DoubleGene, Double> start =
+				CheckpointInterceptor.<DoubleGene, Double>resume(dir).orElseThrow();
+			Assert.assertEquals(start.generation(), 11);
+
+			final EvolutionResult<DoubleGene, Double> result = engine
+				.stream(start)
+				.limit(1)
+				.findFirst()
+				.orElseThrow();
+			Assert.assertEquals(result.generation(), 11);
+		} finally {
+			delete(dir);
+		}
+	}
+
+	@Test
+	public void timeInterval() throws IOException {
+		final Path dir = Files.createTempDirectory("CheckpointInterceptorTest");
+		try {
+			final AtomicReference<Instant> time =
+				new AtomicReference<>(Instant.EPOCH);
+
+			final List<EvolutionResult<DoubleGene, Double>> results =
+				new ArrayList<>();
+			try (var checkpoints = new CheckpointInterceptor<DoubleGene, Double>(
+					dir, Integer.MAX_VALUE, Duration.ofSeconds(10), 0,
+					Compression.NONE, Runnable::run, time::get))
+			{
+				Engine.builder(PROBLEM).build().stream()
+					.limit(6)
+					.peek(results::add)
+					.peek(r -> time.set(time.get().plusSeconds(4)))
+					.forEach(checkpoints);
+			}
+
+			// Snapshots are taken at 12 and 24 seconds.
+			final EvolutionResult<DoubleGene, Double> read =
+				CheckpointInterceptor.<DoubleGene, Double>read(dir).orElseThrow();
+			Assert.assertEquals(read.generation(), results.get(5).generation());
+			Assert.assertEquals(names(dir).size(), 1);
+		} finally {
+			delete(dir);
+		}
+	}
+
+	@Test
+	public void deleteStaleTempFiles() throws IOException {
+		final Path dir = Files.createTempDirectory("CheckpointInterceptorTest");
+		try {
+			Files.createFile(dir.resolve("checkpoint-0000000000000000003.base.tmp"));
+			Files.createFile(dir.resolve("other.tmp"));
+
+			try (var checkpoints = CheckpointInterceptor
+					.<DoubleGene, Double>of(dir, 1))
+			{
+				Engine.builder(PROBLEM).build().stream()
+					.limit(2)
+					.forEach(checkpoints);
+			}
+
+			Assert.assertFalse(names(dir).stream()
+				.anyMatch(name -> name.startsWith("checkpoint-") &&
+					name.endsWith(".tmp")));
+			Assert.assertTrue(names(dir).contains("other.tmp"));
+		} finally {
+			delete(dir);
+		}
+	}
+
+	// Not serializable fitness type.
+	private record Fitness(double value) implements Comparable<Fitness> {
+		@Override
+		public int compareTo(final Fitness other) {
+			return Double.compare(value, other.value);
+		}
+	}
+
+	@Test
+	public void deleteTempFileOnError() throws IOException {
+		final Path dir = Files.createTempDirectory("CheckpointInterceptorTest");
+		try {
+			final var checkpoints = new CheckpointInterceptor<DoubleGene, Fitness>(
+				dir, 1, null, 3, Compression.NONE, Runnable::run,
+				InstantSource.system()
+			);
+			final Problem<double[], DoubleGene, Fitness> problem = Problem.of(
+				v -> new Fitness(v[0]),
+				Codecs.ofVector(DoubleRange.of(-1, 1), 2)
+			);
+			final Engine<DoubleGene, Fitness> engine = Engine.builder(problem)
+				.build();
+
+			engine.stream()
+				.limit(1)
+				.forEach(checkpoints);
+
+			try {
+				checkpoints.close();
+				Assert.fail("Expected IOException.");
+			} catch (IOException expected) {
+			}
+			Assert.assertEquals(names(dir), List.of());
+		} finally {
+			delete(dir);
+		}
+	}
+
+	@Test
+	public void emptyDirectory() throws IOException {
+		final Path dir = Files.createTempDirectory("CheckpointInterceptorTest");
+		try {
+			Assert.assertTrue(CheckpointInterceptor.read(dir).isEmpty());
+			Assert.assertTrue(CheckpointInterceptor.read(dir.resolve("x")).isEmpty());
+		} finally {
+			delete(dir);
+		}
+	}
+
+	private static List<String> names(final Path dir) throws IOException {
+		try (Stream<Path> paths = Files.list(dir)) {
+			return paths
+				.map(p -> p.getFileName().toString())
+				.sorted()
+				.toList();
+		}
+	}
+
+	private static void delete(final Path dir) throws IOException {
+		try (Stream<Path> paths = Files.walk(dir)) {
+			for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(path);
+			}
+		}
+	}
+
+}
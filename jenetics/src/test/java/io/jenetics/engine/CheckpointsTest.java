@@ -0,0 +1,241 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.CharacterChromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.EnumGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.LongChromosome;
+import io.jenetics.Optimize;
+import io.jenetics.PermutationChromosome;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Checkpoints.Compression;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class CheckpointsTest {
+
+	@Test(dataProvider = "genotypes")
+	public void genotypeRoundTrip(
+		final Genotype<?> genotype,
+		final Compression compression
+	)
+		throws IOException
+	{
+		final var out = new ByteArrayOutputStream();
+		Checkpoints.write(genotype, Channels.newChannel(out), compression);
+
+		final Genotype<?> read = Checkpoints.readGenotype(
+			Channels.newChannel(new ByteArrayInputStream(out.toByteArray()))
+		);
+		Assert.assertEquals(read, genotype);
+	}
+
+	@DataProvider
+	public Object[][] genotypes() {
+		final List<Genotype<?>> genotypes = List.of(
+			Genotype.of(DoubleChromosome.of(-10, 10, IntRange.of(5, 20)), 5),
+			Genotype.of(IntegerChromosome.of(-100, 100, 30), 3),
+			Genotype.of(LongChromosome.of(0, Long.MAX_VALUE, 7), 2),
+			Genotype.of(BitChromosome.of(1_001, 0.3), 4),
+			Genotype.of(CharacterChromosome.of(IntRange.of(3, 30)), 2),
+			Genotype.of(PermutationChromosome.ofInteger(200), 3),
+			Genotype.of(PermutationChromosome.ofInteger(1_000)),
+			Genotype.of(PermutationChromosome.ofInteger(IntRange.of(0, 70_000), 50))
+		);
+
+		return genotypes.stream()
+			.flatMap(gt -> List.of(Compression.values()).stream()
+				.map(c -> new Object[]{gt, c}))
+			.toArray(Object[][]::new);
+	}
+
+	@Test(dataProvider = "compressions")
+	public void evolutionResultRoundTrip(final Compression compression)
+		throws IOException
+	{
+		final EvolutionResult<DoubleGene, Double> result = EvolutionResult.of(
+			Optimize.MINIMUM,
+			population(1_000),
+			12,
+			50,
+			new EvolutionDurations(
+				Duration.ofMillis(1),
+				Duration.ofMillis(2),
+				Duration.ofMillis(3),
+				Duration.ofMillis(4),
+				Duration.ofMillis(5),
+				Duration.ofSeconds(6, 7),
+				Duration.ofSeconds(8, 9)
+			),
+			3,
+			4,
+			5
+		);
+
+		final Path path = Files.createTempFile("CheckpointsTest", ".bin");
+		try {
+			Checkpoints.write(result, path, compression);
+			final EvolutionResult<DoubleGene, Double> read =
+				Checkpoints.readEvolutionResult(path);
+
+			Assert.assertEquals(read, result);
+			Assert.assertEquals(read.population(), result.population());
+			Assert.assertEquals(read.totalGenerations(), result.totalGenerations());
+			Assert.assertEquals(read.bestFitness(), result.bestFitness());
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test(dataProvider = "compressions")
+	public void evolutionStartRoundTrip(final Compression compression)
+		throws IOException
+	{
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(100)
+			.map(pt -> pt.generation()%2 == 0 ? pt.nullifyFitness() : pt);
+		final EvolutionStart<DoubleGene, Double> start =
+			EvolutionStart.of(population, 7);
+
+		final var out = new ByteArrayOutputStream();
+		Checkpoints.write(start, Channels.newChannel(out), compression);
+
+		final EvolutionStart<DoubleGene, Double> read =
+			Checkpoints.readEvolutionStart(
+				Channels.newChannel(new ByteArrayInputStream(out.toByteArray()))
+			);
+		Assert.assertEquals(read.generation(), start.generation());
+		Assert.assertEquals(read.population(), start.population());
+		for (int i = 0; i < population.size(); ++i) {
+			Assert.assertEquals(
+				read.population().get(i).isEvaluated(),
+				population.get(i).isEvaluated()
+			);
+		}
+	}
+
+	@DataProvider
+	public Object[][] compressions() {
+		return new Object[][] {{Compression.NONE}, {Compression.DEFLATE}};
+	}
+
+	@Test
+	public void objectFitness() throws IOException {
+		final Genotype<EnumGene<String>> gt =
+			Genotype.of(PermutationChromosome.of("a", "b", "c"));
+		final ISeq<Phenotype<EnumGene<String>, String>> population =
+			ISeq.of(Phenotype.of(gt, 1, "abc"), Phenotype.of(gt, 2, "cba"));
+		final EvolutionStart<EnumGene<String>, String> start =
+			EvolutionStart.of(population, 2);
+
+		final var out = new ByteArrayOutputStream();
+		Checkpoints.write(start, Channels.newChannel(out), Compression.NONE);
+		final EvolutionStart<EnumGene<String>, String> read =
+			Checkpoints.readEvolutionStart(
+				Channels.newChannel(new ByteArrayInputStream(out.toByteArray()))
+			);
+
+		Assert.assertEquals(read.population(), population);
+		Assert.assertEquals(read.population().get(1).fitness(), "cba");
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void invalidHeader() throws IOException {
+		final byte[] data = new byte[64];
+		Checkpoints.readGenotype(
+			Channels.newChannel(new ByteArrayInputStream(data))
+		);
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void wrongKind() throws IOException {
+		final var out = new ByteArrayOutputStream();
+		Checkpoints.write(
+			Genotype.of(DoubleChromosome.of(0, 1)),
+			Channels.newChannel(out),
+			Compression.NONE
+		);
+		Checkpoints.readEvolutionStart(
+			Channels.newChannel(new ByteArrayInputStream(out.toByteArray()))
+		);
+	}
+
+	@Test(expectedExceptions = StreamCorruptedException.class)
+	public void invalidOptimize() throws IOException {
+		final var out = new ByteArrayOutputStream();
+		Checkpoints.write(
+			EvolutionResult.of(
+				Optimize.MAXIMUM,
+				population(10),
+				1,
+				EvolutionDurations.ZERO,
+				0,
+				0,
+				0
+			),
+			Channels.newChannel(out),
+			Compression.NONE
+		);
+
+		// Header (7 bytes) and block header (8 bytes) precede the optimize byte.
+		final byte[] data = out.toByteArray();
+		data[15] = 2;
+		Checkpoints.readEvolutionResult(
+			Channels.newChannel(new ByteArrayInputStream(data))
+		);
+	}
+
+	private static ISeq<Phenotype<DoubleGene, Double>> population(final int size) {
+		final Genotype<DoubleGene> gtf = Genotype.of(
+			DoubleChromosome.of(0, 1, 10),
+			DoubleChromosome.of(-5, 5, 3)
+		);
+
+		return ISeq.<Genotype<DoubleGene>>of(gtf::newInstance, size).stream()
+			.map(gt -> Phenotype.of(
+				gt,
+				1 + Math.floorMod(gt.hashCode(), 10),
+				gt.gene().doubleValue()
+			))
+			.collect(ISeq.toISeq());
+	}
+
+}
@@ -23,6 +23,8 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 
+import java.nio.DoubleBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -403,6 +405,51 @@ public class CodecsTest {
 		}
 	}
 
+	@Test
+	public void ofDoubleVectorView() {
+		final InvertibleCodec<DoubleBuffer, DoubleGene> codec =
+			Codecs.ofVectorView(DoubleRange.of(0, 1_000), 100);
+
+		final Genotype<DoubleGene> gt = codec.encoding().newInstance();
+		final DoubleBuffer vector = codec.decode(gt);
+
+		assertTrue(vector.isReadOnly());
+		assertEquals(vector.limit(), 100);
+		for (int i = 0; i < vector.limit(); ++i) {
+			assertEquals(vector.get(i), gt.chromosome().get(i).doubleValue());
+		}
+		assertEquals(codec.encode(vector), gt);
+	}
+
+	@Test(expectedExceptions = ReadOnlyBufferException.class)
+	public void ofDoubleVectorViewReadOnly() {
+		final Codec<DoubleBuffer, DoubleGene> codec =
+			Codecs.ofVectorView(DoubleRange.of(0, 1_000), 10);
+
+		codec.decode(codec.encoding().newInstance()).put(0, 1.0);
+	}
+
+	@Test
+	public void ofDoubleMatrixView() {
+		final int rows = 10;
+		final int cols = 15;
+		final InvertibleCodec<DoubleBuffer[], DoubleGene> codec =
+			Codecs.ofMatrixView(DoubleRange.of(0, 1_000), rows, cols);
+
+		final Genotype<DoubleGene> gt = codec.encoding().newInstance();
+		final DoubleBuffer[] matrix = codec.decode(gt);
+
+		assertEquals(matrix.length, rows);
+		assertEquals(matrix[0].limit(), cols);
+
+		for (int row = 0; row < rows; ++row) {
+			for (int col = 0; col < cols; ++col) {
+				assertEquals(matrix[row].get(col), gt.get(row).get(col).doubleValue());
+			}
+		}
+		assertEquals(codec.encode(matrix), gt);
+	}
+
 	@Test
 	public void ofPermutation() {
 		final Codec<ISeq<String>, EnumGene<String>> codec = Codecs
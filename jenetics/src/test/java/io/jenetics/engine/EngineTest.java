@@ -33,7 +33,9 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.random.RandomGeneratorFactory;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -51,8 +53,10 @@ import io.jenetics.Genotype;
 import io.jenetics.IntegerChromosome;
 import io.jenetics.IntegerGene;
 import io.jenetics.LongChromosome;
+import io.jenetics.MultiPointCrossover;
 import io.jenetics.Mutator;
 import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
 import io.jenetics.RouletteWheelSelector;
 import io.jenetics.Selector;
 import io.jenetics.SwapMutator;
@@ -62,6 +66,7 @@ import io.jenetics.util.DoubleRange;
 import io.jenetics.util.IO;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
+import io.jenetics.util.RandomRegistry;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -97,6 +102,86 @@ public class EngineTest {
 		return new Object[][] {{0}, {1}, {2}, {3}, {5}, {11}, {20}, {50}, {100}};
 	}
 
+	@Test
+	public void parallelInitialization() {
+		final ISeq<Genotype<IntegerGene>> pop1 = initialPopulation(
+			ForkJoinPool.commonPool()
+		);
+		final ExecutorService executor = Executors.newFixedThreadPool(3);
+		final ISeq<Genotype<IntegerGene>> pop2;
+		try {
+			pop2 = initialPopulation(executor);
+		} finally {
+			executor.shutdown();
+		}
+		final ISeq<Genotype<IntegerGene>> pop3 = initialPopulation(Runnable::run);
+
+		Assert.assertEquals(pop1.length(), 1_000);
+		Assert.assertEquals(pop1, pop2);
+		Assert.assertEquals(pop1, pop3);
+		Assert.assertEquals(pop1.stream().distinct().count(), 1_000);
+	}
+
+	private static ISeq<Genotype<IntegerGene>>
+	initialPopulation(final Executor executor) {
+		final var population = new AtomicReference<ISeq<Genotype<IntegerGene>>>();
+		final Evaluator<IntegerGene, Integer> evaluator = pop -> {
+			population.compareAndSet(null, pop.map(Phenotype::genotype).asISeq());
+			return pop.map(pt -> pt.withFitness(1)).asISeq();
+		};
+		final Codec<int[], IntegerGene> codec =
+			Codecs.ofVector(IntRange.of(0, 1_000_000), 10);
+
+		final Engine<IntegerGene, Integer> engine =
+			new Engine.Builder<>(evaluator, codec.encoding())
+				.populationSize(1_000)
+				.executor(executor)
+				.parallelInitialization(true)
+				.build();
+
+		Assert.assertTrue(engine.parallelInitialization());
+		Assert.assertTrue(engine.toBuilder().parallelInitialization());
+
+		RandomRegistry.using(
+			RandomGeneratorFactory.of("L64X256MixRandom").create(123),
+			r -> engine.stream().limit(1).forEach(er -> {})
+		);
+
+		return population.get();
+	}
+
+	@Test(timeOut = 10_000L)
+	public void parallelAlteration() {
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final Engine<IntegerGene, Integer> engine = Engine
+				.builder(
+					gt -> gt.gene().intValue(),
+					IntegerChromosome.of(0, 1_000, 10)
+				)
+				.populationSize(2_000)
+				.executor(executor)
+				.alterers(
+					new MultiPointCrossover<>(0.5, 2),
+					new Mutator<>(0.1)
+				)
+				.parallelAlteration(true)
+				.build();
+
+			Assert.assertTrue(engine.parallelAlteration());
+			Assert.assertTrue(engine.toBuilder().parallelAlteration());
+
+			final EvolutionResult<IntegerGene, Integer> result = engine.stream()
+				.limit(5)
+				.collect(EvolutionResult.toBestEvolutionResult());
+
+			Assert.assertEquals(result.population().length(), 2_000);
+			Assert.assertTrue(result.alterCount() > 0);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 	@Test
 	public void streamWithInitialGenotypes() {
 		final Problem<Integer, IntegerGene, Integer> problem = Problem.of(
@@ -29,6 +29,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.DoubleChromosome;
@@ -38,6 +39,8 @@ import io.jenetics.IntegerChromosome;
 import io.jenetics.IntegerGene;
 import io.jenetics.Optimize;
 import io.jenetics.Phenotype;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.stat.DoubleMoments;
 import io.jenetics.stat.MinMax;
 import io.jenetics.util.Factory;
 import io.jenetics.util.ISeq;
@@ -343,4 +346,57 @@ public class EvolutionResultTest
 		Assert.assertTrue(results.isSorted());
 	}
 
+	@Test(dataProvider = "populationSizes")
+	public void fitnessValues(final int size) {
+		final Genotype<DoubleGene> gtf = Genotype.of(DoubleChromosome.of(0, 1));
+		final ISeq<Phenotype<DoubleGene, Double>> population = IntStream.range(0, size)
+			.mapToObj(i -> {
+				final Genotype<DoubleGene> gt = gtf.newInstance();
+				return Phenotype.of(gt, 1, gt.gene().doubleValue());
+			})
+			.collect(ISeq.toISeq());
+
+		final EvolutionResult<DoubleGene, Double> result = EvolutionResult.of(
+			Optimize.MAXIMUM, population, 1, EvolutionDurations.ZERO, 0, 0, 0
+		);
+
+		final double[] values = result.fitnessValues();
+		Assert.assertEquals(values.length, size);
+		for (int i = 0; i < size; ++i) {
+			Assert.assertEquals(values[i], population.get(i).fitness());
+		}
+
+		// The returned array is a copy of the cached values.
+		values[0] = -1;
+		Assert.assertNotEquals(result.fitnessValues()[0], -1.0);
+		Assert.assertSame(result.fitnessArray(), result.fitnessArray());
+
+		final DoubleMomentStatistics expected = new DoubleMomentStatistics();
+		population.forEach(pt -> expected.accept(pt.fitness()));
+		final DoubleMoments moments = result.fitnessMoments();
+		Assert.assertEquals(moments.count(), expected.count());
+		Assert.assertEquals(moments.min(), expected.min());
+		Assert.assertEquals(moments.max(), expected.max());
+		Assert.assertEquals(moments.mean(), expected.mean(), 1e-10);
+		Assert.assertEquals(moments.variance(), expected.variance(), 1e-10);
+	}
+
+	@DataProvider(name = "populationSizes")
+	public Object[][] populationSizes() {
+		return new Object[][] {{1}, {100}, {25_000}};
+	}
+
+	@Test
+	public void notEvaluatedFitnessValues() {
+		final Genotype<DoubleGene> gt = Genotype.of(DoubleChromosome.of(0, 1));
+		final EvolutionResult<DoubleGene, Double> result = EvolutionResult.of(
+			Optimize.MAXIMUM,
+			ISeq.of(Phenotype.of(gt, 1, 0.5), Phenotype.of(gt, 1)),
+			1, EvolutionDurations.ZERO, 0, 0, 0
+		);
+
+		Assert.assertEquals(result.fitnessValues()[0], 0.5);
+		Assert.assertTrue(Double.isNaN(result.fitnessValues()[1]));
+	}
+
 }
@@ -0,0 +1,151 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.stat.DoubleMoments;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class GeneDiversityTest {
+
+	@Test(dataProvider = "populations")
+	public void moments(final ISeq<Phenotype<DoubleGene, Double>> population) {
+		final GeneDiversity diversity = GeneDiversity.of(population);
+
+		int size = 0;
+		for (int i = 0; i < diversity.chromosomeCount(); ++i) {
+			for (int j = 0; j < diversity.length(i); ++j) {
+				assertEquals(diversity.moments(i, j), expected(population, i, j));
+				++size;
+			}
+		}
+		Assert.assertEquals(diversity.size(), size);
+		Assert.assertEquals(diversity.moments().size(), size);
+	}
+
+	@DataProvider(name = "populations")
+	public Object[][] populations() {
+		return new Object[][] {
+			{population(Genotype.of(DoubleChromosome.of(0, 1, 10)), 1)},
+			{population(Genotype.of(DoubleChromosome.of(0, 1, 10)), 100)},
+			{population(Genotype.of(
+				DoubleChromosome.of(0, 10, IntRange.of(3, 20)),
+				DoubleChromosome.of(-1, 1, 5)), 500)},
+			// Big enough for a parallel calculation with several blocks.
+			{population(Genotype.of(
+				DoubleChromosome.of(0, 1, 600),
+				DoubleChromosome.of(-5, 5, 3)), 300)}
+		};
+	}
+
+	private static ISeq<Phenotype<DoubleGene, Double>> population(
+		final Genotype<DoubleGene> gtf,
+		final int size
+	) {
+		return ISeq.<Genotype<DoubleGene>>of(gtf::newInstance, size)
+			.map(gt -> Phenotype.of(gt, 1, 0.0));
+	}
+
+	private static DoubleMoments expected(
+		final ISeq<Phenotype<DoubleGene, Double>> population,
+		final int chromosome,
+		final int gene
+	) {
+		final DoubleMomentStatistics statistics = new DoubleMomentStatistics();
+		for (Phenotype<DoubleGene, Double> pt : population) {
+			final Genotype<DoubleGene> gt = pt.genotype();
+			if (chromosome < gt.length() && gene < gt.get(chromosome).length()) {
+				statistics.accept(gt.get(chromosome).get(gene).doubleValue());
+			}
+		}
+		return DoubleMoments.of(statistics);
+	}
+
+	private static void assertEquals(final DoubleMoments a, final DoubleMoments b) {
+		Assert.assertEquals(a.count(), b.count());
+		Assert.assertEquals(a.min(), b.min());
+		Assert.assertEquals(a.max(), b.max());
+		assertEquals(a.sum(), b.sum());
+		assertEquals(a.mean(), b.mean());
+		assertEquals(a.variance(), b.variance());
+		assertEquals(a.skewness(), b.skewness());
+		assertEquals(a.kurtosis(), b.kurtosis());
+	}
+
+	private static void assertEquals(final double a, final double b) {
+		if (Double.isNaN(b)) {
+			Assert.assertTrue(Double.isNaN(a), a + " != NaN");
+		} else {
+			Assert.assertEquals(a, b, 1e-9*Math.max(1, Math.abs(b)));
+		}
+	}
+
+	@Test
+	public void integerGenes() {
+		final ISeq<Phenotype<IntegerGene, Integer>> population = ISeq.of(
+			Phenotype.of(Genotype.of(IntegerChromosome.of(IntegerGene.of(1, 0, 10))), 1),
+			Phenotype.of(Genotype.of(IntegerChromosome.of(IntegerGene.of(3, 0, 10))), 1),
+			Phenotype.of(Genotype.of(IntegerChromosome.of(IntegerGene.of(5, 0, 10))), 1)
+		);
+
+		final GeneDiversity diversity = GeneDiversity.of(population);
+		Assert.assertEquals(diversity.chromosomeCount(), 1);
+		Assert.assertEquals(diversity.size(), 1);
+
+		final DoubleMoments moments = diversity.moments(0, 0);
+		Assert.assertEquals(moments.count(), 3);
+		Assert.assertEquals(moments.min(), 1.0);
+		Assert.assertEquals(moments.max(), 5.0);
+		Assert.assertEquals(moments.mean(), 3.0, 1e-12);
+		Assert.assertEquals(moments.variance(), 4.0, 1e-12);
+		Assert.assertEquals(diversity.diversity(), 2.0, 1e-12);
+		Assert.assertEquals(diversity.count(m -> m.mean() > 2), 1);
+	}
+
+	@Test
+	public void emptyPopulation() {
+		final GeneDiversity diversity = GeneDiversity.of(ISeq.<Phenotype<DoubleGene, Double>>empty());
+		Assert.assertEquals(diversity.chromosomeCount(), 0);
+		Assert.assertEquals(diversity.size(), 0);
+		Assert.assertTrue(Double.isNaN(diversity.diversity()));
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void geneIndexOutOfBounds() {
+		GeneDiversity
+			.of(population(Genotype.of(DoubleChromosome.of(0, 1, 10)), 10))
+			.moments(0, 10);
+	}
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.LongChromosome;
+import io.jenetics.LongGene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.IO;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+import io.jenetics.util.MSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class MappedPopulationTest {
+
+	// The mapped files are deleted when the VM exits.
+	private final Path _directory = Path.of(System.getProperty("java.io.tmpdir"));
+
+	@Test
+	public void of() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(1_000);
+		final ISeq<Phenotype<DoubleGene, Double>> mapped =
+			MappedPopulation.of(population, _directory);
+
+		Assert.assertTrue(MappedPopulation.isMapped(mapped));
+		Assert.assertFalse(MappedPopulation.isMapped(population));
+		Assert.assertEquals(mapped, population);
+		for (int i = 0; i < population.size(); ++i) {
+			Assert.assertEquals(
+				mapped.get(i).isEvaluated(),
+				population.get(i).isEvaluated()
+			);
+		}
+	}
+
+	@Test
+	public void copyAndSort() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(500)
+			.map(pt -> pt.isEvaluated() ? pt : pt.withFitness(0.5));
+		final ISeq<Phenotype<DoubleGene, Double>> mapped =
+			MappedPopulation.of(population, _directory);
+
+		final MSeq<Phenotype<DoubleGene, Double>> copy = mapped.copy();
+		copy.sort(Comparator.comparing(Phenotype::fitness));
+		Assert.assertEquals(copy.get(0), population.stream()
+			.min(Comparator.comparing(Phenotype::fitness))
+			.orElseThrow());
+		Assert.assertEquals(mapped, population);
+
+		Assert.assertEquals(mapped.subSeq(100, 200), population.subSeq(100, 200));
+		Assert.assertEquals(
+			mapped.append(population).size(),
+			population.size()*2
+		);
+	}
+
+	@Test
+	public void serialize() throws IOException {
+		final ISeq<Phenotype<DoubleGene, Double>> mapped =
+			MappedPopulation.of(population(10), _directory);
+
+		final Object read = IO.object.read(
+			new ByteArrayInputStream(IO.object.toByteArray(mapped))
+		);
+		Assert.assertEquals(read, mapped);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void layoutMismatch() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = ISeq.of(
+			Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1, 3)), 1, 1.0),
+			Phenotype.of(Genotype.of(DoubleChromosome.of(0, 2, 3)), 1, 1.0)
+		);
+		MappedPopulation.of(population, _directory);
+	}
+
+	@Test
+	public void readCreatesNewInstances() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(100);
+		final ISeq<Phenotype<DoubleGene, Double>> mapped =
+			MappedPopulation.of(population, _directory);
+
+		for (int i = 0; i < population.size(); ++i) {
+			Assert.assertEquals(mapped.get(i), population.get(i));
+			Assert.assertNotSame(mapped.get(i), population.get(i));
+		}
+
+		final MSeq<Phenotype<DoubleGene, Double>> copy = mapped.copy();
+		copy.sort(Comparator.comparing(pt -> pt.genotype().gene().allele()));
+		Assert.assertTrue(population.asList().containsAll(copy.asList()));
+		for (int i = 1; i < copy.size(); ++i) {
+			Assert.assertTrue(
+				copy.get(i - 1).genotype().gene().allele() <=
+				copy.get(i).genotype().gene().allele()
+			);
+		}
+	}
+
+	@Test
+	public void integerAndLongGenes() {
+		final Genotype<IntegerGene> igt = Genotype.of(
+			IntegerChromosome.of(-100, 100, IntRange.of(2, 8)),
+			IntegerChromosome.of(0, 5, 3)
+		);
+		final ISeq<Phenotype<IntegerGene, Integer>> ints = ISeq
+			.<Genotype<IntegerGene>>of(igt::newInstance, 100)
+			.map(gt -> Phenotype.of(gt, 1, gt.gene().intValue()));
+		final ISeq<Phenotype<IntegerGene, Integer>> mappedInts =
+			MappedPopulation.of(ints, _directory);
+		Assert.assertEquals(mappedInts.copy().toISeq(), ints);
+
+		final Genotype<LongGene> lgt = Genotype.of(
+			LongChromosome.of(Long.MIN_VALUE, Long.MAX_VALUE, 4)
+		);
+		final ISeq<Phenotype<LongGene, Long>> longs = ISeq
+			.<Genotype<LongGene>>of(lgt::newInstance, 100)
+			.map(gt -> Phenotype.of(gt, 1, gt.gene().longValue()));
+		final ISeq<Phenotype<LongGene, Long>> mappedLongs =
+			MappedPopulation.of(longs, _directory);
+		Assert.assertEquals(mappedLongs.copy().toISeq(), longs);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void unsupportedFitness() {
+		final ISeq<Phenotype<DoubleGene, String>> population = ISeq.of(
+			Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1, 3)), 1, "a")
+		);
+		MappedPopulation.of(population, _directory);
+	}
+
+	@Test
+	public void reuseFiles() throws IOException {
+		final Path dir = Files.createTempDirectory("MappedPopulationTest");
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(100);
+
+		for (int i = 0; i < 100; ++i) {
+			MappedPopulation.of(population, dir).copy();
+			System.gc();
+		}
+
+		try (Stream<Path> files = Files.list(dir)) {
+			// Without reusing the files, 200 files would have been created.
+			Assert.assertTrue(files.count() < 100);
+		}
+	}
+
+	private static ISeq<Phenotype<DoubleGene, Double>> population(final int size) {
+		final Genotype<DoubleGene> gtf = Genotype.of(
+			DoubleChromosome.of(0, 10, IntRange.of(3, 12)),
+			DoubleChromosome.of(-1, 1, 5)
+		);
+
+		return ISeq.<Genotype<DoubleGene>>of(gtf::newInstance, size)
+			.map(gt -> gt.chromosome().length()%2 == 0
+				? Phenotype.of(gt, 3, gt.gene().doubleValue())
+				: Phenotype.of(gt, 2));
+	}
+
+}
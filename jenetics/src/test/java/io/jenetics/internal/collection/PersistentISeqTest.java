@@ -0,0 +1,140 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.ISeqTestBase;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Serialize;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@Test
+public class PersistentISeqTest extends ISeqTestBase {
+
+	@Override
+	protected ISeq<Integer> newSeq(final int length) {
+		return IntStream.range(0, length).boxed()
+			.collect(ISeq.toPersistentISeq());
+	}
+
+	@Test(dataProvider = "lengths")
+	public void append(final int length) {
+		final var random = new Random(length);
+		final List<Integer> expected = new ArrayList<>();
+
+		ISeq<Integer> seq = ISeq.persistent(List.of());
+		while (expected.size() < length) {
+			final var values = random.ints(1 + random.nextInt(100))
+				.boxed()
+				.toList();
+
+			final ISeq<Integer> appended = seq.append(values);
+			Assert.assertEquals(seq.asList(), expected);
+
+			expected.addAll(values);
+			Assert.assertEquals(appended.asList(), expected);
+			Assert.assertTrue(appended instanceof PersistentISeq<Integer>);
+			seq = appended;
+		}
+	}
+
+	@Test(dataProvider = "lengths")
+	public void with(final int length) {
+		final var random = new Random(length);
+		final ISeq<Integer> seq = newSeq(length);
+		final List<Integer> expected = new ArrayList<>(seq.asList());
+
+		ISeq<Integer> result = seq;
+		for (int i = 0; i < 100; ++i) {
+			final int index = random.nextInt(length);
+			final int value = random.nextInt();
+
+			result = result.with(index, value);
+			expected.set(index, value);
+		}
+
+		Assert.assertEquals(result.asList(), expected);
+		Assert.assertEquals(seq, newSeq(length));
+	}
+
+	@Test(dataProvider = "lengths")
+	public void prependAndSubSeq(final int length) {
+		final ISeq<Integer> seq = newSeq(length);
+
+		final ISeq<Integer> prepended = seq.prepend(-3, -2, -1);
+		Assert.assertEquals(prepended.length(), length + 3);
+		Assert.assertEquals(prepended.subSeq(3), seq);
+		Assert.assertEquals(prepended.subSeq(0, 3), ISeq.of(-3, -2, -1));
+	}
+
+	@Test(dataProvider = "lengths")
+	public void toArray(final int length) {
+		final ISeq<Integer> seq = newSeq(length);
+		Assert.assertEquals(
+			seq.toArray(),
+			IntStream.range(0, length).boxed().toArray()
+		);
+	}
+
+	@Test(dataProvider = "lengths")
+	public void serialize(final int length) throws Exception {
+		Serialize.object.test(newSeq(length));
+	}
+
+	@DataProvider
+	public Object[][] lengths() {
+		return new Object[][] {
+			{1}, {31}, {32}, {33}, {1_024}, {1_056}, {1_057},
+			{32_768 + 32}, {32_768 + 33}, {50_000}
+		};
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void withIndexOutOfBounds() {
+		newSeq(10).with(10, 10);
+	}
+
+	@Test
+	public void emptyEquality() {
+		final ISeq<Integer> empty = PersistentISeq.empty();
+
+		Assert.assertEquals(ISeq.empty(), empty);
+		Assert.assertEquals(empty, ISeq.empty());
+		Assert.assertEquals(ISeq.empty().hashCode(), empty.hashCode());
+		Assert.assertEquals(ISeq.empty(), ISeq.of(List.of()).copy().toISeq());
+		Assert.assertEquals(MSeq.empty(), empty);
+		Assert.assertEquals(empty, MSeq.empty());
+		Assert.assertEquals(MSeq.empty().hashCode(), empty.hashCode());
+		Assert.assertNotEquals(ISeq.empty(), newSeq(1));
+		Assert.assertNotEquals(newSeq(1), ISeq.empty());
+	}
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class BlockInputTest {
+
+	@Test(dataProvider = "compressions")
+	public void readLine(final boolean compress) throws IOException {
+		final var out = new ByteArrayOutputStream();
+		try (var output = new BlockOutput(Channels.newChannel(out), compress, 16)) {
+			output.writeBytes("first line\nsecond\r\nthird\r\rlast");
+		}
+
+		try (var input = new BlockInput(
+				Channels.newChannel(new ByteArrayInputStream(out.toByteArray())),
+				compress))
+		{
+			Assert.assertEquals(input.readLine(), "first line");
+			Assert.assertEquals(input.readLine(), "second");
+			Assert.assertEquals(input.readLine(), "third");
+			Assert.assertEquals(input.readLine(), "");
+			Assert.assertEquals(input.readLine(), "last");
+			Assert.assertNull(input.readLine());
+		}
+	}
+
+	@DataProvider
+	public Object[][] compressions() {
+		return new Object[][] {{false}, {true}};
+	}
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import static io.jenetics.stat.ConcurrentLongMomentStatistics.toConcurrentLongMomentStatistics;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ConcurrentLongMomentStatisticsTest {
+
+	private static long[] values(final int size) {
+		final Random random = new Random(123);
+		final long[] values = new long[size];
+		for (int i = 0; i < size; ++i) {
+			values[i] = random.nextInt(1_000_000);
+		}
+		return values;
+	}
+
+	@Test
+	public void concurrentAccept() throws InterruptedException {
+		final long[] values = values(100_000);
+		final LongMomentStatistics expected = new LongMomentStatistics();
+		for (long value : values) {
+			expected.accept(value);
+		}
+
+		final ConcurrentLongMomentStatistics statistics =
+			new ConcurrentLongMomentStatistics();
+
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			for (int t = 0; t < 8; ++t) {
+				final int thread = t;
+				executor.execute(() -> {
+					for (int i = thread; i < values.length; i += 8) {
+						statistics.accept(values[i]);
+					}
+				});
+			}
+		} finally {
+			executor.shutdown();
+			Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+		}
+
+		assertEquals(statistics.snapshot(), expected);
+		Assert.assertEquals(statistics.count(), values.length);
+	}
+
+	@Test
+	public void parallelCollect() {
+		final long[] values = values(100_000);
+		final LongMomentStatistics expected = new LongMomentStatistics();
+		for (long value : values) {
+			expected.accept(value);
+		}
+
+		final ConcurrentLongMomentStatistics statistics = IntStream
+			.range(0, values.length).parallel().boxed()
+			.collect(toConcurrentLongMomentStatistics(i -> values[i]));
+
+		assertEquals(statistics.snapshot(), expected);
+	}
+
+	@Test
+	public void combine() {
+		final long[] values = values(1_000);
+		final ConcurrentLongMomentStatistics a = new ConcurrentLongMomentStatistics();
+		final ConcurrentLongMomentStatistics b = new ConcurrentLongMomentStatistics();
+		final LongMomentStatistics expected = new LongMomentStatistics();
+		for (int i = 0; i < values.length; ++i) {
+			(i%2 == 0 ? a : b).accept(values[i]);
+			expected.accept(values[i]);
+		}
+
+		a.combine(b);
+		Assert.assertEquals(b.count(), values.length/2);
+		assertEquals(a.snapshot(), expected);
+	}
+
+	@Test
+	public void sameState() {
+		final ConcurrentLongMomentStatistics a = new ConcurrentLongMomentStatistics();
+		final ConcurrentLongMomentStatistics b = new ConcurrentLongMomentStatistics();
+		Assert.assertTrue(a.sameState(b));
+
+		for (long value : values(100)) {
+			a.accept(value);
+			b.accept(value);
+			Assert.assertTrue(a.sameState(b));
+			Assert.assertTrue(b.sameState(a));
+			Assert.assertTrue(a.sameState(a));
+		}
+	}
+
+	@Test
+	public void empty() {
+		final ConcurrentLongMomentStatistics statistics =
+			new ConcurrentLongMomentStatistics();
+		Assert.assertEquals(statistics.count(), 0);
+		Assert.assertTrue(statistics.snapshot().sameState(new LongMomentStatistics()));
+	}
+
+	private static void assertEquals(
+		final LongMomentStatistics actual,
+		final LongMomentStatistics expected
+	) {
+		Assert.assertEquals(actual.count(), expected.count());
+		Assert.assertEquals(actual.min(), expected.min());
+		Assert.assertEquals(actual.max(), expected.max());
+		Assert.assertEquals(actual.sum(), expected.sum(), Math.abs(expected.sum())*1e-12);
+		Assert.assertEquals(actual.mean(), expected.mean(), Math.abs(expected.mean())*1e-9);
+		Assert.assertEquals(actual.variance(), expected.variance(), expected.variance()*1e-9);
+		Assert.assertEquals(actual.skewness(), expected.skewness(), 1e-6);
+		Assert.assertEquals(actual.kurtosis(), expected.kurtosis(), 1e-6);
+	}
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class QuantileSketchTest {
+
+	@Test
+	public void exactForSmallStreams() {
+		final QuantileSketch sketch = new QuantileSketch();
+		IntStream.range(0, 101).asDoubleStream().forEach(sketch);
+
+		Assert.assertEquals(sketch.count(), 101);
+		Assert.assertEquals(sketch.retained(), 101);
+		Assert.assertEquals(sketch.quantile(0.0), 0.0);
+		Assert.assertEquals(sketch.quantile(0.5), 50.0);
+		Assert.assertEquals(sketch.quantile(1.0), 100.0);
+		Assert.assertEquals(sketch.rank(49.0), 50.0/101.0);
+	}
+
+	@Test
+	public void empty() {
+		final QuantileSketch sketch = new QuantileSketch();
+		Assert.assertTrue(Double.isNaN(sketch.quantile(0.5)));
+		Assert.assertTrue(Double.isNaN(sketch.rank(0.5)));
+		Assert.assertEquals(sketch.count(), 0);
+	}
+
+	@Test(dataProvider = "quantiles")
+	public void quantile(final Double q) {
+		final int N = 1_000_000;
+		final QuantileSketch sketch = new QuantileSketch();
+		new Random(1234).doubles().limit(N).forEach(sketch);
+
+		Assert.assertEquals(sketch.count(), N);
+		Assert.assertEquals(sketch.quantile(q), q, 0.01);
+	}
+
+	@Test(dataProvider = "quantiles")
+	public void parallelQuantile(final Double q) {
+		final int N = 1_000_000;
+		final QuantileSketch sketch = new Random(1234).doubles().limit(N)
+			.parallel()
+			.collect(
+				QuantileSketch::new,
+				QuantileSketch::accept,
+				QuantileSketch::combine
+			);
+
+		Assert.assertEquals(sketch.count(), N);
+		Assert.assertEquals(sketch.quantile(q), q, 0.01);
+	}
+
+	@DataProvider(name = "quantiles")
+	public Object[][] quantiles() {
+		return new Object[][] {
+			{0.0}, {0.01}, {0.1}, {0.25}, {0.5}, {0.75}, {0.9}, {0.99}, {1.0}
+		};
+	}
+
+	@Test
+	public void multipleQuantiles() {
+		final QuantileSketch sketch = new Random(123).doubles(500_000)
+			.boxed()
+			.collect(QuantileSketch.toQuantileSketch(Double::doubleValue));
+
+		final double[] qs = {0.1, 0.5, 0.9};
+		final double[] values = sketch.quantiles(qs);
+		for (int i = 0; i < qs.length; ++i) {
+			Assert.assertEquals(values[i], sketch.quantile(qs[i]));
+			Assert.assertEquals(sketch.rank(values[i]), qs[i], 0.01);
+		}
+
+		final double[] sorted = values.clone();
+		Arrays.sort(sorted);
+		Assert.assertEquals(values, sorted);
+	}
+
+	@Test
+	public void boundedMemory() {
+		final QuantileSketch sketch = new QuantileSketch(100);
+		new Random(1).doubles(2_000_000).forEach(sketch);
+
+		Assert.assertTrue(sketch.retained() < 2_000, "" + sketch.retained());
+	}
+
+	@Test
+	public void combine() {
+		final QuantileSketch a = new QuantileSketch();
+		final QuantileSketch b = new QuantileSketch();
+		IntStream.range(0, 100_000).forEach(i -> a.accept(i));
+		IntStream.range(100_000, 200_000).forEach(i -> b.accept(i));
+
+		a.combine(b);
+		Assert.assertEquals(a.count(), 200_000);
+		Assert.assertEquals(a.min(), 0.0);
+		Assert.assertEquals(a.max(), 199_999.0);
+		Assert.assertEquals(a.quantile(0.5), 100_000.0, 2_000.0);
+		Assert.assertEquals(b.count(), 100_000);
+	}
+
+	@Test
+	public void reset() {
+		final QuantileSketch sketch = new QuantileSketch();
+		new Random(1).doubles(10_000).forEach(sketch);
+		sketch.reset();
+
+		Assert.assertEquals(sketch.count(), 0);
+		Assert.assertEquals(sketch.retained(), 0);
+		sketch.accept(3);
+		Assert.assertEquals(sketch.quantile(0.5), 3.0);
+	}
+
+	@Test
+	public void copy() {
+		final QuantileSketch sketch = new QuantileSketch();
+		new Random(1).doubles(10_000).forEach(sketch);
+		final double[] quartiles = sketch.quantiles(0.25, 0.5, 0.75);
+
+		final QuantileSketch copy = sketch.copy();
+		Assert.assertEquals(copy.count(), sketch.count());
+		Assert.assertEquals(copy.retained(), sketch.retained());
+		Assert.assertEquals(copy.quantiles(0.25, 0.5, 0.75), quartiles);
+
+		copy.reset();
+		new Random(2).doubles(10_000).map(v -> v + 10).forEach(copy);
+		Assert.assertEquals(sketch.count(), 10_000);
+		Assert.assertEquals(sketch.quantiles(0.25, 0.5, 0.75), quartiles);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidQuantile() {
+		new QuantileSketch().quantile(1.1);
+	}
+
+}